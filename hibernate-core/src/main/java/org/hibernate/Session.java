@@ -693,6 +693,26 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	<T> T merge( T object, EntityGraph<?> loadGraph);
 
+	/**
+	 * Copy the state of each of the given objects onto the persistent object with
+	 * the same identifier, as if by calling {@link #merge(Object)} for each object
+	 * in turn, and return the persistent instances, in the order of the given list.
+	 * <p>
+	 * The persistent instances which are not already associated with the session,
+	 * including those reached by cascading merge, are loaded using
+	 * {@linkplain #byMultipleIds(Class) multi-id loading} before the state is
+	 * copied, so that merging many detached instances does not require one
+	 * {@code select} per instance.
+	 *
+	 * @param objects detached instances with state to be copied
+	 *
+	 * @return the updated persistent instances
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	<T> List<T> mergeAll(List<? extends T> objects);
+
 	/**
 	 * Make a transient instance persistent and mark it for later insertion in the
 	 * database. This operation cascades to associated instances if the association
@@ -212,4 +212,34 @@ public interface SessionBuilder {
 	 * @since 7.0
 	 */
 	SessionBuilder identifierRollback(boolean identifierRollback);
+
+	/**
+	 * Should the session be {@linkplain Session#setDefaultReadOnly(boolean)
+	 * read-only by default}?
+	 * <p>
+	 * If the configured {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * is a {@link org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider},
+	 * a read-only session obtains its JDBC connections from a read replica.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see Session#setDefaultReadOnly(boolean)
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	SessionBuilder readOnly(boolean readOnly);
+
+	/**
+	 * Bind the session to the shard containing the data with the given
+	 * {@linkplain org.hibernate.annotations.PartitionKey partition key}.
+	 * The configured {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
+	 * must be a {@link org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider}.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	SessionBuilder shardKey(Object shardKey);
 }
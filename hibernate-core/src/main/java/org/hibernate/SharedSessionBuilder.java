@@ -122,4 +122,10 @@ public interface SharedSessionBuilder extends SessionBuilder {
 
 	@Override
 	SharedSessionBuilder identifierRollback(boolean identifierRollback);
+
+	@Override
+	SharedSessionBuilder readOnly(boolean readOnly);
+
+	@Override
+	SharedSessionBuilder shardKey(Object shardKey);
 }
@@ -184,7 +184,8 @@ public void doAfterTransactionCompletion(boolean success, SharedSessionContractI
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			cache.unlockItem( session, ck, lock );
+			session.getFactory().getCache().performCacheWrite( cache, ck, false, session,
+					writeSession -> cache.unlockItem( writeSession, ck, lock ) );
 		}
 	}
 
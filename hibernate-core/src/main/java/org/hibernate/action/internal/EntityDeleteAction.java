@@ -290,7 +290,8 @@ protected void unlockCacheItem() {
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			cache.unlockItem( session, ck, lock );
+			session.getFactory().getCache().performCacheWrite( cache, ck, false, session,
+					writeSession -> cache.unlockItem( writeSession, ck, lock ) );
 		}
 	}
 
@@ -4,8 +4,11 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.internal.Versioning;
@@ -39,6 +42,8 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 	private Object version;
 	private Object cacheEntry;
 
+	private transient GeneratedValues generatedValues;
+
 	/**
 	 * Constructs an EntityInsertAction.
 	 *  @param id The entity identifier
@@ -94,21 +99,58 @@ protected EntityKey getEntityKey() {
 
 	@Override
 	public void execute() throws HibernateException {
+		executeInsert();
+		if ( !isVeto() ) {
+			handleGeneratedProperties( false );
+		}
+		completeInsert();
+	}
+
+	/**
+	 * Execute the {@code insert} statement, but defer the retrieval of the values of
+	 * {@linkplain EntityPersister#hasInsertGeneratedPropertiesRequiringSelect generated
+	 * properties}, along with the rest of the post-insert processing, so that the values
+	 * may be retrieved for several entities at once, via
+	 * {@link EntityPersister#processInsertGeneratedProperties(List, List, List, SharedSessionContractImplementor)}.
+	 * The caller must then call {@link #completeDeferredInsert()}.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public void executeDeferringGeneratedValues() throws HibernateException {
+		executeInsert();
+	}
+
+	/**
+	 * Complete the post-insert processing of an insert executed by
+	 * {@link #executeDeferringGeneratedValues()}, after the values of
+	 * the generated properties have been retrieved.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public void completeDeferredInsert() throws HibernateException {
+		if ( !isVeto() ) {
+			handleGeneratedProperties( true );
+		}
+		completeInsert();
+	}
+
+	private void executeInsert() {
 		nullifyTransientReferencesIfNotAlready();
 
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
 
 		final SharedSessionContractImplementor session = getSession();
-		final Object id = getId();
-		final boolean veto = preInsert();
-		if ( !veto ) {
+		setVeto( preInsert() );
+		if ( !isVeto() ) {
 			final EntityPersister persister = getPersister();
+			final Object id = getId();
 			final Object instance = getInstance();
 			final EventMonitor eventMonitor = session.getEventMonitor();
 			final DiagnosticEvent event = eventMonitor.beginEntityInsertEvent();
 			boolean success = false;
-			final GeneratedValues generatedValues;
 			try {
 				generatedValues = persister.getInsertCoordinator().insert( instance, id, getState(), session );
 				success = true;
@@ -122,30 +164,38 @@ public void execute() throws HibernateException {
 				throw new AssertionFailure( "possible non-threadsafe access to session" );
 			}
 			entry.postInsert( getState() );
-			handleGeneratedProperties( entry, generatedValues, persistenceContext );
-			persistenceContext.registerInsertedKey( persister, getId() );
+			persistenceContext.registerInsertedKey( persister, id );
 			addCollectionsByKeyToPersistenceContext( persistenceContext, getState() );
 		}
+	}
+
+	private void completeInsert() {
+		generatedValues = null;
 		putCacheIfNecessary();
-		handleNaturalIdPostSaveNotifications( id );
+		handleNaturalIdPostSaveNotifications( getId() );
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		if ( statistics.isStatisticsEnabled() && !veto ) {
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
 			statistics.insertEntity( getPersister().getEntityName() );
 		}
 
 		markExecuted();
 	}
 
-	private void handleGeneratedProperties(
-			EntityEntry entry,
-			GeneratedValues generatedValues,
-			PersistenceContext persistenceContext) {
+	/**
+	 * @param processed whether the values of the generated properties
+	 *                  were already retrieved and injected into the entity
+	 */
+	private void handleGeneratedProperties(boolean processed) {
 		final EntityPersister persister = getPersister();
+		final PersistenceContext persistenceContext = getSession().getPersistenceContextInternal();
+		final EntityEntry entry = persistenceContext.getEntry( getInstance() );
 		if ( persister.hasInsertGeneratedProperties() ) {
 			final Object instance = getInstance();
-			persister.processInsertGeneratedProperties( getId(), instance, getState(), generatedValues, getSession() );
+			if ( !processed ) {
+				persister.processInsertGeneratedProperties( getId(), instance, getState(), generatedValues, getSession() );
+			}
 			if ( persister.isVersionPropertyGenerated() ) {
 				version = Versioning.getVersion( getState(), persister );
 			}
@@ -258,21 +308,25 @@ public void doAfterTransactionCompletion(boolean success, SharedSessionContractI
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
 			final SessionFactoryImplementor factory = session.getFactory();
 			final Object ck = cache.generateCacheKey( getId(), persister, factory, session.getTenantIdentifier() );
-			final boolean put = cacheAfterInsert( cache, ck );
-
-			final StatisticsImplementor statistics = factory.getStatistics();
-			if ( put && statistics.isStatisticsEnabled() ) {
-				statistics.entityCachePut(
-						StatsHelper.getRootEntityRole( persister ),
-						cache.getRegion().getName()
-				);
-			}
+			factory.getCache().performCacheWrite( cache, ck, false, session, writeSession -> {
+				final boolean put = cacheAfterInsert( cache, ck, writeSession );
+				final StatisticsImplementor statistics = factory.getStatistics();
+				if ( put && statistics.isStatisticsEnabled() ) {
+					statistics.entityCachePut(
+							StatsHelper.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			} );
 		}
 		postCommitInsert( success );
 	}
 
 	protected boolean cacheAfterInsert(EntityDataAccess cache, Object ck) {
-		final SharedSessionContractImplementor session = getSession();
+		return cacheAfterInsert( cache, ck, getSession() );
+	}
+
+	protected boolean cacheAfterInsert(EntityDataAccess cache, Object ck, SharedSessionContractImplementor session) {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final EventMonitor eventMonitor = session.getEventMonitor();
 		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
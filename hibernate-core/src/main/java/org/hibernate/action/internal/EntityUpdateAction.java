@@ -8,6 +8,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.QueryCacheInvalidationSpaces;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -147,6 +148,18 @@ public Object getRowId() {
 		return rowId;
 	}
 
+	/**
+	 * The spaces to invalidate in the {@link org.hibernate.cache.spi.TimestampsCache}
+	 * when {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_FINE_GRAINED_INVALIDATION
+	 * fine-grained query cache invalidation} is enabled: the spaces of the updated columns,
+	 * or the {@linkplain #getPropertySpaces table-level spaces} if the updated columns are
+	 * not known.
+	 */
+	public String[] getColumnLevelQuerySpaces() {
+		final String[] columnSpaces = QueryCacheInvalidationSpaces.forUpdate( getPersister(), dirtyFields );
+		return columnSpaces == null ? getPropertySpaces() : columnSpaces;
+	}
+
 	protected void setLock(SoftLock lock) {
 		this.lock = lock;
 	}
@@ -422,12 +435,15 @@ private void updateCacheIfNecessary(boolean success, SharedSessionContractImplem
 					session.getTenantIdentifier()
 
 			);
-			if ( cacheUpdateRequired( success, persister, session ) ) {
-				cacheAfterUpdate( cache, ck, session);
-			}
-			else {
-				cache.unlockItem( session, ck, lock );
-			}
+			final boolean cacheUpdateRequired = cacheUpdateRequired( success, persister, session );
+			factory.getCache().performCacheWrite( cache, ck, false, session, writeSession -> {
+				if ( cacheUpdateRequired ) {
+					cacheAfterUpdate( cache, ck, writeSession );
+				}
+				else {
+					cache.unlockItem( writeSession, ck, lock );
+				}
+			} );
 		}
 	}
 
@@ -69,6 +69,7 @@ public SessionFactoryBuilderImpl(MetadataImplementor metadata, SessionFactoryOpt
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForCacheSnapshot() );
 		addSessionFactoryObservers( new SessionFactoryObserverForRegistration() );
 	}
 
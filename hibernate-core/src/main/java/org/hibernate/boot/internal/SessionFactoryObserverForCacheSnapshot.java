@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import java.nio.file.Path;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Responsible for restoring the {@linkplain org.hibernate.cfg.CacheSettings#CACHE_SNAPSHOT_FILE
+ * cache snapshot} once the {@link SessionFactory} is created, and its schema
+ * has been {@linkplain SessionFactoryObserverForSchemaExport exported}.
+ *
+ * @since 7.1
+ */
+class SessionFactoryObserverForCacheSnapshot implements SessionFactoryObserver {
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final String snapshotFile = sessionFactory.getSessionFactoryOptions().getCacheSnapshotFile();
+		if ( snapshotFile != null ) {
+			try {
+				sessionFactory.getCache().loadSnapshot( Path.of( snapshotFile ) );
+			}
+			catch (CacheException e) {
+				L2CACHE_LOGGER.unableToLoadCacheSnapshot( snapshotFile, e );
+			}
+		}
+	}
+}
@@ -88,11 +88,17 @@
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
+import static org.hibernate.cfg.CacheSettings.CACHE_ASYNC_WRITE_QUEUE_CAPACITY;
+import static org.hibernate.cfg.CacheSettings.CACHE_SNAPSHOT_FILE;
+import static org.hibernate.cfg.CacheSettings.CACHE_SNAPSHOT_REGIONS;
+import static org.hibernate.cfg.CacheSettings.CACHE_ASYNC_WRITE_THREADS;
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_FINE_GRAINED_INVALIDATION;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_STALE_GRACE_PERIOD;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
@@ -104,11 +110,14 @@
 import static org.hibernate.internal.log.DeprecationLogger.DEPRECATION_LOGGER;
 import static org.hibernate.internal.util.PropertiesHelper.map;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
+import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
 import static org.hibernate.internal.util.config.ConfigurationHelper.extractPropertyValue;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+import static org.hibernate.internal.util.config.ConfigurationHelper.toStringArray;
 import static org.hibernate.jpa.internal.util.CacheModeHelper.interpretCacheMode;
 import static org.hibernate.jpa.internal.util.ConfigurationHelper.getFlushMode;
 import static org.hibernate.type.format.jackson.JacksonIntegration.getJsonJacksonFormatMapperOrNull;
@@ -168,11 +177,18 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean checkNullability;
 	private boolean initializeLazyStateOutsideTransactions;
 	private int defaultBatchFetchSize;
+	private boolean adaptiveBatchFetchEnabled;
+	private int nPlusOneDetectionThreshold;
+	private int nPlusOneBatchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private boolean aggregateCollectionFetchEnabled;
+	private boolean splitCollectionFetchEnabled;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean batchIdentityInsertsEnabled;
+	private boolean batchGeneratedValuesEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
 	private final boolean passProcedureParameterNames;
@@ -206,17 +222,24 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheFineGrainedInvalidationEnabled;
+	private long queryCacheStaleGracePeriod;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private int cacheAsyncWriteThreads;
+	private int cacheAsyncWriteQueueCapacity;
+	private String cacheSnapshotFile;
+	private String[] cacheSnapshotRegions;
 
 	// JDBC Handling
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private Integer jdbcFetchSize;
+	private final int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -239,7 +262,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private JpaCompliance jpaCompliance;
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
+	private final boolean twoPhasePaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final boolean inClauseArrayParameterEnabled;
+	private final boolean targetedAutoFlushEnabled;
 
 	private final boolean portableIntegerDivisionEnabled;
 	private final boolean jsonFunctionsEnabled;
@@ -371,13 +397,20 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
+		adaptiveBatchFetchEnabled = getBoolean( USE_ADAPTIVE_BATCH_FETCH, settings );
+		nPlusOneDetectionThreshold = getInt( N_PLUS_ONE_DETECTION_THRESHOLD, settings, 0 );
+		nPlusOneBatchSize = getInt( N_PLUS_ONE_BATCH_SIZE, settings, 0 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
+		aggregateCollectionFetchEnabled = getBoolean( USE_AGGREGATE_COLLECTION_FETCH, settings );
+		splitCollectionFetchEnabled = getBoolean( SPLIT_COLLECTION_FETCHES, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
 
 		orderUpdatesEnabled = getBoolean( ORDER_UPDATES, settings );
 		orderInsertsEnabled = getBoolean( ORDER_INSERTS, settings );
+		batchIdentityInsertsEnabled = getBoolean( BATCH_IDENTITY_INSERTS, settings );
+		batchGeneratedValuesEnabled = getBoolean( BATCH_GENERATED_VALUES, settings );
 
 		callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, settings, true );
 
@@ -426,6 +459,10 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( QUERY_CACHE_LAYOUT,
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL );
+			queryCacheFineGrainedInvalidationEnabled =
+					configurationService.getSetting( QUERY_CACHE_FINE_GRAINED_INVALIDATION, BOOLEAN, false );
+			queryCacheStaleGracePeriod =
+					getLong( QUERY_CACHE_STALE_GRACE_PERIOD, settings, 0 );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy( TimestampsCacheFactory.class,
 							settings.get( QUERY_CACHE_FACTORY ), StandardTimestampsCacheFactory.INSTANCE );
@@ -437,17 +474,27 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES, BOOLEAN, false );
 			autoEvictCollectionCache =
 					configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
+			cacheAsyncWriteThreads = getInt( CACHE_ASYNC_WRITE_THREADS, settings, 0 );
+			cacheAsyncWriteQueueCapacity = getInt( CACHE_ASYNC_WRITE_QUEUE_CAPACITY, settings, 1000 );
+			cacheSnapshotFile = getString( CACHE_SNAPSHOT_FILE, settings );
+			cacheSnapshotRegions = toStringArray( getString( CACHE_SNAPSHOT_REGIONS, settings ), ", \t\n" );
 		}
 		else {
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			queryCacheFineGrainedInvalidationEnabled = false;
+			queryCacheStaleGracePeriod = 0;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
 			structuredCacheEntriesEnabled = false;
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
+			cacheAsyncWriteThreads = 0;
+			cacheAsyncWriteQueueCapacity = 0;
+			cacheSnapshotFile = null;
+			cacheSnapshotRegions = EMPTY_STRING_ARRAY;
 		}
 
 		// deprecated
@@ -479,6 +526,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				getBoolean( USE_GET_GENERATED_KEYS, settings, meta.supportsGetGeneratedKeys() );
 
 		jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, settings );
+		jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, settings, 0 );
 
 		connectionHandlingMode = interpretConnectionHandlingMode( settings, serviceRegistry );
 
@@ -509,6 +557,7 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		jpaCompliance = context.getJpaCompliance();
 
 		failOnPaginationOverCollectionFetchEnabled = getBoolean( FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH, settings );
+		twoPhasePaginationOverCollectionFetchEnabled = getBoolean( TWO_PHASE_PAGINATION_OVER_COLLECTION_FETCH, settings );
 
 		immutableEntityUpdateQueryHandlingMode =
 				ImmutableEntityUpdateQueryHandlingMode.interpret(
@@ -518,6 +567,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		defaultSchema = getString( DEFAULT_SCHEMA, settings );
 
 		inClauseParameterPaddingEnabled = getBoolean( IN_CLAUSE_PARAMETER_PADDING, settings );
+		inClauseArrayParameterEnabled = getBoolean( IN_CLAUSE_ARRAY_PARAMETER, settings );
+		targetedAutoFlushEnabled = getBoolean( TARGETED_AUTO_FLUSH, settings );
 
 		portableIntegerDivisionEnabled = getBoolean( PORTABLE_INTEGER_DIVISION, settings );
 
@@ -964,6 +1015,21 @@ public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	@Override
+	public int getNPlusOneDetectionThreshold() {
+		return nPlusOneDetectionThreshold;
+	}
+
+	@Override
+	public int getNPlusOneBatchSize() {
+		return nPlusOneBatchSize;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -974,6 +1040,16 @@ public boolean isSubselectFetchEnabled() {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public boolean isAggregateCollectionFetchEnabled() {
+		return aggregateCollectionFetchEnabled;
+	}
+
+	@Override
+	public boolean isSplitCollectionFetchEnabled() {
+		return splitCollectionFetchEnabled;
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -989,6 +1065,16 @@ public boolean isOrderInsertsEnabled() {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isBatchIdentityInsertsEnabled() {
+		return batchIdentityInsertsEnabled;
+	}
+
+	@Override
+	public boolean isBatchGeneratedValuesEnabled() {
+		return batchGeneratedValuesEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1024,6 +1110,16 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheFineGrainedInvalidationEnabled() {
+		return queryCacheFineGrainedInvalidationEnabled;
+	}
+
+	@Override
+	public long getQueryCacheStaleGracePeriod() {
+		return queryCacheStaleGracePeriod;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1054,6 +1150,26 @@ public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
 	}
 
+	@Override
+	public int getCacheAsyncWriteThreads() {
+		return cacheAsyncWriteThreads;
+	}
+
+	@Override
+	public int getCacheAsyncWriteQueueCapacity() {
+		return cacheAsyncWriteQueueCapacity;
+	}
+
+	@Override
+	public String getCacheSnapshotFile() {
+		return cacheSnapshotFile;
+	}
+
+	@Override
+	public String[] getCacheSnapshotRegions() {
+		return cacheSnapshotRegions;
+	}
+
 	@Override @Deprecated
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return schemaAutoTooling;
@@ -1079,6 +1195,11 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1174,11 +1295,26 @@ public boolean isFailOnPaginationOverCollectionFetchEnabled() {
 		return failOnPaginationOverCollectionFetchEnabled;
 	}
 
+	@Override
+	public boolean isTwoPhasePaginationOverCollectionFetchEnabled() {
+		return twoPhasePaginationOverCollectionFetchEnabled;
+	}
+
 	@Override
 	public boolean inClauseParameterPaddingEnabled() {
 		return inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return inClauseArrayParameterEnabled;
+	}
+
+	@Override
+	public boolean isTargetedAutoFlushEnabled() {
+		return targetedAutoFlushEnabled;
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return jsonFunctionsEnabled;
@@ -189,6 +189,21 @@ public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
+	@Override
+	public int getNPlusOneDetectionThreshold() {
+		return delegate.getNPlusOneDetectionThreshold();
+	}
+
+	@Override
+	public int getNPlusOneBatchSize() {
+		return delegate.getNPlusOneBatchSize();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -199,6 +214,16 @@ public boolean isSubselectFetchEnabled() {
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public boolean isAggregateCollectionFetchEnabled() {
+		return delegate.isAggregateCollectionFetchEnabled();
+	}
+
+	@Override
+	public boolean isSplitCollectionFetchEnabled() {
+		return delegate.isSplitCollectionFetchEnabled();
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -214,6 +239,16 @@ public boolean isOrderInsertsEnabled() {
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isBatchIdentityInsertsEnabled() {
+		return delegate.isBatchIdentityInsertsEnabled();
+	}
+
+	@Override
+	public boolean isBatchGeneratedValuesEnabled() {
+		return delegate.isBatchGeneratedValuesEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -264,6 +299,16 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheFineGrainedInvalidationEnabled() {
+		return delegate.isQueryCacheFineGrainedInvalidationEnabled();
+	}
+
+	@Override
+	public long getQueryCacheStaleGracePeriod() {
+		return delegate.getQueryCacheStaleGracePeriod();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -294,6 +339,26 @@ public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
 	}
 
+	@Override
+	public int getCacheAsyncWriteThreads() {
+		return delegate.getCacheAsyncWriteThreads();
+	}
+
+	@Override
+	public int getCacheAsyncWriteQueueCapacity() {
+		return delegate.getCacheAsyncWriteQueueCapacity();
+	}
+
+	@Override
+	public String getCacheSnapshotFile() {
+		return delegate.getCacheSnapshotFile();
+	}
+
+	@Override
+	public String[] getCacheSnapshotRegions() {
+		return delegate.getCacheSnapshotRegions();
+	}
+
 	@Override @Deprecated
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return delegate.getSchemaAutoTooling();
@@ -319,6 +384,11 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -413,6 +483,11 @@ public boolean isFailOnPaginationOverCollectionFetchEnabled() {
 		return delegate.isFailOnPaginationOverCollectionFetchEnabled();
 	}
 
+	@Override
+	public boolean isTwoPhasePaginationOverCollectionFetchEnabled() {
+		return delegate.isTwoPhasePaginationOverCollectionFetchEnabled();
+	}
+
 	@Override
 	public ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHandlingMode() {
 		return delegate.getImmutableEntityUpdateQueryHandlingMode();
@@ -438,6 +513,16 @@ public boolean inClauseParameterPaddingEnabled() {
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return delegate.inClauseArrayParameterEnabled();
+	}
+
+	@Override
+	public boolean isTargetedAutoFlushEnabled() {
+		return delegate.isTargetedAutoFlushEnabled();
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return delegate.isJsonFunctionsEnabled();
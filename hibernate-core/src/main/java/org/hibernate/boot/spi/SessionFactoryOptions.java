@@ -264,6 +264,41 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	int getDefaultBatchFetchSize();
 
+	/**
+	 * Should the batch size of batch fetching adapt to the number of keys
+	 * typically waiting in the batch fetch queue?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#USE_ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	boolean isAdaptiveBatchFetchEnabled();
+
+	/**
+	 * The number of separate fetches of the same entity or collection role
+	 * after which a session reports an "N+1 selects" problem, or zero if
+	 * detection is disabled.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	int getNPlusOneDetectionThreshold();
+
+	/**
+	 * The batch size used to fetch an entity or collection role once it has
+	 * been reported as an "N+1 selects" problem, or zero if its fetching is
+	 * left unchanged.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_BATCH_SIZE
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	int getNPlusOneBatchSize();
+
 	/**
 	 * @see org.hibernate.cfg.FetchSettings#MAX_FETCH_DEPTH
 	 */
@@ -278,6 +313,28 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * Should eager collections be fetched by aggregating their elements,
+	 * or the identifiers of their elements, in a correlated subquery?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#USE_AGGREGATE_COLLECTION_FETCH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	boolean isAggregateCollectionFetchEnabled();
+
+	/**
+	 * Should a collection which would multiply the rows already multiplied by
+	 * another joined collection be loaded by a follow-up query instead?
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SPLIT_COLLECTION_FETCHES
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	boolean isSplitCollectionFetchEnabled();
+
 	/**
 	 * The default {@linkplain Nulls precedence of null values} in sorted query results.
 	 *
@@ -295,6 +352,22 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	boolean isBatchIdentityInsertsEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_GENERATED_VALUES
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	boolean isBatchGeneratedValuesEnabled();
+
 	/**
 	 * Is there a
 	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider
@@ -347,6 +420,29 @@ default SessionEventListener[] buildSessionEventListeners() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * Should cached query results be invalidated at the granularity of the
+	 * updated columns, rather than of the updated tables?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FINE_GRAINED_INVALIDATION
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	boolean isQueryCacheFineGrainedInvalidationEnabled();
+
+	/**
+	 * The grace period, in milliseconds, during which stale cached query results
+	 * may be returned while they are being refreshed, or {@code 0} if stale
+	 * results are never returned.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_STALE_GRACE_PERIOD
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	long getQueryCacheStaleGracePeriod();
+
 	/**
 	 * A factory for the {@link TimestampsCache} used to track invalidation
 	 * of cached query result sets.
@@ -391,6 +487,38 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	boolean isAutoEvictCollectionCache();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_ASYNC_WRITE_THREADS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	int getCacheAsyncWriteThreads();
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_ASYNC_WRITE_QUEUE_CAPACITY
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	int getCacheAsyncWriteQueueCapacity();
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_SNAPSHOT_FILE
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String getCacheSnapshotFile();
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_SNAPSHOT_REGIONS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String[] getCacheSnapshotRegions();
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#HBM2DDL_AUTO
 	 *
@@ -423,6 +551,14 @@ default SessionEventListener[] buildSessionEventListeners() {
 	 */
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	int getJdbcStatementCacheSize();
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 *
@@ -540,6 +676,14 @@ default boolean getNativeJdbcParametersIgnored() {
 	 */
 	boolean isFailOnPaginationOverCollectionFetchEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#TWO_PHASE_PAGINATION_OVER_COLLECTION_FETCH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	boolean isTwoPhasePaginationOverCollectionFetchEnabled();
+
 	/**
 	 * The default catalog to use in generated SQL when a catalog wasn't specified in the mapping,
 	 * neither explicitly nor implicitly (see the concept of implicit catalog in XML mapping).
@@ -571,6 +715,26 @@ default boolean inClauseParameterPaddingEnabled() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean inClauseArrayParameterEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#TARGETED_AUTO_FLUSH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isTargetedAutoFlushEnabled() {
+		return false;
+	}
+
 	/**
 	 * The number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that should be stored by {@link org.hibernate.stat.Statistics}.
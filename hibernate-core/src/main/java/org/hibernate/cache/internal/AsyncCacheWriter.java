@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SharedSessionDelegatorBaseImpl;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Performs second-level cache writes on background threads, when
+ * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_ASYNC_WRITE_THREADS
+ * asynchronous cache writes} are enabled.
+ * <p>
+ * Each background thread has its own bounded queue of pending writes, and
+ * all writes for a given cache key are assigned to the same thread, so that
+ * they happen in the order in which they were submitted. This preserves the
+ * ordering of soft lock releases and versioned puts for each key.
+ * <p>
+ * A write is passed a view of the submitting session which retains the
+ * caching timestamp it had when the write was submitted, since the session
+ * might be closed, or might have started a new transaction, by the time the
+ * write happens.
+ *
+ * @since 7.1
+ */
+class AsyncCacheWriter {
+	private static final Runnable STOP = () -> {};
+
+	private final Lane[] lanes;
+	// submissions hold the read lock, so that no write is queued after STOP
+	private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+	private boolean stopped;
+
+	AsyncCacheWriter(int threads, int queueCapacity) {
+		lanes = new Lane[threads];
+		for ( int i = 0; i < threads; i++ ) {
+			lanes[i] = new Lane( i, queueCapacity );
+			lanes[i].start();
+		}
+	}
+
+	/**
+	 * Submit a write to the cache.
+	 * <p>
+	 * Once the writer is stopped, the write is performed by the calling thread,
+	 * after the writes previously submitted for the same cache key.
+	 *
+	 * @param droppable Whether the write may be dropped if the queue is full.
+	 * Otherwise, the calling thread waits until there is room in the queue.
+	 *
+	 * @return {@code false} if the write was dropped
+	 */
+	boolean submit(
+			CachedDomainDataAccess cacheAccess,
+			Object cacheKey,
+			boolean droppable,
+			SharedSessionContractImplementor session,
+			Consumer<SharedSessionContractImplementor> write) {
+		final Lane lane = lanes[Math.floorMod( cacheKey.hashCode(), lanes.length )];
+		final Lock lock = stopLock.readLock();
+		lock.lock();
+		try {
+			if ( !stopped ) {
+				final CacheWriteSession writeSession = new CacheWriteSession( session );
+				final Runnable task = () -> {
+					try {
+						write.accept( writeSession );
+					}
+					catch (RuntimeException e) {
+						L2CACHE_LOGGER.asyncCacheWriteFailed( cacheAccess.getRegion().getName(), e );
+					}
+				};
+				if ( droppable ) {
+					return lane.queue.offer( task );
+				}
+				else {
+					// never perform the write here, since it could overtake
+					// writes for the same key which are still in the queue
+					putUninterruptibly( lane.queue, task );
+					return true;
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		joinUninterruptibly( lane );
+		write.accept( session );
+		return true;
+	}
+
+	/**
+	 * The total number of writes waiting to be performed.
+	 */
+	int getQueueDepth() {
+		int depth = 0;
+		for ( Lane lane : lanes ) {
+			depth += lane.queue.size();
+		}
+		return depth;
+	}
+
+	/**
+	 * Perform all pending writes, and then stop the background threads.
+	 */
+	void stop() {
+		final Lock lock = stopLock.writeLock();
+		lock.lock();
+		try {
+			if ( stopped ) {
+				return;
+			}
+			stopped = true;
+			for ( Lane lane : lanes ) {
+				putUninterruptibly( lane.queue, STOP );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+		for ( Lane lane : lanes ) {
+			joinUninterruptibly( lane );
+		}
+	}
+
+	private static void putUninterruptibly(BlockingQueue<Runnable> queue, Runnable task) {
+		boolean interrupted = false;
+		try {
+			while ( true ) {
+				try {
+					queue.put( task );
+					return;
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static void joinUninterruptibly(Thread thread) {
+		boolean interrupted = false;
+		try {
+			while ( true ) {
+				try {
+					thread.join();
+					return;
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static class Lane extends Thread {
+		private final BlockingQueue<Runnable> queue;
+
+		private Lane(int index, int queueCapacity) {
+			super( "Hibernate Cache Writer Thread " + index );
+			setDaemon( true );
+			queue = new LinkedBlockingQueue<>( queueCapacity );
+		}
+
+		@Override
+		public void run() {
+			while ( true ) {
+				final Runnable task;
+				try {
+					task = queue.take();
+				}
+				catch (InterruptedException e) {
+					// pending writes are never abandoned, the lane only ends at STOP
+					continue;
+				}
+				if ( task == STOP ) {
+					// nothing is queued after STOP, but drain the queue anyway
+					Runnable remaining;
+					while ( ( remaining = queue.poll() ) != null ) {
+						if ( remaining != STOP ) {
+							remaining.run();
+						}
+					}
+					return;
+				}
+				task.run();
+			}
+		}
+	}
+
+	/**
+	 * A view of a session for writes performed on a background thread. It
+	 * retains the caching timestamp of the session at the time the write was
+	 * submitted, and doesn't notify the {@link org.hibernate.SessionEventListener}s
+	 * of the session, which are not meant to be called concurrently.
+	 */
+	private static class CacheWriteSession extends SharedSessionDelegatorBaseImpl {
+		private static final SessionEventListenerManager NO_LISTENERS = new SessionEventListenerManagerImpl();
+
+		private final CacheTransactionSynchronization cacheTransactionSynchronization;
+
+		private CacheWriteSession(SharedSessionContractImplementor delegate) {
+			super( delegate );
+			cacheTransactionSynchronization =
+					new FixedTimestampCacheTransactionSynchronization(
+							delegate.getCacheTransactionSynchronization().getCachingTimestamp() );
+		}
+
+		@Override
+		public CacheTransactionSynchronization getCacheTransactionSynchronization() {
+			return cacheTransactionSynchronization;
+		}
+
+		@Override
+		public SessionEventListenerManager getEventListenerManager() {
+			return NO_LISTENERS;
+		}
+	}
+
+	private record FixedTimestampCacheTransactionSynchronization(long cachingTimestamp)
+			implements CacheTransactionSynchronization {
+		@Override
+		public long getCachingTimestamp() {
+			return cachingTimestamp;
+		}
+
+		@Override
+		public void transactionJoined() {
+		}
+
+		@Override
+		public void transactionCompleting() {
+		}
+
+		@Override
+		public void transactionCompleted(boolean successful) {
+		}
+	}
+}
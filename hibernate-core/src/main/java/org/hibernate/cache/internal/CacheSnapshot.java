@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.type.SerializationException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.SerializationHelper.deserialize;
+import static org.hibernate.internal.util.SerializationHelper.serialize;
+
+/**
+ * Writes and reads {@linkplain org.hibernate.cfg.CacheSettings#CACHE_SNAPSHOT_FILE
+ * snapshots} of the entries of second-level cache regions.
+ * <p>
+ * A snapshot file starts with a header holding a magic number, the format version,
+ * and the timestamp at which the snapshot was taken. It's followed by the regions,
+ * each of which is made up of the region name and a sequence of serialized keys and
+ * values, each prefixed with its length, and terminated by a negative length. The
+ * file is written sequentially, and read from a memory-mapped buffer.
+ *
+ * @since 7.1
+ */
+final class CacheSnapshot {
+	private static final int MAGIC = 0x48434E50;
+	private static final int VERSION = 1;
+	private static final byte REGION = 1;
+	private static final byte END = 0;
+
+	/**
+	 * Receives the regions read from a snapshot.
+	 */
+	interface RegionLoader {
+		/**
+		 * Start reading the given region.
+		 *
+		 * @return the consumer of the entries of the region, or {@code null} if the
+		 * region should be skipped
+		 */
+		@Nullable BiConsumer<Object, Object> startRegion(String regionName, long snapshotTimestamp);
+	}
+
+	private CacheSnapshot() {
+	}
+
+	/**
+	 * Write the entries of the given regions to the given file. Soft locks, and
+	 * entries which are not serializable, are not written.
+	 *
+	 * @return the number of entries written
+	 */
+	static int write(Path file, long timestamp, Map<String, DomainDataStorageAccess> regions) throws IOException {
+		final Path directory = file.toAbsolutePath().getParent();
+		if ( directory != null ) {
+			Files.createDirectories( directory );
+		}
+		final Path temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+		int entryCount = 0;
+		try {
+			try ( DataOutputStream output =
+						new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeInt( VERSION );
+				output.writeLong( timestamp );
+				for ( Map.Entry<String, DomainDataStorageAccess> region : regions.entrySet() ) {
+					output.writeByte( REGION );
+					writeBytes( output, region.getKey().getBytes( UTF_8 ) );
+					entryCount += writeEntries( output, timestamp, region.getKey(), region.getValue() );
+					output.writeInt( -1 );
+				}
+				output.writeByte( END );
+			}
+			try {
+				Files.move( temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE );
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move( temporaryFile, file, REPLACE_EXISTING );
+			}
+		}
+		finally {
+			Files.deleteIfExists( temporaryFile );
+		}
+		return entryCount;
+	}
+
+	private static int writeEntries(
+			DataOutputStream output,
+			long timestamp,
+			String regionName,
+			DomainDataStorageAccess storageAccess) throws IOException {
+		final int[] entryCount = new int[1];
+		try {
+			storageAccess.forEachEntry( (key, value) -> {
+				if ( key instanceof Serializable serializableKey
+						&& value instanceof Serializable serializableValue
+						&& isReadable( value, timestamp ) ) {
+					final byte[] keyBytes;
+					final byte[] valueBytes;
+					try {
+						keyBytes = serialize( serializableKey );
+						valueBytes = serialize( serializableValue );
+					}
+					catch (SerializationException e) {
+						L2CACHE_LOGGER.debugf( "Skipping unserializable entry [%s] of region [%s]", key, regionName );
+						return;
+					}
+					try {
+						writeBytes( output, keyBytes );
+						writeBytes( output, valueBytes );
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException( e );
+					}
+					entryCount[0]++;
+				}
+			} );
+		}
+		catch (UnsupportedOperationException e) {
+			L2CACHE_LOGGER.cacheSnapshotNotSupported( regionName );
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		return entryCount[0];
+	}
+
+	private static boolean isReadable(Object value, long timestamp) {
+		// soft locks are never readable, and must not survive a restart
+		return !( value instanceof AbstractReadWriteAccess.Lockable lockable )
+			|| lockable.isReadable( timestamp );
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	/**
+	 * Read the given snapshot file, passing the entries of each region to the
+	 * consumer obtained from the given {@link RegionLoader}.
+	 *
+	 * @return the number of entries read
+	 */
+	static int read(Path file, RegionLoader loader) throws IOException {
+		final MappedByteBuffer buffer;
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+			final long size = channel.size();
+			if ( size > Integer.MAX_VALUE ) {
+				throw new IOException( "Cache snapshot is larger than 2GB" );
+			}
+			buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, size );
+		}
+		try {
+			if ( buffer.getInt() != MAGIC || buffer.getInt() != VERSION ) {
+				throw new IOException( "Not a cache snapshot, or written by an incompatible version of Hibernate" );
+			}
+			final long timestamp = buffer.getLong();
+			int entryCount = 0;
+			while ( buffer.get() == REGION ) {
+				final String regionName = new String( readBytes( buffer, buffer.getInt() ), UTF_8 );
+				final BiConsumer<Object, Object> consumer = loader.startRegion( regionName, timestamp );
+				int length;
+				while ( ( length = buffer.getInt() ) >= 0 ) {
+					if ( consumer == null ) {
+						// skip the key and the value
+						buffer.position( buffer.position() + length );
+						final int valueLength = buffer.getInt();
+						buffer.position( buffer.position() + valueLength );
+					}
+					else {
+						final byte[] keyBytes = readBytes( buffer, length );
+						final byte[] valueBytes = readBytes( buffer, buffer.getInt() );
+						try {
+							consumer.accept( deserialize( keyBytes ), deserialize( valueBytes ) );
+							entryCount++;
+						}
+						catch (SerializationException e) {
+							L2CACHE_LOGGER.debugf( e, "Skipping entry of region [%s] which could not be deserialized",
+									regionName );
+						}
+					}
+				}
+			}
+			return entryCount;
+		}
+		catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException( "Cache snapshot is truncated", e );
+		}
+	}
+
+	private static byte[] readBytes(MappedByteBuffer buffer, int length) {
+		final byte[] bytes = new byte[length];
+		buffer.get( bytes );
+		return bytes;
+	}
+}
@@ -4,18 +4,27 @@
  */
 package org.hibernate.cache.internal;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import jakarta.persistence.PersistenceException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -30,17 +39,25 @@
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 import static org.hibernate.internal.util.StringHelper.qualifyConditionally;
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
 import static org.hibernate.pretty.MessageHelper.infoString;
@@ -71,6 +88,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final TimestampsCache timestampsCache;
 
 	private final QueryResultsCache defaultQueryResultsCache;
+	private final AsyncCacheWriter asyncCacheWriter;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
 
@@ -98,12 +116,21 @@ public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 					sessionFactory
 			);
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
-			defaultQueryResultsCache = new QueryResultsCacheImpl( queryResultsRegion, timestampsCache );
+			defaultQueryResultsCache = new QueryResultsCacheImpl(
+					queryResultsRegion,
+					timestampsCache,
+					sessionFactoryOptions.getQueryCacheStaleGracePeriod()
+			);
 		}
 		else {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+
+		final int asyncWriteThreads = sessionFactoryOptions.getCacheAsyncWriteThreads();
+		asyncCacheWriter = asyncWriteThreads > 0
+				? new AsyncCacheWriter( asyncWriteThreads, sessionFactoryOptions.getCacheAsyncWriteQueueCapacity() )
+				: null;
 	}
 
 	@Override
@@ -496,7 +523,11 @@ else if ( regionName == null || regionName.equals( getDefaultResultCacheName() )
 
 	protected QueryResultsCache makeQueryResultsRegionAccess(String regionName) {
 		final QueryResultsCacheImpl regionAccess =
-				new QueryResultsCacheImpl( getQueryResultsRegion( regionName ), timestampsCache );
+				new QueryResultsCacheImpl(
+						getQueryResultsRegion( regionName ),
+						timestampsCache,
+						getSessionFactoryOptions().getQueryCacheStaleGracePeriod()
+				);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
 		return regionAccess;
@@ -545,8 +576,158 @@ public <T> T unwrap(Class<T> type) {
 		throw new PersistenceException( "Hibernate cannot unwrap Cache as '" + type.getName() + "'" );
 	}
 
+	@Override
+	public void performCacheWrite(
+			CachedDomainDataAccess cacheAccess,
+			Object cacheKey,
+			boolean putFromLoad,
+			SharedSessionContractImplementor session,
+			Consumer<SharedSessionContractImplementor> write) {
+		if ( asyncCacheWriter == null || cacheAccess.getAccessType() == AccessType.TRANSACTIONAL ) {
+			write.accept( session );
+		}
+		else if ( !asyncCacheWriter.submit( cacheAccess, cacheKey, putFromLoad, session, write ) ) {
+			LOG.debugf( "Dropped cache put for key [%s] in region [%s]",
+					cacheKey, cacheAccess.getRegion().getName() );
+			final StatisticsImplementor statistics = sessionFactory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.secondLevelCacheWriteDropped();
+			}
+		}
+	}
+
+	@Override
+	public int getCacheWriteQueueDepth() {
+		return asyncCacheWriter == null ? 0 : asyncCacheWriter.getQueueDepth();
+	}
+
+	@Override
+	public int saveSnapshot(Path file, Collection<String> regionNames) {
+		final Map<String, DomainDataStorageAccess> regions = new LinkedHashMap<>();
+		for ( String regionName : regionNames.isEmpty() ? regionsByName.keySet() : regionNames ) {
+			if ( getSnapshotRegion( regionName ) instanceof DomainDataRegionTemplate region ) {
+				regions.put( region.getName(), region.getCacheStorageAccess() );
+			}
+		}
+		final long snapshotTimestamp = regionFactory.nextTimestamp();
+		final int count;
+		try {
+			count = CacheSnapshot.write( file, snapshotTimestamp, regions );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not write cache snapshot '" + file + "'", e );
+		}
+		final TimestampsRegion timestampsRegion = timestampsCache.getRegion();
+		if ( timestampsRegion != null ) {
+			try ( SessionImplementor session = sessionFactory.openTemporarySession() ) {
+				timestampsRegion.putIntoCache( snapshotMarker( file ), snapshotTimestamp, session );
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * The key under which the timestamp of the snapshot written to the given
+	 * file is recorded in the timestamps region. Finding it there when the
+	 * snapshot is restored proves that the timestamps region kept track of the
+	 * tables modified since the snapshot was taken, instead of having been
+	 * emptied by a restart, in which case every table would look unmodified.
+	 */
+	private static String snapshotMarker(Path file) {
+		return "org.hibernate.cache.snapshot:" + file.toAbsolutePath();
+	}
+
+	private Region getSnapshotRegion(String regionName) {
+		final Region region = regionsByName.get( regionName );
+		return region == null ? regionsByName.get( regionFactory.qualify( regionName ) ) : region;
+	}
+
+	@Override
+	public int loadSnapshot(Path file) {
+		if ( !Files.exists( file ) ) {
+			return 0;
+		}
+		final int[] counts = new int[2];
+		try ( SessionImplementor session = sessionFactory.openTemporarySession() ) {
+			CacheSnapshot.read( file, (regionName, snapshotTimestamp) -> {
+				if ( !isTracked( file, snapshotTimestamp, session ) ) {
+					throw new CacheException( "Cache snapshot '" + file
+							+ "' cannot be validated, since the timestamps cache did not track the tables modified since it was taken" );
+				}
+				if ( regionsByName.get( regionName ) instanceof DomainDataRegionTemplate region ) {
+					final Set<String> spaces = getCachedTables( regionName );
+					if ( !spaces.isEmpty() && timestampsCache.isUpToDate( spaces, snapshotTimestamp, session ) ) {
+						counts[0]++;
+						final DomainDataStorageAccess storageAccess = region.getCacheStorageAccess();
+						return (BiConsumer<Object, Object>) (key, value) -> {
+							if ( !storageAccess.contains( key ) ) {
+								storageAccess.putIntoCache( key, value, session );
+								counts[1]++;
+							}
+						};
+					}
+				}
+				LOG.debugf( "Skipping stale or unknown cache region [%s] in cache snapshot", regionName );
+				return null;
+			} );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not read cache snapshot '" + file + "'", e );
+		}
+		L2CACHE_LOGGER.cacheSnapshotLoaded( counts[1], counts[0], file.toString() );
+		return counts[1];
+	}
+
+	/**
+	 * Whether the timestamps region recorded the modifications to the cached
+	 * tables since the snapshot was taken, which is only the case if the query
+	 * cache is enabled, and the region still holds the timestamp recorded when
+	 * the snapshot was saved.
+	 */
+	private boolean isTracked(Path file, long snapshotTimestamp, SharedSessionContractImplementor session) {
+		final TimestampsRegion timestampsRegion = timestampsCache.getRegion();
+		return timestampsRegion != null
+			&& Long.valueOf( snapshotTimestamp ).equals( timestampsRegion.getFromCache( snapshotMarker( file ), session ) );
+	}
+
+	/**
+	 * The tables whose data is cached in the given entity, collection, or natural id region.
+	 */
+	private Set<String> getCachedTables(String regionName) {
+		final Set<String> tables = new HashSet<>();
+		getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			if ( isInRegion( persister.getCacheAccessStrategy(), regionName )
+					|| isInRegion( persister.getNaturalIdCacheAccessStrategy(), regionName ) ) {
+				Collections.addAll( tables, persister.getSynchronizedQuerySpaces() );
+			}
+		} );
+		getMappingMetamodel().forEachCollectionDescriptor( persister -> {
+			if ( isInRegion( persister.getCacheAccessStrategy(), regionName ) ) {
+				Collections.addAll( tables, persister.getCollectionSpaces() );
+			}
+		} );
+		return tables;
+	}
+
+	private static boolean isInRegion(CachedDomainDataAccess cacheAccess, String regionName) {
+		return cacheAccess != null && cacheAccess.getRegion().getName().equals( regionName );
+	}
+
 	@Override
 	public void close() {
+		if ( asyncCacheWriter != null ) {
+			asyncCacheWriter.stop();
+		}
+		final String snapshotFile = sessionFactory.getSessionFactoryOptions().getCacheSnapshotFile();
+		if ( snapshotFile != null ) {
+			try {
+				saveSnapshot( Path.of( snapshotFile ),
+						List.of( sessionFactory.getSessionFactoryOptions().getCacheSnapshotRegions() ) );
+			}
+			catch (RuntimeException e) {
+				L2CACHE_LOGGER.unableToSaveCacheSnapshot( snapshotFile, e );
+			}
+		}
 		for ( Region region : regionsByName.values() ) {
 			region.destroy();
 		}
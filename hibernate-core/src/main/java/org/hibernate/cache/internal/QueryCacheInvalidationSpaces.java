@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.EntityTableMapping;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Computes the spaces tracked by the {@link org.hibernate.cache.spi.TimestampsCache}
+ * when {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_FINE_GRAINED_INVALIDATION
+ * fine-grained query cache invalidation} is enabled.
+ * <p>
+ * In addition to the table-level space, which is still invalidated by insertions,
+ * deletions and bulk operations, two kinds of column-level spaces are maintained
+ * for each table:
+ * <ul>
+ * <li>a space per column, invalidated by updates which change the column, and
+ * <li>an "any column" space, invalidated by every update to the table for which
+ *     the updated columns are known.
+ * </ul>
+ * A cached query which references a known set of columns of a table depends on
+ * the table-level space and on the spaces of those columns. A cached query for
+ * which the referenced columns are unknown depends on the table-level space and
+ * on the "any column" space.
+ */
+public final class QueryCacheInvalidationSpaces {
+	private static final char COLUMN_SEPARATOR = '#';
+
+	private QueryCacheInvalidationSpaces() {
+	}
+
+	/**
+	 * The space invalidated by updates of the given column of the given table.
+	 */
+	public static String columnSpace(String tableSpace, String column) {
+		return tableSpace + COLUMN_SEPARATOR + column;
+	}
+
+	/**
+	 * The space invalidated by every update of the given table for which the
+	 * updated columns are known.
+	 */
+	public static String anyColumnSpace(String tableSpace) {
+		return tableSpace + COLUMN_SEPARATOR;
+	}
+
+	/**
+	 * Determine the spaces against which a cached result list of a query must be
+	 * checked for staleness.
+	 *
+	 * @param querySpaces The tables affecting the results of the query
+	 * @param referencedColumns The columns referenced by the query, by table,
+	 * or {@code null} if they are unknown
+	 */
+	public static Set<String> forQuery(
+			Collection<String> querySpaces,
+			@Nullable Map<String, ? extends Collection<String>> referencedColumns) {
+		final Set<String> spaces = new LinkedHashSet<>();
+		for ( String querySpace : querySpaces ) {
+			spaces.add( querySpace );
+			final Collection<String> columns =
+					referencedColumns == null ? null : referencedColumns.get( querySpace );
+			if ( columns == null ) {
+				spaces.add( anyColumnSpace( querySpace ) );
+			}
+			else {
+				for ( String column : columns ) {
+					spaces.add( columnSpace( querySpace, column ) );
+				}
+			}
+		}
+		return spaces;
+	}
+
+	/**
+	 * Determine the spaces to invalidate for an update of the given attributes
+	 * of an entity.
+	 *
+	 * @param persister The persister of the updated entity
+	 * @param dirtyAttributes The state array positions of the updated attributes
+	 *
+	 * @return The spaces to invalidate, or {@code null} if the updated columns
+	 *         cannot be determined, and the {@linkplain EntityPersister#getPropertySpaces
+	 *         table-level spaces} must be invalidated instead
+	 */
+	public static String @Nullable [] forUpdate(EntityPersister persister, int @Nullable [] dirtyAttributes) {
+		if ( dirtyAttributes == null || persister.hasUpdateGeneratedProperties() ) {
+			return null;
+		}
+		final Set<String> tables = new LinkedHashSet<>();
+		for ( EntityTableMapping tableMapping : persister.getTableMappings() ) {
+			tables.add( tableMapping.getTableName() );
+		}
+
+		final Set<String> spaces = new LinkedHashSet<>();
+		for ( String propertySpace : persister.getPropertySpaces() ) {
+			if ( !tables.contains( propertySpace ) ) {
+				// a synchronized space not backed by a mapped table,
+				// so we can't tell which of its columns are affected
+				spaces.add( propertySpace );
+			}
+		}
+		for ( int dirtyAttribute : dirtyAttributes ) {
+			addColumnSpaces( persister.getAttributeMapping( dirtyAttribute ), spaces );
+		}
+		if ( persister.isVersioned() ) {
+			addColumnSpaces( persister.getAttributeMapping( persister.getVersionProperty() ), spaces );
+		}
+		return spaces.toArray( new String[0] );
+	}
+
+	private static void addColumnSpaces(AttributeMapping attributeMapping, Set<String> spaces) {
+		if ( attributeMapping.isPluralAttributeMapping() ) {
+			// collection changes are handled by the collection actions
+			return;
+		}
+		if ( attributeMapping instanceof EmbeddedAttributeMapping embeddedAttributeMapping ) {
+			final SelectableMapping aggregateMapping =
+					embeddedAttributeMapping.getEmbeddableTypeDescriptor().getAggregateMapping();
+			if ( aggregateMapping != null ) {
+				addColumnSpace( aggregateMapping, spaces );
+				return;
+			}
+		}
+		attributeMapping.forEachSelectable( (index, selectable) -> {
+			if ( !selectable.isFormula() ) {
+				addColumnSpace( selectable, spaces );
+			}
+		} );
+	}
+
+	private static void addColumnSpace(SelectableMapping selectable, Set<String> spaces) {
+		final String table = selectable.getContainingTableExpression();
+		spaces.add( anyColumnSpace( table ) );
+		spaces.add( columnSpace( table, selectable.getSelectionExpression() ) );
+	}
+}
@@ -6,24 +6,37 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 
+import static java.util.Arrays.asList;
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
  * The standard implementation of the Hibernate QueryCache interface.  Works
  * hind-in-hand with {@link TimestampsCache} to help in recognizing
  * stale query results.
+ * <p>
+ * If a {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_STALE_GRACE_PERIOD
+ * stale grace period} is configured, a stale result list is still returned
+ * while another session refreshes it, that is, between the first lookup which
+ * found it stale and the subsequent {@link #put}, or the end of the grace period,
+ * except to a session which itself wrote to the query spaces of the result list.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -32,12 +45,18 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final long staleGracePeriod;
+	private final ConcurrentMap<QueryKey, Long> refreshStartTimes;
+	private volatile long lastExpiration;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			long staleGracePeriod) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.staleGracePeriod = staleGracePeriod;
+		this.refreshStartTimes = staleGracePeriod > 0 ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -50,6 +69,15 @@ public boolean put(
 			final QueryKey key,
 			final List<?> results,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, results, null, session );
+	}
+
+	@Override
+	public boolean put(
+			final QueryKey key,
+			final List<?> results,
+			final Integer timeToLive,
+			final SharedSessionContractImplementor session) throws HibernateException {
 		if ( L2CACHE_LOGGER.isDebugEnabled() ) {
 			L2CACHE_LOGGER.debugf( "Caching query results in region: %s; timestamp=%s",
 					cacheRegion.getName(),
@@ -58,6 +86,7 @@ public boolean put(
 
 		final CacheItem cacheItem = new CacheItem(
 				session.getCacheTransactionSynchronization().getCachingTimestamp(),
+				timeToLive == null ? Long.MAX_VALUE : System.currentTimeMillis() + timeToLive,
 				deepCopy( results )
 		);
 
@@ -76,6 +105,9 @@ public boolean put(
 					EventMonitor.CacheActionDescription.QUERY_RESULT
 			);
 			session.getEventListenerManager().cachePutEnd();
+			if ( refreshStartTimes != null ) {
+				refreshStartTimes.remove( key );
+			}
 		}
 
 		return true;
@@ -103,7 +135,14 @@ public List<?> get(
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( cacheItem.isExpired()
+				|| !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+			if ( isStaleResultUsable( key, spaces, session ) ) {
+				if ( loggerDebugEnabled ) {
+					L2CACHE_LOGGER.debug( "Returning stale cached query results while they are being refreshed" );
+				}
+				return cacheItem.results;
+			}
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -136,7 +175,14 @@ public List<?> get(
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( cacheItem.isExpired()
+				|| !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+			if ( isStaleResultUsable( key, asList( spaces ), session ) ) {
+				if ( loggerDebugEnabled ) {
+					L2CACHE_LOGGER.debug( "Returning stale cached query results while they are being refreshed" );
+				}
+				return deepCopy( cacheItem.results );
+			}
 			if ( loggerDebugEnabled ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -150,6 +196,68 @@ public List<?> get(
 		return deepCopy( cacheItem.results );
 	}
 
+	/**
+	 * Determine if a stale result list may be returned for the given key, because
+	 * it is being refreshed by another session. If not, the caller becomes
+	 * responsible for refreshing it.
+	 * <p>
+	 * A session which wrote to the given query spaces in its current transaction
+	 * never sees stale results, since they could not reflect its own changes.
+	 */
+	private boolean isStaleResultUsable(
+			QueryKey key,
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		if ( refreshStartTimes == null || hasWritesTo( spaces, session ) ) {
+			return false;
+		}
+		else {
+			final long now = System.currentTimeMillis();
+			final Long refreshStartTime = refreshStartTimes.putIfAbsent( key, now );
+			if ( refreshStartTime == null ) {
+				// no refresh in progress, the caller performs it
+				expireRefreshStartTimes( now );
+				return false;
+			}
+			else if ( now - refreshStartTime < staleGracePeriod ) {
+				return true;
+			}
+			else {
+				// the refresh took too long or failed, the caller takes it over
+				// unless some other session just did
+				return !refreshStartTimes.replace( key, refreshStartTime, now );
+			}
+		}
+	}
+
+	/**
+	 * Forget the refreshes which started more than a grace period ago, since
+	 * they failed, or their results were never put in the cache, and their
+	 * query might never be executed again.
+	 */
+	private void expireRefreshStartTimes(long now) {
+		if ( now - lastExpiration >= staleGracePeriod ) {
+			lastExpiration = now;
+			refreshStartTimes.values().removeIf( refreshStartTime -> now - refreshStartTime >= staleGracePeriod );
+		}
+	}
+
+	/**
+	 * Whether the given session has pending or already flushed changes to the
+	 * given query spaces. The writes of a stateless session are not tracked,
+	 * and so it is assumed to have some.
+	 */
+	private static boolean hasWritesTo(Collection<String> spaces, SharedSessionContractImplementor session) {
+		if ( session instanceof SessionImplementor statefulSession ) {
+			final ActionQueue actionQueue = statefulSession.getActionQueue();
+			return actionQueue.areTablesUpdated( spaces )
+				|| actionQueue.areTablesToBeUpdated( new HashSet<>( spaces ) );
+		}
+		else {
+			return true;
+		}
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		final EventMonitor eventMonitor = session.getEventMonitor();
@@ -177,11 +285,18 @@ public String toString() {
 
 	static class CacheItem implements Serializable {
 		private final Long timestamp;
+		private final long expirationTime;
 		private final List<?> results;
 
-		CacheItem(long timestamp, List<?> results) {
+		CacheItem(long timestamp, long expirationTime, List<?> results) {
 			this.timestamp = Long.valueOf( timestamp );
+			this.expirationTime = expirationTime;
 			this.results = results;
 		}
+
+		boolean isExpired() {
+			return expirationTime != Long.MAX_VALUE
+				&& System.currentTimeMillis() >= expirationTime;
+		}
 	}
 }
@@ -5,17 +5,23 @@
 package org.hibernate.cache.spi;
 
 import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
@@ -118,6 +124,91 @@ default void evictQueries() throws HibernateException {
 		}
 	}
 
+	/**
+	 * Perform a write to the given region, either immediately, or, if
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_ASYNC_WRITE_THREADS
+	 * asynchronous cache writes} are enabled, on a background thread, after
+	 * every write previously submitted for the same key.
+	 *
+	 * @param cacheAccess The access to the region being written
+	 * @param cacheKey The key being written
+	 * @param putFromLoad Whether the write is a put after loading from the
+	 *                    database, which may be dropped if too many writes
+	 *                    are pending
+	 * @param session The session performing the write
+	 * @param write The write, which accepts the session to pass to the
+	 *              {@code cacheAccess}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void performCacheWrite(
+			CachedDomainDataAccess cacheAccess,
+			Object cacheKey,
+			boolean putFromLoad,
+			SharedSessionContractImplementor session,
+			Consumer<SharedSessionContractImplementor> write) {
+		write.accept( session );
+	}
+
+	/**
+	 * The number of {@linkplain #performCacheWrite asynchronous cache writes}
+	 * waiting to be performed.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default int getCacheWriteQueueDepth() {
+		return 0;
+	}
+
+	/**
+	 * Write the entries of the given entity, collection, and natural id regions,
+	 * along with the timestamp at which they were read, to the given local file,
+	 * so that they can later be {@linkplain #loadSnapshot restored}. Soft locks,
+	 * and entries which are not serializable, are not written.
+	 *
+	 * @param file The file to write, which is replaced if it already exists
+	 * @param regionNames The names of the regions to write, or an empty
+	 *                    collection to write every entity, collection, and
+	 *                    natural id region
+	 *
+	 * @return the number of entries written
+	 *
+	 * @throws org.hibernate.cache.CacheException if the file could not be written
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_SNAPSHOT_FILE
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default int saveSnapshot(Path file, Collection<String> regionNames) {
+		return 0;
+	}
+
+	/**
+	 * Restore the entries written to the given file by {@link #saveSnapshot}.
+	 * A region is skipped if any of the tables it caches was modified after the
+	 * snapshot was taken, according to the {@linkplain #getTimestampsCache
+	 * timestamps cache}. Entries already present in a region are not replaced.
+	 * <p>
+	 * The snapshot is only restored if the timestamps cache tracked the tables
+	 * modified since it was taken, that is, if the query cache is enabled, and
+	 * the timestamps region was not emptied in the meantime, for example, by a
+	 * restart of a local caching provider.
+	 *
+	 * @return the number of entries restored
+	 *
+	 * @throws org.hibernate.cache.CacheException if the file could not be read,
+	 *         or if the snapshot cannot be validated by the timestamps cache
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default int loadSnapshot(Path file) {
+		return 0;
+	}
+
 	/**
 	 * Close this "cache", releasing all underlying resources.
 	 */
@@ -22,7 +22,8 @@
  * Note that the fields of this object must contain every explicit and
  * implicit setting and parameter argument that affects the result list
  * of the query, including things like the {@link #maxRows limit} and
- * {@link #firstRow offset} and {@link #enabledFilterNames enabled filters}.
+ * {@link #firstRow offset}, {@link #enabledFilterNames enabled filters},
+ * and the {@link #shardIdentifier shard} against which the query is executed.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -52,7 +53,8 @@ public static QueryKey from(
 				parameterBindings.generateQueryKeyMemento( session ),
 				limitToUse.getFirstRow(),
 				limitToUse.getMaxRows(),
-				session.getLoadQueryInfluencers().getEnabledFilterNames()
+				session.getLoadQueryInfluencers().getEnabledFilterNames(),
+				session.getShardIdentifier()
 		);
 	}
 
@@ -62,6 +64,7 @@ public static QueryKey from(
 	private final Integer firstRow;
 	private final Integer maxRows;
 	private final String[] enabledFilterNames;
+	private final Object shardIdentifier;
 
 	/**
 	 * For performance reasons, the hashCode is cached; however, it is marked transient so that it can be
@@ -75,11 +78,29 @@ public QueryKey(
 			Integer firstRow,
 			Integer maxRows,
 			Set<String> enabledFilterNames) {
+		this( sql, parameterBindingsMemento, firstRow, maxRows, enabledFilterNames, null );
+	}
+
+	/**
+	 * @param shardIdentifier The identifier of the
+	 *        {@linkplain org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider shard}
+	 *        against which the query is executed, or {@code null}
+	 *
+	 * @since 7.1
+	 */
+	public QueryKey(
+			String sql,
+			ParameterBindingsMemento parameterBindingsMemento,
+			Integer firstRow,
+			Integer maxRows,
+			Set<String> enabledFilterNames,
+			Object shardIdentifier) {
 		this.sqlQueryString = sql;
 		this.parameterBindingsMemento = parameterBindingsMemento;
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
 		this.enabledFilterNames = enabledFilterNames.toArray( String[]::new );
+		this.shardIdentifier = shardIdentifier;
 		this.hashCode = generateHashCode();
 	}
 
@@ -104,6 +125,7 @@ private int generateHashCode() {
 //		result = 37 * result + ( maxRows==null ? 0 : maxRows );
 		result = 37 * result + parameterBindingsMemento.hashCode();
 		result = 37 * result + Arrays.hashCode( enabledFilterNames );
+		result = 37 * result + Objects.hashCode( shardIdentifier );
 		return result;
 	}
 
@@ -139,6 +161,10 @@ public boolean equals(Object other) {
 			return false;
 		}
 
+		if ( ! Objects.equals( shardIdentifier, that.shardIdentifier ) ) {
+			return false;
+		}
+
 		return true;
 	}
 
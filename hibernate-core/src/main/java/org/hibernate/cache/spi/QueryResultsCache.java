@@ -52,6 +52,32 @@ boolean put(
 			List<?> result,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Store a result list of a query with the given {@link QueryKey}
+	 * in the query result cache, to be treated as stale once the given
+	 * time to live has elapsed.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param result The result list to cache
+	 * @param timeToLive The time to live of the cached result list, in
+	 *                   milliseconds, or {@code null} if it does not expire
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @throws HibernateException Indicates a problem delegating to the underlying cache.
+	 *
+	 * @since 7.1
+	 */
+	default boolean put(
+			QueryKey key,
+			List<?> result,
+			Integer timeToLive,
+			SharedSessionContractImplementor session) throws HibernateException {
+		return put( key, result, session );
+	}
+
 	/**
 	 * Attempt to retrieve a cached query result list for the given
 	 * {@link QueryKey} from the {@linkplain QueryResultsRegion cache
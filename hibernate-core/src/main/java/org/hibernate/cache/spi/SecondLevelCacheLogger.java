@@ -9,6 +9,7 @@
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -100,4 +101,39 @@ public interface SecondLevelCacheLogger extends BasicLogger {
 	@SuppressWarnings( "unused" ) // used by hibernate-jcache
 	void nonStandardSupportForAccessType(String regionName, String accessType, String regionFactoryClass);
 
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Asynchronous write to cache region [%s] failed",
+			id = NAMESPACE + 9
+	)
+	void asyncCacheWriteFailed(String regionName, @Cause Throwable cause);
+
+	@LogMessage(level = INFO)
+	@Message(
+			value = "Restored %1$s entries of %2$s cache regions from snapshot [%3$s]",
+			id = NAMESPACE + 10
+	)
+	void cacheSnapshotLoaded(int entryCount, int regionCount, String file);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Could not write cache snapshot [%s]",
+			id = NAMESPACE + 11
+	)
+	void unableToSaveCacheSnapshot(String file, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Could not read cache snapshot [%s]",
+			id = NAMESPACE + 12
+	)
+	void unableToLoadCacheSnapshot(String file, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Cache region [%s] does not support iteration of its entries and was not written to the cache snapshot",
+			id = NAMESPACE + 13
+	)
+	void cacheSnapshotNotSupported(String regionName);
+
 }
@@ -38,8 +38,9 @@ public CollectionCacheEntry(PersistentCollection<?> collection, CollectionPersis
 	 * @return The cached collection state.
 	 */
 	public Serializable[] getState() {
-		//TODO: assumes all collections disassemble to an array!
-		return (Serializable[]) state;
+		return state instanceof CompactCollectionState compactState
+				? compactState.toArray()
+				: (Serializable[]) state;
 	}
 
 	/**
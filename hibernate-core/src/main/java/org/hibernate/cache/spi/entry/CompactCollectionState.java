@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.hibernate.Incubating;
+
+/**
+ * The disassembled state of a collection, as stored in a {@link CollectionCacheEntry},
+ * with runs of {@link Long}, {@link Integer}, and {@link UUID} values, typically the
+ * identifiers of the elements of a one-to-many association, or the keys of a map,
+ * held in primitive arrays instead of as boxed objects.
+ * <p>
+ * The state is a sequence of values, interleaved with a given stride. For example,
+ * a map is disassembled to alternating keys and values, and so has a stride of 2.
+ * Each of the interleaved "columns" is compacted independently.
+ * <p>
+ * Compaction reduces the footprint of the state while it sits in the cache.
+ * It does not avoid boxing when the collection is assembled: each value is
+ * boxed as it is read, since {@link org.hibernate.type.Type#assemble} accepts
+ * an object, and the assembled collection holds objects in any case.
+ *
+ * @see org.hibernate.collection.spi.PersistentCollection#disassemble
+ * @see org.hibernate.collection.spi.PersistentCollection#initializeFromCache
+ *
+ * @since 7.1
+ */
+@Incubating
+public final class CompactCollectionState implements Serializable {
+	private final int length;
+	private final Column[] columns;
+
+	private CompactCollectionState(int length, Column[] columns) {
+		this.length = length;
+		this.columns = columns;
+	}
+
+	/**
+	 * Compact the given disassembled state of a collection, if possible.
+	 *
+	 * @param values The disassembled state
+	 * @param stride The number of interleaved columns in the disassembled state
+	 *
+	 * @return a {@code CompactCollectionState}, or the given array if none of its
+	 *         columns could be compacted
+	 */
+	public static Serializable compact(Serializable[] values, int stride) {
+		if ( values.length == 0 || values.length % stride != 0 ) {
+			return values;
+		}
+		final Column[] columns = new Column[stride];
+		boolean compacted = false;
+		for ( int column = 0; column < stride; column++ ) {
+			columns[column] = compactColumn( values, column, stride );
+			compacted = compacted || !( columns[column] instanceof ObjectColumn );
+		}
+		return compacted ? new CompactCollectionState( values.length, columns ) : values;
+	}
+
+	/**
+	 * Obtain a view of the given disassembled state of a collection, which is
+	 * either a {@code CompactCollectionState} or an array of {@link Serializable}.
+	 */
+	public static CompactCollectionState from(Object disassembled) {
+		if ( disassembled instanceof CompactCollectionState state ) {
+			return state;
+		}
+		else {
+			final Serializable[] values = (Serializable[]) disassembled;
+			return new CompactCollectionState( values.length, new Column[] { new ObjectColumn( values ) } );
+		}
+	}
+
+	/**
+	 * The number of values.
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * The value at the given index, boxed if it is held in a primitive array.
+	 */
+	public Serializable get(int index) {
+		final int stride = columns.length;
+		return columns[index % stride].get( index / stride );
+	}
+
+	/**
+	 * The values, as a new array of boxed objects.
+	 */
+	public Serializable[] toArray() {
+		final Serializable[] values = new Serializable[length];
+		for ( int i = 0; i < length; i++ ) {
+			values[i] = get( i );
+		}
+		return values;
+	}
+
+	private static Column compactColumn(Serializable[] values, int column, int stride) {
+		final int size = values.length / stride;
+		final Serializable first = values[column];
+		if ( first instanceof Long ) {
+			final long[] longs = new long[size];
+			for ( int i = 0; i < size; i++ ) {
+				if ( !( values[i * stride + column] instanceof Long value ) ) {
+					return objectColumn( values, column, stride );
+				}
+				longs[i] = value;
+			}
+			return new LongColumn( longs );
+		}
+		else if ( first instanceof Integer ) {
+			final int[] ints = new int[size];
+			for ( int i = 0; i < size; i++ ) {
+				if ( !( values[i * stride + column] instanceof Integer value ) ) {
+					return objectColumn( values, column, stride );
+				}
+				ints[i] = value;
+			}
+			return new IntColumn( ints );
+		}
+		else if ( first instanceof UUID ) {
+			final long[] bits = new long[size * 2];
+			for ( int i = 0; i < size; i++ ) {
+				if ( !( values[i * stride + column] instanceof UUID value ) ) {
+					return objectColumn( values, column, stride );
+				}
+				bits[i * 2] = value.getMostSignificantBits();
+				bits[i * 2 + 1] = value.getLeastSignificantBits();
+			}
+			return new UuidColumn( bits );
+		}
+		else {
+			return objectColumn( values, column, stride );
+		}
+	}
+
+	private static ObjectColumn objectColumn(Serializable[] values, int column, int stride) {
+		if ( stride == 1 ) {
+			return new ObjectColumn( values );
+		}
+		else {
+			final Serializable[] objects = new Serializable[values.length / stride];
+			for ( int i = 0; i < objects.length; i++ ) {
+				objects[i] = values[i * stride + column];
+			}
+			return new ObjectColumn( objects );
+		}
+	}
+
+	private interface Column extends Serializable {
+		Serializable get(int index);
+	}
+
+	private record LongColumn(long[] values) implements Column {
+		@Override
+		public Serializable get(int index) {
+			return values[index];
+		}
+	}
+
+	private record IntColumn(int[] values) implements Column {
+		@Override
+		public Serializable get(int index) {
+			return values[index];
+		}
+	}
+
+	private record UuidColumn(long[] bits) implements Column {
+		@Override
+		public Serializable get(int index) {
+			return new UUID( bits[index * 2], bits[index * 2 + 1] );
+		}
+	}
+
+	private record ObjectColumn(Serializable[] values) implements Column {
+		@Override
+		public Serializable get(int index) {
+			return values[index];
+		}
+	}
+}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.function.BiConsumer;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -55,6 +57,21 @@ default void clearCache(SharedSessionContractImplementor session) {
 	 */
 	void evictData(Object key);
 
+	/**
+	 * Pass each entry currently held in the cache to the given consumer,
+	 * regardless of transaction/locking. Used to write a
+	 * {@linkplain org.hibernate.cache.spi.CacheImplementor#saveSnapshot snapshot}
+	 * of the region.
+	 *
+	 * @throws UnsupportedOperationException if the caching provider does not
+	 * support iterating the entries of the cache
+	 *
+	 * @since 7.1
+	 */
+	default void forEachEntry(BiConsumer<Object, Object> consumer) {
+		throw new UnsupportedOperationException( "Iterating cache entries is not supported" );
+	}
+
 	/**
 	 * Release any resources.  Called during cache shutdown
 	 */
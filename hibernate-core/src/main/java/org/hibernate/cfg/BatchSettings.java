@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,43 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable JDBC batching of inserts of entities whose identifiers are generated
+	 * by the database, typically by an {@code IDENTITY} column, when the entities
+	 * are inserted via {@link org.hibernate.StatelessSession#insertMultiple}.
+	 * <p>
+	 * The generated identifiers are retrieved for the whole batch by calling
+	 * {@link java.sql.Statement#getGeneratedKeys()} after
+	 * {@link java.sql.PreparedStatement#executeBatch()}, and so this setting only
+	 * has an effect if the {@linkplain org.hibernate.dialect.Dialect#supportsBatchedGetGeneratedKeys
+	 * JDBC driver supports it}. Otherwise, such entities are inserted one at a time.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
+	/**
+	 * Enable JDBC batching of inserts of entities with
+	 * {@linkplain org.hibernate.generator.OnExecutionGenerator database-generated}
+	 * properties whose values cannot be returned by the {@code insert} statement
+	 * itself, and must instead be selected back from the database.
+	 * <p>
+	 * When enabled, the generated values are retrieved for each JDBC batch of inserts
+	 * using a single {@code select} statement with a restriction on the identifiers of
+	 * the inserted entities, instead of one {@code select} statement per entity. The
+	 * {@link org.hibernate.event.spi.PostInsertEventListener post-insert events} of
+	 * the entities in the batch are delayed until their generated values are known.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String BATCH_GENERATED_VALUES = "hibernate.jdbc.batch_generated_values";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
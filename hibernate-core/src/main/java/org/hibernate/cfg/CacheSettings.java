@@ -107,6 +107,56 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, updates of entity instances invalidate cached query results at
+	 * the granularity of the updated columns instead of the whole table. A cached
+	 * query result list is then only considered stale after an update if the query
+	 * references one of the updated columns, in its select list, its restriction,
+	 * its join conditions or its ordering.
+	 * <p>
+	 * Insertions, deletions, collection changes and bulk mutation queries always
+	 * invalidate the affected tables as a whole, as do updates for which the set
+	 * of updated columns cannot be determined. Queries for which the referenced
+	 * columns cannot be determined, for example, because they involve SQL
+	 * fragments or formulas, are invalidated by any change to the tables they
+	 * read from.
+	 * <p>
+	 * Checking a cached result list for staleness requires one lookup in the
+	 * {@linkplain org.hibernate.cache.spi.TimestampsCache timestamps cache} per
+	 * referenced column, instead of one lookup per table.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String QUERY_CACHE_FINE_GRAINED_INVALIDATION = "hibernate.cache.query_cache_fine_grained_invalidation";
+
+	/**
+	 * The grace period, in milliseconds, during which a stale cached query result
+	 * list may still be returned while the query is re-executed to refresh it.
+	 * <p>
+	 * When a positive grace period is specified, the first session to find that a
+	 * cached result list is stale, or has outlived its
+	 * {@linkplain org.hibernate.jpa.HibernateHints#HINT_CACHE_TIME_TO_LIVE time to
+	 * live}, re-executes the query and refreshes the cached results, as usual. But
+	 * while this refresh is in progress, other sessions executing the same query
+	 * receive the stale result list instead of also hitting the database. If the
+	 * refresh does not complete within the grace period, the next session to find
+	 * the stale result list takes over the refresh.
+	 * <p>
+	 * This trades a small, bounded window of staleness for protection against a
+	 * burst of identical queries each time a heavily-read cached result list is
+	 * invalidated, and is only appropriate for queries which tolerate such
+	 * staleness. Refreshes are coordinated per {@code SessionFactory}.
+	 *
+	 * @settingDefault {@code 0}, meaning stale results are never returned
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String QUERY_CACHE_STALE_GRACE_PERIOD = "hibernate.cache.query_cache_stale_grace_period";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -197,6 +247,82 @@ public interface CacheSettings {
 	 */
 	String AUTO_EVICT_COLLECTION_CACHE = "hibernate.cache.auto_evict_collection_cache";
 
+	/**
+	 * The number of background threads used to perform second-level cache writes
+	 * asynchronously, or {@code 0} if cache writes are performed synchronously.
+	 * <p>
+	 * When enabled, the puts which populate the second-level cache after entities and
+	 * collections are loaded from the database, and the cache updates which follow the
+	 * completion of a transaction which inserted or updated entities, are handed off to
+	 * background threads, so that a slow remote cache does not add to the latency of
+	 * the session performing them. Writes for a given cache key are always performed
+	 * in the order in which they were submitted, and with the caching timestamp of the
+	 * transaction which submitted them.
+	 * <p>
+	 * Writes to regions with the {@link org.hibernate.cache.spi.access.AccessType#TRANSACTIONAL
+	 * transactional} access type are always performed synchronously.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see #CACHE_ASYNC_WRITE_QUEUE_CAPACITY
+	 * @see org.hibernate.stat.Statistics#getSecondLevelCacheWriteQueueDepth
+	 * @see org.hibernate.stat.Statistics#getSecondLevelCacheWriteDropCount
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String CACHE_ASYNC_WRITE_THREADS = "hibernate.cache.async_write_threads";
+
+	/**
+	 * The capacity of the queue of pending asynchronous cache writes of each of the
+	 * {@linkplain #CACHE_ASYNC_WRITE_THREADS background threads}. When a queue is full,
+	 * puts after loading are dropped, and other writes wait for room in the queue.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String CACHE_ASYNC_WRITE_QUEUE_CAPACITY = "hibernate.cache.async_write_queue_capacity";
+
+	/**
+	 * The path of a local file to which a snapshot of the second-level cache regions
+	 * is written when the {@link org.hibernate.SessionFactory} is closed, and from
+	 * which the regions are warmed when the {@code SessionFactory} is next started.
+	 * <p>
+	 * A region is only restored if none of the tables cached in it has been modified
+	 * since the snapshot was taken, according to the
+	 * {@link org.hibernate.cache.spi.TimestampsCache}. The snapshot is not restored
+	 * at all unless the query cache is enabled, and its timestamps region outlives
+	 * the {@code SessionFactory}, as a distributed or persistent region does, since
+	 * the modifications made while the application was down would otherwise go
+	 * unnoticed. Entries already present in a region at startup are never replaced.
+	 * <p>
+	 * Only regions whose caching provider supports iterating their entries, such as
+	 * JCache regions, can be written to a snapshot.
+	 *
+	 * @settingDefault none, the cache is not persisted
+	 *
+	 * @see #CACHE_SNAPSHOT_REGIONS
+	 * @see org.hibernate.cache.spi.CacheImplementor#saveSnapshot
+	 * @see org.hibernate.cache.spi.CacheImplementor#loadSnapshot
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String CACHE_SNAPSHOT_FILE = "hibernate.cache.snapshot_file";
+
+	/**
+	 * A comma-separated list of the names of the entity, collection, and natural id
+	 * cache regions to write to the {@linkplain #CACHE_SNAPSHOT_FILE cache snapshot}.
+	 *
+	 * @settingDefault all entity, collection, and natural id regions
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String CACHE_SNAPSHOT_REGIONS = "hibernate.cache.snapshot_regions";
+
 	/**
 	 * Enable direct storage of entity references into the second level cache when
 	 * applicable. This is appropriate only for immutable entities.
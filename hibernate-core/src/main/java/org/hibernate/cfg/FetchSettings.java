@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,61 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the {@linkplain BatchSize batch size} of an entity or collection
+	 * is only a starting point. Hibernate keeps track, for each entity and collection
+	 * role, of how many keys are typically waiting in the batch fetch queue when a
+	 * proxy or lazy collection is initialized, and adapts the number of keys loaded
+	 * at once to it: a larger batch saves round trips when many keys are waiting,
+	 * and a smaller one avoids padding the {@code in} list when only a few are.
+	 * <p>
+	 * The batch size never exceeds the number of parameters accepted by the database,
+	 * nor 1024 keys.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #DEFAULT_BATCH_FETCH_SIZE
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String USE_ADAPTIVE_BATCH_FETCH = "hibernate.use_adaptive_batch_fetch";
+
+	/**
+	 * The number of times a session may fetch single instances of the same entity,
+	 * or single instances of the same collection role, by separate selects, before
+	 * the pattern is reported as an "N+1 selects" problem. The report is logged,
+	 * along with the entity name or collection role, and counted by the
+	 * {@linkplain org.hibernate.stat.Statistics statistics}.
+	 * <p>
+	 * Fetches of entities and collections which are already batch or subselect
+	 * fetchable are not counted.
+	 *
+	 * @settingDefault {@code 0}, which disables detection
+	 *
+	 * @see #N_PLUS_ONE_BATCH_SIZE
+	 * @see org.hibernate.stat.Statistics#getNPlusOneDetectionCount()
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String N_PLUS_ONE_DETECTION_THRESHOLD = "hibernate.n_plus_one_detection_threshold";
+
+	/**
+	 * When greater than one, an entity or collection role reported as an "N+1
+	 * selects" problem is switched to batch fetching with the given batch size
+	 * for the rest of the session. Proxies and collections of that role which
+	 * are already waiting to be initialized are fetched by the next batch.
+	 *
+	 * @settingDefault {@code 0}, which leaves the fetching of detected roles unchanged
+	 *
+	 * @see #N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String N_PLUS_ONE_BATCH_SIZE = "hibernate.n_plus_one_batch_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -46,4 +102,51 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * When enabled, Hibernate fetches an eager collection by aggregating its
+	 * elements into a JSON array in a correlated subquery of the select list,
+	 * using {@code json_arrayagg()}, instead of joining the collection table.
+	 * The owner is then returned as a single row, however many collections
+	 * are fetched, and several bags may be fetched at once.
+	 * <p>
+	 * For a one-to-many or many-to-many association, the identifiers of the
+	 * associated entities are aggregated, and the associated entities which
+	 * are not already in the persistence context are then loaded by a single
+	 * multi-id load for all the owners returned by the query.
+	 * <p>
+	 * Only applies to bags and sets without an {@linkplain jakarta.persistence.OrderBy
+	 * order}, of basic values without a converter or of entities with a basic
+	 * identifier, on databases supporting {@code json_arrayagg()}. Other
+	 * collections, and collections explicitly {@code join fetch}ed in a
+	 * query, are still joined.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String USE_AGGREGATE_COLLECTION_FETCH = "hibernate.use_aggregate_collection_fetch";
+
+	/**
+	 * When enabled, Hibernate avoids the cartesian product which results from
+	 * joining several collections in the same query. Only the first collection
+	 * fetch is joined, and any further collection which would have been joined
+	 * because of an {@linkplain jakarta.persistence.EntityGraph entity graph}
+	 * or {@linkplain org.hibernate.annotations.FetchProfile fetch profile} is
+	 * instead loaded by a follow-up query, once the rows of the main query have
+	 * been read. The follow-up query loads the collection for every owner
+	 * returned by the main query at once, using an {@code in} list or array
+	 * parameter of owner keys. Other eager collections which are not joined
+	 * are loaded in the same way, unless they are cached, or batch or subselect
+	 * fetched.
+	 * <p>
+	 * Collections explicitly {@code join fetch}ed in a query are always joined.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String SPLIT_COLLECTION_FETCHES = "hibernate.split_collection_fetches";
 }
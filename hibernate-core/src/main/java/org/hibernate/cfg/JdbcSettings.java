@@ -404,6 +404,27 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of idle {@linkplain java.sql.PreparedStatement prepared
+	 * statements} kept open by each session for reuse, for as long as it holds its
+	 * JDBC connection, instead of closing each statement after it is executed. A
+	 * statement executed repeatedly in a long transaction is then prepared only once.
+	 * If {@code 0}, statements are closed after execution, and any statement caching
+	 * is left to the connection pool or JDBC driver.
+	 * <p>
+	 * Statements are cached per connection, so the cache is only effective while the
+	 * session holds on to the same physical connection, that is, within a transaction
+	 * with the default {@linkplain #CONNECTION_HANDLING connection handling mode}.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results:
 	 * <ul>
@@ -230,6 +230,28 @@ public interface QuerySettings {
 	 */
 	String FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH = "hibernate.query.fail_on_pagination_over_collection_fetch";
 
+	/**
+	 * When enabled, a query which combines {@linkplain org.hibernate.query.Query#setMaxResults(int)
+	 * pagination} with a {@code fetch join} applied to a collection is executed in two
+	 * phases, instead of applying the limit in-memory:
+	 * <ol>
+	 * <li>the identifiers of the root entities belonging to the requested page are selected,
+	 *     with the ordering and limit applied on the database, and then
+	 * <li>the root entities and their collections are fetched for exactly those identifiers.
+	 * </ol>
+	 * <p>
+	 * This rewrite is only possible when the query returns a single root entity, and when
+	 * every collection fetch is a {@code left join fetch} which is not referenced by the
+	 * {@code where} or {@code order by} clauses. Other queries fall back to in-memory
+	 * pagination, as governed by {@value #FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH}.
+	 *
+	 * @settingDefault {@code false} (disabled) - the limit is applied in-memory
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String TWO_PHASE_PAGINATION_OVER_COLLECTION_FETCH = "hibernate.query.two_phase_pagination_over_collection_fetch";
+
 	/**
 	 * Controls how {@linkplain org.hibernate.annotations.Immutable immutable}
 	 * entities are handled when executing a bulk update or delete query. Valid
@@ -270,6 +292,47 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, a parameter occurring alone in a SQL {@code IN} predicate, and bound
+	 * to a list of values, is passed to the database as a single array parameter, instead
+	 * of being expanded to one bind parameter per value. The SQL statement is then the
+	 * same whatever the number of values, which gives the database a better chance of
+	 * reusing its execution plan.
+	 * <p>
+	 * This setting only has an effect if the database {@linkplain
+	 * org.hibernate.dialect.Dialect#supportsStandardArrays supports arrays}, if the
+	 * values are of a basic type without a {@linkplain jakarta.persistence.AttributeConverter
+	 * converter}, and if none of them is null. Otherwise, the parameter is expanded as
+	 * usual, and {@value #IN_CLAUSE_PARAMETER_PADDING} applies.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String IN_CLAUSE_ARRAY_PARAMETER = "hibernate.query.in_clause_array_parameter";
+
+	/**
+	 * When enabled, the automatic flush which happens before a query is executed only
+	 * dirty-checks the entities which might affect the result of the query, that is,
+	 * entities mapped to the tables the query reads from, together with the entities
+	 * they reference by foreign key, directly or transitively. Changes made to other entities are left in the
+	 * persistence context until the next flush. For a session with a large number of
+	 * managed entities, this reduces the cost of executing a query which touches only
+	 * a few tables.
+	 * <p>
+	 * A complete flush is still performed when the {@linkplain org.hibernate.FlushMode
+	 * flush mode} is {@code ALWAYS}, when the query spaces of the query are not known,
+	 * or when entity deletions are pending, since a deletion might depend on changes to
+	 * any entity which refers to the deleted entity.
+	 *
+	 * @settingDefault {@code false} - the whole persistence context is dirty-checked
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	String TARGETED_AUTO_FLUSH = "hibernate.query.targeted_auto_flush";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
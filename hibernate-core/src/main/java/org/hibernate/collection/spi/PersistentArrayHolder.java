@@ -15,6 +15,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactCollectionState;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -194,11 +195,11 @@ public boolean isDirectlyAccessible() {
 	@Override
 	public void initializeFromCache(CollectionPersister persister, Object disassembled, Object owner)
 			throws HibernateException {
-		final Serializable[] cached = (Serializable[]) disassembled;
-		array = Array.newInstance( persister.getElementClass(), cached.length );
+		final CompactCollectionState cached = CompactCollectionState.from( disassembled );
+		array = Array.newInstance( persister.getElementClass(), cached.length() );
 
-		for ( int i=0; i<cached.length; i++ ) {
-			Array.set( array, i, persister.getElementType().assemble( cached[i], getSession(), owner ) );
+		for ( int i=0; i<cached.length(); i++ ) {
+			Array.set( array, i, persister.getElementType().assemble( cached.get( i ), getSession(), owner ) );
 		}
 	}
 
@@ -210,7 +211,7 @@ public Object disassemble(CollectionPersister persister) throws HibernateExcepti
 			result[i] = persister.getElementType().disassemble( Array.get( array,i ), getSession(), null );
 		}
 
-		return result;
+		return CompactCollectionState.compact( result, 1 );
 	}
 
 	@Override
@@ -16,6 +16,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactCollectionState;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -262,7 +263,7 @@ public Object disassemble(CollectionPersister persister) {
 		for ( E element : collection ) {
 			result[i++] = persister.getElementType().disassemble( element, getSession(), null );
 		}
-		return result;
+		return CompactCollectionState.compact( result, 1 );
 	}
 
 	@Override
@@ -270,14 +271,14 @@ public void initializeFromCache(CollectionPersister collectionDescriptor, Object
 			throws HibernateException {
 		assert collection == null;
 
-		final Serializable[] array = (Serializable[]) disassembled;
-		final int size = array.length;
+		final CompactCollectionState state = CompactCollectionState.from( disassembled );
+		final int size = state.length();
 
 		//noinspection unchecked
 		setCollection( (Collection<E>) collectionDescriptor.getCollectionSemantics().instantiateRaw( size, collectionDescriptor ) );
 
-		for ( Serializable item : array ) {
-			final Object element = collectionDescriptor.getElementType().assemble( item, getSession(), owner );
+		for ( int i = 0; i < size; i++ ) {
+			final Object element = collectionDescriptor.getElementType().assemble( state.get( i ), getSession(), owner );
 			if ( element != null ) {
 				//noinspection unchecked
 				collection.add( (E) element );
@@ -351,7 +351,9 @@ default boolean needsUpdating(
 	 * Read the state of the collection from a disassembled cached value
 	 *
 	 * @param persister The collection persister
-	 * @param disassembled The disassembled cached state
+	 * @param disassembled The disassembled cached state, either an array of
+	 *                     {@link java.io.Serializable}, or a
+	 *                     {@link org.hibernate.cache.spi.entry.CompactCollectionState}
 	 * @param owner The collection owner
 	 */
 	void initializeFromCache(CollectionPersister persister, Object disassembled, Object owner);
@@ -383,7 +385,8 @@ default boolean needsUpdating(
 	 *
 	 * @param persister The collection persister
 	 *
-	 * @return The disassembled state
+	 * @return The disassembled state, either an array of {@link java.io.Serializable},
+	 *         or a {@link org.hibernate.cache.spi.entry.CompactCollectionState}
 	 */
 	Object disassemble(CollectionPersister persister) ;
 
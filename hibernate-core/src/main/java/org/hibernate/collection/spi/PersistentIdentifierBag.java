@@ -15,6 +15,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactCollectionState;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -101,8 +102,8 @@ protected List<E> bagAsList() {
 	@Override
 	public void initializeFromCache(CollectionPersister persister, Object disassembled, Object owner)
 			throws HibernateException {
-		final Serializable[] array = (Serializable[]) disassembled;
-		final int size = array.length;
+		final CompactCollectionState state = CompactCollectionState.from( disassembled );
+		final int size = state.length();
 
 		assert identifiers == null;
 		assert collection == null;
@@ -114,9 +115,9 @@ public void initializeFromCache(CollectionPersister persister, Object disassembl
 		for ( int i = 0; i < size; i+=2 ) {
 			identifiers.put(
 				(i/2),
-				persister.getIdentifierType().assemble( array[i], getSession(), owner )
+				persister.getIdentifierType().assemble( state.get( i ), getSession(), owner )
 			);
-			collection.add( (E) persister.getElementType().assemble( array[i+1], getSession(), owner ) );
+			collection.add( (E) persister.getElementType().assemble( state.get( i+1 ), getSession(), owner ) );
 		}
 	}
 
@@ -241,7 +242,7 @@ public Object disassemble(CollectionPersister persister) {
 			result[i++] = persister.getElementType().disassemble( value, getSession(), null );
 			j++;
 		}
-		return result;
+		return CompactCollectionState.compact( result, 2 );
 	}
 
 	@Override
@@ -13,6 +13,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactCollectionState;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -114,14 +115,14 @@ public boolean isSnapshotEmpty(Serializable snapshot) {
 	@SuppressWarnings("unchecked")
 	public void initializeFromCache(CollectionPersister persister, Object disassembled, Object owner)
 			throws HibernateException {
-		final Serializable[] array = (Serializable[]) disassembled;
-		final int size = array.length;
+		final CompactCollectionState state = CompactCollectionState.from( disassembled );
+		final int size = state.length();
 
 		assert list == null;
 		list = (List<E>) persister.getCollectionSemantics().instantiateRaw( size, persister );
 
-		for ( Serializable arrayElement : array ) {
-			list.add( (E) persister.getElementType().assemble( arrayElement, getSession(), owner ) );
+		for ( int i = 0; i < size; i++ ) {
+			list.add( (E) persister.getElementType().assemble( state.get( i ), getSession(), owner ) );
 		}
 	}
 
@@ -402,7 +403,7 @@ public Object disassemble(CollectionPersister persister) throws HibernateExcepti
 		for ( int i=0; i<length; i++ ) {
 			result[i] = persister.getElementType().disassemble( list.get( i ), getSession(), null );
 		}
-		return result;
+		return CompactCollectionState.compact( result, 1 );
 	}
 
 	@Override
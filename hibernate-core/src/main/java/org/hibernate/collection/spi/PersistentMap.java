@@ -15,6 +15,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactCollectionState;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -266,15 +267,15 @@ public void injectLoadedState(PluralAttributeMapping attributeMapping, List<?> l
 	@Override
 	public void initializeFromCache(CollectionPersister persister, Object disassembled, Object owner)
 			throws HibernateException {
-		final Serializable[] array = (Serializable[]) disassembled;
-		final int size = array.length;
+		final CompactCollectionState state = CompactCollectionState.from( disassembled );
+		final int size = state.length();
 
 		this.map = (Map<K,E>) persister.getCollectionSemantics().instantiateRaw( size, persister );
 
 		for ( int i = 0; i < size; i+=2 ) {
 			map.put(
-					(K) persister.getIndexType().assemble( array[i], getSession(), owner ),
-					(E) persister.getElementType().assemble( array[i+1], getSession(), owner )
+					(K) persister.getIndexType().assemble( state.get( i ), getSession(), owner ),
+					(E) persister.getElementType().assemble( state.get( i+1 ), getSession(), owner )
 			);
 		}
 	}
@@ -289,7 +290,7 @@ public Object disassemble(CollectionPersister persister) throws HibernateExcepti
 			result[i++] = persister.getIndexType().disassemble( e.getKey(), getSession(), null );
 			result[i++] = persister.getElementType().disassemble( e.getValue(), getSession(), null );
 		}
-		return result;
+		return CompactCollectionState.compact( result, 2 );
 
 	}
 
@@ -14,6 +14,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
+import org.hibernate.cache.spi.entry.CompactCollectionState;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -123,13 +124,13 @@ public boolean isSnapshotEmpty(Serializable snapshot) {
 	@Override
 	public void initializeFromCache(CollectionPersister persister, Object disassembled, Object owner)
 			throws HibernateException {
-		final Serializable[] array = (Serializable[]) disassembled;
-		final int size = array.length;
+		final CompactCollectionState state = CompactCollectionState.from( disassembled );
+		final int size = state.length();
 
 		this.set = (Set<E>) persister.getCollectionSemantics().instantiateRaw( size, persister );
 
-		for ( Serializable arrayElement : array ) {
-			final Object assembledArrayElement = persister.getElementType().assemble( arrayElement, getSession(), owner );
+		for ( int i = 0; i < size; i++ ) {
+			final Object assembledArrayElement = persister.getElementType().assemble( state.get( i ), getSession(), owner );
 			if ( assembledArrayElement != null ) {
 				set.add( (E) assembledArrayElement );
 			}
@@ -329,7 +330,7 @@ public Object disassemble(CollectionPersister persister) throws HibernateExcepti
 		while ( itr.hasNext() ) {
 			result[i++] = persister.getElementType().disassemble( itr.next(), getSession(), null );
 		}
-		return result;
+		return CompactCollectionState.compact( result, 1 );
 	}
 
 	@Override
@@ -4481,6 +4481,25 @@ public boolean unquoteGetGeneratedKeys() {
 		return false;
 	}
 
+	/**
+	 * Does the JDBC driver for this dialect return the generated keys of every
+	 * row inserted by a batch, when {@link java.sql.Statement#getGeneratedKeys()}
+	 * is called after {@link java.sql.PreparedStatement#executeBatch()} on a
+	 * statement prepared by {@link Connection#prepareStatement(String, String[])}?
+	 * <p>
+	 * The generated keys must be returned in the order in which the rows were
+	 * added to the batch.
+	 *
+	 * @return {@code true} if the generated keys of a batch may be retrieved
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 7.1
+	 */
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the given {@code FETCH} clause type.
 	 *
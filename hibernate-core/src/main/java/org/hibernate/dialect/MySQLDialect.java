@@ -1101,6 +1101,11 @@ public boolean supportsCommentOn() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public String getTableComment(String comment) {
 		return " comment='" + comment + "'";
@@ -42,6 +42,11 @@ public String getFromDual() {
 		return requiresFromDual ? " from dual" : "";
 	}
 
+	@Override
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from dual connect by level<=" + count;
+	}
+
 	@Override
 	public boolean sometimesNeedsStartingValue() {
 		return true;
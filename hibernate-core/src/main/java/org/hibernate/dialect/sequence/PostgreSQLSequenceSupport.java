@@ -25,6 +25,11 @@ public String getSelectSequencePreviousValString(String sequenceName) throws Map
 		return "currval('" + sequenceName + "')";
 	}
 
+	@Override
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from generate_series(1," + count + ")";
+	}
+
 	@Override
 	public boolean sometimesNeedsStartingValue() {
 		return true;
@@ -4,6 +4,7 @@
  */
 package org.hibernate.dialect.sequence;
 
+import org.hibernate.Incubating;
 import org.hibernate.MappingException;
 import org.hibernate.internal.util.StringHelper;
 
@@ -96,6 +97,26 @@ default String getFromDual() {
 		return "";
 	}
 
+	/**
+	 * Generate a select statement which retrieves the given number of next
+	 * values of a sequence in a single round trip, one value per row of the
+	 * result set.
+	 * <p>
+	 * This should be a stand alone select statement. The rows of the result
+	 * set need not be in any particular order.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @param count the number of values to retrieve
+	 * @return The select "next values" statement, or {@code null} if the
+	 *         database has no way to retrieve multiple values at once.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default String getSequenceNextValuesString(String sequenceName, int count) {
+		return null;
+	}
+
 	/**
 	 * Generate the appropriate select statement to to retrieve the next value
 	 * of a sequence.
@@ -82,6 +82,11 @@ public static <T> void cascade(
 			final Object parent,
 			final T anything) throws HibernateException {
 		if ( action.anythingToCascade( persister ) ) { // performance opt
+			// only the properties which might cascade, skipping all the others
+			final int[] propertyIndexes = persister.getCascadingPropertyIndexes( action );
+			if ( propertyIndexes.length == 0 ) {
+				return;
+			}
 			final boolean traceEnabled = LOG.isTraceEnabled();
 			if ( traceEnabled ) {
 				LOG.tracev( "Processing cascade {0} for: {1}", action, persister.getEntityName() );
@@ -105,7 +110,7 @@ public static <T> void cascade(
 			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
 			final boolean hasUninitializedLazyProperties = bytecodeEnhancement.hasUnFetchedAttributes( parent );
 
-			for ( int i = 0; i < types.length; i++) {
+			for ( int i : propertyIndexes ) {
 				final CascadeStyle style = cascadeStyles[ i ];
 				final String propertyName = propertyNames[ i ];
 				final Type type = types[i];
@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Collections.newSetFromMap;
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Loads, before a merge, the persistent instances of the detached entities
+ * reachable from the entities being merged, following associations which
+ * {@linkplain jakarta.persistence.CascadeType#MERGE cascade merge}.
+ * <p>
+ * When several detached entities of the same hierarchy are reachable, they
+ * are loaded by {@linkplain org.hibernate.Session#byMultipleIds multi-id
+ * loading}, instead of one by one as the merge proceeds. The merge then
+ * finds them in the persistence context.
+ *
+ * @see org.hibernate.event.internal.DefaultMergeEventListener
+ * @see org.hibernate.Session#mergeAll(java.util.List)
+ *
+ * @since 7.1
+ */
+public final class DetachedGraphLoading {
+	private DetachedGraphLoading() {
+	}
+
+	/**
+	 * @param loadedWithOwner whether the entity is fetched by the MERGE fetch
+	 * profile when the detached entity which refers to it is loaded
+	 */
+	private record Node(@Nullable String entityName, Object entity, boolean loadedWithOwner) {
+	}
+
+	/**
+	 * Load the detached entities reachable from the given entity, if it is
+	 * itself detached.
+	 *
+	 * @param entityName The name of the given entity, or {@code null}
+	 * if it should be determined from the entity
+	 */
+	public static void loadDetachedGraph(EventSource source, @Nullable String entityName, Object entity) {
+		final Object root = unproxy( entity );
+		if ( root != null && source.getPersistenceContextInternal().getEntry( root ) == null ) {
+			final EntityPersister persister = source.getEntityPersister( entityName, root );
+			if ( detachedId( source, persister, root ) != null ) {
+				loadDetachedGraph( source, entityName, List.of( root ) );
+			}
+		}
+	}
+
+	/**
+	 * Load the detached entities reachable from the given entities.
+	 *
+	 * @param entityName The name of the given entities, or {@code null}
+	 * if it should be determined from each entity
+	 */
+	public static void loadDetachedGraph(EventSource source, @Nullable String entityName, Collection<?> entities) {
+		final Map<EntityPersister, List<Object>> idsByHierarchy = collectDetachedIds( source, entityName, entities );
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		for ( var entry : idsByHierarchy.entrySet() ) {
+			final EntityPersister persister = entry.getKey();
+			final List<Object> ids = entry.getValue();
+			// the MERGE fetch profile might have fetched some of them
+			// along with the entities of a hierarchy loaded earlier
+			ids.removeIf( id -> persistenceContext.containsEntity( source.generateEntityKey( id, persister ) ) );
+			// a single entity is loaded by the merge itself, exactly as before
+			if ( ids.size() > 1 ) {
+				final String rootEntityName = persister.getEntityName();
+				source.getLoadQueryInfluencers().fromInternalFetchProfile(
+						CascadingFetchProfile.MERGE,
+						() -> source.byMultipleIds( rootEntityName ).multiLoad( ids )
+				);
+			}
+		}
+	}
+
+	private static Map<EntityPersister, List<Object>> collectDetachedIds(
+			EventSource source,
+			@Nullable String entityName,
+			Collection<?> entities) {
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final Map<EntityPersister, List<Object>> idsByHierarchy = new LinkedHashMap<>();
+		final Set<Object> visited = newSetFromMap( new IdentityHashMap<>() );
+		final Deque<Node> nodes = new ArrayDeque<>();
+		for ( Object entity : entities ) {
+			if ( entity != null ) {
+				nodes.push( new Node( entityName, entity, false ) );
+			}
+		}
+		while ( !nodes.isEmpty() ) {
+			final Node node = nodes.pop();
+			final Object entity = unproxy( node.entity() );
+			if ( entity != null && visited.add( entity ) ) {
+				final EntityPersister persister = source.getEntityPersister( node.entityName(), entity );
+				final boolean loaded;
+				if ( persistenceContext.getEntry( entity ) == null ) {
+					final Object id = detachedId( source, persister, entity );
+					loaded = id != null;
+					if ( loaded && !node.loadedWithOwner() ) {
+						idsByHierarchy.computeIfAbsent( persister.getRootEntityDescriptor().getEntityPersister(),
+										hierarchy -> new ArrayList<>() )
+								.add( id );
+					}
+				}
+				else {
+					loaded = false;
+				}
+				// even a managed entity may refer to detached entities
+				collectChildren( source, persister, entity, loaded, nodes );
+			}
+		}
+		return idsByHierarchy;
+	}
+
+	/**
+	 * The identifier of the given entity, if it might be detached, and
+	 * if its persistent instance is not already in the persistence context.
+	 */
+	private static @Nullable Object detachedId(EventSource source, EntityPersister persister, Object entity) {
+		// composite identifiers might contain associations to transient entities
+		if ( persister.getIdentifierType() instanceof ComponentType ) {
+			return null;
+		}
+		final Object id = persister.getIdentifier( entity, source );
+		if ( id == null || persister.isTransient( entity, source ) == Boolean.TRUE ) {
+			return null;
+		}
+		final var entityKey = source.generateEntityKey( id, persister );
+		return source.getPersistenceContextInternal().containsEntity( entityKey ) ? null : id;
+	}
+
+	/**
+	 * Collect the entities to which the merge of the given entity cascades.
+	 *
+	 * @param loaded whether the persistent instance of the given entity is
+	 * going to be loaded under the MERGE fetch profile, which then fetches
+	 * the associations which cascade merge along with it
+	 */
+	private static void collectChildren(
+			EventSource source,
+			EntityPersister persister,
+			Object entity,
+			boolean loaded,
+			Deque<Node> nodes) {
+		final Type[] types = persister.getPropertyTypes();
+		final String[] propertyNames = persister.getPropertyNames();
+		final BytecodeEnhancementMetadata bytecodeEnhancement = persister.getBytecodeEnhancementMetadata();
+		final boolean hasUninitializedLazyProperties = bytecodeEnhancement.hasUnFetchedAttributes( entity );
+		for ( int i : persister.getCascadingPropertyIndexes( CascadingActions.MERGE ) ) {
+			// the merge does not cascade to unfetched properties
+			if ( !hasUninitializedLazyProperties
+					|| bytecodeEnhancement.isAttributeLoaded( entity, propertyNames[i] ) ) {
+				collectChildren( source, persister.getValue( entity, i ), types[i], loaded, nodes );
+			}
+		}
+	}
+
+	private static void collectChildren(
+			EventSource source,
+			@Nullable Object value,
+			Type type,
+			boolean loaded,
+			Deque<Node> nodes) {
+		if ( value != null ) {
+			if ( type instanceof EntityType entityType ) {
+				nodes.push( new Node( entityType.getAssociatedEntityName(), value, loaded ) );
+			}
+			else if ( type instanceof CollectionType collectionType ) {
+				if ( !( value instanceof PersistentCollection<?> collection ) || collection.wasInitialized() ) {
+					final Type elementType = collectionType.getElementType( source.getFactory() );
+					if ( elementType instanceof EntityType || elementType instanceof CompositeType ) {
+						final Iterator<?> elements = collectionType.getElementsIterator( value );
+						while ( elements.hasNext() ) {
+							collectChildren( source, elements.next(), elementType, loaded, nodes );
+						}
+					}
+				}
+			}
+			else if ( type instanceof CompositeType compositeType && !compositeType.isAnyType() ) {
+				final Type[] subtypes = compositeType.getSubtypes();
+				final Object[] values = compositeType.getPropertyValues( value, source );
+				for ( int i = 0; i < subtypes.length; i++ ) {
+					final CascadeStyle style = compositeType.getCascadeStyle( i );
+					if ( CascadingActions.MERGE.appliesTo( subtypes[i], style ) ) {
+						collectChildren( source, values[i], subtypes[i], loaded, nodes );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The implementation of the given entity, or {@code null} if it is an
+	 * uninitialized proxy, which the merge does not cascade to.
+	 */
+	private static @Nullable Object unproxy(Object entity) {
+		final LazyInitializer lazyInitializer = extractLazyInitializer( entity );
+		if ( lazyInitializer != null ) {
+			return lazyInitializer.isUninitialized() ? null : lazyInitializer.getImplementation();
+		}
+		else if ( isPersistentAttributeInterceptable( entity )
+				&& asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor()
+						instanceof EnhancementAsProxyLazinessInterceptor ) {
+			return null;
+		}
+		else {
+			return entity;
+		}
+	}
+}
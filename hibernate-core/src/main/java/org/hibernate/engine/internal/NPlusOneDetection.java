@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Detects "N+1 selects" problems, that is, a session repeatedly fetching
+ * single instances of the same entity, or single instances of the same
+ * collection role, by separate selects. A detected problem is logged and
+ * counted by the statistics, and the entity or collection role is then
+ * optionally switched to batch fetching for the rest of the session.
+ *
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_BATCH_SIZE
+ *
+ * @since 7.1
+ */
+public final class NPlusOneDetection {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( NPlusOneDetection.class );
+
+	private NPlusOneDetection() {
+	}
+
+	/**
+	 * Called before a single instance of the given entity is fetched by a
+	 * separate select, to initialize a proxy or an association.
+	 */
+	public static void beforeEntityFetch(EntityPersister persister, SharedSessionContractImplementor session) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getNPlusOneDetectionThreshold();
+		if ( threshold > 0 ) {
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			if ( !influencers.effectivelyBatchLoadable( persister ) ) {
+				final String entityName = persister.getEntityName();
+				if ( influencers.countSeparateFetch( entityName ) == threshold ) {
+					LOG.entityNPlusOneDetected( entityName, threshold );
+					final StatisticsImplementor statistics = session.getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.entityNPlusOneDetected( entityName );
+					}
+					final int batchSize = options.getNPlusOneBatchSize();
+					if ( batchSize > 1 ) {
+						influencers.promoteToBatchFetch( entityName, batchSize );
+						queueUninitializedProxies( entityName, session );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called before a collection of the given role is fetched by a separate
+	 * select, to initialize it.
+	 */
+	public static void beforeCollectionFetch(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final int threshold = options.getNPlusOneDetectionThreshold();
+		if ( threshold > 0 ) {
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			if ( !influencers.effectivelyBatchLoadable( persister )
+					&& !influencers.effectiveSubselectFetchEnabled( persister ) ) {
+				final String role = persister.getRole();
+				if ( influencers.countSeparateFetch( role ) == threshold ) {
+					LOG.collectionNPlusOneDetected( role, threshold );
+					final StatisticsImplementor statistics = session.getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.collectionNPlusOneDetected( role );
+					}
+					final int batchSize = options.getNPlusOneBatchSize();
+					if ( batchSize > 1 ) {
+						influencers.promoteToBatchFetch( role, batchSize );
+						queueUninitializedCollections( persister, session );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Proxies created before the entity became batch fetchable were never
+	 * added to the batch fetch queue.
+	 */
+	private static void queueUninitializedProxies(String entityName, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityKey, EntityHolder> holders = persistenceContext.getEntityHoldersByKey();
+		if ( holders != null ) {
+			final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+			for ( EntityHolder holder : holders.values() ) {
+				final EntityKey key = holder.getEntityKey();
+				if ( holder.getEntity() == null && holder.getProxy() != null
+						&& entityName.equals( key.getEntityName() ) ) {
+					batchFetchQueue.addBatchLoadableEntityKey( key );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collections created before the role became batch fetchable were never
+	 * added to the batch fetch queue.
+	 */
+	private static void queueUninitializedCollections(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		persistenceContext.forEachCollectionEntry(
+				(collection, entry) -> {
+					if ( !collection.wasInitialized()
+							&& entry.getLoadedPersister() == persister
+							&& entry.getLoadedKey() != null ) {
+						batchFetchQueue.addBatchLoadableCollection( collection, entry );
+					}
+				},
+				false
+		);
+	}
+}
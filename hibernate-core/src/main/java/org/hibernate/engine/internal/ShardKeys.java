@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Binds sessions to the shard containing the entities they write.
+ *
+ * @see ShardedConnectionProvider
+ *
+ * @since 7.1
+ */
+public final class ShardKeys {
+	private ShardKeys() {
+	}
+
+	/**
+	 * The attribute of the given entity which is its
+	 * {@linkplain org.hibernate.annotations.PartitionKey partition key},
+	 * or {@code null} if it has none.
+	 */
+	public static @Nullable AttributeMapping getShardKeyAttribute(EntityPersister persister) {
+		if ( persister.hasPartitionedSelectionMapping() ) {
+			for ( int i = 0; i < persister.getNumberOfAttributeMappings(); i++ ) {
+				final AttributeMapping attributeMapping = persister.getAttributeMapping( i );
+				if ( attributeMapping instanceof BasicValuedModelPart basicPart && basicPart.isPartitioned() ) {
+					return attributeMapping;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Bind the session to the shard containing the given entity, which
+	 * is about to be written, if the session is not already bound.
+	 *
+	 * @throws HibernateException if the session is bound to another shard
+	 */
+	public static void bindShard(SharedSessionContractImplementor session, EntityPersister persister, Object entity) {
+		final ShardedConnectionProvider connectionProvider = session.getShardedConnectionProvider();
+		if ( connectionProvider != null ) {
+			final AttributeMapping shardKeyAttribute = getShardKeyAttribute( persister );
+			if ( shardKeyAttribute != null ) {
+				final Object shardKey = shardKeyAttribute.getValue( entity );
+				if ( shardKey != null ) {
+					final Object shardIdentifier = connectionProvider.resolveShardIdentifier( shardKey );
+					final Object currentShardIdentifier = session.getShardIdentifier();
+					if ( currentShardIdentifier == null ) {
+						session.setShardIdentifier( shardIdentifier );
+					}
+					else if ( !currentShardIdentifier.equals( shardIdentifier ) ) {
+						throw new HibernateException( "Entity '" + persister.getEntityName()
+								+ "' belongs to shard [" + shardIdentifier
+								+ "] but the session is bound to shard [" + currentShardIdentifier + "]" );
+					}
+				}
+			}
+		}
+	}
+}
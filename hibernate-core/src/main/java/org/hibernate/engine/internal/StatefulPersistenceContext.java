@@ -174,6 +174,11 @@ the following fields are used in all circumstances, and are not worth (or not su
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// the shards from which entities were loaded, when the
+	// session is not bound to a single shard
+	private Object loadingShardIdentifier;
+	private HashMap<EntityKey,Object> shardIdentifiersByKey;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -280,6 +285,7 @@ public void clear() {
 		unownedCollections = null;
 		nullifiableEntityKeys = null;
 		deletedUnloadedEntityKeys = null;
+		shardIdentifiersByKey = null;
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
 		}
@@ -400,6 +406,7 @@ public EntityHolder claimEntityHolderIfPossible(
 			Object entity,
 			JdbcValuesSourceProcessingState processingState,
 			EntityInitializer<?> initializer) {
+		recordShard( key );
 		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		EntityHolderImpl holder = getOrInitializeNewHolder().withEntity( key, key.getPersister(), entity );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, newEntityHolder );
@@ -497,6 +504,7 @@ public void addEntity(EntityKey key, Object entity) {
 
 	@Override
 	public EntityHolder addEntityHolder(EntityKey key, Object entity) {
+		recordShard( key );
 		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		EntityHolderImpl holder = getOrInitializeNewHolder().withEntity( key, key.getPersister(), entity );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, holder );
@@ -515,6 +523,31 @@ public EntityHolder addEntityHolder(EntityKey key, Object entity) {
 		return holder;
 	}
 
+	private void recordShard(EntityKey key) {
+		if ( loadingShardIdentifier != null ) {
+			if ( shardIdentifiersByKey == null ) {
+				shardIdentifiersByKey = new HashMap<>();
+			}
+			final Object shardIdentifier = shardIdentifiersByKey.putIfAbsent( key, loadingShardIdentifier );
+			if ( shardIdentifier != null && !shardIdentifier.equals( loadingShardIdentifier ) ) {
+				throw new HibernateException( "Entity " + MessageHelper.infoString( key.getEntityName(), key.getIdentifier() )
+						+ " was loaded from shard [" + loadingShardIdentifier
+						+ "] but was already loaded from shard [" + shardIdentifier
+						+ "] (identifiers must be unique across shards)" );
+			}
+		}
+	}
+
+	@Override
+	public void setLoadingShardIdentifier(@Nullable Object shardIdentifier) {
+		loadingShardIdentifier = shardIdentifier;
+	}
+
+	@Override
+	public @Nullable Object getShardIdentifier(EntityKey key) {
+		return shardIdentifiersByKey == null ? null : shardIdentifiersByKey.get( key );
+	}
+
 	@Override
 	public Object getEntity(EntityKey key) {
 		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
@@ -899,6 +932,7 @@ public Object proxyFor(EntityHolder holder, EntityPersister persister) {
 
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
+		recordShard( key );
 		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		final EntityHolderImpl holder = getOrInitializeNewHolder().withEntity( key, key.getPersister(), entity );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, holder );
@@ -1225,6 +1259,7 @@ public Object getProxy(EntityKey key) {
 
 	@Override
 	public void addProxy(EntityKey key, Object proxy) {
+		recordShard( key );
 		final Map<EntityKey, EntityHolderImpl> entityHolderMap = getOrInitializeEntitiesByKey();
 		final EntityHolderImpl holder = getOrInitializeNewHolder().withProxy( key, key.getPersister(), proxy );
 		final EntityHolderImpl oldHolder = entityHolderMap.putIfAbsent( key, holder );
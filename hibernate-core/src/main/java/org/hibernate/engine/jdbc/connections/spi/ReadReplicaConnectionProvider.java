@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link ConnectionProvider} which, in addition to connections to the
+ * primary database, provides connections to a read replica of the primary
+ * database.
+ * <p>
+ * A session obtains its connection from a replica when:
+ * <ul>
+ * <li>the session is {@linkplain org.hibernate.Session#setDefaultReadOnly
+ *     read-only by default}, for example, because it was opened using
+ *     {@link org.hibernate.SessionBuilder#readOnly(boolean)}, or
+ * <li>the connection is obtained to execute a query which is explicitly
+ *     {@linkplain org.hibernate.query.SelectionQuery#setReadOnly read-only}.
+ * </ul>
+ * <p>
+ * But once a session has written to the database, it always obtains its
+ * connections from the primary database, so that it reads its own writes.
+ * <p>
+ * Note that a session keeps the connection it obtained for the duration
+ * of a transaction, and so a transaction begun by a session which is not
+ * read-only runs entirely against the primary database.
+ * <p>
+ * Read replicas are not supported in combination with multi-tenancy.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface ReadReplicaConnectionProvider extends ConnectionProvider {
+	/**
+	 * Obtains a connection to a read replica of the primary database.
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 */
+	Connection getReadOnlyConnection() throws SQLException;
+
+	/**
+	 * Release a connection obtained from {@link #getReadOnlyConnection()}.
+	 *
+	 * @param connection The JDBC connection to release
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 */
+	void closeReadOnlyConnection(Connection connection) throws SQLException;
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link ConnectionProvider} for data which is horizontally partitioned
+ * across several databases, called <em>shards</em>, which all share the
+ * same schema. A single {@link org.hibernate.SessionFactory}, with a single
+ * metamodel, serves every shard.
+ * <p>
+ * The shard containing an entity is determined by the value of its
+ * {@linkplain org.hibernate.annotations.PartitionKey partition key}, which
+ * is mapped to a shard by {@link #resolveShardIdentifier(Object)}. Then:
+ * <ul>
+ * <li>a session opened with {@link org.hibernate.SessionBuilder#shardKey(Object)}
+ *     obtains its connections from the shard of the given key,
+ * <li>a session which is not yet connected to a database is bound to the
+ *     shard of the first entity it writes, or to the shard of the partition
+ *     key restricting the first query it executes, and
+ * <li>a selection query with no restriction on the partition key, executed
+ *     by a session which is not bound to any shard, is executed against each
+ *     shard in turn, and the results are concatenated. The first and maximum
+ *     results apply to the concatenated results. A query which orders or
+ *     aggregates its results may not be executed against every shard, and
+ *     the results of a query executed against every shard may be streamed,
+ *     but not scrolled.
+ * </ul>
+ * <p>
+ * A mutation query must either be restricted to the partition key, or be
+ * executed by a session which is already bound to a shard.
+ * <p>
+ * The entities loaded from a shard the session is not bound to have their
+ * lazy associations loaded from the same shard.
+ * <p>
+ * Entity identifiers must be unique across all shards, since an entity is
+ * identified by its identifier alone in the persistence context and in the
+ * second-level cache. A session which loads entities with the same
+ * identifier from two different shards fails. On the other hand, cached
+ * query results are kept separately for each shard.
+ * <p>
+ * A session bound to a shard may not write an entity which belongs to a
+ * different shard, nor execute a query restricted to a different shard.
+ * <p>
+ * The inherited {@link #getConnection()} provides connections to the default
+ * shard, which are used for schema management and by sessions which are not
+ * bound to any shard.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface ShardedConnectionProvider extends ConnectionProvider {
+	/**
+	 * The identifiers of all the shards.
+	 */
+	Collection<?> getShardIdentifiers();
+
+	/**
+	 * Determine the shard containing the data with the given partition key.
+	 *
+	 * @param shardKey The value of a {@linkplain org.hibernate.annotations.PartitionKey partition key}
+	 *
+	 * @return The identifier of the shard
+	 */
+	Object resolveShardIdentifier(Object shardKey);
+
+	/**
+	 * Obtains a connection to the given shard.
+	 *
+	 * @param shardIdentifier The identifier of the shard
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 */
+	Connection getConnection(Object shardIdentifier) throws SQLException;
+
+	/**
+	 * Release a connection obtained from {@link #getConnection(Object)}.
+	 *
+	 * @param shardIdentifier The identifier of the shard
+	 * @param connection The JDBC connection to release
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 */
+	void closeConnection(Object shardIdentifier, Connection connection) throws SQLException;
+}
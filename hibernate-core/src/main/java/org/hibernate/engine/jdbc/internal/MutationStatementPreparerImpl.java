@@ -6,7 +6,9 @@
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -18,6 +20,9 @@
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.resource.jdbc.spi.PreparedStatementCache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * @author Steve Ebersole
@@ -45,6 +50,11 @@ protected PreparedStatement doPrepare() throws SQLException {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, isCallable, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS );
+			}
 		};
 	}
 
@@ -58,6 +68,11 @@ public PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, false, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys );
+			}
 		}.prepareStatement();
 	}
 
@@ -94,6 +109,21 @@ public PreparedStatement prepareStatement() {
 				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler jdbcEventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+				jdbcSessionOwner.beforeDatabaseWrite();
+
+				final PreparedStatementCache statementCache = logicalConnection().getStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final PreparedStatement cachedStatement = statementCache.checkOut( cacheKey );
+					if ( cachedStatement != null ) {
+						jdbcEventHandler.jdbcStatementCacheHit();
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+					jdbcEventHandler.jdbcStatementCacheMiss();
+				}
+
 				final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
 				final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
 				try {
@@ -106,6 +136,9 @@ public PreparedStatement prepareStatement() {
 					jdbcEventHandler.jdbcPrepareStatementEnd();
 				}
 				postProcess( preparedStatement );
+				if ( cacheKey != null ) {
+					statementCache.register( cacheKey, preparedStatement );
+				}
 				return preparedStatement;
 			}
 			catch (SQLException e) {
@@ -115,6 +148,15 @@ public PreparedStatement prepareStatement() {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key under which the statement may be kept in the
+		 * {@linkplain PreparedStatementCache statement cache},
+		 * or {@code null} if it should not be cached.
+		 */
+		protected PreparedStatementCache.@Nullable Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
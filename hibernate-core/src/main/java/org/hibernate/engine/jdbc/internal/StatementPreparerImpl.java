@@ -22,6 +22,7 @@
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.resource.jdbc.spi.PreparedStatementCache;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -100,6 +101,11 @@ protected PreparedStatement doPrepare() throws SQLException {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, isCallable, ResultSet.TYPE_FORWARD_ONLY, Statement.NO_GENERATED_KEYS );
+			}
 		};
 	}
 
@@ -119,6 +125,11 @@ public PreparedStatement prepareStatement(String sql, final int autoGeneratedKey
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, false, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys );
+			}
 		}.prepareStatement();
 	}
 
@@ -155,6 +166,11 @@ public PreparedStatement doPrepare() throws SQLException {
 							? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
 							: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, isCallable, resultSetType, Statement.NO_GENERATED_KEYS );
+			}
 		}.prepareStatement();
 		jdbcCoordinator.registerLastQuery( ps );
 		return ps;
@@ -178,6 +194,20 @@ public PreparedStatement prepareStatement() {
 				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+
+				final PreparedStatementCache statementCache = logicalConnection().getStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final PreparedStatement cachedStatement = statementCache.checkOut( cacheKey );
+					if ( cachedStatement != null ) {
+						observer.jdbcStatementCacheHit();
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+					observer.jdbcStatementCacheMiss();
+				}
+
 				final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
 				final DiagnosticEvent jdbcPreparedStatementCreation = eventMonitor.beginJdbcPreparedStatementCreationEvent();
 				try {
@@ -190,6 +220,9 @@ public PreparedStatement prepareStatement() {
 					observer.jdbcPrepareStatementEnd();
 				}
 				postProcess( preparedStatement );
+				if ( cacheKey != null ) {
+					statementCache.register( cacheKey, preparedStatement );
+				}
 				return preparedStatement;
 			}
 			catch ( SQLException e ) {
@@ -199,6 +232,15 @@ public PreparedStatement prepareStatement() {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key under which the statement may be kept in the
+		 * {@linkplain PreparedStatementCache statement cache},
+		 * or {@code null} if it should not be cached.
+		 */
+		protected PreparedStatementCache.@Nullable Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -147,4 +147,16 @@ public SessionBuilder identifierRollback(boolean identifierRollback) {
 		delegate.identifierRollback( identifierRollback );
 		return this;
 	}
+
+	@Override
+	public SessionBuilder readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return this;
+	}
+
+	@Override
+	public SessionBuilder shardKey(Object shardKey) {
+		delegate.shardKey( shardKey );
+		return this;
+	}
 }
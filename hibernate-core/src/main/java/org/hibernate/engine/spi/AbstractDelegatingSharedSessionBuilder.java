@@ -190,4 +190,16 @@ public SharedSessionBuilder identifierRollback(boolean identifierRollback) {
 		delegate.identifierRollback( identifierRollback );
 		return this;
 	}
+
+	@Override
+	public SharedSessionBuilder readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return this;
+	}
+
+	@Override
+	public SharedSessionBuilder shardKey(Object shardKey) {
+		delegate.shardKey( shardKey );
+		return this;
+	}
 }
@@ -10,6 +10,8 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -21,6 +23,7 @@
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.PropertyValueException;
 import org.hibernate.TransientPropertyValueException;
 import org.hibernate.action.internal.AbstractEntityInsertAction;
@@ -58,6 +61,7 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.hibernate.engine.internal.ShardKeys.bindShard;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
 /**
@@ -260,6 +264,7 @@ public void addAction(EntityInsertAction action) {
 	}
 
 	private void addInsertAction(AbstractEntityInsertAction insert) {
+		bindShard( session, insert.getPersister(), insert.getInstance() );
 		if ( insert.isEarlyInsert() ) {
 			// For early inserts, must execute inserts before finding non-nullable transient entities.
 			// TODO: find out why this is necessary
@@ -328,6 +333,7 @@ public void addAction(EntityIdentityInsertAction action) {
 	 * @param action The action representing the entity deletion
 	 */
 	public void addAction(EntityDeleteAction action) {
+		bindShard( session, action.getPersister(), action.getInstance() );
 		OrderedActions.EntityDeleteAction.ensureInitialized( this );
 		deletions.add( action );
 	}
@@ -348,6 +354,7 @@ public void addAction(final OrphanRemovalAction action) {
 	 * @param action The action representing the entity update
 	 */
 	public void addAction(final EntityUpdateAction action) {
+		bindShard( session, action.getPersister(), action.getInstance() );
 		OrderedActions.EntityUpdateAction.ensureInitialized( this );
 		updates.add( action );
 	}
@@ -598,6 +605,23 @@ public boolean areTablesToBeUpdated(Set<? extends Serializable> tables) {
 		return areTablesToBeUpdated( unresolvedInsertions, tables );
 	}
 
+	/**
+	 * Check whether the given query spaces were written by actions already executed
+	 * in the current transaction, which are to be invalidated in the query cache
+	 * when it completes.
+	 *
+	 * @param spaces The query spaces to check.
+	 *
+	 * @return {@code true} if any of the given spaces was written; {@code false} otherwise.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public boolean areTablesUpdated(Collection<String> spaces) {
+		return afterTransactionProcesses != null
+			&& afterTransactionProcesses.hasSpaceToInvalidate( spaces );
+	}
+
 	private static boolean areTablesToBeUpdated(@Nullable ExecutableList<?> actions, Set<? extends Serializable> tableSpaces) {
 		if ( actions == null || actions.isEmpty() ) {
 			return false;
@@ -640,10 +664,27 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		final List<EntityInsertAction> deferredInserts = isBatchGeneratedValuesEnabled() ? new ArrayList<>() : null;
 		try {
 			for ( ComparableExecutable executable : list ) {
 				try {
-					executable.execute();
+					if ( deferredInserts != null
+							&& executable instanceof EntityInsertAction insertAction
+							&& insertAction.getPersister().hasInsertGeneratedPropertiesRequiringSelect() ) {
+						if ( !deferredInserts.isEmpty()
+								&& ( deferredInserts.get( 0 ).getPersister() != insertAction.getPersister()
+									|| deferredInserts.size() >= session.getConfiguredJdbcBatchSize() ) ) {
+							completeDeferredInserts( deferredInserts );
+						}
+						insertAction.executeDeferringGeneratedValues();
+						deferredInserts.add( insertAction );
+					}
+					else {
+						if ( deferredInserts != null && !deferredInserts.isEmpty() ) {
+							completeDeferredInserts( deferredInserts );
+						}
+						executable.execute();
+					}
 				}
 				finally {
 					if ( executable.getBeforeTransactionCompletionProcess() != null ) {
@@ -660,13 +701,18 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 					}
 				}
 			}
+			if ( deferredInserts != null && !deferredInserts.isEmpty() ) {
+				completeDeferredInserts( deferredInserts );
+			}
 		}
 		finally {
 			if ( getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				invalidateSpaces( getSessionFactoryOptions().isQueryCacheFineGrainedInvalidationEnabled()
+						? columnLevelQuerySpaces( list )
+						: list.getQuerySpaces().toArray(new String[0]) );
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -676,6 +722,60 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	/**
+	 * Should the values generated by the database for a run of inserts of
+	 * the same entity type be retrieved using a single {@code select}?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_GENERATED_VALUES
+	 */
+	private boolean isBatchGeneratedValuesEnabled() {
+		return getSessionFactoryOptions().isBatchGeneratedValuesEnabled()
+			&& session.getConfiguredJdbcBatchSize() > 1;
+	}
+
+	/**
+	 * Retrieve the generated values of the given inserted entities, which
+	 * are all of the same type, and complete the execution of their inserts.
+	 */
+	private void completeDeferredInserts(List<EntityInsertAction> deferredInserts) {
+		final EntityPersister persister = deferredInserts.get( 0 ).getPersister();
+		final List<Object> ids = new ArrayList<>( deferredInserts.size() );
+		final List<Object> instances = new ArrayList<>( deferredInserts.size() );
+		final List<Object[]> states = new ArrayList<>( deferredInserts.size() );
+		for ( EntityInsertAction insertAction : deferredInserts ) {
+			if ( !insertAction.isVeto() ) {
+				ids.add( insertAction.getId() );
+				instances.add( insertAction.getInstance() );
+				states.add( insertAction.getState() );
+			}
+		}
+		if ( !ids.isEmpty() ) {
+			// the inserted rows must be visible to the select
+			session.getJdbcCoordinator().executeBatch();
+			persister.processInsertGeneratedProperties( ids, instances, states, session );
+		}
+		for ( EntityInsertAction insertAction : deferredInserts ) {
+			insertAction.completeDeferredInsert();
+		}
+		deferredInserts.clear();
+	}
+
+	/**
+	 * Collects the spaces to invalidate for the actions in the given list when
+	 * fine-grained query cache invalidation is enabled, where updates of entities
+	 * only invalidate the spaces of the updated columns.
+	 */
+	private static <E extends ComparableExecutable> String[] columnLevelQuerySpaces(ExecutableList<E> list) {
+		final Set<String> spaces = new HashSet<>();
+		for ( E executable : list ) {
+			Collections.addAll( spaces,
+					executable instanceof EntityUpdateAction updateAction
+							? updateAction.getColumnLevelQuerySpaces()
+							: executable.getPropertySpaces() );
+		}
+		return spaces.toArray( new String[0] );
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -1042,6 +1142,15 @@ public void addSpaceToInvalidate(String space) {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public boolean hasSpaceToInvalidate(Collection<String> spaces) {
+			for ( String space : spaces ) {
+				if ( querySpacesToInvalidate.contains( space ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		public void afterTransactionCompletion(boolean success) {
 			AfterTransactionCompletionProcess process;
 			while ( ( process = processes.poll() ) != null ) {
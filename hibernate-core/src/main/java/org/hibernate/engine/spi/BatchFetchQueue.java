@@ -175,6 +175,22 @@ public void removeBatchLoadableEntityKey(EntityKey key) {
 		}
 	}
 
+	/**
+	 * The number of entities of the given type currently eligible for
+	 * batch fetching.
+	 *
+	 * @since 7.1
+	 */
+	public int countBatchLoadableEntityKeys(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		else {
+			final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+			return set == null ? 0 : set.size();
+		}
+	}
+
 	/**
 	 * Intended for test usage. Really has no use-case in Hibernate proper.
 	 */
@@ -329,6 +345,22 @@ public void removeBatchLoadableCollection(CollectionEntry ce) {
 	}
 
 
+	/**
+	 * The number of collections of the given role currently eligible for
+	 * batch fetching.
+	 *
+	 * @since 7.1
+	 */
+	public int countBatchLoadableCollections(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		else {
+			final var map = batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+			return map == null ? 0 : map.size();
+		}
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}.
 	 * Useful in cases where we want a specially created array/container.
@@ -5,6 +5,7 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +59,9 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private int batchSize = -1;
 
+	private @Nullable HashMap<String,Integer> separateFetchCounts;
+	private @Nullable HashMap<String,Integer> promotedBatchSizes;
+
 	private final EffectiveEntityGraph effectiveEntityGraph;
 
 	private Boolean readOnly;
@@ -295,7 +299,8 @@ public int effectiveBatchSize(CollectionPersister persister) {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return promotedBatchSize( persister.getRole(),
+				persisterBatchSize >= 0 ? persisterBatchSize : batchSize );
 	}
 
 	public boolean effectivelyBatchLoadable(CollectionPersister persister) {
@@ -306,7 +311,62 @@ public int effectiveBatchSize(EntityPersister persister) {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return promotedBatchSize( persister.getEntityName(),
+				persisterBatchSize >= 0 ? persisterBatchSize : batchSize );
+	}
+
+	private int promotedBatchSize(String role, int batchSize) {
+		if ( batchSize <= 1 && promotedBatchSizes != null ) {
+			final Integer promotedBatchSize = promotedBatchSizes.get( role );
+			if ( promotedBatchSize != null ) {
+				return promotedBatchSize;
+			}
+		}
+		return batchSize;
+	}
+
+	/**
+	 * Whether the given entity name or collection role was switched to
+	 * batch fetching by {@link #promoteToBatchFetch}.
+	 *
+	 * @since 7.1
+	 */
+	public boolean isPromotedToBatchFetch(String role) {
+		return promotedBatchSizes != null && promotedBatchSizes.containsKey( role );
+	}
+
+	/**
+	 * Switch the given entity name or collection role to batch fetching,
+	 * with the given batch size, for the rest of the session.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_BATCH_SIZE
+	 *
+	 * @since 7.1
+	 */
+	@Internal
+	public void promoteToBatchFetch(String role, int batchSize) {
+		if ( promotedBatchSizes == null ) {
+			promotedBatchSizes = new HashMap<>();
+		}
+		promotedBatchSizes.put( role, batchSize );
+	}
+
+	/**
+	 * Count a fetch of a single instance of the given entity name or
+	 * collection role by a separate select.
+	 *
+	 * @return the number of such fetches so far in the session
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	@Internal
+	public int countSeparateFetch(String role) {
+		if ( separateFetchCounts == null ) {
+			separateFetchCounts = new HashMap<>();
+		}
+		return separateFetchCounts.merge( role, 1, Integer::sum );
 	}
 
 	public boolean effectivelyBatchLoadable(EntityPersister persister) {
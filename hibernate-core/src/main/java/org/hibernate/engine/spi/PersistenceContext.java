@@ -878,4 +878,30 @@ EntityHolder claimEntityHolderIfPossible(
 	default @Nullable EntityHolder detachEntity(EntityKey key) {
 		return removeEntityHolder( key );
 	}
+
+	/**
+	 * Record that each entity or proxy added to this persistence context,
+	 * until this method is called again, was loaded from the given shard,
+	 * or stop recording if the given identifier is {@code null}.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void setLoadingShardIdentifier(@Nullable Object shardIdentifier) {
+	}
+
+	/**
+	 * The shard from which the entity with the given key was loaded,
+	 * or {@code null} if it was not recorded.
+	 *
+	 * @see #setLoadingShardIdentifier(Object)
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable Object getShardIdentifier(EntityKey key) {
+		return null;
+	}
 }
@@ -44,6 +44,7 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.event.monitor.spi.EventMonitor;
@@ -72,6 +73,7 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * A wrapper class that delegates all method invocations to a delegate instance of
@@ -762,6 +764,46 @@ public boolean isDefaultReadOnly() {
 		return delegate.isDefaultReadOnly();
 	}
 
+	@Override
+	public boolean isReadReplicaPreferred() {
+		return delegate.isReadReplicaPreferred();
+	}
+
+	@Override
+	public boolean isReadOnlyQueryExecution() {
+		return delegate.isReadOnlyQueryExecution();
+	}
+
+	@Override
+	public void setReadOnlyQueryExecution(boolean readOnlyQueryExecution) {
+		delegate.setReadOnlyQueryExecution( readOnlyQueryExecution );
+	}
+
+	@Override
+	public void beforeDatabaseWrite() {
+		delegate.beforeDatabaseWrite();
+	}
+
+	@Override
+	public ShardedConnectionProvider getShardedConnectionProvider() {
+		return delegate.getShardedConnectionProvider();
+	}
+
+	@Override
+	public Object getShardIdentifier() {
+		return delegate.getShardIdentifier();
+	}
+
+	@Override
+	public void setShardIdentifier(Object shardIdentifier) {
+		delegate.setShardIdentifier( shardIdentifier );
+	}
+
+	@Override
+	public <T> T fromShard(Object shardIdentifier, Supplier<T> work) {
+		return delegate.fromShard( shardIdentifier, work );
+	}
+
 	@Override
 	public void setDefaultReadOnly(boolean readOnly) {
 		delegate.setDefaultReadOnly( readOnly );
@@ -832,6 +874,11 @@ public <T> T merge(T object, EntityGraph<?> loadGraph) {
 		return delegate.merge( object, loadGraph );
 	}
 
+	@Override
+	public <T> List<T> mergeAll(List<? extends T> objects) {
+		return delegate.mergeAll( objects );
+	}
+
 	@Override
 	public void persist(Object object) {
 		delegate.persist( object );
@@ -216,6 +216,11 @@ public <T> T merge(T object, EntityGraph<?> loadGraph) {
 		return this.lazySession.get().merge( object, loadGraph );
 	}
 
+	@Override
+	public <T> List<T> mergeAll(List<? extends T> objects) {
+		return this.lazySession.get().mergeAll( objects );
+	}
+
 	@Override
 	public void persist(Object object) {
 		this.lazySession.get().persist( object );
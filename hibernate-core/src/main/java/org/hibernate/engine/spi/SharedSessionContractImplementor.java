@@ -6,6 +6,7 @@
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import jakarta.persistence.TransactionRequiredException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -25,6 +26,7 @@
 import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.LobCreationContext;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.persister.entity.EntityPersister;
@@ -359,6 +361,95 @@ default String bestGuessEntityName(Object object, EntityEntry entry) {
 	 */
 	boolean isDefaultReadOnly();
 
+	/**
+	 * Should JDBC connections obtained by this session right now come from a
+	 * {@linkplain org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 * read replica}? This is the case if the session is {@linkplain #isDefaultReadOnly
+	 * read-only by default}, or while a read-only query is executed, unless the session
+	 * has already written to the database.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isReadReplicaPreferred() {
+		return false;
+	}
+
+	/**
+	 * Specify whether a read-only query is being executed by this session.
+	 *
+	 * @see #isReadReplicaPreferred()
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void setReadOnlyQueryExecution(boolean readOnlyQueryExecution) {
+	}
+
+	/**
+	 * Is a read-only query being executed by this session?
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isReadOnlyQueryExecution() {
+		return false;
+	}
+
+	/**
+	 * The {@link org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider},
+	 * if sharding is enabled.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable ShardedConnectionProvider getShardedConnectionProvider() {
+		return null;
+	}
+
+	/**
+	 * The identifier of the shard this session is bound to, or {@code null}
+	 * if the session is not bound to any shard.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable Object getShardIdentifier() {
+		return null;
+	}
+
+	/**
+	 * Bind this session to the given shard, or unbind it.
+	 *
+	 * @throws HibernateException if the session holds a connection to another shard
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void setShardIdentifier(@Nullable Object shardIdentifier) {
+	}
+
+	/**
+	 * Execute the given work using connections to the given shard, unless
+	 * this session is bound to it, and record the shard from which each
+	 * entity is loaded, so that its lazy associations are later loaded from
+	 * the same shard.
+	 *
+	 * @param shardIdentifier The identifier of the shard, or {@code null}
+	 * if the work should use the connections of this session
+	 *
+	 * @throws HibernateException if the session is bound to another shard,
+	 * or holds a connection to another database in a transaction
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default <T> T fromShard(@Nullable Object shardIdentifier, Supplier<T> work) {
+		return work.get();
+	}
+
 	boolean isIdentifierRollbackEnabled();
 
 	void setCriteriaCopyTreeEnabled(boolean jpaCriteriaCopyComplianceEnabled);
@@ -24,6 +24,7 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.event.monitor.spi.EventMonitor;
@@ -47,6 +48,7 @@
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * A wrapper class that delegates all method invocations to a delegate instance of
@@ -64,6 +66,13 @@ public SharedSessionDelegatorBaseImpl(SessionImplementor delegate) {
 		this.delegate = delegate;
 	}
 
+	/**
+	 * @since 7.1
+	 */
+	public SharedSessionDelegatorBaseImpl(SharedSessionContractImplementor delegate) {
+		this.delegate = delegate;
+	}
+
 	/**
 	 * Returns the delegate session.
 	 */
@@ -472,6 +481,46 @@ public boolean isDefaultReadOnly() {
 		return delegate.isDefaultReadOnly();
 	}
 
+	@Override
+	public boolean isReadReplicaPreferred() {
+		return delegate.isReadReplicaPreferred();
+	}
+
+	@Override
+	public boolean isReadOnlyQueryExecution() {
+		return delegate.isReadOnlyQueryExecution();
+	}
+
+	@Override
+	public void setReadOnlyQueryExecution(boolean readOnlyQueryExecution) {
+		delegate.setReadOnlyQueryExecution( readOnlyQueryExecution );
+	}
+
+	@Override
+	public void beforeDatabaseWrite() {
+		delegate.beforeDatabaseWrite();
+	}
+
+	@Override
+	public ShardedConnectionProvider getShardedConnectionProvider() {
+		return delegate.getShardedConnectionProvider();
+	}
+
+	@Override
+	public Object getShardIdentifier() {
+		return delegate.getShardIdentifier();
+	}
+
+	@Override
+	public void setShardIdentifier(Object shardIdentifier) {
+		delegate.setShardIdentifier( shardIdentifier );
+	}
+
+	@Override
+	public <T> T fromShard(Object shardIdentifier, Supplier<T> work) {
+		return delegate.fromShard( shardIdentifier, work );
+	}
+
 	@Override
 	public CacheMode getCacheMode() {
 		return delegate.getCacheMode();
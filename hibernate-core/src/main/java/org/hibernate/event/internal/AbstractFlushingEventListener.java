@@ -5,6 +5,7 @@
 package org.hibernate.event.internal;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
@@ -33,8 +34,12 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
 import org.hibernate.internal.util.collections.InstanceIdentityMap;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import org.jboss.logging.Logger;
 
 import static org.hibernate.engine.internal.Collections.processUnreachableCollection;
@@ -70,10 +75,35 @@ protected void flushEverythingToExecutions(FlushEvent event) throws HibernateExc
 	}
 
 	protected void flushEverythingToExecutions(FlushEvent event, PersistenceContext persistenceContext, EventSource session) {
+		flushToExecutions( event, persistenceContext, session, null );
+	}
+
+	/**
+	 * Like {@link #flushEverythingToExecutions(FlushEvent, PersistenceContext, EventSource)},
+	 * but only dirty-checks entities belonging to the given entity hierarchies, and
+	 * the collections they own. Other entities and collections are left untouched,
+	 * to be flushed later.
+	 *
+	 * @param hierarchies The {@linkplain EntityMappingType#getRootEntityDescriptor() root}
+	 * entity types of the hierarchies to flush
+	 */
+	protected void flushHierarchiesToExecutions(
+			FlushEvent event,
+			PersistenceContext persistenceContext,
+			EventSource session,
+			Set<EntityMappingType> hierarchies) {
+		flushToExecutions( event, persistenceContext, session, hierarchies );
+	}
+
+	private void flushToExecutions(
+			FlushEvent event,
+			PersistenceContext persistenceContext,
+			EventSource session,
+			@Nullable Set<EntityMappingType> hierarchies) {
 		persistenceContext.setFlushing( true );
 		try {
-			final int entityCount = flushEntities( event, persistenceContext );
-			final int collectionCount = flushCollections( session, persistenceContext );
+			final int entityCount = flushEntities( event, persistenceContext, hierarchies );
+			final int collectionCount = flushCollections( session, persistenceContext, hierarchies );
 			event.setNumberOfEntitiesProcessed( entityCount );
 			event.setNumberOfCollectionsProcessed( collectionCount );
 		}
@@ -208,7 +238,10 @@ private void prepareCollectionFlushes(PersistenceContext persistenceContext) thr
 	 * <li> search out any reachable collections
 	 * </ol>
 	 */
-	private int flushEntities(final FlushEvent event, final PersistenceContext persistenceContext)
+	private int flushEntities(
+			final FlushEvent event,
+			final PersistenceContext persistenceContext,
+			final @Nullable Set<EntityMappingType> hierarchies)
 			throws HibernateException {
 		LOG.trace( "Flushing entities and processing referenced collections" );
 
@@ -221,7 +254,7 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		// to be loaded.
 		// So this needs to be safe from concurrent modification problems.
 		final var entityEntries = persistenceContext.reentrantSafeEntityEntries();
-		final int count = entityEntries.length;
+		int count = entityEntries.length;
 
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
@@ -229,7 +262,10 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 			// Update the status of the object and if necessary, schedule an update
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( hierarchies != null && !belongsTo( entry.getPersister(), hierarchies ) ) {
+				count--;
+			}
+			else if ( status != Status.LOADING && status != Status.GONE ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
@@ -243,6 +279,10 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		return count;
 	}
 
+	private static boolean belongsTo(EntityPersister persister, Set<EntityMappingType> hierarchies) {
+		return hierarchies.contains( persister.getRootEntityDescriptor() );
+	}
+
 	/**
 	 * Reuses a {@link FlushEntityEvent} for a new purpose, if possible;
 	 * or if not possible, a new actual instance is returned.
@@ -266,7 +306,10 @@ private FlushEntityEvent createOrReuseEventInstance(
 	 * Process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates.
 	 */
-	private int flushCollections(final EventSource session, final PersistenceContext persistenceContext)
+	private int flushCollections(
+			final EventSource session,
+			final PersistenceContext persistenceContext,
+			final @Nullable Set<EntityMappingType> hierarchies)
 			throws HibernateException {
 		LOG.trace( "Processing unreferenced collections" );
 		final var collectionEntries = persistenceContext.getCollectionEntries();
@@ -280,7 +323,17 @@ private int flushCollections(final EventSource session, final PersistenceContext
 			for ( var me : identityMap.toArray() ) {
 				final CollectionEntry ce = me.getValue();
 				if ( !ce.isReached() && !ce.isIgnore() ) {
-					processUnreachableCollection( me.getKey(), session );
+					final CollectionPersister loadedPersister = ce.getLoadedPersister();
+					if ( hierarchies != null && loadedPersister != null
+							&& !belongsTo( loadedPersister.getOwnerEntityPersister(), hierarchies ) ) {
+						// the owner was not flushed, so we don't know if
+						// the collection is still referenced: leave it
+						// for the next flush
+						ce.setProcessed( true );
+					}
+					else {
+						processUnreachableCollection( me.getKey(), session );
+					}
 				}
 			}
 		}
@@ -15,11 +15,26 @@
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
+import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 
 /**
  * Defines the default flush event listeners used by hibernate for
@@ -31,6 +46,8 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( MethodHandles.lookup(), CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	private volatile @Nullable HierarchiesBySpace hierarchiesBySpace;
+
 	/**
 	 * Handle the given auto-flush event.
 	 *
@@ -55,7 +72,13 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 					preFlush( session, persistenceContext );
 				}
 				final int oldSize = actionQueue.numberOfCollectionRemovals();
-				flushEverythingToExecutions( event, persistenceContext, session );
+				final Set<EntityMappingType> hierarchies = hierarchiesToFlush( event, session );
+				if ( hierarchies == null ) {
+					flushEverythingToExecutions( event, persistenceContext, session );
+				}
+				else {
+					flushHierarchiesToExecutions( event, persistenceContext, session, hierarchies );
+				}
 				if ( flushIsReallyNeeded( event, source ) ) {
 					LOG.trace( "Need to execute flush" );
 					event.setFlushRequired( true );
@@ -110,6 +133,115 @@ public void onAutoPreFlush(EventSource source) throws HibernateException {
 		}
 	}
 
+	/**
+	 * Determine the entity hierarchies which must be dirty-checked before executing
+	 * a query, when {@linkplain org.hibernate.cfg.QuerySettings#TARGETED_AUTO_FLUSH
+	 * targeted auto-flush} is enabled: the hierarchies mapped to the query spaces of
+	 * the query, or owning a collection mapped to one of them, along with the entity
+	 * hierarchies they refer to by foreign key, directly or transitively.
+	 *
+	 * @return the root entity types of the hierarchies to flush, or {@code null} if
+	 *         the whole persistence context must be flushed
+	 */
+	private @Nullable Set<EntityMappingType> hierarchiesToFlush(AutoFlushEvent event, EventSource source) {
+		final Set<String> querySpaces = event.getQuerySpaces();
+		if ( !source.getFactory().getSessionFactoryOptions().isTargetedAutoFlushEnabled()
+				|| source.getHibernateFlushMode() == FlushMode.ALWAYS
+				|| querySpaces == null || querySpaces.isEmpty()
+				// a deletion might depend on updates to any entity which references the deleted entity
+				|| source.getActionQueue().numberOfDeletions() > 0 ) {
+			return null;
+		}
+
+		final Map<String, Set<EntityMappingType>> hierarchiesBySpace =
+				hierarchiesBySpace( source.getFactory().getMappingMetamodel() );
+		Set<EntityMappingType> hierarchies = null;
+		for ( String querySpace : querySpaces ) {
+			final Set<EntityMappingType> spaceHierarchies = hierarchiesBySpace.get( querySpace );
+			if ( spaceHierarchies != null ) {
+				if ( hierarchies == null ) {
+					hierarchies = spaceHierarchies;
+				}
+				else if ( !hierarchies.containsAll( spaceHierarchies ) ) {
+					final Set<EntityMappingType> union = new HashSet<>( hierarchies );
+					union.addAll( spaceHierarchies );
+					hierarchies = union;
+				}
+			}
+		}
+		return hierarchies == null ? emptySet() : hierarchies;
+	}
+
+	/**
+	 * The hierarchies to flush for each table, computed once per metamodel,
+	 * since they depend only on the mappings.
+	 */
+	private Map<String, Set<EntityMappingType>> hierarchiesBySpace(MappingMetamodelImplementor metamodel) {
+		final HierarchiesBySpace current = hierarchiesBySpace;
+		if ( current != null && current.metamodel() == metamodel ) {
+			return current.hierarchies();
+		}
+		else {
+			final Map<String, Set<EntityMappingType>> hierarchies = buildHierarchiesBySpace( metamodel );
+			hierarchiesBySpace = new HierarchiesBySpace( metamodel, hierarchies );
+			return hierarchies;
+		}
+	}
+
+	private record HierarchiesBySpace(
+			MappingMetamodelImplementor metamodel,
+			Map<String, Set<EntityMappingType>> hierarchies) {
+	}
+
+	private static Map<String, Set<EntityMappingType>> buildHierarchiesBySpace(MappingMetamodelImplementor metamodel) {
+		// the hierarchies mapped to each table, or owning a collection mapped to it
+		final Map<String, Set<EntityMappingType>> mappedHierarchiesBySpace = new HashMap<>();
+		metamodel.forEachEntityDescriptor( persister -> {
+			for ( Serializable space : persister.getQuerySpaces() ) {
+				mappedHierarchiesBySpace.computeIfAbsent( (String) space, s -> new HashSet<>() )
+						.add( persister.getRootEntityDescriptor() );
+			}
+		} );
+		metamodel.forEachCollectionDescriptor( persister -> {
+			for ( Serializable space : persister.getCollectionSpaces() ) {
+				mappedHierarchiesBySpace.computeIfAbsent( (String) space, s -> new HashSet<>() )
+						.add( persister.getOwnerEntityPersister().getRootEntityDescriptor() );
+			}
+		} );
+
+		// the targets of foreign keys of the flushed entities must be flushed
+		// too, and, in turn, the targets of their foreign keys
+		final Map<EntityMappingType, Set<EntityMappingType>> targetsByHierarchy = new HashMap<>();
+		metamodel.forEachEntityDescriptor( persister -> {
+			final Set<EntityMappingType> targets =
+					targetsByHierarchy.computeIfAbsent( persister.getRootEntityDescriptor(), root -> new HashSet<>() );
+			for ( int i = 0; i < persister.getNumberOfAttributeMappings(); i++ ) {
+				if ( persister.getAttributeMapping( i ) instanceof ToOneAttributeMapping toOne ) {
+					targets.add( toOne.getEntityMappingType().getRootEntityDescriptor() );
+				}
+			}
+		} );
+
+		final Map<String, Set<EntityMappingType>> hierarchiesBySpace =
+				new HashMap<>( mappedHierarchiesBySpace.size() );
+		mappedHierarchiesBySpace.forEach( (space, mappedHierarchies) -> {
+			final Set<EntityMappingType> hierarchies = new HashSet<>( mappedHierarchies );
+			final Deque<EntityMappingType> pending = new ArrayDeque<>( hierarchies );
+			while ( !pending.isEmpty() ) {
+				final Set<EntityMappingType> targets = targetsByHierarchy.get( pending.pop() );
+				if ( targets != null ) {
+					for ( EntityMappingType target : targets ) {
+						if ( hierarchies.add( target ) ) {
+							pending.push( target );
+						}
+					}
+				}
+			}
+			hierarchiesBySpace.put( space, unmodifiableSet( hierarchies ) );
+		} );
+		return unmodifiableMap( hierarchiesBySpace );
+	}
+
 	private boolean flushIsReallyNeeded(AutoFlushEvent event, final EventSource source) {
 		return source.getHibernateFlushMode() == FlushMode.ALWAYS
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
@@ -6,6 +6,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.NPlusOneDetection;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -53,6 +54,7 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			}
 			else {
 				LOG.trace( "Collection not cached" );
+				NPlusOneDetection.beforeCollectionFetch( loadedPersister, source );
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				LOG.trace( "Collection initialized" );
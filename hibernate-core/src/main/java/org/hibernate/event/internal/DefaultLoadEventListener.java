@@ -13,6 +13,7 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.NPlusOneDetection;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -593,6 +594,10 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 						+ infoString( persister, event.getEntityId(), event.getFactory() ) );
 		}
 
+		if ( event.isAssociationFetch() ) {
+			NPlusOneDetection.beforeEntityFetch( persister, event.getSession() );
+		}
+
 		final Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -47,6 +47,7 @@
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import static org.hibernate.engine.internal.DetachedGraphLoading.loadDetachedGraph;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asSelfDirtinessTracker;
@@ -86,6 +87,11 @@ public void onMerge(MergeEvent event) throws HibernateException {
 				session.getFactory().getEntityCopyObserver().createEntityCopyObserver();
 		final MergeContext mergeContext = new MergeContext( session, entityCopyObserver );
 		try {
+			if ( event.getOriginal() != null && !event.isDetachedGraphLoaded() ) {
+				// load the detached entities of the graph in batches, before
+				// the merge visits them
+				loadDetachedGraph( session, event.getEntityName(), event.getOriginal() );
+			}
 			onMerge( event, mergeContext );
 			entityCopyObserver.topLevelMergeComplete( session );
 		}
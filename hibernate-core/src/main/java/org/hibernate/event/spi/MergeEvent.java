@@ -4,6 +4,8 @@
  */
 package org.hibernate.event.spi;
 
+import org.hibernate.Incubating;
+
 /**
  * Event class for {@link org.hibernate.Session#merge}.
  *
@@ -18,6 +20,7 @@ public class MergeEvent extends AbstractEvent {
 	private String entityName;
 	private Object entity;
 	private Object result;
+	private boolean detachedGraphLoaded;
 
 	public MergeEvent(String entityName, Object original, EventSource source) {
 		this(original, source);
@@ -78,4 +81,27 @@ public Object getResult() {
 	public void setResult(Object result) {
 		this.result = result;
 	}
+
+	/**
+	 * Whether the detached entities reachable from the entity being merged
+	 * have already been loaded, so that the listener need not load them.
+	 *
+	 * @see org.hibernate.engine.internal.DetachedGraphLoading
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public boolean isDetachedGraphLoaded() {
+		return detachedGraphLoaded;
+	}
+
+	/**
+	 * @see #isDetachedGraphLoaded()
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public void setDetachedGraphLoaded(boolean detachedGraphLoaded) {
+		this.detachedGraphLoaded = detachedGraphLoaded;
+	}
 }
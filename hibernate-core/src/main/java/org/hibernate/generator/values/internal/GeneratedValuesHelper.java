@@ -87,11 +87,65 @@ public static GeneratedValues getGeneratedValues(
 			return null;
 		}
 
+		final GeneratedValuesMappingProducer mappingProducer = mappingProducer( persister, timing );
+		final Object[] results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debug( "Extracted generated values for entity "
+							+ infoString( persister ) + ": " + ArrayHelper.toString(results) );
+		}
+
+		return generatedValues( mappingProducer, results );
+	}
+
+	/**
+	 * Reads the {@link EntityPersister#getGeneratedProperties(EventType) generated values}
+	 * of every row of the specified {@link ResultSet}, for example, of the rows inserted
+	 * by a JDBC batch.
+	 *
+	 * @param resultSet The result set from which to extract the generated values
+	 * @param persister The entity type which we're reading the generated values for
+	 * @param session The session
+	 *
+	 * @return The generated values, one element per row, in the order of the rows
+	 *
+	 * @throws SQLException Can be thrown while accessing the result set
+	 * @throws HibernateException Indicates a problem reading back a generated value
+	 *
+	 * @since 7.1
+	 */
+	public static List<GeneratedValues> getGeneratedValuesList(
+			ResultSet resultSet,
+			PreparedStatement statement,
+			EntityPersister persister,
+			EventType timing,
+			SharedSessionContractImplementor session) throws SQLException {
+		if ( resultSet == null ) {
+			return List.of();
+		}
+
+		final GeneratedValuesMappingProducer mappingProducer = mappingProducer( persister, timing );
+		final List<Object[]> rows = readAllGeneratedValues( resultSet, statement, mappingProducer, session );
+
+		final List<GeneratedValues> generatedValuesList = new ArrayList<>( rows.size() );
+		for ( Object[] results : rows ) {
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debug( "Extracted generated values for entity "
+								+ infoString( persister ) + ": " + ArrayHelper.toString(results) );
+			}
+			generatedValuesList.add( generatedValues( mappingProducer, results ) );
+		}
+		return generatedValuesList;
+	}
+
+	private static GeneratedValuesMappingProducer mappingProducer(EntityPersister persister, EventType timing) {
 		final GeneratedValuesMutationDelegate delegate = persister.getMutationDelegate(
 				timing == EventType.INSERT ? MutationType.INSERT : MutationType.UPDATE
 		);
-		final GeneratedValuesMappingProducer mappingProducer =
-				(GeneratedValuesMappingProducer) delegate.getGeneratedValuesMappingProducer();
+		return (GeneratedValuesMappingProducer) delegate.getGeneratedValuesMappingProducer();
+	}
+
+	private static GeneratedValues generatedValues(GeneratedValuesMappingProducer mappingProducer, Object[] results) {
 		final List<GeneratedValueBasicResultBuilder> resultBuilders = mappingProducer.getResultBuilders();
 		final List<ModelPart> generatedProperties = new ArrayList<>( resultBuilders.size() );
 		for ( GeneratedValueBasicResultBuilder resultBuilder : resultBuilders ) {
@@ -99,17 +153,9 @@ public static GeneratedValues getGeneratedValues(
 		}
 
 		final GeneratedValuesImpl generatedValues = new GeneratedValuesImpl( generatedProperties );
-		final Object[] results = readGeneratedValues( resultSet, statement, persister, mappingProducer, session );
-
-		if ( LOG.isDebugEnabled() ) {
-			LOG.debug( "Extracted generated values for entity "
-							+ infoString( persister ) + ": " + ArrayHelper.toString(results) );
-		}
-
 		for ( int i = 0; i < results.length; i++ ) {
 			generatedValues.addGeneratedValue( generatedProperties.get( i ), results[i] );
 		}
-
 		return generatedValues;
 	}
 
@@ -130,6 +176,22 @@ private static Object[] readGeneratedValues(
 			EntityPersister persister,
 			JdbcValuesMappingProducer mappingProducer,
 			SharedSessionContractImplementor session) {
+		final List<Object[]> results = readAllGeneratedValues( resultSet, statement, mappingProducer, session );
+
+		if ( results.isEmpty() ) {
+			throw new HibernateException(
+					"The database returned no natively generated values : " + persister.getNavigableRole().getFullPath()
+			);
+		}
+
+		return results.get( 0 );
+	}
+
+	private static List<Object[]> readAllGeneratedValues(
+			ResultSet resultSet,
+			PreparedStatement statement,
+			JdbcValuesMappingProducer mappingProducer,
+			SharedSessionContractImplementor session) {
 		final ExecutionContext executionContext = new BaseExecutionContext( session );
 
 		final DirectResultSetAccess directResultSetAccess = new DirectResultSetAccess(
@@ -192,7 +254,7 @@ public boolean shouldReturnProxies() {
 				jdbcValues
 		);
 
-		final List<Object[]> results = ListResultsConsumer.<Object[]>instance( ListResultsConsumer.UniqueSemantic.NONE )
+		return ListResultsConsumer.<Object[]>instance( ListResultsConsumer.UniqueSemantic.NONE )
 				.consume(
 						jdbcValues,
 						session,
@@ -201,14 +263,6 @@ public boolean shouldReturnProxies() {
 						rowProcessingState,
 						rowReader
 				);
-
-		if ( results.isEmpty() ) {
-			throw new HibernateException(
-					"The database returned no natively generated values : " + persister.getNavigableRole().getFullPath()
-			);
-		}
-
-		return results.get( 0 );
 	}
 
 	/**
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+
+/**
+ * Specialized contract for {@link BeforeExecutionGenerator}s capable of generating
+ * the identifiers for a whole batch of entities at once, for example, by retrieving
+ * multiple values of a sequence in a single round trip to the database.
+ * <p>
+ * Used by {@link org.hibernate.StatelessSession#insertMultiple(java.util.List)}
+ * to generate the identifiers of all the entities it inserts up front.
+ *
+ * @see org.hibernate.dialect.sequence.SequenceSupport#getSequenceNextValuesString
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface BatchIdentifierGenerator extends BeforeExecutionGenerator {
+	/**
+	 * Generate the given number of identifier values.
+	 *
+	 * @param session The session from which the request originates
+	 * @param count The number of identifiers to generate
+	 * @return The generated identifiers
+	 */
+	Object[] generate(SharedSessionContractImplementor session, int count);
+}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.id.enhanced;
 
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.id.IntegralDataTypeHolder;
 
 /**
@@ -20,10 +22,64 @@ public interface AccessCallback {
 	 */
 	IntegralDataTypeHolder getNextValue();
 
+	/**
+	 * Retrieve the given number of next values from the underlying source,
+	 * in a single round trip to the database, if possible.
+	 *
+	 * @implSpec The default implementation simply calls {@link #getNextValue()}
+	 *           repeatedly.
+	 *
+	 * @param count The number of values to retrieve.
+	 * @return The next values, in ascending order.
+	 *
+	 * @see org.hibernate.dialect.sequence.SequenceSupport#getSequenceNextValuesString
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default IntegralDataTypeHolder[] getNextValues(int count) {
+		final IntegralDataTypeHolder[] values = new IntegralDataTypeHolder[count];
+		for ( int i = 0; i < count; i++ ) {
+			values[i] = getNextValue();
+		}
+		return values;
+	}
+
 	/**
 	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
 	 *
 	 * @return The tenant identifier
 	 */
 	String getTenantIdentifier();
+
+	/**
+	 * Obtain a variation of this callback which retrieves values using its own
+	 * JDBC connection, independently of the current session and transaction, and
+	 * which may be called from a background thread, even after the session ends.
+	 *
+	 * @return The callback, or {@code null} if values may only be retrieved by
+	 *         the current session
+	 *
+	 * @see PrefetchingPooledOptimizer
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default AccessCallback getIsolatedCallback() {
+		return null;
+	}
+
+	/**
+	 * The factory of the session on behalf of which values are retrieved, which
+	 * provides the {@link IdentifierPrefetchService} and the
+	 * {@linkplain org.hibernate.stat.Statistics statistics}.
+	 *
+	 * @return The factory, or {@code null} if values are not retrieved by a session
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default SessionFactoryImplementor getSessionFactory() {
+		return null;
+	}
 }
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+
+/**
+ * Variation of {@link PooledOptimizer} which hands out the values of the current
+ * range without locking, by atomically incrementing a counter. A lock is only
+ * acquired to obtain the next range from the database when the current range is
+ * exhausted.
+ * <p>
+ * This optimizer interprets the database value as the hi value, exactly like the
+ * {@code PooledOptimizer}, and so the two are interchangeable. It's intended for
+ * applications which insert rows of a given entity from many threads concurrently.
+ * The generated values must fit in a {@code long}.
+ *
+ * @see PooledOptimizer
+ *
+ * @since 7.1
+ */
+public class ConcurrentPooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+
+	/**
+	 * A range of values obtained from the database.
+	 */
+	private static final class Range {
+		// the value read from the database
+		private final IntegralDataTypeHolder sourceValue;
+		// the next value to hand out
+		private final AtomicLong next;
+		// the last value of the range
+		private final long last;
+
+		private Range(IntegralDataTypeHolder sourceValue, long first, long last) {
+			this.sourceValue = sourceValue;
+			this.next = new AtomicLong( first );
+			this.last = last;
+		}
+	}
+
+	private static class GenerationState {
+		private volatile Range range;
+	}
+
+	private long initialValue = -1;
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code ConcurrentPooledOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		final Range range = generationState.range;
+		if ( range != null ) {
+			final long value = range.next.getAndIncrement();
+			if ( value <= range.last ) {
+				return makeValue( value );
+			}
+		}
+		return generateFromNextRange( generationState, callback );
+	}
+
+	private Serializable generateFromNextRange(GenerationState generationState, AccessCallback callback) {
+		lock.lock();
+		try {
+			// another thread might have obtained the next range while we waited for the lock
+			final Range currentRange = generationState.range;
+			if ( currentRange != null ) {
+				final long value = currentRange.next.getAndIncrement();
+				if ( value <= currentRange.last ) {
+					return makeValue( value );
+				}
+			}
+			final Range nextRange = nextRange( currentRange == null, callback.getNextValue() );
+			final long value = nextRange.next.getAndIncrement();
+			generationState.range = nextRange;
+			return makeValue( value );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Range nextRange(boolean firstRange, IntegralDataTypeHolder hiValue) {
+		final long hi = hiValue.makeValue().longValue();
+		// the call to obtain next-value just gave us the initialValue
+		final boolean initial = firstRange
+				&& ( initialValue == -1 && hi < incrementSize || hi == initialValue );
+		return new Range( hiValue, initial ? hi : hi - ( incrementSize - 1 ), hi );
+	}
+
+	private Serializable makeValue(long value) {
+		return getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final Range range = noTenantState.range;
+		if ( range == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return range.sourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
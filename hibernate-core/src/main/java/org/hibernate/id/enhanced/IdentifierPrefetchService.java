@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * A service, scoped to a {@link org.hibernate.SessionFactory}, which retrieves
+ * ranges of identifier values on background threads for the
+ * {@link PrefetchingPooledOptimizer}. The threads are stopped when the
+ * {@code SessionFactory} is closed.
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface IdentifierPrefetchService extends Service {
+	/**
+	 * Perform the given retrieval on a background thread.
+	 *
+	 * @throws java.util.concurrent.RejectedExecutionException if the service was stopped
+	 */
+	<T> CompletableFuture<T> retrieveInBackground(Supplier<T> retrieval);
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.service.spi.Stoppable;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Standard implementation of {@link IdentifierPrefetchService}, backed by a
+ * small pool of daemon threads, which are only started when needed, and which
+ * end when idle.
+ *
+ * @since 7.1
+ */
+class IdentifierPrefetchServiceImpl implements IdentifierPrefetchService, Stoppable {
+	private static final int THREADS = 4;
+
+	private final ThreadPoolExecutor executor;
+
+	IdentifierPrefetchServiceImpl(String sessionFactoryName) {
+		final String threadName = sessionFactoryName == null
+				? "Hibernate Id Prefetch Thread"
+				: "Hibernate Id Prefetch Thread [" + sessionFactoryName + "]";
+		executor = new ThreadPoolExecutor(
+				THREADS, THREADS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, threadName );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut( true );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieveInBackground(Supplier<T> retrieval) {
+		return supplyAsync( retrieval, executor );
+	}
+
+	@Override
+	public void stop() {
+		// a retrieval in progress completes, but its range is never used
+		executor.shutdown();
+	}
+}
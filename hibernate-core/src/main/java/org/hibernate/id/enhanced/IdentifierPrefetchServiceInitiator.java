@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Initiates the {@link IdentifierPrefetchService} of a {@link org.hibernate.SessionFactory}.
+ *
+ * @since 7.1
+ */
+public class IdentifierPrefetchServiceInitiator implements SessionFactoryServiceInitiator<IdentifierPrefetchService> {
+	/**
+	 * Singleton access
+	 */
+	public static final IdentifierPrefetchServiceInitiator INSTANCE = new IdentifierPrefetchServiceInitiator();
+
+	@Override
+	public IdentifierPrefetchService initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new IdentifierPrefetchServiceImpl( context.getSessionFactoryOptions().getSessionFactoryName() );
+	}
+
+	@Override
+	public Class<IdentifierPrefetchService> getServiceInitiated() {
+		return IdentifierPrefetchService.class;
+	}
+}
@@ -40,6 +40,20 @@ public Serializable generate(AccessCallback callback) {
 		return value.makeValue();
 	}
 
+	@Override
+	public Serializable[] generate(AccessCallback callback, int count) {
+		// retrieve all the values in a single round trip, if possible
+		final IntegralDataTypeHolder[] sourceValues = callback.getNextValues( count );
+		final Serializable[] values = new Serializable[count];
+		for ( int i = 0; i < count; i++ ) {
+			values[i] = sourceValues[i].makeValue();
+		}
+		if ( count > 0 ) {
+			lastSourceValue = sourceValues[count - 1];
+		}
+		return values;
+	}
+
 	@Override
 	public IntegralDataTypeHolder getLastSourceValue() {
 		return lastSourceValue;
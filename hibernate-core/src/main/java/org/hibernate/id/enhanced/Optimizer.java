@@ -6,6 +6,7 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
 import org.hibernate.id.IntegralDataTypeHolder;
 
 /**
@@ -33,6 +34,28 @@ public interface Optimizer {
 	 */
 	Serializable generate(AccessCallback callback);
 
+	/**
+	 * Generate the given number of identifier values accounting for this
+	 * specific optimization.
+	 *
+	 * @implSpec The default implementation simply calls
+	 *           {@link #generate(AccessCallback)} repeatedly.
+	 *
+	 * @param callback Callback to access the underlying value source.
+	 * @param count The number of values to generate.
+	 * @return The generated identifier values.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default Serializable[] generate(AccessCallback callback, int count) {
+		final Serializable[] values = new Serializable[count];
+		for ( int i = 0; i < count; i++ ) {
+			values[i] = generate( callback );
+		}
+		return values;
+	}
+
 	/**
 	 * A common means to access the last value obtained from the underlying
 	 * source.  This is intended for testing purposes, since accessing the
@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * Variation of {@link PooledOptimizer} which retrieves the next range of values
+ * from the database on a background thread, once three quarters of the current
+ * range have been handed out, so that id generation doesn't usually need to wait
+ * for the database.
+ * <p>
+ * Background retrieval requires that the database structure can provide an
+ * {@linkplain AccessCallback#getIsolatedCallback isolated callback}, as a
+ * {@link SequenceStructure} does when multitenancy is not enabled. Otherwise, or
+ * if a background retrieval fails, the next range is retrieved synchronously,
+ * exactly as by the {@code PooledOptimizer}. The background threads are those
+ * of the {@link IdentifierPrefetchService} of the {@code SessionFactory}, and
+ * the {@linkplain org.hibernate.stat.Statistics#getIdentifierPrefetchHitCount
+ * prefetch hits and misses} are reported to its statistics.
+ * <p>
+ * This optimizer interprets the database value as the hi value, exactly like the
+ * {@code PooledOptimizer}. A prefetched range is lost when the application stops,
+ * leaving a gap in the generated values.
+ *
+ * @see PooledOptimizer
+ *
+ * @since 7.1
+ */
+public class PrefetchingPooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final Logger LOG = Logger.getLogger( PrefetchingPooledOptimizer.class );
+
+	private static class GenerationState {
+		// the value read from the database for the current range
+		private IntegralDataTypeHolder hiValue;
+		// the next value to hand out
+		private IntegralDataTypeHolder value;
+		// the value at which the next range is prefetched
+		private IntegralDataTypeHolder prefetchValue;
+		// the value read from the database for the next range
+		private CompletableFuture<IntegralDataTypeHolder> nextHiValue;
+	}
+
+	private long initialValue = -1;
+
+	private final AtomicLong refillCount = new AtomicLong();
+	private final AtomicLong prefetchCount = new AtomicLong();
+	private final AtomicLong stallCount = new AtomicLong();
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PrefetchingPooledOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PrefetchingPooledOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		lock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+			if ( generationState.hiValue == null ) {
+				generationState.hiValue = callback.getNextValue();
+				refillCount.incrementAndGet();
+				// the call to obtain next-value just gave us the initialValue
+				if ( ( initialValue == -1
+						&& generationState.hiValue.lt( incrementSize ) )
+						|| generationState.hiValue.eq( initialValue ) ) {
+					generationState.value = generationState.hiValue.copy();
+				}
+				else {
+					generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
+				}
+				generationState.prefetchValue = prefetchValue( generationState.hiValue );
+			}
+			else if ( generationState.value.gt( generationState.hiValue ) ) {
+				generationState.hiValue = nextHiValue( generationState, callback );
+				refillCount.incrementAndGet();
+				generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
+				generationState.prefetchValue = prefetchValue( generationState.hiValue );
+			}
+
+			if ( generationState.nextHiValue == null
+					&& !generationState.value.lt( generationState.prefetchValue ) ) {
+				prefetch( generationState, callback );
+			}
+
+			return generationState.value.makeValueThenIncrement();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private IntegralDataTypeHolder prefetchValue(IntegralDataTypeHolder hiValue) {
+		// prefetch once three quarters of the range has been handed out
+		return hiValue.copy().subtract( incrementSize / 4 );
+	}
+
+	private void prefetch(GenerationState generationState, AccessCallback callback) {
+		final AccessCallback isolatedCallback = callback.getIsolatedCallback();
+		if ( isolatedCallback != null ) {
+			final SessionFactoryImplementor factory = callback.getSessionFactory();
+			if ( factory == null ) {
+				// there's no background thread to use, retrieve the next range in advance
+				prefetchCount.incrementAndGet();
+				generationState.nextHiValue = completedFuture( isolatedCallback.getNextValue() );
+			}
+			else {
+				try {
+					generationState.nextHiValue =
+							factory.getServiceRegistry().requireService( IdentifierPrefetchService.class )
+									.retrieveInBackground( isolatedCallback::getNextValue );
+					prefetchCount.incrementAndGet();
+				}
+				catch (RejectedExecutionException e) {
+					LOG.debug( "Could not prefetch the next range of values, since the SessionFactory is closing" );
+				}
+			}
+		}
+	}
+
+	private IntegralDataTypeHolder nextHiValue(GenerationState generationState, AccessCallback callback) {
+		final CompletableFuture<IntegralDataTypeHolder> nextHiValue = generationState.nextHiValue;
+		generationState.nextHiValue = null;
+		final boolean prefetched = nextHiValue != null && nextHiValue.isDone();
+		if ( !prefetched ) {
+			stallCount.incrementAndGet();
+		}
+		final SessionFactoryImplementor factory = callback.getSessionFactory();
+		if ( factory != null ) {
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( prefetched ) {
+					statistics.identifierPrefetchHit();
+				}
+				else {
+					statistics.identifierPrefetchMiss();
+				}
+			}
+		}
+		if ( nextHiValue != null ) {
+			try {
+				return nextHiValue.join();
+			}
+			catch (CompletionException e) {
+				LOG.debugf( e.getCause(), "Could not prefetch the next range of values, retrieving it synchronously" );
+			}
+		}
+		return callback.getNextValue();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		if ( noTenantState.hiValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return noTenantState.hiValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+
+	/**
+	 * The number of ranges of values obtained from the database.
+	 */
+	public long getRefillCount() {
+		return refillCount.get();
+	}
+
+	/**
+	 * The number of ranges of values requested from the database in the background.
+	 */
+	public long getPrefetchCount() {
+		return prefetchCount.get();
+	}
+
+	/**
+	 * The number of times a range of values was exhausted before the next range
+	 * had been obtained from the database, and id generation had to wait for it,
+	 * excluding the retrieval of the very first range.
+	 */
+	public long getStallCount() {
+		return stallCount.get();
+	}
+}
@@ -5,17 +5,24 @@
 package org.hibernate.id.enhanced;
 
 import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
@@ -44,6 +51,8 @@ public class SequenceStructure implements DatabaseStructure {
 	private final String options;
 
 	private String sql;
+	private SequenceSupport sequenceSupport;
+	private String formattedSequenceName;
 	private boolean applyIncrementSizeToSourceValues;
 	private int accessCounter;
 	protected QualifiedName physicalSequenceName;
@@ -114,37 +123,122 @@ public AccessCallback buildCallback(final SharedSessionContractImplementor sessi
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
 				accessCounter++;
+				return executeQuery( session, sql, 1 )[0];
+			}
+
+			@Override
+			public IntegralDataTypeHolder[] getNextValues(int count) {
+				final String multiValueSql = count > 1
+						? sequenceSupport.getSequenceNextValuesString( formattedSequenceName, count )
+						: null;
+				if ( multiValueSql == null ) {
+					return AccessCallback.super.getNextValues( count );
+				}
+				else {
+					accessCounter++;
+					final IntegralDataTypeHolder[] values = executeQuery( session, multiValueSql, count );
+					// the rows of the result set are not necessarily ordered
+					Arrays.sort( values, (x, y) -> x.lt( y ) ? -1 : x.eq( y ) ? 0 : 1 );
+					return values;
+				}
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return session.getTenantIdentifier();
+			}
+
+			@Override
+			public SessionFactoryImplementor getSessionFactory() {
+				return session.getFactory();
+			}
+
+			@Override
+			public AccessCallback getIsolatedCallback() {
+				final SessionFactoryImplementor factory = session.getFactory();
+				// with multitenancy, the connection must be obtained for the tenant of the session
+				return factory.getSessionFactoryOptions().isMultiTenancyEnabled()
+						? null
+						: buildIsolatedCallback( factory.getJdbcServices() );
+			}
+		};
+	}
+
+	private IntegralDataTypeHolder[] executeQuery(SharedSessionContractImplementor session, String sql, int count) {
+		try {
+			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+			final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			try {
+				final ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( st, sql );
 				try {
-					final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
-					final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+					final IntegralDataTypeHolder[] values = new IntegralDataTypeHolder[count];
+					for ( int i = 0; i < count; i++ ) {
+						if ( !rs.next() ) {
+							throw new HibernateException( "Sequence query returned too few values: " + sql );
+						}
+						final IntegralDataTypeHolder value = getIntegralDataTypeHolder( numberType );
+						value.initialize( rs, 1 );
+						if ( LOG.isDebugEnabled() ) {
+							LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+						}
+						values[i] = value;
+					}
+					return values;
+				}
+				finally {
 					try {
-						final ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( st, sql );
-						try {
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, st );
+					}
+					catch( Throwable ignore ) {
+						// intentionally empty
+					}
+				}
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( st );
+				jdbcCoordinator.afterStatementExecution();
+			}
+
+		}
+		catch ( SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not get next sequence value",
+					sql
+			);
+		}
+	}
+
+	private AccessCallback buildIsolatedCallback(JdbcServices jdbcServices) {
+		final String sql = this.sql;
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				final JdbcConnectionAccess connectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
+				try {
+					final Connection connection = connectionAccess.obtainConnection();
+					try {
+						jdbcServices.getSqlStatementLogger().logStatement( sql );
+						final IntegralDataTypeHolder value = getIntegralDataTypeHolder( numberType );
+						try ( PreparedStatement st = connection.prepareStatement( sql );
+								ResultSet rs = st.executeQuery() ) {
 							rs.next();
-							final IntegralDataTypeHolder value = getIntegralDataTypeHolder( numberType );
 							value.initialize( rs, 1 );
-							if ( LOG.isDebugEnabled() ) {
-								LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
-							}
-							return value;
 						}
-						finally {
-							try {
-								jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, st );
-							}
-							catch( Throwable ignore ) {
-								// intentionally empty
-							}
+						if ( !connection.getAutoCommit() ) {
+							connection.commit();
+						}
+						if ( LOG.isDebugEnabled() ) {
+							LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
 						}
+						return value;
 					}
 					finally {
-						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( st );
-						jdbcCoordinator.afterStatementExecution();
+						connectionAccess.releaseConnection( connection );
 					}
-
 				}
-				catch ( SQLException sqle) {
-					throw session.getJdbcServices().getSqlExceptionHelper().convert(
+				catch ( SQLException sqle ) {
+					throw jdbcServices.getSqlExceptionHelper().convert(
 							sqle,
 							"could not get next sequence value",
 							sql
@@ -154,7 +248,7 @@ public IntegralDataTypeHolder getNextValue() {
 
 			@Override
 			public String getTenantIdentifier() {
-				return session.getTenantIdentifier();
+				return null;
 			}
 		};
 	}
@@ -171,8 +265,9 @@ public void registerExportables(Database database) {
 
 	@Override
 	public void initialize(SqlStringGenerationContext context) {
-		this.sql = context.getDialect().getSequenceSupport()
-				.getSequenceNextValString( context.format( physicalSequenceName ) );
+		this.sequenceSupport = context.getDialect().getSequenceSupport();
+		this.formattedSequenceName = context.format( physicalSequenceName );
+		this.sql = sequenceSupport.getSequenceNextValString( formattedSequenceName );
 	}
 
 	@Override
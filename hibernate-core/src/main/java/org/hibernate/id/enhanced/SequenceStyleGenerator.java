@@ -24,8 +24,8 @@
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.BatchIdentifierGenerator;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.PersistentIdentifierGenerator;
@@ -112,7 +112,7 @@
  * @author Lukasz Antoniak
  */
 public class SequenceStyleGenerator
-		implements PersistentIdentifierGenerator, BulkInsertionCapableIdentifierGenerator, BeforeExecutionGenerator {
+		implements PersistentIdentifierGenerator, BulkInsertionCapableIdentifierGenerator, BatchIdentifierGenerator {
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			MethodHandles.lookup(),
@@ -542,6 +542,11 @@ public Object generate(SharedSessionContractImplementor session, Object object)
 		return optimizer.generate( databaseStructure.buildCallback( session ) );
 	}
 
+	@Override
+	public Object[] generate(SharedSessionContractImplementor session, int count) {
+		return optimizer.generate( databaseStructure.buildCallback( session ), count );
+	}
+
 	// BulkInsertionCapableIdentifierGenerator implementation ~~~~~~~~~~~~~~~~~
 
 	@Override
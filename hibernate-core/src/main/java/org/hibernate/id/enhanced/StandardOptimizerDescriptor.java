@@ -42,7 +42,23 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the hi value is stored in the database, and values are handed out
+	 * without locking until the chunk is exhausted.
+	 *
+	 * @since 7.1
+	 */
+	POOLED_CONCURRENT,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the hi value is stored in the database, and the next chunk is
+	 * retrieved in the background before the current chunk is exhausted.
+	 *
+	 * @since 7.1
+	 */
+	POOLED_PREFETCH;
 
 	@Override
 	public String getExternalName() {
@@ -59,6 +75,10 @@ public String getExternalName() {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_CONCURRENT:
+				return "pooled-concurrent";
+			case POOLED_PREFETCH:
+				return "pooled-prefetch";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -78,6 +98,10 @@ public Class<? extends Optimizer> getOptimizerClass() {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_CONCURRENT:
+				return ConcurrentPooledOptimizer.class;
+			case POOLED_PREFETCH:
+				return PrefetchingPooledOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -92,6 +116,8 @@ public boolean isPooled() {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_CONCURRENT:
+			case POOLED_PREFETCH:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
@@ -34,6 +34,7 @@
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
@@ -554,6 +555,11 @@ public IntegralDataTypeHolder execute(Connection connection) throws SQLException
 					public String getTenantIdentifier() {
 						return session.getTenantIdentifier();
 					}
+
+					@Override
+					public SessionFactoryImplementor getSessionFactory() {
+						return session.getFactory();
+					}
 				}
 		);
 	}
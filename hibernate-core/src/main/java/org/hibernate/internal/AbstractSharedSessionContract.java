@@ -32,12 +32,14 @@
 import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
 import org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExceptionConverter;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -94,6 +96,7 @@
 import org.hibernate.resource.jdbc.internal.EmptyStatementInspector;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.hibernate.resource.transaction.TransactionRequiredForJoinException;
@@ -114,6 +117,7 @@
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.lang.Boolean.TRUE;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
@@ -170,6 +174,12 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	private boolean nativeJdbcParametersIgnored;
 
+	private boolean readOnlyQueryExecution;
+	private boolean databaseWritten;
+	private Object shardIdentifier;
+	// the shard to which the session is temporarily routed, when not bound
+	private Object routedShardIdentifier;
+
 	protected boolean closed;
 	protected boolean waitingForAutoClose;
 
@@ -187,6 +197,7 @@ public AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreation
 
 		cacheTransactionSynchronization = factory.getCache().getRegionFactory().createTransactionContext( this );
 		tenantIdentifier = getTenantId( factoryOptions, options );
+		shardIdentifier = getShardId( factory, options );
 		interceptor = interpret( options.getInterceptor() );
 		jdbcTimeZone = options.getJdbcTimeZone();
 		sessionEventsManager = createSessionEventsManager( factoryOptions, options );
@@ -1438,6 +1449,116 @@ public EventMonitor getEventMonitor() {
 		return factory.eventMonitor;
 	}
 
+	@Override
+	public void beforeDatabaseWrite() {
+		databaseWritten = true;
+		if ( jdbcConnectionAccess instanceof NonContextualJdbcConnectionAccess connectionAccess ) {
+			final LogicalConnectionImplementor logicalConnection = getJdbcCoordinator().getLogicalConnection();
+			if ( logicalConnection.isPhysicallyConnected()
+					&& connectionAccess.isReadOnlyConnection( logicalConnection.getPhysicalConnection() ) ) {
+				// never write using the connection to a read replica
+				if ( isTransactionInProgress() || logicalConnection.getResourceRegistry().hasRegisteredResources() ) {
+					throw new HibernateException( "Cannot write to the database in a transaction"
+							+ " which obtained its connection from a read replica"
+							+ " (begin the transaction in a session which is not read-only)" );
+				}
+				// the next statement obtains its connection from the primary database
+				logicalConnection.manualDisconnect();
+			}
+		}
+	}
+
+	private static Object getShardId(SessionFactoryImpl factory, SessionCreationOptions options) {
+		final Object shardKey = options.getShardKey();
+		if ( shardKey == null ) {
+			return null;
+		}
+		else if ( factory.connectionProvider instanceof ShardedConnectionProvider shardedConnectionProvider ) {
+			return shardedConnectionProvider.resolveShardIdentifier( shardKey );
+		}
+		else {
+			throw new HibernateException( "A shard key was specified, but the ConnectionProvider is not a ShardedConnectionProvider" );
+		}
+	}
+
+	@Override
+	public ShardedConnectionProvider getShardedConnectionProvider() {
+		return factory.connectionProvider instanceof ShardedConnectionProvider shardedConnectionProvider
+				? shardedConnectionProvider
+				: null;
+	}
+
+	@Override
+	public Object getShardIdentifier() {
+		return shardIdentifier == null ? routedShardIdentifier : shardIdentifier;
+	}
+
+	@Override
+	public <T> T fromShard(Object shardIdentifier, Supplier<T> work) {
+		if ( shardIdentifier == null || shardIdentifier.equals( getShardIdentifier() ) ) {
+			return work.get();
+		}
+		else if ( this.shardIdentifier != null ) {
+			throw new HibernateException( "Cannot access shard [" + shardIdentifier
+					+ "] since the session is bound to shard [" + this.shardIdentifier + "]" );
+		}
+		else {
+			final LogicalConnectionImplementor logicalConnection = getJdbcCoordinator().getLogicalConnection();
+			if ( logicalConnection.isPhysicallyConnected() ) {
+				if ( isTransactionInProgress() || logicalConnection.getResourceRegistry().hasRegisteredResources() ) {
+					throw new HibernateException( "Cannot access shard [" + shardIdentifier
+							+ "] while the session holds a JDBC connection to another database"
+							+ " (open the session using 'SessionBuilder.shardKey()')" );
+				}
+				logicalConnection.manualDisconnect();
+			}
+			final Object previousShardIdentifier = routedShardIdentifier;
+			final PersistenceContext persistenceContext = getPersistenceContextInternal();
+			routedShardIdentifier = shardIdentifier;
+			persistenceContext.setLoadingShardIdentifier( shardIdentifier );
+			try {
+				return work.get();
+			}
+			finally {
+				routedShardIdentifier = previousShardIdentifier;
+				persistenceContext.setLoadingShardIdentifier( previousShardIdentifier );
+				if ( logicalConnection.isPhysicallyConnected()
+						&& !isTransactionInProgress()
+						&& !logicalConnection.getResourceRegistry().hasRegisteredResources() ) {
+					logicalConnection.manualDisconnect();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void setShardIdentifier(Object shardIdentifier) {
+		if ( !Objects.equals( this.shardIdentifier, shardIdentifier ) ) {
+			if ( getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected() ) {
+				throw new HibernateException( "Cannot bind the session to shard [" + shardIdentifier
+						+ "] while it holds a JDBC connection (open the session using 'SessionBuilder.shardKey()')" );
+			}
+			this.shardIdentifier = shardIdentifier;
+		}
+	}
+
+	@Override
+	public boolean isReadReplicaPreferred() {
+		// once the session has written, read from the primary database
+		return !databaseWritten
+			&& ( readOnlyQueryExecution || isDefaultReadOnly() );
+	}
+
+	@Override
+	public boolean isReadOnlyQueryExecution() {
+		return readOnlyQueryExecution;
+	}
+
+	@Override
+	public void setReadOnlyQueryExecution(boolean readOnlyQueryExecution) {
+		this.readOnlyQueryExecution = readOnlyQueryExecution;
+	}
+
 	@Override
 	public HibernateCriteriaBuilder getCriteriaBuilder() {
 		checkOpen();
@@ -727,6 +727,18 @@ void cannotResolveNonNullableTransientDependencies(
 			id = 530)
 	void flushAndEvictOnRemove(String entityName);
 
+	@LogMessage(level = WARN)
+	@Message(value = "Detected N+1 selects: entity '%s' was fetched by %s separate selects in the same session" +
+			" (consider batch fetching it, or join fetching it in the originating query)",
+			id = 531)
+	void entityNPlusOneDetected(String entityName, int fetchCount);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Detected N+1 selects: collection '%s' was fetched by %s separate selects in the same session" +
+			" (consider batch or subselect fetching it, or join fetching it in the originating query)",
+			id = 532)
+	void collectionNPlusOneDetected(String role, int fetchCount);
+
 	@LogMessage(level = ERROR)
 	@Message(value = "Illegal argument on static metamodel field injection: %s#%s; expected type: %s; encountered type: %s", id = 15007)
 	void illegalArgumentOnStaticMetamodelFieldInjection(
@@ -12,6 +12,8 @@
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
@@ -24,6 +26,12 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 	private final ConnectionProvider connectionProvider;
 	private final SharedSessionContractImplementor session;
 
+	// the connection currently obtained from a read replica, if any
+	private transient Connection readOnlyConnection;
+	// the connection currently obtained from a shard, if any, and its shard
+	private transient Connection shardConnection;
+	private transient Object shardIdentifier;
+
 	public NonContextualJdbcConnectionAccess(
 			SessionEventListener listener,
 			ConnectionProvider connectionProvider,
@@ -41,7 +49,23 @@ public Connection obtainConnection() throws SQLException {
 		final DiagnosticEvent jdbcConnectionAcquisitionEvent = eventMonitor.beginJdbcConnectionAcquisitionEvent();
 		try {
 			listener.jdbcConnectionAcquisitionStart();
-			return connectionProvider.getConnection();
+			if ( connectionProvider instanceof ShardedConnectionProvider shardedConnectionProvider
+					&& session.getShardIdentifier() != null ) {
+				final Object shardIdentifier = session.getShardIdentifier();
+				final Connection connection = shardedConnectionProvider.getConnection( shardIdentifier );
+				this.shardConnection = connection;
+				this.shardIdentifier = shardIdentifier;
+				return connection;
+			}
+			else if ( connectionProvider instanceof ReadReplicaConnectionProvider readReplicaConnectionProvider
+					&& session.isReadReplicaPreferred() ) {
+				final Connection connection = readReplicaConnectionProvider.getReadOnlyConnection();
+				readOnlyConnection = connection;
+				return connection;
+			}
+			else {
+				return connectionProvider.getConnection();
+			}
 		}
 		finally {
 			eventMonitor.completeJdbcConnectionAcquisitionEvent(
@@ -59,7 +83,19 @@ public void releaseConnection(Connection connection) throws SQLException {
 		final DiagnosticEvent jdbcConnectionReleaseEvent = eventMonitor.beginJdbcConnectionReleaseEvent();
 		try {
 			listener.jdbcConnectionReleaseStart();
-			connectionProvider.closeConnection( connection );
+			if ( connection == shardConnection ) {
+				final Object shardIdentifier = this.shardIdentifier;
+				this.shardConnection = null;
+				this.shardIdentifier = null;
+				( (ShardedConnectionProvider) connectionProvider ).closeConnection( shardIdentifier, connection );
+			}
+			else if ( connection == readOnlyConnection ) {
+				readOnlyConnection = null;
+				( (ReadReplicaConnectionProvider) connectionProvider ).closeReadOnlyConnection( connection );
+			}
+			else {
+				connectionProvider.closeConnection( connection );
+			}
 		}
 		finally {
 			eventMonitor.completeJdbcConnectionReleaseEvent( jdbcConnectionReleaseEvent, session, null );
@@ -67,6 +103,13 @@ public void releaseConnection(Connection connection) throws SQLException {
 		}
 	}
 
+	/**
+	 * Is the given connection the one currently obtained from a read replica?
+	 */
+	public boolean isReadOnlyConnection(Connection connection) {
+		return connection != null && connection == readOnlyConnection;
+	}
+
 	@Override
 	public boolean supportsAggressiveRelease() {
 		return connectionProvider.supportsAggressiveRelease();
@@ -140,12 +140,15 @@ private CacheCleanupProcess(Object cacheKey, EntityPersister persister, Object p
 		@Override
 		public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			if ( cacheUpdateRequired( success, persister, session ) ) {
-				cacheAfterUpdate( cache, cacheKey, session );
-			}
-			else {
-				cache.unlockItem( session, cacheKey, lock );
-			}
+			final boolean cacheUpdateRequired = cacheUpdateRequired( success, persister, session );
+			session.getFactory().getCache().performCacheWrite( cache, cacheKey, false, session, writeSession -> {
+				if ( cacheUpdateRequired ) {
+					cacheAfterUpdate( cache, cacheKey, writeSession );
+				}
+				else {
+					cache.unlockItem( writeSession, cacheKey, lock );
+				}
+			} );
 		}
 
 		private static boolean cacheUpdateRequired(boolean success, EntityPersister persister, SharedSessionContractImplementor session) {
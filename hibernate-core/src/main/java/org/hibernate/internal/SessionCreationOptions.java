@@ -48,6 +48,10 @@ public interface SessionCreationOptions {
 
 	boolean isIdentifierRollbackEnabled();
 
+	boolean isDefaultReadOnly();
+
+	Object getShardKey();
+
 	TimeZone getJdbcTimeZone();
 
 	/**
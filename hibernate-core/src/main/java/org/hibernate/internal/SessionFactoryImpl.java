@@ -1129,6 +1129,8 @@ public static class SessionBuilderImpl implements SessionBuilderImplementor, Ses
 		private boolean autoClear;
 		private Object tenantIdentifier;
 		private boolean identifierRollback;
+		private boolean readOnly;
+		private Object shardKey;
 		private TimeZone jdbcTimeZone;
 		private boolean explicitNoInterceptor;
 		private final int defaultBatchFetchSize;
@@ -1241,6 +1243,16 @@ public boolean isIdentifierRollbackEnabled() {
 			return identifierRollback;
 		}
 
+		@Override
+		public boolean isDefaultReadOnly() {
+			return readOnly;
+		}
+
+		@Override
+		public Object getShardKey() {
+			return shardKey;
+		}
+
 		@Override
 		public TimeZone getJdbcTimeZone() {
 			return jdbcTimeZone;
@@ -1346,6 +1358,18 @@ public SessionBuilder identifierRollback(boolean identifierRollback) {
 			return this;
 		}
 
+		@Override
+		public SessionBuilderImpl readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
+		@Override
+		public SessionBuilderImpl shardKey(Object shardKey) {
+			this.shardKey = shardKey;
+			return this;
+		}
+
 		@Override
 		public SessionBuilderImpl eventListeners(SessionEventListener... listeners) {
 			if ( this.listeners == null ) {
@@ -1475,6 +1499,16 @@ public boolean isIdentifierRollbackEnabled() {
 			return false;
 		}
 
+		@Override
+		public boolean isDefaultReadOnly() {
+			return false;
+		}
+
+		@Override
+		public Object getShardKey() {
+			return null;
+		}
+
 		@Override
 		public StatementInspector getStatementInspector() {
 			return statementInspector;
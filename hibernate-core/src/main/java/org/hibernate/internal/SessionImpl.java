@@ -96,6 +96,7 @@
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -121,6 +122,7 @@
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
+import static org.hibernate.engine.internal.DetachedGraphLoading.loadDetachedGraph;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.event.spi.LoadEventListener.IMMEDIATE_LOAD;
@@ -216,6 +218,10 @@ public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 
 			identifierRollbackEnabled = options.isIdentifierRollbackEnabled();
 
+			if ( options.isDefaultReadOnly() ) {
+				persistenceContext.setDefaultReadOnly( true );
+			}
+
 			setUpTransactionCompletionProcesses( options );
 
 			loadQueryInfluencers = new LoadQueryInfluencers( factory, options );
@@ -788,6 +794,30 @@ public <T> T merge(T object) {
 		return (T) fireMerge( new MergeEvent( null, object, this ));
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> mergeAll(List<? extends T> objects) {
+		checkOpen();
+		try {
+			checkTransactionSynchStatus();
+			// load all the detached entities at once, so that
+			// each merge finds them in the persistence context
+			loadDetachedGraph( this, null, objects );
+		}
+		catch ( MappingException e ) {
+			throw getExceptionConverter().convert( new IllegalArgumentException( e.getMessage(), e ) );
+		}
+		catch ( RuntimeException e ) {
+			throw getExceptionConverter().convert( e );
+		}
+		final List<T> merged = new ArrayList<>( objects.size() );
+		for ( T object : objects ) {
+			final MergeEvent event = new MergeEvent( null, object, this );
+			event.setDetachedGraphLoaded( true );
+			merged.add( (T) fireMerge( event ) );
+		}
+		return merged;
+	}
+
 	@Override
 	public void merge(String entityName, Object object, MergeContext copiedAlready) {
 		checkOpenOrWaitingForAutoClose();
@@ -1288,8 +1318,48 @@ private void fireLoad(LoadEvent event, LoadType loadType) {
 	 */
 	private void fireLoadNoChecks(final LoadEvent event, final LoadType loadType) {
 		pulseTransactionCoordinator();
-		eventListenerGroups.eventListenerGroup_LOAD
-				.fireEventOnEachListener( event, loadType, LoadEventListener::onLoad );
+		final Object shardIdentifier = getLoadedShardIdentifier( event );
+		if ( shardIdentifier == null ) {
+			eventListenerGroups.eventListenerGroup_LOAD
+					.fireEventOnEachListener( event, loadType, LoadEventListener::onLoad );
+		}
+		else {
+			// the entity was loaded from a shard the session is not bound to
+			fromShard( shardIdentifier, () -> {
+				eventListenerGroups.eventListenerGroup_LOAD
+						.fireEventOnEachListener( event, loadType, LoadEventListener::onLoad );
+				return null;
+			} );
+		}
+	}
+
+	/**
+	 * The shard from which the entity to be loaded was earlier loaded,
+	 * if the session is not bound to a shard.
+	 */
+	private Object getLoadedShardIdentifier(LoadEvent event) {
+		if ( getShardedConnectionProvider() != null && getShardIdentifier() == null ) {
+			final EntityPersister persister = requireEntityPersister( event.getEntityClassName() );
+			return persistenceContext.getShardIdentifier( generateEntityKey( event.getEntityId(), persister ) );
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * The shard from which the owner of the given collection was loaded,
+	 * if the session is not bound to a shard.
+	 */
+	private Object getLoadedShardIdentifier(PersistentCollection<?> collection) {
+		if ( getShardedConnectionProvider() != null && getShardIdentifier() == null ) {
+			final Object owner = collection.getOwner();
+			final EntityEntry entry = owner == null ? null : persistenceContext.getEntry( owner );
+			return entry == null ? null : persistenceContext.getShardIdentifier( entry.getEntityKey() );
+		}
+		else {
+			return null;
+		}
 	}
 
 
@@ -1764,9 +1834,20 @@ public <T> QueryImplementor<T> createQuery(CriteriaSelect<T> selectQuery) {
 	public void initializeCollection(PersistentCollection<?> collection, boolean writing) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
-		eventListenerGroups.eventListenerGroup_INIT_COLLECTION
-				.fireEventOnEachListener( new InitializeCollectionEvent( collection, this ),
-						InitializeCollectionEventListener::onInitializeCollection );
+		final InitializeCollectionEvent event = new InitializeCollectionEvent( collection, this );
+		final Object shardIdentifier = getLoadedShardIdentifier( collection );
+		if ( shardIdentifier == null ) {
+			eventListenerGroups.eventListenerGroup_INIT_COLLECTION
+					.fireEventOnEachListener( event, InitializeCollectionEventListener::onInitializeCollection );
+		}
+		else {
+			// the owner was loaded from a shard the session is not bound to
+			fromShard( shardIdentifier, () -> {
+				eventListenerGroups.eventListenerGroup_INIT_COLLECTION
+						.fireEventOnEachListener( event, InitializeCollectionEventListener::onInitializeCollection );
+				return null;
+			} );
+		}
 		delayedAfterCompletion();
 	}
 
@@ -2224,6 +2305,18 @@ public SharedSessionBuilderImpl identifierRollback(boolean identifierRollback) {
 			return this;
 		}
 
+		@Override
+		public SharedSessionBuilderImpl readOnly(boolean readOnly) {
+			super.readOnly( readOnly );
+			return this;
+		}
+
+		@Override
+		public SharedSessionBuilderImpl shardKey(Object shardKey) {
+			super.shardKey( shardKey );
+			return this;
+		}
+
 		@Override
 		public SharedSessionBuilderImpl jdbcTimeZone(TimeZone timeZone) {
 			super.jdbcTimeZone(timeZone);
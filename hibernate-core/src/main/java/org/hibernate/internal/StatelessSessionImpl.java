@@ -5,7 +5,9 @@
 package org.hibernate.internal;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -74,6 +76,7 @@
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.id.BatchIdentifierGenerator;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.loader.ast.internal.LoaderHelper;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
@@ -172,8 +175,18 @@ public void insertMultiple(List<?> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
-			for ( Object entity : entities ) {
-				insert( null, entity );
+			final Object[] generatedIds = generateIdentifiers( entities );
+			int i = 0;
+			while ( i < entities.size() ) {
+				final int end = endOfIdentityInsertRun( entities, i );
+				if ( end - i > 1 ) {
+					insertWithGeneratedIdentifiers( entities.subList( i, end ) );
+					i = end;
+				}
+				else {
+					insert( null, entities.get( i ), generatedIds[i] );
+					i++;
+				}
 			}
 		}
 		finally {
@@ -181,8 +194,120 @@ public void insertMultiple(List<?> entities) {
 		}
 	}
 
+	/**
+	 * Locate the end of the run of entities of the same type as the entity at
+	 * the given position whose identifiers are generated by the database, if
+	 * {@linkplain org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS batching}
+	 * of such inserts is enabled.
+	 */
+	private int endOfIdentityInsertRun(List<?> entities, int start) {
+		if ( !getFactory().getSessionFactoryOptions().isBatchIdentityInsertsEnabled() ) {
+			return start + 1;
+		}
+		final EntityPersister persister = getEntityPersister( null, entities.get( start ) );
+		final Generator generator = persister.getGenerator();
+		int end = start;
+		while ( end < entities.size() ) {
+			final Object entity = entities.get( end );
+			if ( getEntityPersister( null, entity ) != persister
+					|| generator.generatedBeforeExecution( entity, this )
+					|| !generator.generatedOnExecution( entity, this )
+					|| !generator.generatesOnInsert() ) {
+				break;
+			}
+			end++;
+		}
+		return Math.max( end, start + 1 );
+	}
+
+	/**
+	 * Insert entities of the same type whose identifiers are generated by the
+	 * database using {@link org.hibernate.persister.entity.mutation.InsertCoordinator#insertMultiple},
+	 * which batches the inserts, if possible.
+	 */
+	private void insertWithGeneratedIdentifiers(List<?> entities) {
+		checkOpen();
+		final EntityPersister persister = getEntityPersister( null, entities.get( 0 ) );
+		final List<Object> insertedEntities = new ArrayList<>( entities.size() );
+		final List<Object[]> states = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final Object[] state = persister.getValues( entity );
+			if ( persister.isVersioned() ) {
+				if ( seedVersion( entity, state, persister, this ) ) {
+					persister.setValues( entity, state );
+				}
+			}
+			if ( !firePreInsert( entity, null, state, persister ) ) {
+				getInterceptor().onInsert( entity, null, state, persister.getPropertyNames(), persister.getPropertyTypes() );
+				insertedEntities.add( entity );
+				states.add( state );
+			}
+		}
+
+		final EventMonitor eventMonitor = getEventMonitor();
+		final StatisticsImplementor statistics = getFactory().getStatistics();
+		final DiagnosticEvent event = eventMonitor.beginEntityInsertEvent();
+		final int[] insertCount = new int[1];
+		boolean success = false;
+		try {
+			persister.getInsertCoordinator().insertMultiple( insertedEntities, states,
+					(entity, generatedValues) -> {
+						final int index = insertCount[0]++;
+						final Object id = castNonNull( generatedValues ).getGeneratedValue( persister.getIdentifierMapping() );
+						persister.setIdentifier( entity, id, this );
+						recreateCollections( entity, id, persister );
+						firePostInsert( entity, id, states.get( index ), persister );
+						if ( statistics.isStatisticsEnabled() ) {
+							statistics.insertEntity( persister.getEntityName() );
+						}
+					},
+					this );
+			success = true;
+		}
+		finally {
+			eventMonitor.completeEntityInsertEvent( event, null, persister.getEntityName(), success, this );
+		}
+	}
+
+	/**
+	 * Generate the identifiers of the given entities up front, for each entity
+	 * type whose generator is a {@link BatchIdentifierGenerator}, so that they
+	 * may be obtained from the database in a single round trip.
+	 *
+	 * @return the generated identifiers, with a {@code null} element for each
+	 *         entity whose identifier must be generated when it is inserted
+	 */
+	private Object[] generateIdentifiers(List<?> entities) {
+		final Object[] generatedIds = new Object[entities.size()];
+		final Map<EntityPersister, List<Integer>> positionsByPersister = new LinkedHashMap<>();
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object entity = entities.get( i );
+			final EntityPersister persister = getEntityPersister( null, entity );
+			if ( persister.getGenerator() instanceof BatchIdentifierGenerator generator
+					&& !generator.allowAssignedIdentifiers()
+					&& generator.generatesOnInsert()
+					&& generator.generatedBeforeExecution( entity, this ) ) {
+				positionsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( i );
+			}
+		}
+		positionsByPersister.forEach( (persister, positions) -> {
+			if ( positions.size() > 1 ) {
+				final BatchIdentifierGenerator generator = (BatchIdentifierGenerator) persister.getGenerator();
+				final Object[] ids = generator.generate( this, positions.size() );
+				for ( int i = 0; i < ids.length; i++ ) {
+					generatedIds[positions.get( i )] = ids[i];
+				}
+			}
+		} );
+		return generatedIds;
+	}
+
 	@Override
 	public Object insert(String entityName, Object entity) {
+		return insert( entityName, entity, null );
+	}
+
+	private Object insert(String entityName, Object entity, Object pregeneratedId) {
 		checkOpen();
 		final EntityPersister persister = getEntityPersister( entityName, entity );
 		final Object id;
@@ -197,8 +322,13 @@ public Object insert(String entityName, Object entity) {
 			if ( !generator.generatesOnInsert() ) {
 				throw new IdentifierGenerationException( "Identifier generator must generate on insert" );
 			}
-			final Object currentValue = generator.allowAssignedIdentifiers() ? persister.getIdentifier( entity ) : null;
-			id = ( (BeforeExecutionGenerator) generator ).generate( this, entity, currentValue, INSERT );
+			if ( pregeneratedId != null ) {
+				id = pregeneratedId;
+			}
+			else {
+				final Object currentValue = generator.allowAssignedIdentifiers() ? persister.getIdentifier( entity ) : null;
+				id = ( (BeforeExecutionGenerator) generator ).generate( this, entity, currentValue, INSERT );
+			}
 			persister.setIdentifier( entity, id, this );
 			if ( firePreInsert(entity, id, state, persister) ) {
 				return id;
@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -298,6 +299,34 @@ public static <T> void addAll(Collection<T> collection, T[] array) {
 	public static final Type[] EMPTY_TYPE_ARRAY = {};
 	public static final byte[] EMPTY_BYTE_ARRAY = {};
 
+	private static final AtomicReferenceArray<int[]> INDEXES = new AtomicReferenceArray<>( 256 );
+
+	/**
+	 * The indexes {@code 0} to {@code length - 1}, in ascending order. The
+	 * returned array is shared, and must not be modified.
+	 */
+	public static int[] indexes(int length) {
+		if ( length < INDEXES.length() ) {
+			final int[] indexes = INDEXES.get( length );
+			if ( indexes != null ) {
+				return indexes;
+			}
+			INDEXES.compareAndSet( length, null, newIndexes( length ) );
+			return INDEXES.get( length );
+		}
+		else {
+			return newIndexes( length );
+		}
+	}
+
+	private static int[] newIndexes(int length) {
+		final int[] indexes = new int[length];
+		for ( int i = 0; i < length; i++ ) {
+			indexes[i] = i;
+		}
+		return indexes;
+	}
+
 	/**
 	 * Calculate the batch partitions needed to handle the {@code mappedBatchSize}.
 	 *
@@ -88,6 +88,20 @@ public interface HibernateHints {
 	 */
 	String HINT_CACHE_MODE = "org.hibernate.cacheMode";
 
+	/**
+	 * Hint for specifying the time to live, in milliseconds, of the
+	 * query results stored in the query cache. Once this time has
+	 * elapsed, the cached results are treated as stale, even if
+	 * none of the tables they depend on were modified.
+	 *
+	 * @implSpec No effect unless {@link #HINT_CACHEABLE} is set to {@code true}
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_STALE_GRACE_PERIOD
+	 *
+	 * @since 7.1
+	 */
+	String HINT_CACHE_TIME_TO_LIVE = "org.hibernate.cacheTimeToLive";
+
 	/**
 	 * Hint for specifying a database comment to be appended to the
 	 * SQL statement sent to the database.
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+
+/**
+ * Keeps track of the number of keys waiting in the batch fetch queue when
+ * a batch is loaded, and derives from it the size of the next batch.
+ * <p>
+ * The number of waiting keys is smoothed with an exponential moving average,
+ * and the batch size is rounded up to a power of two, so that only a handful
+ * of distinct loaders are ever needed for a given entity or collection role.
+ * Updates from concurrent sessions may occasionally be lost, which does not
+ * matter for a heuristic.
+ *
+ * @see org.hibernate.cfg.FetchSettings#USE_ADAPTIVE_BATCH_FETCH
+ *
+ * @since 7.1
+ */
+public class AdaptiveBatchSize {
+	/**
+	 * The largest batch size, whatever the number of waiting keys.
+	 */
+	public static final int MAXIMUM_BATCH_SIZE = 1024;
+
+	private static final int MINIMUM_BATCH_SIZE = 2;
+
+	/**
+	 * The weight of the latest observation in the moving average.
+	 */
+	private static final double SMOOTHING = 0.125;
+
+	private final int maximumBatchSize;
+	private volatile double averageWaitingKeys;
+
+	/**
+	 * @param initialBatchSize The configured batch size, used until keys are observed
+	 * @param maximumBatchSize The largest batch size allowed by the database
+	 */
+	public AdaptiveBatchSize(int initialBatchSize, int maximumBatchSize) {
+		this.maximumBatchSize = Math.max( MINIMUM_BATCH_SIZE, Math.min( maximumBatchSize, MAXIMUM_BATCH_SIZE ) );
+		this.averageWaitingKeys = initialBatchSize;
+	}
+
+	/**
+	 * Record the number of keys waiting in the queue, including the key
+	 * being loaded, and return the batch size to use for loading them.
+	 */
+	public int nextBatchSize(int waitingKeys) {
+		final double average = averageWaitingKeys + SMOOTHING * ( Math.max( waitingKeys, 1 ) - averageWaitingKeys );
+		averageWaitingKeys = average;
+		return batchSize( average );
+	}
+
+	/**
+	 * The largest batch size allowed.
+	 */
+	public int getMaximumBatchSize() {
+		return maximumBatchSize;
+	}
+
+	/**
+	 * The current batch size.
+	 */
+	public int getBatchSize() {
+		return batchSize( averageWaitingKeys );
+	}
+
+	private int batchSize(double averageWaitingKeys) {
+		final int size = ceilingPowerOfTwo( (int) Math.ceil( Math.min( averageWaitingKeys, maximumBatchSize ) ) );
+		return Math.max( MINIMUM_BATCH_SIZE, Math.min( size, maximumBatchSize ) );
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * {@link CollectionBatchLoader} which delegates to a batch loader whose
+ * size depends on the number of collections typically waiting in the
+ * batch fetch queue.
+ *
+ * @see AdaptiveBatchSize
+ * @see org.hibernate.cfg.FetchSettings#USE_ADAPTIVE_BATCH_FETCH
+ *
+ * @since 7.1
+ */
+public class AdaptiveCollectionBatchLoader implements CollectionBatchLoader {
+	private final PluralAttributeMapping attributeMapping;
+	private final AdaptiveBatchSize batchSize;
+	private final IntFunction<CollectionBatchLoader> loaderFactory;
+	private final Map<Integer, CollectionBatchLoader> loadersBySize = new ConcurrentHashMap<>();
+
+	public AdaptiveCollectionBatchLoader(
+			AdaptiveBatchSize batchSize,
+			PluralAttributeMapping attributeMapping,
+			IntFunction<CollectionBatchLoader> loaderFactory) {
+		this.attributeMapping = attributeMapping;
+		this.batchSize = batchSize;
+		this.loaderFactory = loaderFactory;
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return attributeMapping;
+	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return batchSize.getBatchSize();
+	}
+
+	private CollectionBatchLoader loader(int size) {
+		return loadersBySize.computeIfAbsent( size, newSize -> {
+			if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.debugf(
+						"Adapting batch size of collection `%s` : %s",
+						attributeMapping.getNavigableRole().getFullPath(),
+						newSize
+				);
+			}
+			return loaderFactory.apply( newSize );
+		} );
+	}
+
+	@Override
+	public PersistentCollection<?> load(Object key, SharedSessionContractImplementor session) {
+		final int waitingKeys =
+				session.getPersistenceContextInternal().getBatchFetchQueue()
+						.countBatchLoadableCollections( attributeMapping );
+		return loader( batchSize.nextBatchSize( waitingKeys ) ).load( key, session );
+	}
+
+	@Override
+	public void loadAll(Object[] keys, SharedSessionContractImplementor session) {
+		// the keys are given, so there is nothing to learn from them
+		final int size = ceilingPowerOfTwo( Math.max( keys.length, 2 ) );
+		loader( Math.min( size, batchSize.getMaximumBatchSize() ) ).loadAll( keys, session );
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * {@link EntityBatchLoader} which delegates to a batch loader whose
+ * size depends on the number of identifiers typically waiting in the
+ * batch fetch queue.
+ *
+ * @see AdaptiveBatchSize
+ * @see org.hibernate.cfg.FetchSettings#USE_ADAPTIVE_BATCH_FETCH
+ *
+ * @since 7.1
+ */
+public class AdaptiveEntityBatchLoader<T> implements EntityBatchLoader<T> {
+	private final EntityMappingType entityDescriptor;
+	private final AdaptiveBatchSize batchSize;
+	private final IntFunction<EntityBatchLoader<T>> loaderFactory;
+	private final Map<Integer, EntityBatchLoader<T>> loadersBySize = new ConcurrentHashMap<>();
+
+	public AdaptiveEntityBatchLoader(
+			AdaptiveBatchSize batchSize,
+			EntityMappingType entityDescriptor,
+			IntFunction<EntityBatchLoader<T>> loaderFactory) {
+		this.entityDescriptor = entityDescriptor;
+		this.batchSize = batchSize;
+		this.loaderFactory = loaderFactory;
+	}
+
+	@Override
+	public EntityMappingType getLoadable() {
+		return entityDescriptor;
+	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return batchSize.getBatchSize();
+	}
+
+	private EntityBatchLoader<T> loader(int size) {
+		return loadersBySize.computeIfAbsent( size, newSize -> {
+			if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.debugf(
+						"Adapting batch size of entity `%s` : %s",
+						entityDescriptor.getEntityName(),
+						newSize
+				);
+			}
+			return loaderFactory.apply( newSize );
+		} );
+	}
+
+	private EntityBatchLoader<T> adaptedLoader(SharedSessionContractImplementor session) {
+		final int waitingKeys =
+				session.getPersistenceContextInternal().getBatchFetchQueue()
+						.countBatchLoadableEntityKeys( entityDescriptor );
+		return loader( batchSize.nextBatchSize( waitingKeys ) );
+	}
+
+	@Override
+	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		return adaptedLoader( session ).load( pkValue, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public T load(
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		return adaptedLoader( session ).load( pkValue, entityInstance, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public T load(
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return adaptedLoader( session ).load( pkValue, entityInstance, lockOptions, session );
+	}
+
+	@Override
+	public Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		return loader( batchSize.getBatchSize() ).loadDatabaseSnapshot( id, session );
+	}
+}
@@ -871,9 +871,15 @@ else if ( loadQueryInfluencers.getEnabledCascadingFetchProfile() != null ) {
 				}
 			}
 
-			if ( joined && isFetchablePluralAttributeMapping ) {
+			// collections fetched by aggregation do not multiply the rows
+			final boolean aggregated = joined
+					&& fetchable instanceof PluralAttributeMapping pluralAttributeMapping
+					&& pluralAttributeMapping.isAggregateFetchable();
+			if ( joined && isFetchablePluralAttributeMapping && !aggregated ) {
 				joined = switch ( rowCardinality ) {
-					case SET -> !isABag;
+					// a further set is only joined if collection fetches are not split
+					case SET -> !isABag && !creationContext.getSessionFactory()
+							.getSessionFactoryOptions().isSplitCollectionFetchEnabled();
 					case BAG -> false;
 					default -> true;
 				};
@@ -912,7 +918,7 @@ else if ( fetchDepth > maximumFetchDepth + 1 ) {
 					}
 				}
 
-				if ( joined && isFetchablePluralAttributeMapping ) {
+				if ( joined && isFetchablePluralAttributeMapping && !aggregated ) {
 					rowCardinality = isABag ? RowCardinality.BAG : RowCardinality.SET;
 				}
 
@@ -37,9 +37,28 @@ public <T> EntityBatchLoader<T> createEntityBatchLoader(
 		final SessionFactoryImplementor factory = influencers.getSessionFactory();
 		// NOTE : don't use the EntityIdentifierMapping here because it will not be known until later
 		final Type identifierType = entityDescriptor.getEntityPersister().getIdentifierType();
-		if ( identifierType.getColumnSpan( factory.getRuntimeMetamodels() ) == 1
+		final int keyColumnCount = identifierType.getColumnSpan( factory.getRuntimeMetamodels() );
+		final boolean useArrayParameter = keyColumnCount == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
-				&& identifierType instanceof BasicType ) {
+				&& identifierType instanceof BasicType;
+		if ( factory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled() ) {
+			return new AdaptiveEntityBatchLoader<>(
+					adaptiveBatchSize( domainBatchSize, keyColumnCount, useArrayParameter, factory ),
+					entityDescriptor,
+					batchSize -> createEntityBatchLoader( batchSize, useArrayParameter, entityDescriptor, influencers )
+			);
+		}
+		else {
+			return createEntityBatchLoader( domainBatchSize, useArrayParameter, entityDescriptor, influencers );
+		}
+	}
+
+	private static <T> EntityBatchLoader<T> createEntityBatchLoader(
+			int domainBatchSize,
+			boolean useArrayParameter,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers influencers) {
+		if ( useArrayParameter ) {
 			// we can use a single ARRAY parameter to send all the ids
 			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, influencers );
 		}
@@ -54,8 +73,28 @@ public CollectionBatchLoader createCollectionBatchLoader(
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor factory) {
-		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
-				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
+		final int keyColumnCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
+		final boolean useArrayParameter = keyColumnCount == 1
+				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() );
+		if ( factory.getSessionFactoryOptions().isAdaptiveBatchFetchEnabled() ) {
+			return new AdaptiveCollectionBatchLoader(
+					adaptiveBatchSize( domainBatchSize, keyColumnCount, useArrayParameter, factory ),
+					attributeMapping,
+					batchSize -> createCollectionBatchLoader( batchSize, useArrayParameter, influencers, attributeMapping, factory )
+			);
+		}
+		else {
+			return createCollectionBatchLoader( domainBatchSize, useArrayParameter, influencers, attributeMapping, factory );
+		}
+	}
+
+	private static CollectionBatchLoader createCollectionBatchLoader(
+			int domainBatchSize,
+			boolean useArrayParameter,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor factory) {
+		if ( useArrayParameter ) {
 			// we can use a single ARRAY parameter to send all the ids
 			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
 		}
@@ -63,4 +102,17 @@ && supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
 		}
 	}
+
+	private static AdaptiveBatchSize adaptiveBatchSize(
+			int domainBatchSize,
+			int keyColumnCount,
+			boolean useArrayParameter,
+			SessionFactoryImplementor factory) {
+		// an ARRAY parameter is a single parameter, however many keys it holds
+		final int maximumBatchSize = useArrayParameter
+				? AdaptiveBatchSize.MAXIMUM_BATCH_SIZE
+				: factory.getJdbcServices().getDialect().getBatchLoadSizingStrategy()
+						.determineOptimalBatchLoadSize( keyColumnCount, AdaptiveBatchSize.MAXIMUM_BATCH_SIZE, false );
+		return new AdaptiveBatchSize( domainBatchSize, maximumBatchSize );
+	}
 }
@@ -4,10 +4,26 @@
  */
 package org.hibernate.loader.ast.spi;
 
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 /**
  * BatchLoader specialization for {@linkplain org.hibernate.metamodel.mapping.PluralAttributeMapping collection} fetching
  *
  * @author Steve Ebersole
  */
 public interface CollectionBatchLoader extends BatchLoader, CollectionLoader {
+	/**
+	 * Initialize the collections with the given keys, which are already
+	 * registered with the persistence context, ignoring the batch fetch
+	 * queue and the {@linkplain #getDomainBatchSize() batch size}.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void loadAll(Object[] keys, SharedSessionContractImplementor session) {
+		for ( Object key : keys ) {
+			load( key, session );
+		}
+	}
 }
@@ -51,7 +51,8 @@ default boolean isNotAffectedByInfluencers(LoadQueryInfluencers influencers) {
 
 	private boolean isAffectedByBatchSize(LoadQueryInfluencers influencers) {
 		return influencers.getBatchSize() > 0
-			&& influencers.getBatchSize() != getBatchSize();
+			&& influencers.getBatchSize() != getBatchSize()
+			|| influencers.isPromotedToBatchFetch( getRootPathName() );
 	}
 
 	int getBatchSize();
@@ -9,6 +9,7 @@
 import java.util.function.Consumer;
 
 import org.hibernate.Filter;
+import org.hibernate.Incubating;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.loader.ast.spi.Loadable;
 import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
@@ -71,6 +72,20 @@ default SoftDeleteMapping getSoftDeleteMapping() {
 	OrderByFragment getOrderByFragment();
 	OrderByFragment getManyToManyOrderByFragment();
 
+	/**
+	 * Whether a join fetch of this collection should be performed by
+	 * aggregating its elements in a correlated subquery, instead of
+	 * joining the collection table.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#USE_AGGREGATE_COLLECTION_FETCH
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean isAggregateFetchable() {
+		return false;
+	}
+
 	@Override
 	default void visitKeyFetchables(Consumer<? super Fetchable> fetchableConsumer, EntityMappingType treatTargetType) {
 		final CollectionPart indexDescriptor = getIndexDescriptor();
@@ -5,10 +5,15 @@
 package org.hibernate.metamodel.mapping.internal;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -20,7 +25,9 @@
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.NoCallbackExecutionContext;
 import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -57,6 +64,11 @@ public class GeneratedValuesProcessor {
 
 	private final EntityPersister entityDescriptor;
 
+	private final Map<Integer, MultiKeySelect> multiKeySelects = new ConcurrentHashMap<>();
+
+	private record MultiKeySelect(JdbcOperationQuerySelect jdbcSelect, JdbcParametersList jdbcParameters) {
+	}
+
 	public GeneratedValuesProcessor(
 			EntityPersister entityDescriptor,
 			List<AttributeMapping> generatedAttributes,
@@ -158,6 +170,67 @@ else if ( generatedValues != null ) {
 		}
 	}
 
+	/**
+	 * Whether the generated values must be retrieved using a {@code select} statement
+	 * executed after the {@code insert} or {@code update} statement, that is, whether
+	 * they are not obtained by a {@link GeneratedValuesMutationDelegate}.
+	 *
+	 * @since 7.1
+	 */
+	public boolean isSubsequentSelectRequired() {
+		return selectStatement != null;
+	}
+
+	/**
+	 * Obtain the generated values of several instances of the entity, and populate
+	 * their snapshots and fields. When the values must be {@linkplain #isSubsequentSelectRequired
+	 * selected}, they are retrieved for all the given instances using a single
+	 * {@code select} statement with a restriction on the identifiers of the instances.
+	 *
+	 * @param entities The entity instances
+	 * @param ids The identifiers of the entity instances
+	 * @param states The states of the entity instances
+	 *
+	 * @since 7.1
+	 */
+	public void processGeneratedValues(
+			List<?> entities,
+			List<?> ids,
+			List<Object[]> states,
+			SharedSessionContractImplementor session) {
+		if ( selectStatement == null || entities.size() == 1 ) {
+			for ( int i = 0; i < entities.size(); i++ ) {
+				processGeneratedValues( entities.get( i ), ids.get( i ), states.get( i ), null, session );
+			}
+		}
+		else {
+			final Map<EntityKey, Integer> positions = new HashMap<>( entities.size() );
+			for ( int i = 0; i < entities.size(); i++ ) {
+				if ( hasActualGeneratedValuesToSelect( session, entities.get( i ) ) ) {
+					positions.put( session.generateEntityKey( ids.get( i ), entityDescriptor ), i );
+				}
+			}
+			if ( !positions.isEmpty() ) {
+				final List<Object> keys = new ArrayList<>( positions.size() );
+				for ( EntityKey key : positions.keySet() ) {
+					keys.add( key.getIdentifier() );
+				}
+				final List<Object[]> results = executeSelect( keys, session );
+				assert results.size() == keys.size();
+				for ( Object[] result : results ) {
+					final Integer position = positions.get( session.generateEntityKey( result[0], entityDescriptor ) );
+					if ( position == null ) {
+						throw new HibernateException( "Generated values were selected for an unexpected row with identifier '"
+								+ result[0] + "' of entity '" + entityDescriptor.getEntityName() + "'" );
+					}
+					final Object[] selectionResults = new Object[result.length - 1];
+					System.arraycopy( result, 1, selectionResults, 0, selectionResults.length );
+					setEntityAttributes( entities.get( position ), states.get( position ), selectionResults );
+				}
+			}
+		}
+	}
+
 	private boolean hasActualGeneratedValuesToSelect(SharedSessionContractImplementor session, Object entity) {
 		for ( AttributeMapping attributeMapping : generatedValuesToSelect ) {
 			if ( attributeMapping.getGenerator().generatedOnExecution( entity, session ) ) {
@@ -180,6 +253,59 @@ private List<Object[]> executeSelect(Object id, SharedSessionContractImplementor
 		);
 	}
 
+	private List<Object[]> executeSelect(List<Object> ids, SharedSessionContractImplementor session) {
+		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final MultiKeySelect select =
+				multiKeySelects.computeIfAbsent( ids.size(),
+						numberOfKeys -> createMultiKeySelect( numberOfKeys, session.getFactory() ) );
+		final JdbcParameterBindings jdbcParamBindings = new JdbcParameterBindingsImpl( select.jdbcParameters.size() );
+		int offset = 0;
+		for ( Object id : ids ) {
+			offset += jdbcParamBindings.registerParametersForEachJdbcValue(
+					id,
+					offset,
+					identifierMapping,
+					select.jdbcParameters,
+					session
+			);
+		}
+		assert offset == select.jdbcParameters.size();
+		return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+				select.jdbcSelect,
+				jdbcParamBindings,
+				new NoCallbackExecutionContext( session ),
+				RowTransformerArrayImpl.instance(),
+				null,
+				FILTER,
+				ids.size()
+		);
+	}
+
+	private MultiKeySelect createMultiKeySelect(int numberOfKeys, SessionFactoryImplementor sessionFactory) {
+		// select the identifier along with the generated values,
+		// so that we can match each row to its entity instance
+		final List<ModelPart> partsToSelect = new ArrayList<>( generatedValuesToSelect.size() + 1 );
+		partsToSelect.add( entityDescriptor.getIdentifierMapping() );
+		partsToSelect.addAll( generatedValuesToSelect );
+		final JdbcParametersList.Builder builder = JdbcParametersList.newBuilder();
+		final SelectStatement multiKeySelectStatement = LoaderSelectBuilder.createSelect(
+				entityDescriptor,
+				partsToSelect,
+				entityDescriptor.getIdentifierMapping(),
+				null,
+				numberOfKeys,
+				new LoadQueryInfluencers( sessionFactory ),
+				LockOptions.READ,
+				builder::add,
+				sessionFactory
+		);
+		final JdbcOperationQuerySelect multiKeyJdbcSelect =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, multiKeySelectStatement )
+						.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+		return new MultiKeySelect( multiKeyJdbcSelect, builder.build() );
+	}
+
 	private JdbcParameterBindings getJdbcParameterBindings(Object id, SharedSessionContractImplementor session) {
 		final JdbcParameterBindings jdbcParamBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
 		int offset = jdbcParamBindings.registerParametersForEachJdbcValue(
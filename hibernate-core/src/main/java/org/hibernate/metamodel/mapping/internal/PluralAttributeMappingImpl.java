@@ -11,6 +11,7 @@
 import org.hibernate.engine.profile.internal.FetchProfileAffectee;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.Generator;
 import org.hibernate.internal.util.IndexedConsumer;
@@ -19,6 +20,8 @@
 import org.hibernate.mapping.Map;
 import org.hibernate.mapping.Property;
 import org.hibernate.metamodel.mapping.AttributeMetadata;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.CollectionIdentifierDescriptor;
 import org.hibernate.metamodel.mapping.CollectionMappingType;
 import org.hibernate.metamodel.mapping.CollectionPart;
@@ -39,6 +42,8 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.collection.mutation.CollectionMutationTarget;
 import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.function.SelfRenderingAggregateFunctionSqlAstExpression;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.SqlAstJoinType;
 import org.hibernate.sql.ast.internal.TableGroupJoinHelper;
@@ -47,6 +52,7 @@
 import org.hibernate.sql.ast.spi.SqlAliasStemHelper;
 import org.hibernate.sql.ast.spi.SqlAstCreationState;
 import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.ast.tree.from.CollectionTableGroup;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.OneToManyTableGroup;
@@ -56,21 +62,34 @@
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.predicate.PredicateCollector;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultCreationState;
 import org.hibernate.sql.results.graph.Fetch;
 import org.hibernate.sql.results.graph.FetchOptions;
 import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.collection.internal.AggregateCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.CollectionDomainResult;
 import org.hibernate.sql.results.graph.collection.internal.DelayedCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.EagerCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.SelectEagerCollectionFetch;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.tool.schema.extract.spi.ColumnTypeInformation;
+import org.hibernate.type.BasicArrayType;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.ArrayJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.spi.TypeConfiguration;
 import org.jboss.logging.Logger;
 
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import static java.util.Collections.singletonList;
 import static org.hibernate.boot.model.internal.SoftDeleteHelper.resolveSoftDeleteMapping;
 import static org.hibernate.internal.util.StringHelper.subStringNullIfEmpty;
 
@@ -123,6 +142,9 @@ public interface Aware {
 	private OrderByFragment orderByFragment;
 	private OrderByFragment manyToManyOrderByFragment;
 
+	private BasicValuedModelPart aggregatedElementPart;
+	private BasicType<?> aggregateElementsType;
+
 	public PluralAttributeMappingImpl(
 			String attributeName,
 			Collection bootDescriptor,
@@ -206,6 +228,8 @@ protected PluralAttributeMappingImpl(PluralAttributeMappingImpl original) {
 		this.fkDescriptor = original.fkDescriptor;
 		this.orderByFragment = original.orderByFragment;
 		this.manyToManyOrderByFragment = original.manyToManyOrderByFragment;
+		this.aggregatedElementPart = original.aggregatedElementPart;
+		this.aggregateElementsType = original.aggregateElementsType;
 		injectAttributeMapping( elementDescriptor, indexDescriptor, collectionDescriptor, this );
 	}
 
@@ -278,6 +302,13 @@ public void finishInitialization(
 				);
 			}
 		}
+
+		if ( collectionDescriptor.getFactory().getSessionFactoryOptions().isAggregateCollectionFetchEnabled() ) {
+			creationProcess.registerInitializationCallback(
+					"PluralAttributeMapping(" + getNavigableRole().getFullPath() + ") - aggregate fetch",
+					this::resolveAggregateFetch
+			);
+		}
 	}
 
 	@Override
@@ -447,6 +478,16 @@ public Fetch generateFetch(
 		try {
 			if ( fetchTiming == FetchTiming.IMMEDIATE ) {
 				if ( selected ) {
+					if ( isAggregateFetchable()
+							&& sqlAstCreationState.getFromClauseAccess().findTableGroup( fetchablePath ) == null ) {
+						return createAggregateCollectionFetch(
+								fetchParent,
+								fetchablePath,
+								creationState,
+								sqlAstCreationState
+						);
+					}
+
 					final TableGroup collectionTableGroup = resolveCollectionTableGroup(
 							fetchParent,
 							fetchablePath,
@@ -577,6 +618,173 @@ private Fetch createSelectEagerCollectionFetch(
 		return buildSelectEagerCollectionFetch( fetchablePath, this, collectionKeyDomainResult, fetchParent );
 	}
 
+	private Fetch createAggregateCollectionFetch(
+			FetchParent fetchParent,
+			NavigablePath fetchablePath,
+			DomainResultCreationState creationState,
+			SqlAstCreationState sqlAstCreationState) {
+		final TableGroup ownerTableGroup =
+				sqlAstCreationState.getFromClauseAccess().getTableGroup( fetchParent.getNavigablePath() );
+
+		// (select json_arrayagg(c.element) from collection_table c where c.key = owner.key)
+		final QuerySpec subQuerySpec = new QuerySpec( false );
+		final TableGroup tableGroup = createRootTableGroup(
+				true,
+				fetchablePath,
+				null,
+				null,
+				() -> subQuerySpec::applyPredicate,
+				sqlAstCreationState
+		);
+		applyBaseRestrictions(
+				subQuerySpec::applyPredicate,
+				tableGroup,
+				true,
+				sqlAstCreationState.getLoadQueryInfluencers().getEnabledFilters(),
+				false,
+				null,
+				sqlAstCreationState
+		);
+		subQuerySpec.getFromClause().addRoot( tableGroup );
+
+		// the elements themselves, or the identifiers of the associated entities
+		final ColumnReference elementReference = new ColumnReference(
+				tableGroup.resolveTableReference(
+						fetchablePath,
+						aggregatedElementPart,
+						aggregatedElementPart.getContainingTableExpression()
+				),
+				aggregatedElementPart
+		);
+		final BasicType<?> elementsType = aggregateElementsType;
+		final AbstractSqmSelfRenderingFunctionDescriptor aggregateFunction = aggregateFunction( getCollectionDescriptor().getFactory() );
+		assert aggregateFunction != null;
+		subQuerySpec.getSelectClause().addSqlSelection( new SqlSelectionImpl(
+				new SelfRenderingAggregateFunctionSqlAstExpression<>(
+						aggregateFunction.getName(),
+						aggregateFunction,
+						singletonList( elementReference ),
+						null,
+						elementsType,
+						elementsType
+				)
+		) );
+		subQuerySpec.applyPredicate( fkDescriptor.generateJoinPredicate( ownerTableGroup, tableGroup, sqlAstCreationState ) );
+
+		final DomainResult<?> collectionKeyDomainResult =
+				referencedPropertyName == null
+						? null
+						: getKeyDescriptor().createTargetDomainResult(
+								fetchablePath,
+								ownerTableGroup,
+								fetchParent,
+								creationState
+						);
+		return new AggregateCollectionFetch(
+				fetchablePath,
+				this,
+				collectionKeyDomainResult,
+				new SelectStatement( subQuerySpec ).createDomainResult( null, creationState ),
+				fetchParent
+		);
+	}
+
+	@Override
+	public boolean isAggregateFetchable() {
+		return aggregateElementsType != null;
+	}
+
+	/**
+	 * Determine whether this collection can be fetched by aggregation,
+	 * once the descriptors of its elements and of its key are known.
+	 * This cannot happen when this is created because the function
+	 * registry and the associated entity mapping are not available yet.
+	 */
+	private boolean resolveAggregateFetch() {
+		if ( fkDescriptor == null
+				|| getElementDescriptor() instanceof ManyToManyCollectionPart manyToManyPart
+						&& manyToManyPart.getForeignKeyDescriptor() == null ) {
+			return false;
+		}
+		final SessionFactoryImplementor factory = getCollectionDescriptor().getFactory();
+		final BasicValuedModelPart elementPart = aggregatedElementPart();
+		if ( elementPart != null
+				&& isUnorderedBagOrSet()
+				&& !hasSoftDelete()
+				&& elementPart.getJdbcMapping() instanceof BasicType<?> elementType
+				&& elementType.getValueConverter() == null
+				&& aggregateFunction( factory ) != null ) {
+			final TypeConfiguration typeConfiguration = factory.getTypeConfiguration();
+			final JdbcType arrayJdbcType =
+					typeConfiguration.getJdbcTypeRegistry()
+							.resolveTypeConstructorDescriptor( SqlTypes.JSON_ARRAY, elementType, ColumnTypeInformation.EMPTY );
+			if ( arrayJdbcType instanceof ArrayJdbcType && arrayJdbcType.getDefaultSqlTypeCode() == SqlTypes.JSON_ARRAY ) {
+				aggregatedElementPart = elementPart;
+				aggregateElementsType = arrayType( typeConfiguration, elementType, arrayJdbcType );
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The part whose column is aggregated: the element of a collection
+	 * of basic values, or the identifier of the associated entity of a
+	 * one-to-many or many-to-many association, or {@code null} if the
+	 * collection cannot be fetched by aggregation.
+	 */
+	private @Nullable BasicValuedModelPart aggregatedElementPart() {
+		final CollectionPart elementDescriptor = getElementDescriptor();
+		if ( elementDescriptor instanceof BasicValuedCollectionPart basicPart ) {
+			return basicPart;
+		}
+		else if ( elementDescriptor instanceof OneToManyCollectionPart oneToManyPart ) {
+			return oneToManyPart.getAssociatedEntityMappingType().getIdentifierMapping()
+					instanceof BasicEntityIdentifierMapping identifierMapping
+							? identifierMapping
+							: null;
+		}
+		else if ( elementDescriptor instanceof ManyToManyCollectionPart manyToManyPart ) {
+			// the foreign key column of the collection table
+			final ForeignKeyDescriptor elementKeyDescriptor = manyToManyPart.getForeignKeyDescriptor();
+			return manyToManyPart.isReferenceToPrimaryKey()
+				&& manyToManyOrderByFragment == null
+				&& !manyToManyPart.getAssociatedEntityMappingType().hasWhereRestrictions()
+				&& elementKeyDescriptor.getKeyPart() instanceof BasicValuedModelPart keyPart
+				&& keyPart.getContainingTableExpression().equals( getSeparateCollectionTable() )
+					? keyPart
+					: null;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private boolean isUnorderedBagOrSet() {
+		return switch ( getMappedType().getCollectionSemantics().getCollectionClassification() ) {
+			case BAG, SET, SORTED_SET -> orderByFragment == null && !getCollectionDescriptor().getCollectionType().hasHolder();
+			default -> false;
+		};
+	}
+
+	private static <E> BasicType<?> arrayType(TypeConfiguration typeConfiguration, BasicType<E> elementType, JdbcType arrayJdbcType) {
+		@SuppressWarnings("unchecked")
+		final JavaType<E[]> arrayJavaType = (JavaType<E[]>)
+				typeConfiguration.getJavaTypeRegistry()
+						.resolveArrayDescriptor( elementType.getJavaTypeDescriptor().getJavaTypeClass() );
+		return typeConfiguration.getBasicTypeRegistry().resolve(
+				arrayJavaType,
+				arrayJdbcType,
+				() -> new BasicArrayType<>( elementType, arrayJdbcType, arrayJavaType )
+		);
+	}
+
+	private static AbstractSqmSelfRenderingFunctionDescriptor aggregateFunction(SessionFactoryImplementor factory) {
+		return factory.getQueryEngine().getSqmFunctionRegistry().findFunctionDescriptor( "json_arrayagg" )
+				instanceof AbstractSqmSelfRenderingFunctionDescriptor descriptor
+						? descriptor
+						: null;
+	}
+
 	private TableGroup resolveCollectionTableGroup(
 			FetchParent fetchParent,
 			NavigablePath fetchablePath,
@@ -47,6 +47,7 @@
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.mapping.Any;
 import org.hibernate.mapping.Array;
@@ -139,9 +140,11 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
 import static org.hibernate.internal.util.StringHelper.getNonEmptyOrConjunctionIfBothNonEmpty;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
 import static org.hibernate.internal.util.StringHelper.isNotEmpty;
@@ -249,6 +252,7 @@
 	private final Comparator<?> comparator;
 
 	private CollectionLoader collectionLoader;
+	private final Map<Integer, CollectionBatchLoader> multiKeyCollectionLoaders = new ConcurrentHashMap<>();
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -745,6 +749,30 @@ public void initialize(Object key, SharedSessionContractImplementor session) thr
 		determineLoaderToUse( key, session ).load( key, session );
 	}
 
+	@Override
+	public void initializeAll(Object[] keys, SharedSessionContractImplementor session) throws HibernateException {
+		if ( keys.length > 1 && !hasNamedQueryLoader() ) {
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			// pad the number of keys, to limit the number of distinct loaders
+			final int batchSize = ceilingPowerOfTwo( keys.length );
+			final CollectionBatchLoader loader =
+					attributeMapping.isAffectedByInfluencers( influencers, true )
+							? createMultiKeyCollectionLoader( batchSize, influencers )
+							: multiKeyCollectionLoaders.computeIfAbsent( batchSize,
+									size -> createMultiKeyCollectionLoader( size, new LoadQueryInfluencers( factory ) ) );
+			loader.loadAll( keys, session );
+		}
+		else {
+			CollectionPersister.super.initializeAll( keys, session );
+		}
+	}
+
+	private CollectionBatchLoader createMultiKeyCollectionLoader(int batchSize, LoadQueryInfluencers influencers) {
+		return factory.getServiceRegistry()
+				.requireService( BatchLoaderFactory.class )
+				.createCollectionBatchLoader( batchSize, influencers, attributeMapping, factory );
+	}
+
 	// lazily initialize instance field via 'double-checked locking'
 	// see https://en.wikipedia.org/wiki/Double-checked_locking on why 'volatile' and local copy is used
 //	protected CollectionLoader getStandardCollectionLoader() {
@@ -111,6 +111,20 @@ default PluralAttributeMapping getAttributeMapping() {
 	 */
 	void initialize(Object key, SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Initialize the collections with the given keys, which are already
+	 * registered with the persistence context, using a single query if
+	 * possible. The second-level cache is not consulted.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void initializeAll(Object[] keys, SharedSessionContractImplementor session) throws HibernateException {
+		for ( Object key : keys ) {
+			initialize( key, session );
+		}
+	}
+
 	/**
 	 * Is this collection role cacheable
 	 */
@@ -47,10 +47,13 @@
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
+import org.hibernate.engine.internal.NPlusOneDetection;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.profile.internal.FetchProfileAffectee;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
+import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityEntryFactory;
@@ -260,6 +263,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -457,6 +461,8 @@
 
 	private List<UniqueKeyEntry> uniqueKeyEntries = null; //lazily initialized
 	private ConcurrentHashMap<String,SingleIdArrayLoadPlan> nonLazyPropertyLoadPlansByName;
+	// the properties to which each standard cascading action might cascade
+	private Map<CascadingAction<?>,int[]> cascadingPropertyIndexesByAction = emptyMap();
 
 	public AbstractEntityPersister(
 			final PersistentClass persistentClass,
@@ -3431,6 +3437,7 @@ protected String substituteBrackets(String sql) {
 	@Override
 	public final void postInstantiate() throws MappingException {
 		doLateInit();
+		cascadingPropertyIndexesByAction = determineCascadingPropertyIndexes();
 	}
 
 	/**
@@ -3509,6 +3516,7 @@ public Object initializeEnhancedEntityUsedAsProxy(
 				loaded = eventSource.loadFromSecondLevelCache( this, entityKey, entity, LockMode.NONE );
 			}
 			if ( loaded == null ) {
+				NPlusOneDetection.beforeEntityFetch( this, session );
 				loaded = determineLoaderToUse( session ).load( identifier, entity, LockOptions.NONE, session );
 			}
 
@@ -3761,6 +3769,50 @@ public boolean hasCascadeDelete() {
 		return entityMetamodel.hasCascadeDelete();
 	}
 
+	@Override
+	public int[] getCascadingPropertyIndexes(CascadingAction<?> action) {
+		final int[] propertyIndexes = cascadingPropertyIndexesByAction.get( action );
+		// an action which is not one of the standard actions is rare
+		return propertyIndexes == null ? determineCascadingPropertyIndexes( action ) : propertyIndexes;
+	}
+
+	private Map<CascadingAction<?>,int[]> determineCascadingPropertyIndexes() {
+		final Map<CascadingAction<?>,int[]> propertyIndexesByAction = new IdentityHashMap<>();
+		for ( CascadingAction<?> action : List.of(
+				CascadingActions.REMOVE,
+				CascadingActions.LOCK,
+				CascadingActions.REFRESH,
+				CascadingActions.EVICT,
+				CascadingActions.MERGE,
+				CascadingActions.PERSIST,
+				CascadingActions.PERSIST_ON_FLUSH,
+				CascadingActions.CHECK_ON_FLUSH,
+				CascadingActions.REPLICATE
+		) ) {
+			propertyIndexesByAction.put( action, determineCascadingPropertyIndexes( action ) );
+		}
+		return propertyIndexesByAction;
+	}
+
+	/**
+	 * The properties to which the given action applies, and, if the action
+	 * deletes orphans, the logical one-to-one associations.
+	 */
+	private int[] determineCascadingPropertyIndexes(CascadingAction<?> action) {
+		final Type[] types = getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = getPropertyCascadeStyles();
+		final int[] propertyIndexes = new int[types.length];
+		int count = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			final Type type = types[i];
+			if ( action.appliesTo( type, cascadeStyles[i] )
+					|| action.deleteOrphans() && type instanceof EntityType entityType && entityType.isLogicalOneToOne() ) {
+				propertyIndexes[count++] = i;
+			}
+		}
+		return count == types.length ? propertyIndexes : Arrays.copyOf( propertyIndexes, count );
+	}
+
 	@Override
 	public boolean hasOwnedCollections() {
 		return entityMetamodel.hasOwnedCollections();
@@ -4391,6 +4443,24 @@ public void processInsertGeneratedProperties(
 		insertGeneratedValuesProcessor.processGeneratedValues( entity, id, state, generatedValues, session );
 	}
 
+	@Override
+	public boolean hasInsertGeneratedPropertiesRequiringSelect() {
+		return insertGeneratedValuesProcessor != null
+			&& insertGeneratedValuesProcessor.isSubsequentSelectRequired();
+	}
+
+	@Override
+	public void processInsertGeneratedProperties(
+			List<?> ids,
+			List<?> entities,
+			List<Object[]> states,
+			SharedSessionContractImplementor session) {
+		if ( insertGeneratedValuesProcessor == null ) {
+			throw new UnsupportedOperationException( "Entity has no insert-generated properties - `" + getEntityName() + "`" );
+		}
+		insertGeneratedValuesProcessor.processGeneratedValues( entities, ids, states, session );
+	}
+
 	protected List<? extends ModelPart> initInsertGeneratedProperties(List<AttributeMapping> generatedAttributes) {
 		final int originalSize = generatedAttributes.size();
 		final List<ModelPart> generatedBasicAttributes = new ArrayList<>( originalSize );
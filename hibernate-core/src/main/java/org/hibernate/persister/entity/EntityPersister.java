@@ -26,6 +26,7 @@
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -40,6 +41,7 @@
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.internal.TableGroupFilterAliasGenerator;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoader;
 import org.hibernate.loader.ast.spi.NaturalIdLoader;
@@ -363,6 +365,22 @@ default void visitQuerySpaces(Consumer<String> querySpaceConsumer) {
 	 */
 	boolean hasCascadeDelete();
 
+	/**
+	 * The indexes of the properties of this entity to which the given
+	 * {@link CascadingAction} might cascade, in the order of
+	 * {@link #getPropertyTypes()}. Cascade processing visits only these
+	 * properties.
+	 * <p>
+	 * By default, every property is a candidate. The returned array may be
+	 * shared, and must not be modified.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default int[] getCascadingPropertyIndexes(CascadingAction<?> action) {
+		return ArrayHelper.indexes( getPropertyTypes().length );
+	}
+
 	/**
 	 * Determine whether this entity has any many-to-one or one-to-one associations.
 	 *
@@ -1076,6 +1094,42 @@ default void processInsertGeneratedProperties(
 			SharedSessionContractImplementor session) {
 	}
 
+	/**
+	 * Does this entity have insert generated properties whose values must be
+	 * selected back from the database after the {@code insert} statement is
+	 * executed, because they cannot be retrieved by the {@link #getInsertDelegate()
+	 * insert delegate}?
+	 *
+	 * @see #processInsertGeneratedProperties(List, List, List, SharedSessionContractImplementor)
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default boolean hasInsertGeneratedPropertiesRequiringSelect() {
+		return false;
+	}
+
+	/**
+	 * Retrieve the values of any insert generated properties of several instances
+	 * of this entity, injecting these generated values into the given entities and
+	 * writing them to the given states. Where possible, the values are selected
+	 * back from the database using a single {@code select} statement.
+	 *
+	 * @see #processInsertGeneratedProperties(Object, Object, Object[], GeneratedValues, SharedSessionContractImplementor)
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void processInsertGeneratedProperties(
+			List<?> ids,
+			List<?> entities,
+			List<Object[]> states,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < entities.size(); i++ ) {
+			processInsertGeneratedProperties( ids.get( i ), entities.get( i ), states.get( i ), null, session );
+		}
+	}
+
 	default List<? extends ModelPart> getGeneratedProperties(EventType timing) {
 		return timing == EventType.INSERT ? getInsertGeneratedProperties() : getUpdateGeneratedProperties();
 	}
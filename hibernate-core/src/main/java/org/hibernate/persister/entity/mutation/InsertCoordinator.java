@@ -4,6 +4,10 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
@@ -34,4 +38,38 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Persist multiple entity instances whose identifiers are generated by the
+	 * database, using a single JDBC batch if possible.
+	 * <p>
+	 * The given callback is called for each entity instance, in order, as soon
+	 * as its generated values are known, so that the callback may assign the
+	 * generated identifier to the instance before any later instance which
+	 * refers to it is inserted.
+	 *
+	 * @implSpec The default implementation simply calls
+	 *           {@link #insert(Object, Object[], SharedSessionContractImplementor)}
+	 *           for each entity.
+	 *
+	 * @param entities The entity instances
+	 * @param values The extracted attribute values of each entity instance
+	 * @param afterInsert Called with each entity instance and its
+	 *                    {@linkplain GeneratedValues generated values}
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void insertMultiple(
+			List<?> entities,
+			List<Object[]> values,
+			BiConsumer<Object, @Nullable GeneratedValues> afterInsert,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object entity = entities.get( i );
+			afterInsert.accept( entity, insert( entity, values.get( i ), session ) );
+		}
+	}
 }
@@ -4,11 +4,19 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
+import org.hibernate.HibernateException;
 import org.hibernate.Internal;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -17,32 +25,53 @@
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementDetailsStandard;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
+import org.hibernate.generator.values.GeneratedValueBasicResultBuilder;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.generator.values.internal.GeneratedValuesMappingProducer;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.newSetFromMap;
 import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.generator.values.internal.GeneratedValuesHelper.getActualGeneratedModelPart;
+import static org.hibernate.generator.values.internal.GeneratedValuesHelper.getGeneratedValuesList;
+import static org.hibernate.generator.values.internal.GeneratedValuesHelper.noCustomSql;
+import static org.hibernate.internal.util.StringHelper.unquote;
 
 /**
  * Coordinates the insertion of an entity.
@@ -54,12 +83,15 @@
 @Internal
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
+	private final MutationOperationGroup batchedIdentityInsertGroup;
+	private final String[] generatedColumnNames;
 	private final BasicBatchKey batchKey;
 
 	public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
-		if ( entityPersister.isIdentifierAssignedByInsert() || entityPersister.hasInsertGeneratedProperties() ) {
+		if ( entityPersister.isIdentifierAssignedByInsert()
+				|| entityPersister.hasInsertGeneratedProperties() && !batchGeneratedValues( entityPersister, factory ) ) {
 			// disable batching in case of insert generated identifier or properties
 			batchKey = null;
 		}
@@ -75,6 +107,51 @@ public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactory
 		else {
 			staticInsertGroup = generateStaticOperationGroup();
 		}
+
+		if ( staticInsertGroup != null && supportsBatchedIdentityInserts( entityPersister, factory ) ) {
+			batchedIdentityInsertGroup = generateBatchedIdentityInsertGroup();
+			generatedColumnNames = generatedColumnNames( entityPersister, dialect );
+		}
+		else {
+			batchedIdentityInsertGroup = null;
+			generatedColumnNames = null;
+		}
+	}
+
+	private static boolean supportsBatchedIdentityInserts(EntityPersister persister, SessionFactoryImplementor factory) {
+		return factory.getSessionFactoryOptions().isBatchIdentityInsertsEnabled()
+			&& factory.getJdbcServices().getDialect().supportsBatchedGetGeneratedKeys()
+			&& persister.isIdentifierAssignedByInsert()
+			&& persister.getInsertDelegate() != null
+			&& noCustomSql( persister, INSERT )
+			// the generated identifier is needed to insert rows in any other table
+			&& persister.getTableMappings().length == 1;
+	}
+
+	private static String[] generatedColumnNames(EntityPersister persister, Dialect dialect) {
+		final GeneratedValuesMappingProducer mappingProducer =
+				(GeneratedValuesMappingProducer) persister.getInsertDelegate().getGeneratedValuesMappingProducer();
+		final List<GeneratedValueBasicResultBuilder> resultBuilders = mappingProducer.getResultBuilders();
+		final String[] columnNames = new String[resultBuilders.size()];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			final String columnName =
+					getActualGeneratedModelPart( resultBuilders.get( i ).getModelPart() ).getSelectionExpression();
+			columnNames[i] = dialect.unquoteGetGeneratedKeys() ? unquote( columnName, dialect ) : columnName;
+		}
+		return columnNames;
+	}
+
+	/**
+	 * Generated values which are selected back from the database after the insert
+	 * may be retrieved for a whole batch at once, in which case the inserts may be
+	 * batched.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_GENERATED_VALUES
+	 */
+	private static boolean batchGeneratedValues(EntityPersister entityPersister, SessionFactoryImplementor factory) {
+		return factory.getSessionFactoryOptions().isBatchGeneratedValuesEnabled()
+			&& entityPersister.getInsertDelegate() == null
+			&& entityPersister.hasInsertGeneratedPropertiesRequiringSelect();
 	}
 
 	@Override
@@ -101,6 +178,228 @@ protected BatchKey getBatchKey() {
 		return coordinateInsert( id, values, entity, session );
 	}
 
+	@Override
+	public void insertMultiple(
+			List<?> entities,
+			List<Object[]> values,
+			BiConsumer<Object, @Nullable GeneratedValues> afterInsert,
+			SharedSessionContractImplementor session) {
+		final Integer batchSize = session.getConfiguredJdbcBatchSize();
+		if ( batchedIdentityInsertGroup == null || batchSize == null || batchSize <= 1 ) {
+			InsertCoordinator.super.insertMultiple( entities, values, afterInsert, session );
+		}
+		else {
+			final List<Object> batch = new ArrayList<>();
+			final List<Object[]> batchValues = new ArrayList<>();
+			final Set<Object> batchedEntities = newSetFromMap( new IdentityHashMap<>() );
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final Object entity = entities.get( i );
+				final Object[] entityValues = values.get( i );
+				final boolean needsDynamicInsert = preInsertInMemoryValueGeneration( entityValues, entity, session );
+				// an entity which refers to an entity in the current batch can only
+				// be inserted once the identifier of the other entity is known
+				if ( needsDynamicInsert || references( entityValues, batchedEntities, session ) ) {
+					doBatchedIdentityInserts( batch, batchValues, afterInsert, session );
+					batch.clear();
+					batchValues.clear();
+					batchedEntities.clear();
+				}
+				if ( needsDynamicInsert ) {
+					afterInsert.accept( entity, doDynamicInserts( null, entityValues, entity, session, false ) );
+				}
+				else {
+					batch.add( entity );
+					batchValues.add( entityValues );
+					batchedEntities.add( entity );
+					if ( batch.size() == batchSize ) {
+						doBatchedIdentityInserts( batch, batchValues, afterInsert, session );
+						batch.clear();
+						batchValues.clear();
+						batchedEntities.clear();
+					}
+				}
+			}
+			doBatchedIdentityInserts( batch, batchValues, afterInsert, session );
+		}
+	}
+
+	private boolean references(Object[] values, Set<Object> entities, SharedSessionContractImplementor session) {
+		return !entities.isEmpty()
+			&& references( values, entityPersister().getPropertyTypes(), entities, session );
+	}
+
+	/**
+	 * Does one of the given values, or a value nested in an embeddable or
+	 * in a collection of embeddables, refer to one of the given entities?
+	 */
+	private static boolean references(
+			Object[] values,
+			Type[] types,
+			Set<Object> entities,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( references( values[i], types[i], entities, session ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean references(
+			@Nullable Object value,
+			Type type,
+			Set<Object> entities,
+			SharedSessionContractImplementor session) {
+		if ( value == null ) {
+			return false;
+		}
+		else if ( type instanceof EntityType ) {
+			return entities.contains( value );
+		}
+		else if ( type instanceof CompositeType compositeType && !compositeType.isAnyType() ) {
+			return references( compositeType.getPropertyValues( value, session ),
+					compositeType.getSubtypes(), entities, session );
+		}
+		else if ( type instanceof CollectionType collectionType
+				&& ( !( value instanceof PersistentCollection<?> collection ) || collection.wasInitialized() ) ) {
+			final Type elementType = collectionType.getElementType( session.getFactory() );
+			if ( elementType instanceof CompositeType ) {
+				final Iterator<?> elements = collectionType.getElementsIterator( value );
+				while ( elements.hasNext() ) {
+					if ( references( elements.next(), elementType, entities, session ) ) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Insert the given entities using a single JDBC batch, retrieving their
+	 * generated identifiers using {@link PreparedStatement#getGeneratedKeys()}.
+	 */
+	protected void doBatchedIdentityInserts(
+			List<Object> entities,
+			List<Object[]> values,
+			BiConsumer<Object, @Nullable GeneratedValues> afterInsert,
+			SharedSessionContractImplementor session) {
+		if ( entities.isEmpty() ) {
+			return;
+		}
+
+		final PreparableMutationOperation operation =
+				(PreparableMutationOperation) batchedIdentityInsertGroup.getSingleOperation();
+		final String sql = operation.getSqlString();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		// inserts and updates of other entities which are still pending in the
+		// current batch must be executed first, since these inserts may refer
+		// to them, and are executed immediately
+		jdbcCoordinator.executeBatch();
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final JdbcValueBindingsImpl jdbcValueBindings = new JdbcValueBindingsImpl(
+				MutationType.INSERT,
+				entityPersister(),
+				new JdbcValueBindingsImpl.JdbcValueDescriptorAccess() {
+					@Override
+					public String resolvePhysicalTableName(String tableName) {
+						return operation.getTableDetails().getTableName();
+					}
+
+					@Override
+					public JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage) {
+						return operation.findValueDescriptor( columnName, usage );
+					}
+				},
+				session
+		);
+		final PreparedStatementDetails statementDetails = new PreparedStatementDetailsStandard(
+				operation,
+				() -> {
+					final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer()
+							.prepareStatement( sql, generatedColumnNames );
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+					return statement;
+				},
+				jdbcServices
+		);
+
+		final List<GeneratedValues> generatedValues;
+		try {
+			final PreparedStatement statement = statementDetails.resolveStatement();
+			for ( Object[] entityValues : values ) {
+				decomposeForInsert(
+						jdbcValueBindings,
+						null,
+						entityValues,
+						batchedIdentityInsertGroup,
+						entityPersister().getPropertyInsertability(),
+						getTableInclusionChecker( new InsertValuesAnalysis( entityPersister(), entityValues ) ),
+						session
+				);
+				jdbcServices.getSqlStatementLogger().logStatement( sql );
+				jdbcValueBindings.beforeStatement( statementDetails );
+				try {
+					statement.addBatch();
+				}
+				finally {
+					jdbcValueBindings.afterStatement( operation.getTableDetails() );
+				}
+			}
+
+			final int[] rowCounts = executeBatch( statement, sql, jdbcCoordinator );
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				statementDetails.getExpectation().verifyOutcome( rowCounts[i], statement, i, sql );
+			}
+
+			final ResultSet resultSet = statement.getGeneratedKeys();
+			try {
+				final List<GeneratedValues> generatedValuesList =
+						getGeneratedValuesList( resultSet, statement, entityPersister(), INSERT, session );
+				if ( generatedValuesList.size() != entities.size() ) {
+					throw new HibernateException( "The database returned " + generatedValuesList.size()
+							+ " generated keys for a batch of " + entities.size() + " inserts: "
+							+ entityPersister().getNavigableRole().getFullPath() );
+				}
+				generatedValues = generatedValuesList;
+			}
+			finally {
+				if ( resultSet != null ) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( resultSet, statement );
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "could not execute batch", sql );
+		}
+		finally {
+			statementDetails.releaseStatement( session );
+		}
+
+		for ( int i = 0; i < entities.size(); i++ ) {
+			afterInsert.accept( entities.get( i ), generatedValues.get( i ) );
+		}
+	}
+
+	private static int[] executeBatch(PreparedStatement statement, String sql, JdbcCoordinator jdbcCoordinator)
+			throws SQLException {
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
+		final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+		try {
+			eventHandler.jdbcExecuteBatchStart();
+			return statement.executeBatch();
+		}
+		finally {
+			eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+			eventHandler.jdbcExecuteBatchEnd();
+		}
+	}
+
 	/**
 	 * Perform the insert(s).
 	 *
@@ -209,7 +508,25 @@ protected void decomposeForInsert(
 			boolean[] propertyInclusions,
 			TableInclusionChecker tableInclusionChecker,
 			SharedSessionContractImplementor session) {
-		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		decomposeForInsert(
+				mutationExecutor.getJdbcValueBindings(),
+				id,
+				values,
+				mutationGroup,
+				propertyInclusions,
+				tableInclusionChecker,
+				session
+		);
+	}
+
+	private void decomposeForInsert(
+			JdbcValueBindings jdbcValueBindings,
+			Object id,
+			Object[] values,
+			MutationOperationGroup mutationGroup,
+			boolean[] propertyInclusions,
+			TableInclusionChecker tableInclusionChecker,
+			SharedSessionContractImplementor session) {
 		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
 
 		for ( int position = 0; position < mutationGroup.getNumberOfOperations(); position++ ) {
@@ -373,6 +690,23 @@ public MutationOperationGroup generateStaticOperationGroup() {
 		return createOperationGroup( null, insertGroupBuilder.buildMutationGroup() );
 	}
 
+	/**
+	 * Generate the insert statement used to batch inserts of entities whose
+	 * identifiers are generated by the database, which is always the standard
+	 * insert statement, even if the {@linkplain EntityPersister#getInsertDelegate()
+	 * insert delegate} would usually use some other form of statement.
+	 */
+	private MutationOperationGroup generateBatchedIdentityInsertGroup() {
+		final MutationGroupBuilder insertGroupBuilder = new MutationGroupBuilder( MutationType.INSERT, entityPersister() );
+		entityPersister().forEachMutableTable(
+				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder(
+						new TableInsertBuilderStandard( entityPersister(), tableMapping, factory() )
+				)
+		);
+		applyTableInsertDetails( insertGroupBuilder, entityPersister().getPropertyInsertability(), null, null, false );
+		return createOperationGroup( null, insertGroupBuilder.buildMutationGroup() );
+	}
+
 	private TableMutationBuilder<?> createTableInsertBuilder(EntityTableMapping tableMapping, boolean forceIdentifierBinding) {
 		final GeneratedValuesMutationDelegate delegate = entityPersister().getInsertDelegate();
 		if ( tableMapping.isIdentifierTable() && delegate != null && !forceIdentifierBinding ) {
@@ -42,6 +42,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private CacheStoreMode cacheStoreMode;
 	private Boolean resultCachingEnabled;
 	private String resultCacheRegionName;
+	private Integer resultCacheTimeToLive;
 	private Boolean readOnlyEnabled;
 	private Boolean queryPlanCachingEnabled;
 
@@ -184,6 +185,16 @@ public void setResultCacheRegionName(String resultCacheRegionName) {
 		this.resultCacheRegionName = resultCacheRegionName;
 	}
 
+	@Override
+	public Integer getResultCacheTimeToLive() {
+		return resultCacheTimeToLive;
+	}
+
+	@Override
+	public void setResultCacheTimeToLive(Integer resultCacheTimeToLive) {
+		this.resultCacheTimeToLive = resultCacheTimeToLive;
+	}
+
 	@Override
 	public void setTimeout(int timeout) {
 		this.timeout = timeout;
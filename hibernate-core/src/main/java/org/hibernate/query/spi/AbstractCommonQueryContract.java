@@ -67,6 +67,7 @@
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_TIME_TO_LIVE;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_PROFILE;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
@@ -198,6 +199,7 @@ protected void collectHints(Map<String, Object> hints) {
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
+		putIfNotNull( hints, HINT_CACHE_TIME_TO_LIVE, getQueryOptions().getResultCacheTimeToLive() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, getQueryOptions().getQueryPlanCachingEnabled() );
 
 		putIfNotNull( hints, HINT_SPEC_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
@@ -327,6 +329,9 @@ protected final boolean applySelectionHint(String hintName, Object value) {
 				case HINT_CACHE_MODE:
 					queryOptions.setCacheMode( getCacheMode( value ) );
 					return true;
+				case HINT_CACHE_TIME_TO_LIVE:
+					queryOptions.setResultCacheTimeToLive( getInteger( value ) );
+					return true;
 				case HINT_JAVAEE_CACHE_RETRIEVE_MODE:
 					DEPRECATION_LOGGER.deprecatedSetting( HINT_JAVAEE_CACHE_RETRIEVE_MODE, HINT_SPEC_CACHE_RETRIEVE_MODE );
 					//fall through to:
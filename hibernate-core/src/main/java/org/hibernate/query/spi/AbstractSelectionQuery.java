@@ -5,6 +5,7 @@
 package org.hibernate.query.spi;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -29,6 +30,7 @@
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.UnknownProfileException;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -40,6 +42,7 @@
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
 
@@ -53,6 +56,9 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.metamodel.Type;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.lang.Boolean.TRUE;
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static org.hibernate.CacheMode.fromJpaModes;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
@@ -135,13 +141,14 @@ protected void applyOptions(NamedQueryMemento<?> memento) {
 
 	private FlushMode sessionFlushMode;
 	private CacheMode sessionCacheMode;
+	private boolean readOnlyQueryExecution;
 
 	@Override
 	public List<R> list() {
 		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
 		boolean success = false;
 		try {
-			final List<R> result = doList();
+			final List<R> result = doListFromShards();
 			success = true;
 			return result;
 		}
@@ -186,6 +193,12 @@ protected void beforeQuery() {
 			sessionCacheMode = session.getCacheMode();
 			session.setCacheMode( effectiveCacheMode );
 		}
+
+		// a read-only query may obtain its connection from a read replica
+		if ( TRUE.equals( options.isReadOnly() ) && !session.isReadOnlyQueryExecution() ) {
+			session.setReadOnlyQueryExecution( true );
+			readOnlyQueryExecution = true;
+		}
 	}
 
 	protected abstract void prepareForExecution();
@@ -224,6 +237,144 @@ && getSession() instanceof SessionImplementor statefulSession ) {
 			getSession().setCacheMode( sessionCacheMode );
 			sessionCacheMode = null;
 		}
+		if ( readOnlyQueryExecution ) {
+			getSession().setReadOnlyQueryExecution( false );
+			readOnlyQueryExecution = false;
+		}
+	}
+
+	/**
+	 * Execute the query against the shard the session is bound to, or
+	 * against the shard selected by the restriction of the query on the
+	 * partition key, or, failing both, against every shard in turn.
+	 *
+	 * @see ShardedConnectionProvider
+	 */
+	private List<R> doListFromShards() {
+		return routeToShard()
+				? doListFromEveryShard( getSession().getShardedConnectionProvider() )
+				: doList();
+	}
+
+	/**
+	 * Bind the session to the shard selected by the restriction of the
+	 * query on the partition key, if the session is not already bound.
+	 *
+	 * @return {@code true} if the query must be executed against every
+	 *         shard, since it has no restriction on the partition key and
+	 *         the session is not bound to any shard
+	 *
+	 * @throws HibernateException if the session is bound to another shard
+	 *
+	 * @see ShardedConnectionProvider
+	 */
+	protected boolean routeToShard() {
+		final SharedSessionContractImplementor session = getSession();
+		final ShardedConnectionProvider connectionProvider = session.getShardedConnectionProvider();
+		if ( connectionProvider == null || !isShardedQuery() ) {
+			return false;
+		}
+
+		final Object shardIdentifier = session.getShardIdentifier();
+		final Object shardKey = getShardKeyRestriction();
+		if ( shardKey != null ) {
+			final Object restrictedShardIdentifier = connectionProvider.resolveShardIdentifier( shardKey );
+			if ( shardIdentifier == null ) {
+				session.setShardIdentifier( restrictedShardIdentifier );
+			}
+			else if ( !shardIdentifier.equals( restrictedShardIdentifier ) ) {
+				throw new HibernateException( "Query is restricted to partition key [" + shardKey
+						+ "] in shard [" + restrictedShardIdentifier
+						+ "] but the session is bound to shard [" + shardIdentifier + "]" );
+			}
+			return false;
+		}
+		else {
+			return shardIdentifier == null;
+		}
+	}
+
+	/**
+	 * Must the query be executed against every shard, since it has no
+	 * restriction on the partition key and the session is not bound to
+	 * any shard?
+	 */
+	private boolean requiresEveryShard() {
+		final SharedSessionContractImplementor session = getSession();
+		return session.getShardedConnectionProvider() != null
+			&& session.getShardIdentifier() == null
+			&& isShardedQuery()
+			&& getShardKeyRestriction() == null;
+	}
+
+	/**
+	 * Execute the query against every shard in turn, and concatenate the
+	 * results, applying the {@linkplain #getFirstResult() first result}
+	 * and {@linkplain #getMaxResults() maximum results} to the concatenated
+	 * results.
+	 */
+	private List<R> doListFromEveryShard(ShardedConnectionProvider connectionProvider) {
+		final SharedSessionContractImplementor session = getSession();
+		final LogicalConnectionImplementor logicalConnection = session.getJdbcCoordinator().getLogicalConnection();
+		if ( logicalConnection.isPhysicallyConnected() || session.isTransactionInProgress() ) {
+			throw new HibernateException( "Query has no restriction on the partition key, and cannot be executed"
+					+ " against every shard in a transaction (open the session using 'SessionBuilder.shardKey()')" );
+		}
+		verifyExecutableAgainstEveryShard();
+
+		final Limit limit = getQueryOptions().getLimit();
+		final Integer firstRow = limit.getFirstRow();
+		final Integer maxRows = limit.getMaxRows();
+		final int first = firstRow == null ? 0 : firstRow;
+		final List<R> results = new ArrayList<>();
+		try {
+			// each shard returns the rows up to the last row of the page
+			limit.setFirstRow( null );
+			for ( Object shardIdentifier : connectionProvider.getShardIdentifiers() ) {
+				if ( maxRows != null ) {
+					final int remainingRows = first + maxRows - results.size();
+					if ( remainingRows <= 0 ) {
+						break;
+					}
+					limit.setMaxRows( remainingRows );
+				}
+				results.addAll( session.fromShard( shardIdentifier, this::doList ) );
+			}
+		}
+		finally {
+			limit.setFirstRow( firstRow );
+			limit.setMaxRows( maxRows );
+		}
+		final int size = results.size();
+		return first == 0 && maxRows == null
+				? results
+				: new ArrayList<>( results.subList( Math.min( first, size ),
+						maxRows == null ? size : Math.min( first + maxRows, size ) ) );
+	}
+
+	/**
+	 * Verify that the results of this query, executed against each shard in
+	 * turn, may be combined by concatenating them.
+	 *
+	 * @throws HibernateException if the query orders or aggregates its results
+	 */
+	protected void verifyExecutableAgainstEveryShard() {
+	}
+
+	/**
+	 * Does this query select from an entity with a
+	 * {@linkplain org.hibernate.annotations.PartitionKey partition key}?
+	 */
+	protected boolean isShardedQuery() {
+		return false;
+	}
+
+	/**
+	 * The value of the {@linkplain org.hibernate.annotations.PartitionKey partition key}
+	 * to which this query is restricted, or {@code null} if there is no such restriction.
+	 */
+	protected @Nullable Object getShardKeyRestriction() {
+		return null;
 	}
 
 	protected boolean requiresTxn(LockMode lockMode) {
@@ -241,6 +392,11 @@ public ScrollableResultsImplementor<R> scroll() {
 	public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
 		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
 		try {
+			if ( routeToShard() ) {
+				throw new HibernateException( "Query has no restriction on the partition key, and its results cannot"
+						+ " be scrolled across shards (use 'list()' or 'stream()', or open the session using"
+						+ " 'SessionBuilder.shardKey()')" );
+			}
 			return doScroll( scrollMode );
 		}
 		finally {
@@ -257,6 +413,10 @@ public Stream<R> getResultStream() {
 
 	@Override
 	public Stream<R> stream() {
+		if ( requiresEveryShard() ) {
+			// the results from every shard are combined in memory
+			return list().stream();
+		}
 		final ScrollableResults<R> results = scroll( ScrollMode.FORWARD_ONLY );
 		final Spliterator<R> spliterator =
 				spliteratorUnknownSize( new ScrollableResultsIterator<>( results ), Spliterator.NONNULL );
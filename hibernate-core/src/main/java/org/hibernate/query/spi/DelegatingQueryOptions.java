@@ -89,6 +89,11 @@ public String getResultCacheRegionName() {
 		return queryOptions.getResultCacheRegionName();
 	}
 
+	@Override
+	public Integer getResultCacheTimeToLive() {
+		return queryOptions.getResultCacheTimeToLive();
+	}
+
 	@Override
 	public LockOptions getLockOptions() {
 		return queryOptions.getLockOptions();
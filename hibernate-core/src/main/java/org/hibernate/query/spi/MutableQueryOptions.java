@@ -57,6 +57,13 @@ default void setCacheMode(CacheMode cacheMode) {
 	 */
 	void setResultCacheRegionName(String cacheRegion);
 
+	/**
+	 * Corollary to {@link #getResultCacheTimeToLive()}
+	 *
+	 * @since 7.1
+	 */
+	void setResultCacheTimeToLive(Integer timeToLive);
+
 	/**
 	 * Corollary to {@link #getQueryPlanCachingEnabled()}
 	 */
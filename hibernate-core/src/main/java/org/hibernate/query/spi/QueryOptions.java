@@ -100,6 +100,19 @@ default CacheMode getCacheMode() {
 	 */
 	String getResultCacheRegionName();
 
+	/**
+	 * The time to live, in milliseconds, of the results cached in the query
+	 * cache. No effect unless {@link #isResultCachingEnabled} returns
+	 * {@code true}
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_CACHE_TIME_TO_LIVE
+	 *
+	 * @since 7.1
+	 */
+	default Integer getResultCacheTimeToLive() {
+		return null;
+	}
+
 	/**
 	 * Should the query plan of the query be cached?
 	 */
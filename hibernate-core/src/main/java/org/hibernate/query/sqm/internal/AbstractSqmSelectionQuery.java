@@ -6,6 +6,7 @@
 
 import jakarta.persistence.TemporalType;
 import org.hibernate.HibernateException;
+import org.hibernate.engine.internal.ShardKeys;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.type.BindableType;
@@ -26,21 +27,48 @@
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
+import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
 import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.tree.expression.SqmAggregateFunction;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmOver;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
+import org.hibernate.query.sqm.tree.select.SqmSubQuery;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.type.BasicTypeRegistry;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.Predicate;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static org.hibernate.query.sqm.internal.CollectionFetchPagination.fetchQuery;
+import static org.hibernate.query.sqm.internal.CollectionFetchPagination.identifierQuery;
+import static org.hibernate.query.sqm.internal.CollectionFetchPagination.paginatedRoot;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectResults;
@@ -100,6 +128,195 @@ protected void errorOrLogForPaginationWithCollectionFetch() {
 		}
 	}
 
+	/**
+	 * Paginate a query with collection fetches in two phases, first selecting
+	 * the identifiers of the root entities belonging to the page, and then
+	 * fetching the entities with their collections.
+	 *
+	 * @return the page of results, or {@code null} if the query is not
+	 *         eligible for two-phase pagination
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#TWO_PHASE_PAGINATION_OVER_COLLECTION_FETCH
+	 */
+	protected @Nullable List<R> listByIdentifierPage(SqmSelectStatement<R> statement) {
+		final MutableQueryOptions queryOptions = getQueryOptions();
+		if ( !getSessionFactory().getSessionFactoryOptions().isTwoPhasePaginationOverCollectionFetchEnabled()
+				|| hasAppliedGraph( queryOptions )
+				|| queryOptions.getTupleTransformer() != null
+				|| queryOptions.getResultListTransformer() != null
+				|| getTupleMetadata() != null ) {
+			return null;
+		}
+		final SqmRoot<?> root = paginatedRoot( statement );
+		final Class<R> expectedResultType = getExpectedResultType();
+		if ( root == null
+				|| expectedResultType != null && !expectedResultType.isAssignableFrom( root.getJavaType() ) ) {
+			return null;
+		}
+		final SqmSelectStatement<Object> identifierQuery = identifierQuery( statement );
+		if ( identifierQuery == null ) {
+			return null;
+		}
+
+		final List<Object> identifiers =
+				new SqmSelectionQueryImpl<>( this, identifierQuery, Object.class ).doList();
+		if ( identifiers.isEmpty() ) {
+			return new ArrayList<>( 0 );
+		}
+		final List<R> results =
+				new SqmSelectionQueryImpl<>( this, fetchQuery( statement, identifiers ), expectedResultType )
+						.doListIgnoringLimit();
+
+		// restore the order of the page, and remove duplicate results
+		final SharedSessionContractImplementor session = getSession();
+		final Map<Object, R> resultsByIdentifier = new HashMap<>( results.size() );
+		for ( R result : results ) {
+			final Object identifier = session.getEntityPersister( null, result ).getIdentifier( result, session );
+			resultsByIdentifier.putIfAbsent( identifier, result );
+		}
+		final List<R> page = new ArrayList<>( identifiers.size() );
+		for ( Object identifier : identifiers ) {
+			final R result = resultsByIdentifier.get( identifier );
+			if ( result != null ) {
+				page.add( result );
+			}
+		}
+		return page;
+	}
+
+	@Override
+	protected boolean isShardedQuery() {
+		final SqmStatement<R> statement = getSqmStatement();
+		if ( statement instanceof SqmSelectStatement<R> selectStatement
+				&& selectStatement.getQueryPart() instanceof SqmQuerySpec<R> querySpec ) {
+			for ( SqmRoot<?> root : querySpec.getRoots() ) {
+				if ( getShardKeyAttribute( root ) != null ) {
+					return true;
+				}
+			}
+		}
+		else if ( statement instanceof SqmDmlStatement<?> dmlStatement ) {
+			return getShardKeyAttribute( dmlStatement.getTarget() ) != null;
+		}
+		return false;
+	}
+
+	@Override
+	protected void verifyExecutableAgainstEveryShard() {
+		if ( getSqmStatement() instanceof SqmSelectStatement<R> selectStatement
+				&& selectStatement.getQueryPart() instanceof SqmQuerySpec<R> querySpec ) {
+			final String clause;
+			if ( !querySpec.getSortSpecifications().isEmpty() ) {
+				clause = "'order by'";
+			}
+			else if ( querySpec.getFetchExpression() != null || querySpec.getOffsetExpression() != null ) {
+				clause = "'limit' or 'offset'";
+			}
+			else if ( !querySpec.getGroupByClauseExpressions().isEmpty()
+					|| querySpec.getHavingClausePredicate() != null
+					|| hasAggregateFunctions( querySpec.getSelectClause() ) ) {
+				clause = "an aggregate function or 'group by'";
+			}
+			else if ( querySpec.getSelectClause().isDistinct()
+					&& !querySpec.getSelectClause().getSelections().stream()
+							.allMatch( selection -> selection.getSelectableNode() instanceof SqmFrom<?, ?> ) ) {
+				clause = "'distinct'";
+			}
+			else {
+				return;
+			}
+			throw new HibernateException( "Query has no restriction on the partition key, and its results cannot"
+					+ " be combined across shards since it uses " + clause
+					+ " (restrict the query to a single shard, or open the session using 'SessionBuilder.shardKey()')" );
+		}
+	}
+
+	private static boolean hasAggregateFunctions(SqmSelectClause selectClause) {
+		final boolean[] aggregate = new boolean[1];
+		new BaseSemanticQueryWalker() {
+			@Override
+			public Object visitFunction(SqmFunction<?> function) {
+				aggregate[0] = aggregate[0] || function instanceof SqmAggregateFunction<?>;
+				return super.visitFunction( function );
+			}
+
+			@Override
+			public Object visitOver(SqmOver<?> over) {
+				aggregate[0] = true;
+				return over;
+			}
+
+			@Override
+			public Object visitSubQueryExpression(SqmSubQuery<?> subquery) {
+				// a subquery is evaluated in the shard
+				return subquery;
+			}
+		}.visitSelectClause( selectClause );
+		return aggregate[0];
+	}
+
+	@Override
+	protected @Nullable Object getShardKeyRestriction() {
+		final SqmStatement<R> statement = getSqmStatement();
+		if ( statement instanceof SqmSelectStatement<R> selectStatement
+				&& selectStatement.getQueryPart() instanceof SqmQuerySpec<R> querySpec
+				&& querySpec.getWhereClause() != null ) {
+			return getShardKeyRestriction( querySpec.getWhereClause().getPredicate() );
+		}
+		else if ( statement instanceof SqmDeleteOrUpdateStatement<?> deleteOrUpdateStatement
+				&& deleteOrUpdateStatement.getWhereClause() != null ) {
+			return getShardKeyRestriction( deleteOrUpdateStatement.getWhereClause().getPredicate() );
+		}
+		return null;
+	}
+
+	private @Nullable Object getShardKeyRestriction(@Nullable SqmPredicate predicate) {
+		if ( predicate instanceof SqmJunctionPredicate junction
+				&& junction.getOperator() == Predicate.BooleanOperator.AND
+				&& !junction.isNegated() ) {
+			for ( SqmPredicate conjunct : junction.getPredicates() ) {
+				final Object shardKey = getShardKeyRestriction( conjunct );
+				if ( shardKey != null ) {
+					return shardKey;
+				}
+			}
+		}
+		else if ( predicate instanceof SqmComparisonPredicate comparison
+				&& comparison.getSqmOperator() == ComparisonOperator.EQUAL
+				&& !comparison.isNegated() ) {
+			final Object shardKey =
+					getShardKey( comparison.getLeftHandExpression(), comparison.getRightHandExpression() );
+			return shardKey != null
+					? shardKey
+					: getShardKey( comparison.getRightHandExpression(), comparison.getLeftHandExpression() );
+		}
+		return null;
+	}
+
+	private @Nullable Object getShardKey(SqmExpression<?> path, SqmExpression<?> value) {
+		if ( path instanceof SqmPath<?> sqmPath && sqmPath.getLhs() instanceof SqmRoot<?> root ) {
+			final AttributeMapping shardKeyAttribute = getShardKeyAttribute( root );
+			if ( shardKeyAttribute != null
+					&& shardKeyAttribute.getAttributeName().equals( sqmPath.getReferencedPathSource().getPathName() ) ) {
+				if ( value instanceof SqmLiteral<?> literal ) {
+					return literal.getLiteralValue();
+				}
+				else if ( value instanceof SqmParameter<?> parameter ) {
+					final QueryParameterBinding<?> binding =
+							getQueryParameterBindings()
+									.getBinding( getDomainParameterXref().getQueryParameter( parameter ) );
+					return binding.isMultiValued() ? null : binding.getBindValue();
+				}
+			}
+		}
+		return null;
+	}
+
+	private @Nullable AttributeMapping getShardKeyAttribute(SqmRoot<?> root) {
+		return ShardKeys.getShardKeyAttribute(
+				getSessionFactory().getMappingMetamodel().getEntityDescriptor( root.getEntityName() ) );
+	}
+
 	public abstract SqmStatement<R> getSqmStatement();
 	protected abstract void setSqmStatement(SqmSelectStatement<R> statement);
 	public abstract DomainParameterXref getDomainParameterXref();
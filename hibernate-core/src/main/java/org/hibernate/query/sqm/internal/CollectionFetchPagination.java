@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.model.domain.PluralPersistentAttribute;
+import org.hibernate.query.sqm.SqmQuerySource;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.hibernate.query.sqm.tree.domain.AbstractSqmFrom;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.from.SqmAttributeJoin;
+import org.hibernate.query.sqm.tree.from.SqmFrom;
+import org.hibernate.query.sqm.tree.from.SqmJoin;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.spi.NavigablePath;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static jakarta.persistence.metamodel.Type.PersistenceType.BASIC;
+import static org.hibernate.query.sqm.internal.SqmUtil.getOrderByNavigablePaths;
+import static org.hibernate.query.sqm.tree.SqmCopyContext.noParamCopyContext;
+
+/**
+ * Manipulation of SQM query tree for two-phase pagination of queries with
+ * collection fetches: the first query selects the identifiers of the root
+ * entities belonging to the requested page, with the limit applied in SQL,
+ * and the second query fetches the root entities and their collections for
+ * exactly those identifiers.
+ *
+ * @see org.hibernate.cfg.QuerySettings#TWO_PHASE_PAGINATION_OVER_COLLECTION_FETCH
+ */
+public class CollectionFetchPagination {
+
+	/**
+	 * Create the query which selects the identifiers of the root entities
+	 * belonging to the page, by removing the collection fetches from a copy
+	 * of the given query.
+	 *
+	 * @return the identifier query, or {@code null} if the given query is
+	 *         not eligible for two-phase pagination
+	 */
+	static @Nullable SqmSelectStatement<Object> identifierQuery(SqmSelectStatement<?> statement) {
+		@SuppressWarnings("unchecked")
+		final SqmSelectStatement<Object> copy = (SqmSelectStatement<Object>)
+				statement.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) );
+		final SqmRoot<?> root = paginatedRoot( copy );
+		if ( root == null ) {
+			return null;
+		}
+		final SqmQuerySpec<Object> querySpec = copy.getQuerySpec();
+		final List<NavigablePath> collectionFetches = new ArrayList<>();
+		final List<SqmFrom<?, ?>> froms = new ArrayList<>();
+		if ( !collectFetches( root, collectionFetches, froms ) || collectionFetches.isEmpty() ) {
+			return null;
+		}
+		final List<NavigablePath> referencedPaths = new ArrayList<>( getOrderByNavigablePaths( querySpec ) );
+		final SqmPathVisitor pathVisitor = new SqmPathVisitor( path -> referencedPaths.add( path.getNavigablePath() ) );
+		final SqmPredicate restriction = querySpec.getRestriction();
+		if ( restriction != null ) {
+			restriction.accept( pathVisitor );
+		}
+		for ( SqmFrom<?, ?> from : froms ) {
+			if ( from instanceof SqmJoin<?, ?> join && join.getJoinPredicate() != null ) {
+				join.getJoinPredicate().accept( pathVisitor );
+			}
+		}
+		for ( NavigablePath collectionFetch : collectionFetches ) {
+			for ( NavigablePath referencedPath : referencedPaths ) {
+				if ( collectionFetch.isParentOrEqual( referencedPath ) ) {
+					// removing the fetch would change the meaning of the query
+					return null;
+				}
+			}
+		}
+
+		for ( SqmFrom<?, ?> from : froms ) {
+			if ( from instanceof AbstractSqmFrom<?, ?> abstractFrom ) {
+				// only the collection fetches are still marked as fetches at this point
+				abstractFrom.removeLeftFetchJoins();
+			}
+		}
+		// without the collection fetches, there is exactly one row per root entity
+		querySpec.setDistinct( false );
+		querySpec.setSelection( root.get( EntityIdentifierMapping.ID_ROLE_NAME ) );
+		return copy;
+	}
+
+	/**
+	 * Create the query which fetches the root entities with the given identifiers,
+	 * along with their collections, by restricting a copy of the given query.
+	 */
+	static <R> SqmSelectStatement<R> fetchQuery(SqmSelectStatement<R> statement, List<?> identifiers) {
+		final SqmSelectStatement<R> copy = statement.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) );
+		final SqmQuerySpec<R> querySpec = copy.getQuerySpec();
+		final SqmRoot<?> root = querySpec.getRootList().get( 0 );
+		querySpec.setOffsetExpression( null );
+		querySpec.setFetchExpression( null );
+		final SqmPath<?> identifier = root.get( EntityIdentifierMapping.ID_ROLE_NAME );
+		querySpec.applyPredicate( identifier.in( identifiers ) );
+		return copy;
+	}
+
+	/**
+	 * The single root entity selected by a query which is eligible for
+	 * two-phase pagination, or {@code null} if the query is not eligible.
+	 */
+	static @Nullable SqmRoot<?> paginatedRoot(SqmSelectStatement<?> statement) {
+		if ( statement.getQueryPart() instanceof SqmQuerySpec<?> querySpec
+				&& querySpec.getRootList().size() == 1
+				&& querySpec.getGroupingExpressions().isEmpty()
+				&& querySpec.getHavingClausePredicate() == null ) {
+			final SqmRoot<?> root = querySpec.getRootList().get( 0 );
+			final List<SqmSelection<?>> selections = querySpec.getSelectClause().getSelections();
+			return selections.size() == 1
+				&& selections.get( 0 ).getSelectableNode() == root
+				&& root.getSqmTreats().isEmpty()
+				&& root.getModel().hasSingleIdAttribute()
+				&& root.getModel().getIdType().getPersistenceType() == BASIC
+					? root
+					: null;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Collect the paths of the collection fetches, and clear the fetch flag of
+	 * the other fetch joins, whose rows must still be joined to keep the meaning
+	 * of the query.
+	 *
+	 * @return {@code false} if there is a join which might produce more than one
+	 *         row per root entity, and which cannot be removed from the query
+	 */
+	private static boolean collectFetches(
+			SqmFrom<?, ?> from,
+			List<NavigablePath> collectionFetches,
+			List<SqmFrom<?, ?>> froms) {
+		froms.add( from );
+		for ( SqmJoin<?, ?> join : from.getSqmJoins() ) {
+			if ( !( join instanceof SqmAttributeJoin<?, ?> attributeJoin ) || !join.getSqmTreats().isEmpty() ) {
+				return false;
+			}
+			else if ( attributeJoin.getAttribute() instanceof PluralPersistentAttribute<?, ?, ?> ) {
+				if ( !attributeJoin.isFetched() || join.getSqmJoinType() != SqmJoinType.LEFT ) {
+					return false;
+				}
+				collectionFetches.add( join.getNavigablePath() );
+			}
+			else {
+				if ( attributeJoin.isFetched() ) {
+					attributeJoin.clearFetched();
+				}
+				if ( !collectFetches( join, collectionFetches, froms ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
@@ -12,6 +12,7 @@
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.InstantiationException;
+import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -22,6 +23,7 @@
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
@@ -56,6 +58,9 @@
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.util.Collections.emptyList;
 import static org.hibernate.internal.util.ReflectHelper.isClass;
@@ -80,7 +85,21 @@
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final String hql;
+
+	/**
+	 * The maximum number of SQL translations kept by a plan.
+	 */
+	private static final int MAX_INTERPRETATIONS = 8;
+
+	/**
+	 * The SQL translations of the query, most recent first. A translation
+	 * depends on the {@linkplain #limitShape shape of the limit}, since it
+	 * renders the offset and the limit only if they are given, on the lock
+	 * options, and possibly on the parameter bindings, when it renders a
+	 * parameter as a literal.
+	 */
+	private volatile List<CacheableSqmInterpretation> cacheableSqmInterpretations = emptyList();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -90,6 +109,7 @@ public ConcreteSqmSelectQueryPlan(
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -399,63 +419,117 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 	}
 
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
-
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
-		JdbcParameterBindings jdbcParameterBindings = null;
-
 		executionContext.getSession().autoPreFlush();
 
-		if ( localCopy == null ) {
+		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		final List<CacheableSqmInterpretation> cached = cacheableSqmInterpretations;
+		ApplicableInterpretation applicable = findApplicableInterpretation( cached, executionContext );
+		if ( applicable == null ) {
+			// NOTE : VERY IMPORTANT - intentional double-lock checking
+			//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
+			//		to protect access.  However, synchronized is much simpler here.  We will verify
+			// 		during throughput testing whether this is an issue and consider changes then
 			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+				final List<CacheableSqmInterpretation> current = cacheableSqmInterpretations;
+				// the bindings were already checked against the translations we found
+				if ( current != cached ) {
+					applicable = findApplicableInterpretation( current, executionContext );
 				}
-				else {
-					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-					if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-					}
-					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-					// We could avoid this by putting the lock options into the cache key
-					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-						localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-						jdbcParameterBindings = localCopy.firstParameterBindings;
-						localCopy.firstParameterBindings = null;
-						cacheableSqmInterpretation = localCopy;
+				if ( applicable == null ) {
+					// No translation is compatible with the parameter bindings (for example,
+					// because a parameter was rendered as a literal), so translate again
+					final CacheableSqmInterpretation interpretation =
+							buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+					applicable = new ApplicableInterpretation( interpretation, interpretation.firstParameterBindings );
+					interpretation.firstParameterBindings = null;
+					cacheableSqmInterpretations = withInterpretation( current, interpretation );
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.queryTranslationCacheMiss( hql );
 					}
 				}
 			}
 		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
-			}
+		else if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryTranslationCacheHit( hql );
 		}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+		final CacheableSqmInterpretation interpretation = applicable.interpretation();
+		final JdbcParameterBindings jdbcParameterBindings = applicable.jdbcParameterBindings();
+		return interpreter.interpret( context, executionContext, interpretation,
+				jdbcParameterBindings == null
+						? createJdbcParameterBindings( interpretation, executionContext )
+						: jdbcParameterBindings );
+	}
+
+	/**
+	 * The given translations, with the given new translation in first
+	 * position, discarding the oldest translation if there are already
+	 * {@value #MAX_INTERPRETATIONS}.
+	 */
+	private static List<CacheableSqmInterpretation> withInterpretation(
+			List<CacheableSqmInterpretation> interpretations,
+			CacheableSqmInterpretation interpretation) {
+		final int size = Math.min( interpretations.size(), MAX_INTERPRETATIONS - 1 );
+		final List<CacheableSqmInterpretation> result = new ArrayList<>( size + 1 );
+		result.add( interpretation );
+		result.addAll( interpretations.subList( 0, size ) );
+		return result;
+	}
+
+	/**
+	 * Whether an offset and a limit are given, which determines whether
+	 * they are rendered by the translation of the query.
+	 *
+	 * @see JdbcOperationQuerySelect#isCompatibleWith
+	 */
+	private static int limitShape(Limit limit) {
+		return limit == null ? 0
+				: ( limit.getFirstRow() == null ? 0 : 1 )
+					| ( limit.getMaxRows() == null ? 0 : 2 );
+	}
+
+	/**
+	 * Find a translation which may be used with the current limit, lock
+	 * options, and parameter bindings.
+	 *
+	 * @return the translation, along with the parameter bindings, if they
+	 *         had to be created to check it against them, or {@code null}
+	 *         if there is no such translation
+	 */
+	private @Nullable ApplicableInterpretation findApplicableInterpretation(
+			List<CacheableSqmInterpretation> interpretations,
+			DomainQueryExecutionContext executionContext) {
+		if ( !interpretations.isEmpty() ) {
+			final QueryOptions queryOptions = executionContext.getQueryOptions();
+			final int limitShape = limitShape( queryOptions.getLimit() );
+			final LockOptions lockOptions = queryOptions.getLockOptions();
+			for ( CacheableSqmInterpretation interpretation : interpretations ) {
+				if ( interpretation.limitShape == limitShape
+						&& interpretation.lockOptions.equals( lockOptions ) ) {
+					final JdbcOperationQuerySelect jdbcSelect = interpretation.jdbcSelect;
+					final JdbcParameterBindings jdbcParameterBindings =
+							jdbcSelect.dependsOnParameterBindings()
+									? createJdbcParameterBindings( interpretation, executionContext )
+									: null;
+					if ( jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+						return new ApplicableInterpretation( interpretation, jdbcParameterBindings );
+					}
+				}
+			}
 		}
+		return null;
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
+	/**
+	 * A translation which may be used with the current query options and
+	 * parameter bindings.
+	 *
+	 * @param jdbcParameterBindings the parameter bindings, if they were
+	 *        created to check the translation against them, or {@code null}
+	 */
+	private record ApplicableInterpretation(
+			CacheableSqmInterpretation interpretation,
+			@Nullable JdbcParameterBindings jdbcParameterBindings) {
 	}
 
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
@@ -515,9 +589,12 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				session
 		);
 
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
 		return new CacheableSqmInterpretation(
+				limitShape( queryOptions.getLimit() ),
+				queryOptions.getLockOptions().makeDefensiveCopy(),
 				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				selectTranslator.translate( jdbcParameterBindings, queryOptions ),
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
@@ -533,6 +610,8 @@ T interpret(
 	}
 
 	private static class CacheableSqmInterpretation {
+		private final int limitShape;
+		private final LockOptions lockOptions;
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
@@ -540,11 +619,15 @@ private static class CacheableSqmInterpretation {
 		private transient JdbcParameterBindings firstParameterBindings;
 
 		CacheableSqmInterpretation(
+				int limitShape,
+				LockOptions lockOptions,
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
+			this.limitShape = limitShape;
+			this.lockOptions = lockOptions;
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.jdbcParamsXref = jdbcParamsXref;
@@ -106,6 +106,7 @@
 import static org.hibernate.query.sqm.internal.AppliedGraphs.containsCollectionFetches;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createInterpretationsKey;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.generateNonSelectKey;
+import static org.hibernate.query.sqm.internal.SqmUtil.isMultiValuedParameterBindingRenderedAsArray;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelect;
 import static org.hibernate.query.sqm.internal.SqmUtil.validateCriteriaQuery;
 import static org.hibernate.query.sqm.internal.SqmUtil.verifyIsNonSelectStatement;
@@ -350,8 +351,11 @@ public BooleanSupplier hasMultiValuedParameterBindingsChecker() {
 	}
 
 	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-			|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
+		return ( getQueryParameterBindings().hasAnyMultiValuedBindings()
+				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding ) )
+			// the SQL does not depend on the number of values bound as an array
+			&& !isMultiValuedParameterBindingRenderedAsArray( getSqmStatement(), getDomainParameterXref(),
+					getQueryParameterBindings(), getSessionFactory() );
 	}
 
 
@@ -396,6 +400,12 @@ protected List<R> doList() {
 				statement.containsCollectionFetches()
 						|| containsCollectionFetches( getQueryOptions() );
 		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
+		if ( hasLimit && containsCollectionFetches ) {
+			final List<R> page = listByIdentifierPage( (SqmSelectStatement<R>) getSqmStatement() );
+			if ( page != null ) {
+				return page;
+			}
+		}
 		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
 		final List<R> list = resolveSelectQueryPlan()
 				.performList( executionContextForDoList( containsCollectionFetches, hasLimit, needsDistinct ) );
@@ -518,6 +528,11 @@ public int executeUpdate() {
 		final var fetchProfiles = beforeQueryHandlingFetchProfiles();
 		boolean success = false;
 		try {
+			if ( routeToShard() ) {
+				throw new HibernateException( "Mutation query has no restriction on the partition key, and cannot"
+						+ " be executed by a session which is not bound to a shard (restrict the query to a single"
+						+ " shard, or open the session using 'SessionBuilder.shardKey()')" );
+			}
 			final int result = doExecuteUpdate();
 			success = true;
 			return result;
@@ -72,6 +72,7 @@ private static boolean isCacheable(InterpretationsKeySource keySource) {
 				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
 				// - This could be solved by using a method-local clone of domainParameterXref
 				//   when multi-valued params exist
+				// - Multi-valued params bound as a single array are not expanded
 			&& !keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean();
 	}
 
@@ -34,7 +34,6 @@
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.query.KeyedPage;
 import org.hibernate.query.Order;
-import org.hibernate.query.Page;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.SelectionQuery;
@@ -81,8 +80,8 @@
 import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_STORE_MODE;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptions;
-import static org.hibernate.query.sqm.internal.KeyBasedPagination.paginate;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createInterpretationsKey;
+import static org.hibernate.query.sqm.internal.SqmUtil.isMultiValuedParameterBindingRenderedAsArray;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToResultType;
 import static org.hibernate.query.sqm.tree.SqmCopyContext.noParamCopyContext;
 
@@ -228,26 +227,28 @@ public SqmSelectionQueryImpl(
 	}
 
 	<E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, KeyedPage<E> keyedPage) {
-		super( original );
+		//noinspection unchecked
+		this( original,
+				(SqmSelectStatement<R>) paginate( original, keyedPage ),
+				(Class<R>) KeyedResult.class );
 
-		final Page page = keyedPage.getPage();
-		final List<Comparable<?>> key = keyedPage.getKey();
-		final List<Order<? super E>> keyDefinition = keyedPage.getKeyDefinition();
-		final List<Order<? super E>> appliedKeyDefinition =
-				keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE
-						? Order.reverse( keyDefinition )
-						: keyDefinition;
+		setMaxResults( keyedPage.getPage().getMaxResults() + 1 );
+		if ( keyedPage.getKey() == null ) {
+			setFirstResult( keyedPage.getPage().getFirstResult() );
+		}
+	}
 
-		//noinspection unchecked
-		sqm = (SqmSelectStatement<R>) paginate(
-				appliedKeyDefinition,
-				key,
-				// Change the query source to CRITERIA, because we will change the query and introduce parameters
-				(SqmSelectStatement<KeyedResult<E>>)
-						original.getSqmStatement()
-								.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) ),
-				original.getSqmStatement().nodeBuilder()
-		);
+	/**
+	 * Form used for queries derived from an original query by transformation
+	 * of a copy of its SQM tree, reusing the parameter bindings of the original
+	 */
+	SqmSelectionQueryImpl(
+			AbstractSqmSelectionQuery<?> original,
+			SqmSelectStatement<R> sqm,
+			Class<R> expectedResultType) {
+		super( original );
+
+		this.sqm = sqm;
 		if ( getSession().isCriteriaPlanCacheEnabled() ) {
 			queryStringCacheKey = sqm.toHqlString();
 			setQueryPlanCacheable( true );
@@ -273,15 +274,29 @@ <E> SqmSelectionQueryImpl(AbstractSqmSelectionQuery<?> original, KeyedPage<E> ke
 			}
 		}
 
-		//noinspection unchecked
-		expectedResultType = (Class<R>) KeyedResult.class;
+		this.expectedResultType = expectedResultType;
 		resultType = determineResultType( sqm, expectedResultType );
 		tupleMetadata = null;
+	}
 
-		setMaxResults( page.getMaxResults() + 1 );
-		if ( key == null ) {
-			setFirstResult( page.getFirstResult() );
-		}
+	private static <E> SqmSelectStatement<KeyedResult<E>> paginate(
+			AbstractSqmSelectionQuery<?> original,
+			KeyedPage<E> keyedPage) {
+		final List<Order<? super E>> keyDefinition = keyedPage.getKeyDefinition();
+		final List<Order<? super E>> appliedKeyDefinition =
+				keyedPage.getKeyInterpretation() == KEY_OF_FIRST_ON_NEXT_PAGE
+						? Order.reverse( keyDefinition )
+						: keyDefinition;
+		//noinspection unchecked
+		return KeyBasedPagination.paginate(
+				appliedKeyDefinition,
+				keyedPage.getKey(),
+				// Change the query source to CRITERIA, because we will change the query and introduce parameters
+				(SqmSelectStatement<KeyedResult<E>>)
+						original.getSqmStatement()
+								.copy( noParamCopyContext( SqmQuerySource.CRITERIA ) ),
+				original.getSqmStatement().nodeBuilder()
+		);
 	}
 
 	private <T> void setBindValues(QueryParameter<?> parameter, QueryParameterBinding<T> binding) {
@@ -431,12 +446,32 @@ protected List<R> doList() {
 				//TODO: why is this different from QuerySqmImpl.doList()?
 				statement.containsCollectionFetches();
 		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
+		if ( hasLimit && containsCollectionFetches ) {
+			final List<R> page = listByIdentifierPage( getSqmStatement() );
+			if ( page != null ) {
+				return page;
+			}
+		}
 		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
 		final List<R> list = resolveQueryPlan()
 				.performList( executionContext( hasLimit, containsCollectionFetches ) );
 		return needsDistinct ? handleDistinct( hasLimit, statement, list ) : list;
 	}
 
+	/**
+	 * Execute the query ignoring the limit and offset, which are shared
+	 * with the original query this query was derived from.
+	 */
+	List<R> doListIgnoringLimit() {
+		final QueryOptions queryOptions = omitSqlQueryOptions( getQueryOptions(), true, false );
+		return resolveQueryPlan().performList( new DelegatingDomainQueryExecutionContext( this ) {
+			@Override
+			public QueryOptions getQueryOptions() {
+				return queryOptions;
+			}
+		} );
+	}
+
 	private List<R> handleDistinct(boolean hasLimit, SqmSelectStatement<?> statement, List<R> list) {
 		int includedCount = -1;
 		// NOTE: 'firstRow' is zero-based
@@ -531,8 +566,11 @@ public BooleanSupplier hasMultiValuedParameterBindingsChecker() {
 	}
 
 	protected boolean hasMultiValuedParameterBindings() {
-		return getQueryParameterBindings().hasAnyMultiValuedBindings()
-			|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
+		return ( getQueryParameterBindings().hasAnyMultiValuedBindings()
+				|| getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding ) )
+			// the SQL does not depend on the number of values bound as an array
+			&& !isMultiValuedParameterBindingRenderedAsArray( getSqmStatement(), getDomainParameterXref(),
+					getQueryParameterBindings(), getSessionFactory() );
 	}
 
 
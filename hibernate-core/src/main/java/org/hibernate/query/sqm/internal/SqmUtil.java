@@ -59,9 +59,11 @@
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.SqmPathSource;
 import org.hibernate.query.sqm.SqmQuerySource;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
 import org.hibernate.query.sqm.spi.JdbcParameterBySqmParameterAccess;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmToSqlAstConverter;
+import org.hibernate.query.sqm.sql.internal.MultiValuedArrayJdbcParameter;
 import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
 import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmJoinType;
@@ -78,6 +80,7 @@
 import org.hibernate.query.sqm.tree.from.SqmFrom;
 import org.hibernate.query.sqm.tree.from.SqmJoin;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
 import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
 import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
 import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
@@ -112,6 +115,7 @@
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
@@ -563,11 +567,16 @@ private static <T> void createJdbcParameterBinding(
 					determineParameterType( domainParamBinding, queryParameter, sqmParameters, modelResolutionAccess,
 							session.getFactory() );
 
-			final List<JdbcParametersList> jdbcParamsBinds = jdbcParamMap.get( sqmParameter );
+			final List<JdbcParametersList> jdbcParamsBinds =
+					bindArrayParameters( jdbcParamMap.get( sqmParameter ), domainParamBinding,
+							jdbcParameterBindings, session );
 			if ( jdbcParamsBinds == null ) {
 				// This can happen when a group or order by item expression, that contains parameters,
 				// is replaced with an alias reference expression, which can happen for JPA Criteria queries
 			}
+			else if ( jdbcParamsBinds.isEmpty() ) {
+				// every occurrence was bound as a single array
+			}
 			else if ( !domainParamBinding.isBound() ) {
 				for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 					final JdbcParametersList jdbcParams = jdbcParamsBinds.get( i );
@@ -667,6 +676,129 @@ else if ( domainParamBinding.isMultiValued() ) {
 		}
 	}
 
+	/**
+	 * Bind all the values of the given parameter as a single array to each
+	 * occurrence which was rendered as a {@link MultiValuedArrayJdbcParameter},
+	 * returning the remaining occurrences, which must be bound normally.
+	 */
+	private static @Nullable List<JdbcParametersList> bindArrayParameters(
+			@Nullable List<JdbcParametersList> jdbcParamsBinds,
+			QueryParameterBinding<?> domainParamBinding,
+			JdbcParameterBindings jdbcParameterBindings,
+			SharedSessionContractImplementor session) {
+		if ( jdbcParamsBinds == null ) {
+			return null;
+		}
+		List<JdbcParametersList> remaining = null;
+		for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
+			final JdbcParametersList jdbcParams = jdbcParamsBinds.get( i );
+			if ( jdbcParams.size() == 1
+					&& jdbcParams.get( 0 ) instanceof MultiValuedArrayJdbcParameter arrayParameter ) {
+				final Collection<?> bindValues =
+						domainParamBinding.isMultiValued()
+								? domainParamBinding.getBindValues()
+								: singletonList( domainParamBinding.getBindValue() );
+				jdbcParameterBindings.addBinding( arrayParameter,
+						new JdbcParameterBindingImpl( arrayParameter.getJdbcMapping(),
+								arrayParameter.toArray( bindValues, session ) ) );
+				if ( remaining == null ) {
+					remaining = new ArrayList<>( jdbcParamsBinds.subList( 0, i ) );
+				}
+			}
+			else if ( remaining != null ) {
+				remaining.add( jdbcParams );
+			}
+		}
+		return remaining == null ? jdbcParamsBinds : remaining;
+	}
+
+	/**
+	 * Is every multi-valued parameter of the given statement bound to values
+	 * which are bound as a single array, so that the SQL rendered for the
+	 * statement does not depend on the number of values?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 */
+	public static boolean isMultiValuedParameterBindingRenderedAsArray(
+			SqmStatement<?> statement,
+			DomainParameterXref domainParameterXref,
+			QueryParameterBindings parameterBindings,
+			SessionFactoryImplementor factory) {
+		if ( !MultiValuedArrayJdbcParameter.isEnabled( factory ) ) {
+			return false;
+		}
+		final InArrayParameterCollector collector =
+				new InArrayParameterCollector( domainParameterXref, factory.getMappingMetamodel() );
+		statement.accept( collector );
+		for ( var entry : domainParameterXref.getQueryParameters().entrySet() ) {
+			final QueryParameterImplementor<?> queryParameter = entry.getKey();
+			if ( queryParameter.allowsMultiValuedBinding() ) {
+				final QueryParameterBinding<?> binding = parameterBindings.getBinding( queryParameter );
+				// the converter only renders an array when the binding is multi-valued
+				if ( !binding.isMultiValued()
+						|| !MultiValuedArrayJdbcParameter.isBindable( binding.getBindValues() )
+						|| collector.getArrayParameterCount( queryParameter ) != entry.getValue().size() ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Counts the occurrences of each query parameter which are the single
+	 * element of an {@code IN} list whose test expression is a basic
+	 * attribute of an entity, and which are therefore rendered as an array
+	 * when the parameter is bound to suitable values.
+	 */
+	private static class InArrayParameterCollector extends BaseSemanticQueryWalker {
+		private final DomainParameterXref domainParameterXref;
+		private final MappingMetamodelImplementor mappingMetamodel;
+		private final Map<QueryParameterImplementor<?>, Integer> arrayParameterCounts = new IdentityHashMap<>();
+
+		private InArrayParameterCollector(
+				DomainParameterXref domainParameterXref,
+				MappingMetamodelImplementor mappingMetamodel) {
+			this.domainParameterXref = domainParameterXref;
+			this.mappingMetamodel = mappingMetamodel;
+		}
+
+		private int getArrayParameterCount(QueryParameterImplementor<?> queryParameter) {
+			return arrayParameterCounts.getOrDefault( queryParameter, 0 );
+		}
+
+		@Override
+		public Object visitInListPredicate(SqmInListPredicate<?> predicate) {
+			if ( predicate.getListExpressions().size() == 1
+					&& predicate.getListExpressions().get( 0 ) instanceof SqmParameter<?> sqmParameter
+					&& sqmParameter.allowMultiValuedBinding()
+					&& isArrayElementType( predicate.getTestExpression() ) ) {
+				final QueryParameterImplementor<?> queryParameter =
+						domainParameterXref.getQueryParameter( sqmParameter );
+				if ( queryParameter != null ) {
+					arrayParameterCounts.merge( queryParameter, 1, Integer::sum );
+				}
+			}
+			return super.visitInListPredicate( predicate );
+		}
+
+		private boolean isArrayElementType(SqmExpression<?> testExpression) {
+			if ( testExpression instanceof SqmPath<?> path
+					&& path.getLhs() != null
+					&& path.getLhs().getReferencedPathSource().getPathType()
+							instanceof EntityDomainType<?> entityDomainType ) {
+				final ModelPart modelPart =
+						mappingMetamodel.getEntityDescriptor( entityDomainType.getHibernateEntityName() )
+								.findSubPart( path.getReferencedPathSource().getPathName(), null );
+				return modelPart instanceof BasicValuedMapping basicValuedMapping
+					&& MultiValuedArrayJdbcParameter.determineElementType( basicValuedMapping ) != null;
+			}
+			else {
+				return false;
+			}
+		}
+	}
+
 	private static <T> SqmParameter<T> checkParameter
 			(QueryParameterImplementor<T> queryParameter, SqmParameter<?> sqmParameter) {
 		// TODO: currently no robust way to check the types
@@ -29,6 +29,7 @@
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.*;
@@ -97,6 +98,7 @@
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedExpression;
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.EntityValuedPathInterpretation;
+import org.hibernate.query.sqm.sql.internal.MultiValuedArrayJdbcParameter;
 import org.hibernate.query.sqm.sql.internal.NonAggregatedCompositeValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.PluralValuedSimplePathInterpretation;
 import org.hibernate.query.sqm.sql.internal.SqlAstProcessingStateImpl;
@@ -243,6 +245,7 @@
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -276,6 +279,7 @@
 import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.sql.results.graph.Fetchable;
 import org.hibernate.sql.results.graph.FetchableContainer;
+import org.hibernate.sql.results.graph.collection.internal.AggregateCollectionFetch;
 import org.hibernate.sql.results.graph.entity.EntityResultGraphNode;
 import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiation;
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
@@ -373,6 +377,7 @@
 
 	private int fetchDepth;
 	private String currentBagRole;
+	private boolean containsImplicitCollectionJoin;
 	private boolean resolvingCircularFetch;
 	private boolean deduplicateSelectionItems;
 	private ForeignKeyDescriptor.Nature currentlyResolvingForeignKeySide;
@@ -5796,7 +5801,8 @@ private void replaceJdbcParametersType(
 					for ( List<JdbcParameter> parameters : jdbcParamsForSqmParameter ) {
 						assert parameters.size() == 1;
 						final JdbcParameter jdbcParameter = parameters.get( 0 );
-						if ( ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
+						if ( !( jdbcParameter instanceof MultiValuedArrayJdbcParameter )
+								&& ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
 							final JdbcParameter newJdbcParameter = new JdbcParameterImpl( jdbcMapping );
 							parameters.set( 0, newJdbcParameter );
 							jdbcParameters.getJdbcParameters().remove( jdbcParameter );
@@ -7977,9 +7983,11 @@ public Predicate visitInListPredicate(SqmInListPredicate<?> predicate) {
 			final SqmExpression<?> sqmExpression = predicate.getListExpressions().get( 0 );
 			if ( sqmExpression instanceof SqmParameter<?> sqmParameter ) {
 				if ( sqmParameter.allowMultiValuedBinding() ) {
-					final InListPredicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
+					final Predicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
 					if ( specialCase != null ) {
-						handleTypeComparison( specialCase );
+						if ( specialCase instanceof InListPredicate inListPredicate ) {
+							handleTypeComparison( inListPredicate );
+						}
 						return specialCase;
 					}
 				}
@@ -8046,7 +8054,7 @@ private void handleTypeComparison(InListPredicate inPredicate) {
 		}
 	}
 
-	private InListPredicate processInListWithSingleParameter(
+	private Predicate processInListWithSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter) {
 		assert sqmParameter.allowMultiValuedBinding();
@@ -8056,7 +8064,7 @@ private InListPredicate processInListWithSingleParameter(
 
 	}
 
-	private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
+	private Predicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
 		final QueryParameterImplementor<?> domainParam = domainParameterXref.getQueryParameter( sqmParameter );
 		final QueryParameterBinding<?> domainParamBinding = domainParameterBindings.getBinding( domainParam );
 		return !domainParamBinding.isMultiValued()
@@ -8064,7 +8072,7 @@ private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPre
 				: processInSingleParameter( sqmPredicate, sqmParameter, domainParam, domainParamBinding );
 	}
 
-	private InListPredicate processInSingleCriteriaParameter(
+	private Predicate processInSingleCriteriaParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			JpaCriteriaParameter<?> jpaCriteriaParameter) {
 		assert jpaCriteriaParameter.allowsMultiValuedBinding();
@@ -8079,11 +8087,17 @@ private InListPredicate processInSingleCriteriaParameter(
 	}
 
 	@SuppressWarnings( "rawtypes" )
-	private InListPredicate processInSingleParameter(
+	private Predicate processInSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
 			QueryParameterBinding<?> domainParamBinding) {
+		final Predicate inArrayPredicate =
+				processInSingleParameterAsArray( sqmPredicate, sqmParameter, domainParam, domainParamBinding );
+		if ( inArrayPredicate != null ) {
+			return inArrayPredicate;
+		}
+
 		final Iterator<?> iterator = domainParamBinding.getBindValues().iterator();
 
 		final InListPredicate inListPredicate = new InListPredicate(
@@ -8122,6 +8136,57 @@ private InListPredicate processInSingleParameter(
 		}
 	}
 
+	/**
+	 * Render an {@code IN} predicate with a single multi-valued parameter
+	 * as a test for membership in an array bound to a single JDBC parameter,
+	 * so that the SQL does not depend on the number of values.
+	 *
+	 * @return the predicate, or {@code null} if the parameter must be expanded
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 */
+	@SuppressWarnings( "rawtypes" )
+	private Predicate processInSingleParameterAsArray(
+			SqmInListPredicate<?> sqmPredicate,
+			SqmParameter<?> sqmParameter,
+			QueryParameterImplementor<?> domainParam,
+			QueryParameterBinding<?> domainParamBinding) {
+		final SessionFactoryImplementor factory = creationContext.getSessionFactory();
+		if ( !MultiValuedArrayJdbcParameter.isEnabled( factory )
+				|| !MultiValuedArrayJdbcParameter.isBindable( domainParamBinding.getBindValues() ) ) {
+			return null;
+		}
+		final MappingModelExpressible<?> valueMapping =
+				determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndexStack.getCurrent() );
+		final BasicType<?> elementType = MultiValuedArrayJdbcParameter.determineElementType( valueMapping );
+		if ( elementType == null ) {
+			return null;
+		}
+		final Class<?> elementClass = elementType.getJavaTypeDescriptor().getJavaTypeClass();
+
+		final Expression testExpression = (Expression) sqmPredicate.getTestExpression().accept( this );
+		final JdbcMapping arrayJdbcMapping =
+				MultiKeyLoadHelper.resolveArrayJdbcMapping( elementType, elementClass, factory );
+		final MultiValuedArrayJdbcParameter arrayParameter =
+				new MultiValuedArrayJdbcParameter( arrayJdbcMapping, elementType );
+		final List<JdbcParameter> jdbcParametersForSqm = new ArrayList<>( 1 );
+		jdbcParametersForSqm.add( arrayParameter );
+		sqmParameterMappingModelTypes.put( sqmParameter, valueMapping );
+		jdbcParameters.addParameters( jdbcParametersForSqm );
+		jdbcParamsBySqmParam.computeIfAbsent( sqmParameter, k -> new ArrayList<>( 1 ) ).add( jdbcParametersForSqm );
+		if ( domainParamBinding.setType( (MappingModelExpressible) valueMapping ) ) {
+			replaceJdbcParametersType(
+					sqmParameter,
+					domainParameterXref.getSqmParameters( domainParam ),
+					valueMapping
+			);
+		}
+
+		final InArrayPredicate inArrayPredicate =
+				new InArrayPredicate( testExpression, arrayParameter, getBooleanType() );
+		return sqmPredicate.isNegated() ? new NegatedPredicate( inArrayPredicate ) : inArrayPredicate;
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
@@ -8339,7 +8404,16 @@ else if ( getLoadQueryInfluencers().hasEnabledFetchProfiles() ) {
 				}
 			}
 
-			if ( joined && fetchable instanceof TableGroupJoinProducer ) {
+			if ( joined && fetchable instanceof PluralAttributeMapping
+					&& ( containsCollectionFetches || containsImplicitCollectionJoin )
+					&& getCreationContext().getSessionFactory().getSessionFactoryOptions().isSplitCollectionFetchEnabled()
+					&& !isAggregateFetch( fetchable, fetchablePath ) ) {
+				// rather than multiplying the rows once more, load the collection by a follow-up query
+				joined = false;
+			}
+
+			if ( joined && fetchable instanceof TableGroupJoinProducer
+					&& !isAggregateFetch( fetchable, fetchablePath ) ) {
 				joinedTableGroup = fromClauseIndex.resolveTableGroup(
 						fetchablePath,
 						np -> {
@@ -8386,6 +8460,9 @@ else if ( getLoadQueryInfluencers().hasEnabledFetchProfiles() ) {
 							return tableGroup;
 						}
 				);
+				if ( fetchable instanceof PluralAttributeMapping ) {
+					containsImplicitCollectionJoin = true;
+				}
 			}
 		}
 
@@ -8435,7 +8512,9 @@ else if ( getLoadQueryInfluencers().hasEnabledFetchProfiles() ) {
 							}
 						}
 					}
-					if ( fetchable instanceof PluralAttributeMapping pluralAttributeMapping ) {
+					// an aggregated bag does not multiply the rows
+					if ( fetchable instanceof PluralAttributeMapping pluralAttributeMapping
+							&& !( fetch instanceof AggregateCollectionFetch ) ) {
 						final CollectionClassification collectionClassification =
 								pluralAttributeMapping.getMappedType()
 										.getCollectionSemantics()
@@ -8464,6 +8543,16 @@ else if ( getLoadQueryInfluencers().hasEnabledFetchProfiles() ) {
 		}
 	}
 
+	/**
+	 * A collection fetched by aggregation is not joined, unless it was
+	 * already joined explicitly.
+	 */
+	private boolean isAggregateFetch(Fetchable fetchable, NavigablePath fetchablePath) {
+		return fetchable instanceof PluralAttributeMapping pluralAttributeMapping
+			&& pluralAttributeMapping.isAggregateFetchable()
+			&& getFromClauseIndex().findTableGroup( fetchablePath ) == null;
+	}
+
 	@Override
 	public <R> R withNestedFetchParent(FetchParent fetchParent, Function<FetchParent, R> action) {
 		final SqlAstQueryPartProcessingStateImpl processingState =
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.sql.internal;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.metamodel.mapping.BasicValuedMapping;
+import org.hibernate.metamodel.mapping.EntityDiscriminatorMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
+import org.hibernate.type.BasicPluralType;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A JDBC parameter standing for all the values of a multi-valued query
+ * parameter occurring in an {@code IN} predicate, which are bound as a
+ * single array.
+ *
+ * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+ *
+ * @since 7.1
+ */
+public class MultiValuedArrayJdbcParameter extends AbstractJdbcParameter {
+	private final BasicType<?> elementType;
+
+	public MultiValuedArrayJdbcParameter(JdbcMapping arrayJdbcMapping, BasicType<?> elementType) {
+		super( arrayJdbcMapping );
+		this.elementType = elementType;
+	}
+
+	public BasicType<?> getElementType() {
+		return elementType;
+	}
+
+	/**
+	 * May the values of multi-valued parameters be bound as arrays?
+	 */
+	public static boolean isEnabled(SessionFactoryImplementor factory) {
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		// the setting is an explicit opt-in, so we don't consult the dialect's
+		// preference for batch loading by array, only its support for arrays
+		return factory.getSessionFactoryOptions().inClauseArrayParameterEnabled()
+			&& dialect.supportsStandardArrays()
+			&& dialect.getPreferredSqlTypeCodeForArray() == SqlTypes.ARRAY;
+	}
+
+	/**
+	 * May the given values of a multi-valued parameter be bound as an array?
+	 */
+	public static boolean isBindable(Collection<?> values) {
+		if ( values.isEmpty() ) {
+			return false;
+		}
+		// "x not in (1, null)" is never true, unlike the negation of an array containment test
+		for ( Object value : values ) {
+			if ( value == null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The type of the elements of an array whose elements are compared with
+	 * the given value, or {@code null} if the value is not a single basic
+	 * value which may be compared with the elements of an array.
+	 */
+	public static @Nullable BasicType<?> determineElementType(@Nullable MappingModelExpressible<?> valueMapping) {
+		return valueMapping instanceof BasicValuedMapping basicValuedMapping
+			&& !( valueMapping instanceof EntityDiscriminatorMapping )
+			&& basicValuedMapping.getJdbcMapping() instanceof BasicType<?> elementType
+			&& elementType.getValueConverter() == null
+			&& !( elementType instanceof BasicPluralType<?, ?> )
+			&& !elementType.getJavaTypeDescriptor().getJavaTypeClass().isArray()
+				? elementType
+				: null;
+	}
+
+	/**
+	 * Collect the given values of the query parameter into an array
+	 * of the element type.
+	 */
+	@AllowReflection
+	public Object[] toArray(Collection<?> values, SharedSessionContractImplementor session) {
+		final JavaType<?> elementJavaType = elementType.getJavaTypeDescriptor();
+		final Class<?> elementClass = elementJavaType.getJavaTypeClass();
+		final Object[] array = (Object[]) Array.newInstance( elementClass, values.size() );
+		int i = 0;
+		for ( Object value : values ) {
+			array[i++] = value == null || elementClass.isInstance( value )
+					? value
+					: elementJavaType.wrap( value, session );
+		}
+		return array;
+	}
+}
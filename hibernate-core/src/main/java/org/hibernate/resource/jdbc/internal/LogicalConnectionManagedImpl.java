@@ -21,6 +21,9 @@
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.resource.jdbc.spi.PreparedStatementCache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static org.hibernate.ConnectionAcquisitionMode.IMMEDIATELY;
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
@@ -44,6 +47,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private final transient SqlExceptionHelper sqlExceptionHelper;
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
+	private final transient PreparedStatementCache statementCache;
 
 	private transient Connection physicalConnection;
 	private boolean closed;
@@ -65,6 +69,15 @@ public LogicalConnectionManagedImpl(
 
 		this.sqlExceptionHelper = sqlExceptionHelper;
 
+		final int statementCacheSize = jdbcSessionContext.getStatementCacheSize();
+		if ( statementCacheSize > 0 && resourceRegistry instanceof ResourceRegistryStandardImpl registry ) {
+			statementCache = new PreparedStatementCacheImpl( statementCacheSize );
+			registry.setStatementCache( statementCache );
+		}
+		else {
+			statementCache = null;
+		}
+
 		if ( connectionHandlingMode.getAcquisitionMode() == IMMEDIATELY ) {
 			//noinspection resource
 			acquireConnectionIfNeeded();
@@ -137,6 +150,11 @@ public PhysicalConnectionHandlingMode getConnectionHandlingMode() {
 		return connectionHandlingMode;
 	}
 
+	@Override
+	public @Nullable PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	@Override
 	public boolean isPhysicallyConnected() {
 		return physicalConnection != null;
@@ -215,6 +233,9 @@ private void releaseConnection() {
 			try {
 				try {
 					getResourceRegistry().releaseResources();
+					if ( statementCache != null ) {
+						statementCache.clear();
+					}
 					if ( !localVariableConnection.isClosed() ) {
 						sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 					}
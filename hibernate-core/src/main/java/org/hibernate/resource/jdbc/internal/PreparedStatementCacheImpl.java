@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.hibernate.resource.jdbc.spi.PreparedStatementCache;
+
+import org.jboss.logging.Logger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Standard implementation of {@link PreparedStatementCache}, holding at
+ * most a given number of idle statements, and closing the least recently
+ * released statement when the cache is full.
+ * This class is not threadsafe.
+ *
+ * @since 7.1
+ */
+public final class PreparedStatementCacheImpl implements PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCacheImpl.class );
+
+	private final int maximumSize;
+
+	// idle statements, in the order they were released
+	private final LinkedHashMap<Key, PreparedStatement> idleStatements = new LinkedHashMap<>();
+	// statements in use, which will be kept by the cache when released
+	private final IdentityHashMap<Statement, Entry> statementsInUse = new IdentityHashMap<>();
+
+	private record Entry(Key key, int fetchSize) {
+	}
+
+	public PreparedStatementCacheImpl(int maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	@Override
+	public @Nullable PreparedStatement checkOut(Key key) {
+		final PreparedStatement statement = idleStatements.remove( key );
+		if ( statement != null ) {
+			try {
+				statementsInUse.put( statement, new Entry( key, statement.getFetchSize() ) );
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to reuse cached JDBC statement [%s]", e.getMessage() );
+				close( statement );
+				return null;
+			}
+		}
+		return statement;
+	}
+
+	@Override
+	public void register(Key key, PreparedStatement statement) {
+		try {
+			statementsInUse.put( statement, new Entry( key, statement.getFetchSize() ) );
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to cache JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	@Override
+	public boolean release(Statement statement) {
+		final Entry entry = statementsInUse.remove( statement );
+		if ( entry == null
+				|| idleStatements.containsKey( entry.key )
+				|| !reset( statement, entry.fetchSize ) ) {
+			return false;
+		}
+		idleStatements.put( entry.key, (PreparedStatement) statement );
+		if ( idleStatements.size() > maximumSize ) {
+			final Iterator<PreparedStatement> iterator = idleStatements.values().iterator();
+			final PreparedStatement eldest = iterator.next();
+			iterator.remove();
+			close( eldest );
+		}
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		idleStatements.forEach( (key, statement) -> close( statement ) );
+		idleStatements.clear();
+		statementsInUse.clear();
+	}
+
+	/**
+	 * Undo whatever state the last execution left on the statement.
+	 *
+	 * @return {@code false} if the statement could not be reset
+	 */
+	private static boolean reset(Statement statement, int fetchSize) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			final PreparedStatement preparedStatement = (PreparedStatement) statement;
+			preparedStatement.clearParameters();
+			preparedStatement.clearBatch();
+			preparedStatement.clearWarnings();
+			if ( preparedStatement.getMaxRows() != 0 ) {
+				preparedStatement.setMaxRows( 0 );
+			}
+			if ( preparedStatement.getQueryTimeout() != 0 ) {
+				preparedStatement.setQueryTimeout( 0 );
+			}
+			if ( preparedStatement.getFetchSize() != fetchSize ) {
+				preparedStatement.setFetchSize( fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static void close(Statement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to release cached JDBC statement [%s]", e.getMessage() );
+		}
+	}
+}
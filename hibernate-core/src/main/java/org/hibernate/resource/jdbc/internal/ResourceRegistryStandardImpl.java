@@ -11,6 +11,7 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 
 import org.hibernate.HibernateException;
@@ -19,6 +20,7 @@
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.resource.jdbc.spi.PreparedStatementCache;
 
 /**
  * Helps to track {@link Statement}s and {@link ResultSet}s which need to be closed.
@@ -31,6 +33,12 @@
  * {@code Iterator}s on {@code HashMap} and {@code ArrayList}, but not on {@code HashSet} (at least on JDK8 and 11).
  * Therefore some types which should ideally be modelled as a {@code Set} have
  * been implemented using {@code HashMap}.
+ * <p>
+ * Statements and their result sets are not kept in maps: a session usually has
+ * a single statement with a single result set open at a time, so the first
+ * statement is held in a field, and the others in arrays, while the result sets
+ * of a statement are held as a single {@code ResultSet}, or as an array when
+ * there are several. Tracking the typical query then allocates nothing.
  *
  * @author Steve Ebersole
  * @author Sanne Grinovero
@@ -42,14 +50,17 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	// Dummy value to associate with an Object in the backing Map when we use it as a set:
 	private static final Object PRESENT = new Object();
 
-	//Used instead of Collections.EMPTY_SET to avoid polymorphic calls on xref;
-	//Also, uses an HashMap as it were an HashSet, as technically we just need the Set semantics
-	//but in this case the overhead of HashSet is not negligible.
-	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
-
 	private final JdbcEventHandler jdbcEventHandler;
 
-	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
+	// The registered statements: the first one in a field, the others in an array.
+	// The result sets of a statement are either null, a ResultSet, or a ResultSet[]
+	// which may contain nulls.
+	private Statement firstStatement;
+	private Object firstStatementResultSets;
+	private Statement[] otherStatements;
+	private Object[] otherStatementsResultSets;
+	private int otherStatementCount;
+
 	private HashMap<ResultSet,Object> unassociatedResultSets;
 
 	private ArrayList<Blob> blobs;
@@ -58,6 +69,8 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private PreparedStatementCache statementCache;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
@@ -66,9 +79,18 @@ public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler) {
 		this.jdbcEventHandler = jdbcEventHandler;
 	}
 
+	/**
+	 * Specify a cache which keeps released statements open for reuse,
+	 * instead of closing them.
+	 */
+	void setStatementCache(PreparedStatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
 	@Override
 	public boolean hasRegisteredResources() {
-		return hasRegistered( xref )
+		return firstStatement != null
+			|| otherStatementCount > 0
 			|| hasRegistered( unassociatedResultSets )
 			|| hasRegistered( blobs )
 			|| hasRegistered( clobs )
@@ -79,10 +101,10 @@ public boolean hasRegisteredResources() {
 	public void register(Statement statement, boolean cancelable) {
 		log.tracef( "Registering statement [%s]", statement );
 
-		HashMap<ResultSet,Object> previousValue = xref.putIfAbsent( statement, EMPTY );
-		if ( previousValue != null ) {
+		if ( slotOf( statement ) >= 0 ) {
 			throw new HibernateException( "JDBC Statement already registered" );
 		}
+		addStatement( statement, null );
 
 		if ( cancelable ) {
 			lastQuery = statement;
@@ -93,8 +115,10 @@ public void register(Statement statement, boolean cancelable) {
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
 
-		final HashMap<ResultSet,Object> resultSets = xref.remove( statement );
-		if ( resultSets != null ) {
+		final int slot = slotOf( statement );
+		if ( slot >= 0 ) {
+			final Object resultSets = resultSetsAt( slot );
+			removeStatement( slot );
 			closeAll( resultSets );
 		}
 		else {
@@ -103,7 +127,7 @@ public void release(Statement statement) {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -123,16 +147,17 @@ public void release(ResultSet resultSet, Statement statement) {
 			}
 		}
 		if ( statement != null ) {
-			final HashMap<ResultSet,Object> resultSets = xref.get( statement );
-			if ( resultSets == null ) {
+			final int slot = slotOf( statement );
+			if ( slot < 0 ) {
 				log.unregisteredStatement();
 			}
 			else {
-				resultSets.remove( resultSet );
-				if ( resultSets.isEmpty() ) {
+				final Object resultSets = removeResultSet( resultSetsAt( slot ), resultSet );
+				setResultSetsAt( slot, resultSets );
+				if ( resultSets == null ) {
 					try {
 						if ( statement.isClosed() ) {
-							xref.remove( statement );
+							removeStatement( slot );
 						}
 					}
 					catch (SQLException e) {
@@ -158,9 +183,152 @@ private static void closeAll(final HashMap<ResultSet,Object> resultSets) {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
-		closeAll( r );
-		close( s );
+	private static void closeAll(final Object resultSets) {
+		if ( resultSets instanceof ResultSet resultSet ) {
+			close( resultSet );
+		}
+		else if ( resultSets != null ) {
+			for ( ResultSet resultSet : (ResultSet[]) resultSets ) {
+				if ( resultSet != null ) {
+					close( resultSet );
+				}
+			}
+		}
+	}
+
+	/**
+	 * The slot of a registered statement: {@code 0} for {@link #firstStatement},
+	 * {@code i + 1} for {@code otherStatements[i]}, or {@code -1} if the statement
+	 * is not registered.
+	 */
+	private int slotOf(Statement statement) {
+		if ( firstStatement != null && same( firstStatement, statement ) ) {
+			return 0;
+		}
+		for ( int i = 0; i < otherStatementCount; i++ ) {
+			if ( same( otherStatements[i], statement ) ) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean same(Object registered, Object given) {
+		// the resources used to be kept in HashMaps, so keep respecting equals()
+		return registered == given || registered.equals( given );
+	}
+
+	private Object resultSetsAt(int slot) {
+		return slot == 0 ? firstStatementResultSets : otherStatementsResultSets[slot - 1];
+	}
+
+	private void setResultSetsAt(int slot, Object resultSets) {
+		if ( slot == 0 ) {
+			firstStatementResultSets = resultSets;
+		}
+		else {
+			otherStatementsResultSets[slot - 1] = resultSets;
+		}
+	}
+
+	private void addStatement(Statement statement, Object resultSets) {
+		if ( firstStatement == null ) {
+			firstStatement = statement;
+			firstStatementResultSets = resultSets;
+		}
+		else {
+			if ( otherStatements == null ) {
+				otherStatements = new Statement[4];
+				otherStatementsResultSets = new Object[4];
+			}
+			else if ( otherStatementCount == otherStatements.length ) {
+				otherStatements = Arrays.copyOf( otherStatements, otherStatementCount << 1 );
+				otherStatementsResultSets = Arrays.copyOf( otherStatementsResultSets, otherStatementCount << 1 );
+			}
+			otherStatements[otherStatementCount] = statement;
+			otherStatementsResultSets[otherStatementCount] = resultSets;
+			otherStatementCount++;
+		}
+	}
+
+	private void removeStatement(int slot) {
+		if ( slot == 0 ) {
+			firstStatement = null;
+			firstStatementResultSets = null;
+		}
+		else {
+			// move the last statement to the freed slot
+			final int last = --otherStatementCount;
+			otherStatements[slot - 1] = otherStatements[last];
+			otherStatementsResultSets[slot - 1] = otherStatementsResultSets[last];
+			otherStatements[last] = null;
+			otherStatementsResultSets[last] = null;
+		}
+	}
+
+	private static Object addResultSet(Object resultSets, ResultSet resultSet) {
+		if ( resultSets == null ) {
+			return resultSet;
+		}
+		else if ( resultSets instanceof ResultSet single ) {
+			return same( single, resultSet ) ? single : new ResultSet[] { single, resultSet, null, null };
+		}
+		else {
+			final ResultSet[] array = (ResultSet[]) resultSets;
+			int free = -1;
+			for ( int i = 0; i < array.length; i++ ) {
+				if ( array[i] == null ) {
+					if ( free < 0 ) {
+						free = i;
+					}
+				}
+				else if ( same( array[i], resultSet ) ) {
+					return array;
+				}
+			}
+			if ( free >= 0 ) {
+				array[free] = resultSet;
+				return array;
+			}
+			else {
+				final ResultSet[] grown = Arrays.copyOf( array, array.length << 1 );
+				grown[array.length] = resultSet;
+				return grown;
+			}
+		}
+	}
+
+	/**
+	 * @return the remaining result sets, or {@code null} if there are none left
+	 */
+	private static Object removeResultSet(Object resultSets, ResultSet resultSet) {
+		if ( resultSets instanceof ResultSet single ) {
+			return same( single, resultSet ) ? null : single;
+		}
+		else if ( resultSets != null ) {
+			final ResultSet[] array = (ResultSet[]) resultSets;
+			boolean empty = true;
+			for ( int i = 0; i < array.length; i++ ) {
+				if ( array[i] != null ) {
+					if ( same( array[i], resultSet ) ) {
+						array[i] = null;
+					}
+					else {
+						empty = false;
+					}
+				}
+			}
+			return empty ? null : array;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -226,19 +394,16 @@ public void register(ResultSet resultSet, Statement statement) {
 			}
 		}
 		if ( statement != null ) {
-			HashMap<ResultSet,Object> resultSets = xref.get( statement );
-
-			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
-			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
-			if ( resultSets == null ) {
+			final int slot = slotOf( statement );
+			if ( slot < 0 ) {
+				// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
+				// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
 				log.debug( "ResultSet statement was not registered (on register)" );
+				addStatement( statement, resultSet );
 			}
-
-			if ( resultSets == null || resultSets == EMPTY ) {
-				resultSets = new HashMap<>();
-				xref.put( statement, resultSets );
+			else {
+				setResultSetsAt( slot, addResultSet( resultSetsAt( slot ), resultSet ) );
 			}
-			resultSets.put( resultSet, PRESENT );
 		}
 		else {
 			if ( unassociatedResultSets == null ) {
@@ -329,8 +494,21 @@ public void releaseResources() {
 			jdbcEventHandler.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
-		xref.clear();
+		if ( firstStatement != null ) {
+			final Statement statement = firstStatement;
+			final Object resultSets = firstStatementResultSets;
+			firstStatement = null;
+			firstStatementResultSets = null;
+			closeAll( resultSets );
+			closeOrCache( statement );
+		}
+		for ( int i = 0; i < otherStatementCount; i++ ) {
+			closeAll( otherStatementsResultSets[i] );
+			closeOrCache( otherStatements[i] );
+			otherStatements[i] = null;
+			otherStatementsResultSets[i] = null;
+		}
+		otherStatementCount = 0;
 
 		closeAll( unassociatedResultSets );
 
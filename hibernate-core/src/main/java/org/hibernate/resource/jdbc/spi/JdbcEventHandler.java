@@ -96,6 +96,18 @@ public void jdbcPrepareStatementEnd() {
 		}
 	}
 
+	public void jdbcStatementCacheHit() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheHit();
+		}
+	}
+
+	public void jdbcStatementCacheMiss() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheMiss();
+		}
+	}
+
 	public void jdbcExecuteStatementStart() {
 		if ( sessionListener != null ) {
 			sessionListener.jdbcExecuteStatementStart();
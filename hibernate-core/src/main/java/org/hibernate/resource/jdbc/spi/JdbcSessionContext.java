@@ -4,6 +4,7 @@
  */
 package org.hibernate.resource.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -30,6 +31,16 @@ public interface JdbcSessionContext {
 	 */
 	Integer getFetchSizeOrNull();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT
 	 */
@@ -4,6 +4,7 @@
  */
 package org.hibernate.resource.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.event.spi.EventManager;
@@ -85,6 +86,18 @@ default SqlExceptionHelper getSqlExceptionHelper() {
 	 */
 	EventMonitor getEventMonitor();
 
+	/**
+	 * A callback to the owner before a statement which writes to the
+	 * database is prepared.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void beforeDatabaseWrite() {
+	}
+
 	/**
 	 * Obtain a reference to the {@link EventMonitor}
 	 * dressed up as an instance of {@link EventManager}.
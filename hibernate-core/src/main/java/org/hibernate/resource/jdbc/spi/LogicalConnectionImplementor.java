@@ -8,8 +8,11 @@
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
 
+import org.hibernate.Incubating;
 import org.hibernate.resource.jdbc.LogicalConnection;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * SPI contract for {@link LogicalConnection}.
  *
@@ -27,6 +30,19 @@ public interface LogicalConnectionImplementor extends LogicalConnection {
 
 	PhysicalConnectionHandlingMode getConnectionHandlingMode();
 
+	/**
+	 * The cache of prepared statements kept open for the life of the
+	 * physical connection, if statement caching is enabled.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default @Nullable PreparedStatementCache getStatementCache() {
+		return null;
+	}
+
 	/**
 	 * Notification indicating a JDBC statement has been executed, to trigger
 	 * {@link org.hibernate.ConnectionReleaseMode#AFTER_STATEMENT} releasing
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.resource.jdbc.spi;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded cache of {@link PreparedStatement}s belonging to a
+ * {@linkplain LogicalConnectionImplementor logical connection}, which
+ * keeps statements open across executions for the life of the physical
+ * JDBC connection, instead of closing them after each execution.
+ * <p>
+ * A statement obtained from the cache is in use until it is
+ * {@linkplain #release released}, and is never handed out twice at
+ * the same time.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ *
+ * @since 7.1
+ */
+@Incubating
+public interface PreparedStatementCache {
+	/**
+	 * Identifies statements which may be used interchangeably.
+	 *
+	 * @param sql The SQL of the statement
+	 * @param callable Whether the statement is a {@link java.sql.CallableStatement}
+	 * @param resultSetType The type of the result sets produced by the statement
+	 * @param autoGeneratedKeys Whether the statement returns generated keys
+	 */
+	record Key(String sql, boolean callable, int resultSetType, int autoGeneratedKeys) {
+	}
+
+	/**
+	 * Obtain an idle statement for the given key, marking it in use.
+	 *
+	 * @return the cached statement, or {@code null} if there is none
+	 */
+	@Nullable PreparedStatement checkOut(Key key);
+
+	/**
+	 * Register a newly prepared statement, marking it in use, so that it
+	 * is kept by the cache when it is released.
+	 */
+	void register(Key key, PreparedStatement statement);
+
+	/**
+	 * Release a statement which is no longer in use.
+	 *
+	 * @return {@code true} if the statement was kept by the cache,
+	 *         {@code false} if the caller must close it
+	 */
+	boolean release(Statement statement);
+
+	/**
+	 * Close all the cached statements, when the physical connection
+	 * is released.
+	 */
+	void clear();
+}
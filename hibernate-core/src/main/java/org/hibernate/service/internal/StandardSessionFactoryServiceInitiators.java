@@ -9,6 +9,7 @@
 
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
+import org.hibernate.id.enhanced.IdentifierPrefetchServiceInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -26,6 +27,7 @@ public static List<SessionFactoryServiceInitiator<?>> buildStandardServiceInitia
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
 		serviceInitiators.add( CacheInitiator.INSTANCE );
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
+		serviceInitiators.add( IdentifierPrefetchServiceInitiator.INSTANCE );
 
 		return serviceInitiators;
 	}
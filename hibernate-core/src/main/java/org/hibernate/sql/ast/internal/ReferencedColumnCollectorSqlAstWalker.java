@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.ast.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.persister.internal.SqlFragmentPredicate;
+import org.hibernate.sql.ast.spi.AbstractSqlAstWalker;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.AliasedExpression;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.FunctionExpression;
+import org.hibernate.sql.ast.tree.expression.LiteralAsParameter;
+import org.hibernate.sql.ast.tree.expression.NestedColumnReference;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
+import org.hibernate.sql.ast.tree.expression.Star;
+import org.hibernate.sql.ast.tree.from.NamedTableReference;
+import org.hibernate.sql.ast.tree.from.UnionTableReference;
+import org.hibernate.sql.ast.tree.predicate.FilterPredicate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Determines the columns of each table referenced by a SQL AST, for the purpose of
+ * {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_FINE_GRAINED_INVALIDATION
+ * fine-grained query cache invalidation}.
+ * <p>
+ * The result is {@code null} if the referenced columns cannot be reliably determined,
+ * for example, because the AST contains SQL fragments or formulas.
+ */
+public class ReferencedColumnCollectorSqlAstWalker extends AbstractSqlAstWalker {
+
+	private final Map<String, List<String>> tablesByAlias = new HashMap<>();
+	private final Map<String, Set<String>> columnsByQualifier = new HashMap<>();
+	private int functionArgumentDepth;
+	private boolean unknown;
+
+	public static @Nullable Map<String, Set<String>> determineReferencedColumns(SqlAstNode node) {
+		final ReferencedColumnCollectorSqlAstWalker walker = new ReferencedColumnCollectorSqlAstWalker();
+		node.accept( walker );
+		return walker.unknown ? null : walker.resolveReferencedColumns();
+	}
+
+	private Map<String, Set<String>> resolveReferencedColumns() {
+		final Map<String, Set<String>> columnsByTable = new HashMap<>();
+		for ( Map.Entry<String, List<String>> entry : tablesByAlias.entrySet() ) {
+			final Set<String> columns = columnsByQualifier.get( entry.getKey() );
+			for ( String table : entry.getValue() ) {
+				final Set<String> tableColumns = columnsByTable.computeIfAbsent( table, k -> new HashSet<>() );
+				if ( columns != null ) {
+					tableColumns.addAll( columns );
+				}
+			}
+		}
+		return columnsByTable;
+	}
+
+	@Override
+	public void visitNamedTableReference(NamedTableReference tableReference) {
+		final String alias = tableReference.getIdentificationVariable();
+		if ( alias != null
+				&& ( tableReference instanceof UnionTableReference
+						|| !tableReference.getTableExpression().startsWith( "(" ) ) ) {
+			// the columns of a union subquery have the same names as the
+			// columns of the tables it unions, but the columns of other
+			// subqueries (@Subselect) don't map to table columns
+			tableReference.applyAffectedTableNames(
+					tablesByAlias.computeIfAbsent( alias, k -> new ArrayList<>() )::add
+			);
+		}
+	}
+
+	@Override
+	public void visitColumnReference(ColumnReference columnReference) {
+		final String qualifier = columnReference.getQualifier();
+		if ( qualifier == null || columnReference.isColumnExpressionFormula() ) {
+			unknown = true;
+		}
+		else {
+			columnsByQualifier.computeIfAbsent( qualifier, k -> new HashSet<>() )
+					.add( columnReference.getColumnExpression() );
+		}
+	}
+
+	@Override
+	public void visitNestedColumnReference(NestedColumnReference nestedColumnReference) {
+		nestedColumnReference.getBaseExpression().accept( this );
+	}
+
+	@Override
+	public void visitSelfRenderingExpression(SelfRenderingExpression expression) {
+		if ( expression instanceof FunctionExpression ) {
+			functionArgumentDepth++;
+			try {
+				super.visitSelfRenderingExpression( expression );
+			}
+			finally {
+				functionArgumentDepth--;
+			}
+		}
+		else if ( expression instanceof AliasedExpression aliasedExpression ) {
+			aliasedExpression.getExpression().accept( this );
+		}
+		else if ( !( expression instanceof LiteralAsParameter<?> ) ) {
+			unknown = true;
+		}
+	}
+
+	@Override
+	public void visitStar(Star star) {
+		// count(*) doesn't depend on any column, but 'select *' does
+		if ( functionArgumentDepth == 0 ) {
+			unknown = true;
+		}
+	}
+
+	@Override
+	public void visitFilterPredicate(FilterPredicate filterPredicate) {
+		unknown = true;
+	}
+
+	@Override
+	public void visitFilterFragmentPredicate(FilterPredicate.FilterFragmentPredicate fragmentPredicate) {
+		unknown = true;
+	}
+
+	@Override
+	public void visitSqlFragmentPredicate(SqlFragmentPredicate predicate) {
+		unknown = true;
+	}
+}
@@ -27,6 +27,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
 import org.hibernate.dialect.RowLockStrategy;
@@ -88,6 +89,7 @@
 import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.SqlTreeCreationException;
+import org.hibernate.sql.ast.internal.ReferencedColumnCollectorSqlAstWalker;
 import org.hibernate.sql.ast.internal.TableGroupHelper;
 import org.hibernate.sql.ast.internal.ParameterMarkerStrategyStandard;
 import org.hibernate.sql.ast.tree.AbstractUpdateOrDeleteStatement;
@@ -838,6 +840,7 @@ protected JdbcOperationQuerySelect translateSelect(SelectStatement selectStateme
 				getParameterBinders(),
 				buildJdbcValuesMappingProducer( selectStatement ),
 				getAffectedTableNames(),
+				determineReferencedColumns( selectStatement ),
 				rowsToSkip = getRowsToSkip( selectStatement, getJdbcParameterBindings() ),
 				getMaxRows( selectStatement, getJdbcParameterBindings(), rowsToSkip ),
 				getAppliedParameterBindings(),
@@ -847,6 +850,14 @@ protected JdbcOperationQuerySelect translateSelect(SelectStatement selectStateme
 		);
 	}
 
+	private Map<String, Set<String>> determineReferencedColumns(SelectStatement selectStatement) {
+		final SessionFactoryOptions options = getSessionFactory().getSessionFactoryOptions();
+		// the referenced columns are only needed for fine-grained query cache invalidation
+		return options.isQueryCacheEnabled() && options.isQueryCacheFineGrainedInvalidationEnabled()
+				? ReferencedColumnCollectorSqlAstWalker.determineReferencedColumns( selectStatement )
+				: null;
+	}
+
 	private JdbcValuesMappingProducer buildJdbcValuesMappingProducer(SelectStatement selectStatement) {
 		return getSessionFactory().getJdbcValuesMappingProducerProvider()
 				.buildMappingProducer( selectStatement, getSessionFactory() );
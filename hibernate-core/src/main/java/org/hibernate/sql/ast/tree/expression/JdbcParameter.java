@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.ast.tree.expression;
 
+import org.hibernate.Incubating;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 
 /**
@@ -11,4 +12,29 @@
  */
 public interface JdbcParameter extends Expression {
 	JdbcParameterBinder getParameterBinder();
+
+	/**
+	 * The index of this parameter among the parameters of the statement
+	 * it was created for, which allows {@link org.hibernate.sql.exec.spi.JdbcParameterBindings}
+	 * to store its binding in an array slot, or {@code -1} if no index was
+	 * assigned.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default int getParameterIndex() {
+		return -1;
+	}
+
+	/**
+	 * Assign the {@linkplain #getParameterIndex index} of this parameter,
+	 * unless it was already assigned, when the parameter is collected with
+	 * the other parameters of its statement. Parameters which do not keep
+	 * an index ignore the assignment.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	default void assignParameterIndex(int parameterIndex) {
+	}
 }
@@ -36,11 +36,24 @@
 		implements JdbcParameter, JdbcParameterBinder, MappingModelExpressible, SqlExpressible, BasicValuedMapping {
 
 	private final JdbcMapping jdbcMapping;
+	private int parameterIndex = -1;
 
 	public AbstractJdbcParameter(JdbcMapping jdbcMapping) {
 		this.jdbcMapping = jdbcMapping;
 	}
 
+	@Override
+	public int getParameterIndex() {
+		return parameterIndex;
+	}
+
+	@Override
+	public void assignParameterIndex(int parameterIndex) {
+		if ( this.parameterIndex < 0 ) {
+			this.parameterIndex = parameterIndex;
+		}
+	}
+
 	@Override
 	public JdbcParameterBinder getParameterBinder() {
 		return this;
@@ -4,9 +4,12 @@
  */
 package org.hibernate.sql.exec.internal;
 
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -30,16 +33,26 @@
 
 /**
  * Standard implementation of JdbcParameterBindings
+ * <p>
+ * The binding of a parameter with an {@linkplain JdbcParameter#getParameterIndex
+ * index} is stored in an array slot, and only the bindings of other parameters,
+ * or of parameters whose slot is taken, are kept in an {@link IdentityHashMap}.
  *
  * @author Steve Ebersole
  */
 public class JdbcParameterBindingsImpl implements JdbcParameterBindings {
+	private static final JdbcParameter[] NO_PARAMETERS = new JdbcParameter[0];
+	private static final JdbcParameterBinding[] NO_BINDINGS = new JdbcParameterBinding[0];
+
+	private JdbcParameter[] indexedParameters = NO_PARAMETERS;
+	private JdbcParameterBinding[] indexedBindings = NO_BINDINGS;
+	private int indexedBindingCount;
+	private int expectedParameterCount;
 	private Map<JdbcParameter, JdbcParameterBinding> bindingMap;
+	private Collection<JdbcParameterBinding> bindings;
 
 	public JdbcParameterBindingsImpl(int expectedParameterCount) {
-		if ( expectedParameterCount > 0 ) {
-			bindingMap = new IdentityHashMap<>( expectedParameterCount );
-		}
+		this.expectedParameterCount = expectedParameterCount;
 	}
 
 	public JdbcParameterBindingsImpl(
@@ -48,7 +61,7 @@ public JdbcParameterBindingsImpl(
 			List<JdbcParameterBinder> jdbcParameterBinders,
 			SessionFactoryImplementor factory) {
 		if ( !parameterOccurrences.isEmpty() ) {
-			bindingMap = new IdentityHashMap<>( parameterOccurrences.size() );
+			expectedParameterCount = parameterOccurrences.size();
 
 			final Dialect dialect = factory.getJdbcServices().getDialect();
 			final boolean paddingEnabled = factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled();
@@ -148,6 +161,24 @@ private BindableType<?> determineParamType(QueryParameterImplementor<?> param, Q
 
 	@Override
 	public void addBinding(JdbcParameter parameter, JdbcParameterBinding binding) {
+		final int index = parameter.getParameterIndex();
+		if ( index >= 0 ) {
+			if ( index >= indexedParameters.length ) {
+				final int length = Math.max( index + 1, Math.max( expectedParameterCount, indexedParameters.length << 1 ) );
+				indexedParameters = Arrays.copyOf( indexedParameters, length );
+				indexedBindings = Arrays.copyOf( indexedBindings, length );
+			}
+			final JdbcParameter indexedParameter = indexedParameters[index];
+			if ( indexedParameter == null || indexedParameter == parameter ) {
+				if ( indexedParameter == null ) {
+					indexedBindingCount++;
+				}
+				indexedParameters[index] = parameter;
+				indexedBindings[index] = binding;
+				return;
+			}
+		}
+
 		if ( bindingMap == null ) {
 			bindingMap = new IdentityHashMap<>();
 		}
@@ -157,30 +188,100 @@ public void addBinding(JdbcParameter parameter, JdbcParameterBinding binding) {
 
 	@Override
 	public Collection<JdbcParameterBinding> getBindings() {
-		return bindingMap == null ? Collections.emptyList() : bindingMap.values();
+		if ( bindings == null ) {
+			bindings = new Bindings();
+		}
+		return bindings;
 	}
 
 	@Override
 	public JdbcParameterBinding getBinding(JdbcParameter parameter) {
-		if ( bindingMap == null ) {
+		final int index = parameter.getParameterIndex();
+		if ( index >= 0 && index < indexedParameters.length && indexedParameters[index] == parameter ) {
+			return indexedBindings[index];
+		}
+		else if ( bindingMap == null ) {
 			return null;
 		}
-		return bindingMap.get( parameter );
+		else {
+			return bindingMap.get( parameter );
+		}
 	}
 
 	@Override
 	public void visitBindings(BiConsumer<JdbcParameter, JdbcParameterBinding> action) {
-		if ( bindingMap == null ) {
-			return;
+		for ( int i = 0; i < indexedParameters.length; i++ ) {
+			final JdbcParameter parameter = indexedParameters[i];
+			if ( parameter != null ) {
+				action.accept( parameter, indexedBindings[i] );
+			}
 		}
-		for ( Map.Entry<JdbcParameter, JdbcParameterBinding> entry : bindingMap.entrySet() ) {
-			action.accept( entry.getKey(), entry.getValue() );
+		if ( bindingMap != null ) {
+			for ( Map.Entry<JdbcParameter, JdbcParameterBinding> entry : bindingMap.entrySet() ) {
+				action.accept( entry.getKey(), entry.getValue() );
+			}
 		}
 	}
 
 	public void clear() {
+		Arrays.fill( indexedParameters, null );
+		Arrays.fill( indexedBindings, null );
+		indexedBindingCount = 0;
 		if ( bindingMap != null ) {
 			bindingMap.clear();
 		}
 	}
+
+	/**
+	 * A view of the bindings, which iterates the array slots
+	 * and then the bindings kept in the map.
+	 */
+	private class Bindings extends AbstractCollection<JdbcParameterBinding> {
+		@Override
+		public int size() {
+			return bindingMap == null ? indexedBindingCount : indexedBindingCount + bindingMap.size();
+		}
+
+		@Override
+		public Iterator<JdbcParameterBinding> iterator() {
+			return new Iterator<>() {
+				private int position = nextIndexedPosition( 0 );
+				private Iterator<JdbcParameterBinding> mappedBindings;
+
+				@Override
+				public boolean hasNext() {
+					return position < indexedParameters.length
+						|| mappedBindings().hasNext();
+				}
+
+				@Override
+				public JdbcParameterBinding next() {
+					if ( position < indexedParameters.length ) {
+						final JdbcParameterBinding binding = indexedBindings[position];
+						position = nextIndexedPosition( position + 1 );
+						return binding;
+					}
+					else {
+						return mappedBindings().next();
+					}
+				}
+
+				private Iterator<JdbcParameterBinding> mappedBindings() {
+					if ( mappedBindings == null ) {
+						mappedBindings = bindingMap == null
+								? Collections.emptyIterator()
+								: bindingMap.values().iterator();
+					}
+					return mappedBindings;
+				}
+			};
+		}
+	}
+
+	private int nextIndexedPosition(int position) {
+		while ( position < indexedParameters.length && indexedParameters[position] == null ) {
+			position++;
+		}
+		return position;
+	}
 }
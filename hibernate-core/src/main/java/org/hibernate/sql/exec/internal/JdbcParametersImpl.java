@@ -24,6 +24,7 @@ public class JdbcParametersImpl implements JdbcParameters {
 	public static final JdbcParametersImpl NO_PARAMETERS = new JdbcParametersImpl();
 
 	private Set<JdbcParameter> jdbcParameters;
+	private int parameterCount;
 
 	@Override
 	public void addParameter(JdbcParameter parameter) {
@@ -31,7 +32,9 @@ public void addParameter(JdbcParameter parameter) {
 			jdbcParameters = new HashSet<>();
 		}
 
-		jdbcParameters.add( parameter );
+		if ( jdbcParameters.add( parameter ) ) {
+			assignParameterIndex( parameter );
+		}
 	}
 
 	@Override
@@ -40,7 +43,15 @@ public void addParameters(Collection<JdbcParameter> parameters) {
 			jdbcParameters = new HashSet<>();
 		}
 
-		jdbcParameters.addAll( parameters );
+		for ( JdbcParameter parameter : parameters ) {
+			if ( jdbcParameters.add( parameter ) ) {
+				assignParameterIndex( parameter );
+			}
+		}
+	}
+
+	private void assignParameterIndex(JdbcParameter parameter) {
+		parameter.assignParameterIndex( parameterCount++ );
 	}
 
 	@Override
@@ -10,6 +10,7 @@
 
 import org.hibernate.CacheMode;
 import org.hibernate.SharedSessionContract;
+import org.hibernate.cache.internal.QueryCacheInvalidationSpaces;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -297,7 +298,7 @@ private JdbcValues resolveJdbcValuesSource(
 					queryResultsCacheKey,
 					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
 					//		atm we do not even collect querySpaces, but we need to
-					querySpaces,
+					resolveQueryCacheSpaces( jdbcSelect, querySpaces, factory ),
 					session
 			);
 
@@ -349,6 +350,18 @@ private JdbcValues resolveJdbcValuesSource(
 		);
 	}
 
+	private static Set<String> resolveQueryCacheSpaces(
+			JdbcOperationQuerySelect jdbcSelect,
+			Set<String> querySpaces,
+			SessionFactoryImplementor factory) {
+		if ( querySpaces != null && factory.getSessionFactoryOptions().isQueryCacheFineGrainedInvalidationEnabled() ) {
+			return QueryCacheInvalidationSpaces.forQuery( querySpaces, jdbcSelect.getReferencedColumns() );
+		}
+		else {
+			return querySpaces;
+		}
+	}
+
 	private static AbstractJdbcValues resolveJdbcValues(
 			String queryIdentifier,
 			ExecutionContext executionContext,
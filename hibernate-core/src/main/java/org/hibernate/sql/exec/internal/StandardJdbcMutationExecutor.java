@@ -42,6 +42,7 @@ public int execute(
 			ExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		session.autoFlushIfRequired( jdbcMutation.getAffectedTableNames() );
+		session.beforeDatabaseWrite();
 
 		final LogicalConnectionImplementor logicalConnection =
 				session.getJdbcCoordinator().getLogicalConnection();
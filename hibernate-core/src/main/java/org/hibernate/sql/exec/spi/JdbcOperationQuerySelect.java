@@ -15,6 +15,8 @@
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Executable JDBC command
  *
@@ -22,6 +24,7 @@
  */
 public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 	private final JdbcValuesMappingProducer jdbcValuesMappingProducer;
+	private final @Nullable Map<String, Set<String>> referencedColumns;
 	private final int rowsToSkip;
 	private final int maxRows;
 	private final JdbcParameter offsetParameter;
@@ -58,8 +61,36 @@ public JdbcOperationQuerySelect(
 			JdbcLockStrategy jdbcLockStrategy,
 			JdbcParameter offsetParameter,
 			JdbcParameter limitParameter) {
+		this(
+				sql,
+				parameterBinders,
+				jdbcValuesMappingProducer,
+				affectedTableNames,
+				null,
+				rowsToSkip,
+				maxRows,
+				appliedParameters,
+				jdbcLockStrategy,
+				offsetParameter,
+				limitParameter
+		);
+	}
+
+	public JdbcOperationQuerySelect(
+			String sql,
+			List<JdbcParameterBinder> parameterBinders,
+			JdbcValuesMappingProducer jdbcValuesMappingProducer,
+			Set<String> affectedTableNames,
+			@Nullable Map<String, Set<String>> referencedColumns,
+			int rowsToSkip,
+			int maxRows,
+			Map<JdbcParameter, JdbcParameterBinding> appliedParameters,
+			JdbcLockStrategy jdbcLockStrategy,
+			JdbcParameter offsetParameter,
+			JdbcParameter limitParameter) {
 		super( sql, parameterBinders, affectedTableNames, appliedParameters );
 		this.jdbcValuesMappingProducer = jdbcValuesMappingProducer;
+		this.referencedColumns = referencedColumns;
 		this.rowsToSkip = rowsToSkip;
 		this.maxRows = maxRows;
 		this.jdbcLockStrategy = jdbcLockStrategy;
@@ -71,6 +102,16 @@ public JdbcValuesMappingProducer getJdbcValuesMappingProducer() {
 		return jdbcValuesMappingProducer;
 	}
 
+	/**
+	 * The columns referenced by this select, by {@linkplain #getAffectedTableNames table},
+	 * or {@code null} if they were not determined.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FINE_GRAINED_INVALIDATION
+	 */
+	public @Nullable Map<String, Set<String>> getReferencedColumns() {
+		return referencedColumns;
+	}
+
 	public int getRowsToSkip() {
 		return rowsToSkip;
 	}
@@ -61,6 +61,7 @@ public void add(final JdbcParameter jdbcParameter) {
 				System.arraycopy( array, 0, newArray, 0, array.length );
 				this.array = newArray;
 			}
+			jdbcParameter.assignParameterIndex( index );
 			this.array[index++] = jdbcParameter;
 		}
 
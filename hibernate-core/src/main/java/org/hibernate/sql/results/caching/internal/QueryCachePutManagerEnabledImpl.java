@@ -25,6 +25,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final Integer timeToLive;
 	private final List<Object> dataToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
@@ -32,11 +33,13 @@ public QueryCachePutManagerEnabledImpl(
 			StatisticsImplementor statistics,
 			QueryKey queryKey,
 			String queryIdentifier,
+			Integer timeToLive,
 			CachedJdbcValuesMetadata metadataForCache) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.timeToLive = timeToLive;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
 		}
@@ -60,6 +63,7 @@ public void finishUp(int resultCount, SharedSessionContractImplementor session)
 		final boolean put = queryCache.put(
 				queryKey,
 				dataToCache,
+				timeToLive,
 				session
 		);
 		if ( put && statistics.isStatisticsEnabled() ) {
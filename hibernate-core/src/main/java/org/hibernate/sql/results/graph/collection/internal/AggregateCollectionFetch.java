@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.util.BitSet;
+
+import org.hibernate.engine.FetchTiming;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.graph.collection.CollectionInitializer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Fetch of a collection whose elements are aggregated into a single
+ * value by a correlated subquery, so that the collection table does
+ * not need to be joined.
+ *
+ * @see org.hibernate.cfg.FetchSettings#USE_AGGREGATE_COLLECTION_FETCH
+ *
+ * @since 7.1
+ */
+public class AggregateCollectionFetch extends CollectionFetch {
+	private final @Nullable DomainResult<?> collectionKeyDomainResult;
+	private final DomainResult<?> elementsDomainResult;
+
+	public AggregateCollectionFetch(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedAttribute,
+			@Nullable DomainResult<?> collectionKeyDomainResult,
+			DomainResult<?> elementsDomainResult,
+			FetchParent fetchParent) {
+		super( fetchedPath, fetchedAttribute, fetchParent );
+		this.collectionKeyDomainResult = collectionKeyDomainResult;
+		this.elementsDomainResult = elementsDomainResult;
+	}
+
+	@Override
+	public FetchTiming getTiming() {
+		return FetchTiming.IMMEDIATE;
+	}
+
+	@Override
+	public boolean hasTableGroup() {
+		return false;
+	}
+
+	public CollectionInitializer<?> createInitializer(InitializerParent<?> parent, AssemblerCreationState creationState) {
+		return new AggregateCollectionInitializer(
+				getNavigablePath(),
+				getFetchedMapping(),
+				parent,
+				collectionKeyDomainResult,
+				elementsDomainResult,
+				creationState
+		);
+	}
+
+	@Override
+	public JavaType<?> getResultJavaType() {
+		return getFetchedMapping().getJavaType();
+	}
+
+	@Override
+	public void collectValueIndexesToCache(BitSet valueIndexes) {
+		if ( collectionKeyDomainResult != null ) {
+			collectionKeyDomainResult.collectValueIndexesToCache( valueIndexes );
+		}
+		elementsDomainResult.collectValueIndexesToCache( valueIndexes );
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.log.LoggingHelper;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.internal.ResultsHelper;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Initializes a collection from the array of its elements, read from a
+ * single column of the current row.
+ * <p>
+ * For a collection of entities, the column holds the identifiers of the
+ * associated entities. The collections read from all the rows are then
+ * initialized at the end of the processing of the results, after loading
+ * the associated entities which are not already in the persistence context
+ * using a single multi-id load.
+ *
+ * @see AggregateCollectionFetch
+ *
+ * @since 7.1
+ */
+public class AggregateCollectionInitializer
+		extends AbstractNonJoinCollectionInitializer<AggregateCollectionInitializer.AggregateCollectionInitializerData> {
+
+	private static final Object[] NO_IDS = new Object[0];
+
+	/**
+	 * Entities already in the persistence context are not loaded again,
+	 * and the entities are returned in the order of their identifiers.
+	 */
+	private static final MultiIdLoadOptions MULTI_ID_LOAD_OPTIONS = new MultiIdLoadOptions() {
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return null;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	};
+
+	private final DomainResultAssembler<?> elementsAssembler;
+	private final @Nullable EntityPersister elementDescriptor;
+
+	public static class AggregateCollectionInitializerData extends CollectionInitializerData {
+		// the collections of entities, and the identifiers of their elements
+		private @Nullable List<PersistentCollection<?>> toInitialize;
+		private @Nullable List<Object[]> toInitializeIds;
+
+		public AggregateCollectionInitializerData(RowProcessingState rowProcessingState) {
+			super( rowProcessingState );
+		}
+	}
+
+	public AggregateCollectionInitializer(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedMapping,
+			InitializerParent<?> parent,
+			@Nullable DomainResult<?> collectionKeyResult,
+			DomainResult<?> elementsResult,
+			AssemblerCreationState creationState) {
+		super( fetchedPath, fetchedMapping, parent, collectionKeyResult, false, creationState );
+		this.elementsAssembler = elementsResult.createResultAssembler( this, creationState );
+		this.elementDescriptor =
+				fetchedMapping.getElementDescriptor() instanceof EntityCollectionPart entityCollectionPart
+						? entityCollectionPart.getAssociatedEntityMappingType().getEntityPersister()
+						: null;
+	}
+
+	@Override
+	protected InitializerData createInitializerData(RowProcessingState rowProcessingState) {
+		return new AggregateCollectionInitializerData( rowProcessingState );
+	}
+
+	@Override
+	public void resolveInstance(AggregateCollectionInitializerData data) {
+		if ( data.getState() == State.KEY_RESOLVED ) {
+			resolveInstance( data, false );
+			final PersistentCollection<?> collection = data.getCollectionInstance();
+			if ( data.getState() == State.INITIALIZED && collection != null && !collection.wasInitialized() ) {
+				initializeCollection( collection, data );
+			}
+		}
+	}
+
+	@Override
+	public void resolveInstance(@Nullable Object instance, AggregateCollectionInitializerData data) {
+		resolveInstance( instance, data, true );
+	}
+
+	@Override
+	public void resolveState(AggregateCollectionInitializerData data) {
+		super.resolveState( data );
+		elementsAssembler.resolveState( data.getRowProcessingState() );
+	}
+
+	private void initializeCollection(PersistentCollection<?> collection, AggregateCollectionInitializerData data) {
+		final RowProcessingState rowProcessingState = data.getRowProcessingState();
+		final PersistenceContext persistenceContext =
+				rowProcessingState.getSession().getPersistenceContextInternal();
+		final CollectionKey collectionKey = data.collectionKey;
+		assert collectionKey != null;
+		if ( persistenceContext.getLoadContexts().findLoadingCollectionEntry( collectionKey ) != null ) {
+			// some other initializer is responsible for this collection
+			return;
+		}
+
+		final Object[] elements = (Object[]) elementsAssembler.assemble( rowProcessingState );
+		if ( elementDescriptor == null ) {
+			initializeCollection( collection, elements == null ? null : Arrays.asList( elements ), persistenceContext );
+		}
+		else {
+			// the associated entities are loaded all at once, at the end
+			if ( data.toInitialize == null ) {
+				data.toInitialize = new ArrayList<>();
+				data.toInitializeIds = new ArrayList<>();
+			}
+			data.toInitialize.add( collection );
+			data.toInitializeIds.add( elements == null ? NO_IDS : elements );
+		}
+	}
+
+	private void initializeCollection(
+			PersistentCollection<?> collection,
+			@Nullable List<?> loadingState,
+			PersistenceContext persistenceContext) {
+		final CollectionPersister collectionDescriptor = collectionAttributeMapping.getCollectionDescriptor();
+		collection.beforeInitialize( collectionDescriptor, loadingState == null ? 0 : loadingState.size() );
+		collection.beginRead();
+		collection.injectLoadedState( collectionAttributeMapping, loadingState );
+		final boolean hasNoQueuedAdds = collection.endRead();
+		ResultsHelper.finalizeCollectionLoading(
+				persistenceContext,
+				collectionDescriptor,
+				collection,
+				collection.getKey(),
+				hasNoQueuedAdds
+		);
+	}
+
+	@Override
+	public void endLoading(AggregateCollectionInitializerData data) {
+		super.endLoading( data );
+		final List<PersistentCollection<?>> toInitialize = data.toInitialize;
+		final List<Object[]> toInitializeIds = data.toInitializeIds;
+		if ( toInitialize != null && toInitializeIds != null ) {
+			assert elementDescriptor != null;
+			final SharedSessionContractImplementor session = data.getRowProcessingState().getSession();
+			final Map<Object, Object> elementsById = loadElements( toInitializeIds, session );
+			for ( int i = 0; i < toInitialize.size(); i++ ) {
+				final Object[] ids = toInitializeIds.get( i );
+				final List<Object> elements = new ArrayList<>( ids.length );
+				for ( Object id : ids ) {
+					final Object element = elementsById.get( id );
+					// a removed entity is not added to the collection
+					if ( element != null ) {
+						elements.add( element );
+					}
+				}
+				initializeCollection( toInitialize.get( i ), elements, session.getPersistenceContextInternal() );
+			}
+			data.toInitialize = null;
+			data.toInitializeIds = null;
+		}
+	}
+
+	/**
+	 * Load the associated entities with the given identifiers, or obtain
+	 * them from the persistence context.
+	 */
+	private Map<Object, Object> loadElements(List<Object[]> idArrays, SharedSessionContractImplementor session) {
+		assert elementDescriptor != null;
+		final Set<Object> distinctIds = new LinkedHashSet<>();
+		for ( Object[] ids : idArrays ) {
+			for ( Object id : ids ) {
+				if ( id != null ) {
+					distinctIds.add( id );
+				}
+			}
+		}
+		final Map<Object, Object> elementsById = new HashMap<>( distinctIds.size() );
+		if ( !distinctIds.isEmpty() ) {
+			final Object[] ids = distinctIds.toArray();
+			final List<?> elements = elementDescriptor.multiLoad( ids, session, MULTI_ID_LOAD_OPTIONS );
+			for ( int i = 0; i < ids.length; i++ ) {
+				elementsById.put( ids[i], elements.get( i ) );
+			}
+		}
+		return elementsById;
+	}
+
+	@Override
+	public String toString() {
+		return "AggregateCollectionInitializer(" + LoggingHelper.toLoggableString( getNavigablePath() ) + ")";
+	}
+}
@@ -44,6 +44,16 @@ public boolean hasTableGroup() {
 	}
 
 	public CollectionInitializer<?> createInitializer(InitializerParent<?> parent, AssemblerCreationState creationState) {
+		if ( creationState.getSqlAstCreationContext().getSessionFactory()
+				.getSessionFactoryOptions().isSplitCollectionFetchEnabled() ) {
+			return new SplitCollectionInitializer(
+					getNavigablePath(),
+					getFetchedMapping(),
+					parent,
+					collectionKeyDomainResult,
+					creationState
+			);
+		}
 		return new SelectEagerCollectionInitializer(
 				getNavigablePath(),
 				getFetchedMapping(),
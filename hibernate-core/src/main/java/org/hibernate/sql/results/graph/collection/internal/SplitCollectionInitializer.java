@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.log.LoggingHelper;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Initializes eager collections which are not joined, once all rows have
+ * been read, by a single query keyed by all the owners read from the rows.
+ * Collections which could not be initialized this way are still initialized
+ * one by one with the other non-lazy collections.
+ *
+ * @see org.hibernate.cfg.FetchSettings#SPLIT_COLLECTION_FETCHES
+ *
+ * @since 7.1
+ */
+public class SplitCollectionInitializer
+		extends AbstractNonJoinCollectionInitializer<SplitCollectionInitializer.SplitCollectionInitializerData> {
+
+	public static class SplitCollectionInitializerData extends CollectionInitializerData {
+		private ArrayList<PersistentCollection<?>> toBatchLoad;
+
+		public SplitCollectionInitializerData(RowProcessingState rowProcessingState) {
+			super( rowProcessingState );
+		}
+	}
+
+	public SplitCollectionInitializer(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedMapping,
+			InitializerParent<?> parent,
+			@Nullable DomainResult<?> collectionKeyResult,
+			AssemblerCreationState creationState) {
+		super( fetchedPath, fetchedMapping, parent, collectionKeyResult, false, creationState );
+	}
+
+	@Override
+	protected InitializerData createInitializerData(RowProcessingState rowProcessingState) {
+		return new SplitCollectionInitializerData( rowProcessingState );
+	}
+
+	@Override
+	public void resolveInstance(SplitCollectionInitializerData data) {
+		resolveInstance( data, true );
+		registerToBatchLoad( data );
+	}
+
+	@Override
+	public void resolveInstance(@Nullable Object instance, SplitCollectionInitializerData data) {
+		resolveInstance( instance, data, true );
+		registerToBatchLoad( data );
+	}
+
+	@Override
+	public void initializeInstanceFromParent(Object parentInstance, SplitCollectionInitializerData data) {
+		final Object instance = getInitializedPart().getValue( parentInstance );
+		if ( instance == null ) {
+			setMissing( data );
+		}
+		else {
+			final PersistentCollection<?> collection;
+			if ( collectionAttributeMapping.getCollectionDescriptor()
+					.getCollectionSemantics()
+					.getCollectionClassification() == CollectionClassification.ARRAY ) {
+				collection = data.getRowProcessingState().getSession().getPersistenceContextInternal()
+						.getCollectionHolder( instance );
+			}
+			else {
+				collection = (PersistentCollection<?>) instance;
+			}
+			data.setState( State.INITIALIZED );
+			data.setCollectionInstance( collection );
+			if ( !collection.wasInitialized() ) {
+				data.getRowProcessingState().getSession().getPersistenceContextInternal()
+						.addNonLazyCollection( collection );
+				registerToBatchLoad( data );
+			}
+		}
+	}
+
+	private void registerToBatchLoad(SplitCollectionInitializerData data) {
+		if ( data.getState() == State.INITIALIZED ) {
+			final PersistentCollection<?> collection = data.getCollectionInstance();
+			if ( collection != null && !collection.wasInitialized() && collection.getKey() != null ) {
+				ArrayList<PersistentCollection<?>> toBatchLoad = data.toBatchLoad;
+				if ( toBatchLoad == null ) {
+					toBatchLoad = data.toBatchLoad = new ArrayList<>();
+				}
+				toBatchLoad.add( collection );
+			}
+		}
+	}
+
+	@Override
+	public void endLoading(SplitCollectionInitializerData data) {
+		super.endLoading( data );
+		final ArrayList<PersistentCollection<?>> toBatchLoad = data.toBatchLoad;
+		data.toBatchLoad = null;
+		final SharedSessionContractImplementor session = data.getRowProcessingState().getSession();
+		if ( toBatchLoad != null && isSplitLoadable( session ) ) {
+			final LinkedHashSet<Object> keys = new LinkedHashSet<>( toBatchLoad.size() );
+			for ( PersistentCollection<?> collection : toBatchLoad ) {
+				// the collection might have been initialized by some other means meanwhile
+				if ( !collection.wasInitialized() ) {
+					keys.add( collection.getKey() );
+				}
+			}
+			if ( !keys.isEmpty() ) {
+				collectionAttributeMapping.getCollectionDescriptor().initializeAll( keys.toArray(), session );
+			}
+		}
+	}
+
+	/**
+	 * A collection which is cached, or batch or subselect fetchable, is left
+	 * to be initialized the usual way.
+	 */
+	private boolean isSplitLoadable(SharedSessionContractImplementor session) {
+		final CollectionPersister collectionDescriptor = collectionAttributeMapping.getCollectionDescriptor();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		return !collectionDescriptor.hasCache()
+			&& !influencers.effectivelyBatchLoadable( collectionDescriptor )
+			&& !influencers.effectiveSubselectFetchEnabled( collectionDescriptor );
+	}
+
+	@Override
+	public String toString() {
+		return "SplitCollectionInitializer(" + LoggingHelper.toLoggableString( getNavigablePath() ) + ")";
+	}
+}
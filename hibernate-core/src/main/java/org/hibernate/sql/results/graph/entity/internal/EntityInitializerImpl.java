@@ -1551,35 +1551,50 @@ private void putInCache(
 			}
 		}
 		else {
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			boolean put = false;
-			final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-				put = cacheAccess.putFromLoad(
-						session,
-						cacheKey,
-						data.concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ),
-						version,
-						//useMinimalPuts( session, entityEntry )
-						false
-				);
-			}
-			finally {
-				eventMonitor.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						cacheAccess,
-						data.concreteDescriptor,
-						put,
-						EventMonitor.CacheActionDescription.ENTITY_LOAD
-				);
-				final StatisticsImplementor statistics = factory.getStatistics();
-				if ( put && statistics.isStatisticsEnabled() ) {
-					statistics.entityCachePut( rootEntityDescriptor.getNavigableRole(), cacheAccess.getRegion().getName() );
-				}
-				eventListenerManager.cachePutEnd();
+			final EntityPersister concreteDescriptor = data.concreteDescriptor;
+			final Object structuredCacheEntry = concreteDescriptor.getCacheEntryStructure().structure( cacheEntry );
+			factory.getCache().performCacheWrite( cacheAccess, cacheKey, true, session,
+					writeSession -> putFromLoad( writeSession, cacheAccess, cacheKey,
+							structuredCacheEntry, version, concreteDescriptor ) );
+		}
+	}
+
+	private void putFromLoad(
+			SharedSessionContractImplementor session,
+			EntityDataAccess cacheAccess,
+			Object cacheKey,
+			Object structuredCacheEntry,
+			Object version,
+			EntityPersister concreteDescriptor) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		boolean put = false;
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			put = cacheAccess.putFromLoad(
+					session,
+					cacheKey,
+					structuredCacheEntry,
+					version,
+					//useMinimalPuts( session, entityEntry )
+					false
+			);
+		}
+		finally {
+			eventMonitor.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					cacheAccess,
+					concreteDescriptor,
+					put,
+					EventMonitor.CacheActionDescription.ENTITY_LOAD
+			);
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( put && statistics.isStatisticsEnabled() ) {
+				statistics.entityCachePut( rootEntityDescriptor.getNavigableRole(), cacheAccess.getRegion().getName() );
 			}
+			eventListenerManager.cachePutEnd();
 		}
 	}
 
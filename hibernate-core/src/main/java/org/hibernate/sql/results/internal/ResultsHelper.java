@@ -198,41 +198,57 @@ private static void addCollectionToCache(
 
 		// CollectionRegionAccessStrategy has no update, so avoid putting uncommitted data via putFromLoad
 		if ( isPutFromLoad ) {
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			final EventMonitor eventMonitor = session.getEventMonitor();
-			final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
-			boolean put = false;
-			try {
-				eventListenerManager.cachePutStart();
-				put = cacheAccess.putFromLoad(
-						session,
-						cacheKey,
-						collectionDescriptor.getCacheEntryStructure().structure( entry ),
-						version,
-						factory.getSessionFactoryOptions().isMinimalPutsEnabled()
-								&& session.getCacheMode()!= CacheMode.REFRESH
+			final Object structuredCacheEntry = collectionDescriptor.getCacheEntryStructure().structure( entry );
+			final boolean minimalPutOverride =
+					factory.getSessionFactoryOptions().isMinimalPutsEnabled()
+							&& session.getCacheMode() != CacheMode.REFRESH;
+			factory.getCache().performCacheWrite( cacheAccess, cacheKey, true, session,
+					writeSession -> putFromLoad( writeSession, collectionDescriptor, cacheAccess, cacheKey,
+							structuredCacheEntry, version, minimalPutOverride ) );
+		}
+	}
+
+	private static void putFromLoad(
+			SharedSessionContractImplementor session,
+			CollectionPersister collectionDescriptor,
+			CollectionDataAccess cacheAccess,
+			Object cacheKey,
+			Object structuredCacheEntry,
+			Object version,
+			boolean minimalPutOverride) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
+		boolean put = false;
+		try {
+			eventListenerManager.cachePutStart();
+			put = cacheAccess.putFromLoad(
+					session,
+					cacheKey,
+					structuredCacheEntry,
+					version,
+					minimalPutOverride
+			);
+		}
+		finally {
+			eventMonitor.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					cacheAccess,
+					collectionDescriptor,
+					put,
+					EventMonitor.CacheActionDescription.COLLECTION_INSERT
+			);
+			eventListenerManager.cachePutEnd();
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( put && statistics.isStatisticsEnabled() ) {
+				statistics.collectionCachePut(
+						collectionDescriptor.getNavigableRole(),
+						cacheAccess.getRegion().getName()
 				);
 			}
-			finally {
-				eventMonitor.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						cacheAccess,
-						collectionDescriptor,
-						put,
-						EventMonitor.CacheActionDescription.COLLECTION_INSERT
-				);
-				eventListenerManager.cachePutEnd();
-
-				final StatisticsImplementor statistics = factory.getStatistics();
-				if ( put && statistics.isStatisticsEnabled() ) {
-					statistics.collectionCachePut(
-							collectionDescriptor.getNavigableRole(),
-							collectionDescriptor.getCacheAccessStrategy().getRegion().getName()
-					);
-				}
 
-			}
 		}
 	}
 }
@@ -135,6 +135,7 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
+					queryOptions.getResultCacheTimeToLive(),
 					metadataForCache
 			);
 		}
@@ -25,6 +25,16 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 */
 	long getFetchCount();
 
+	/**
+	 * Number of sessions (since last Statistics clearing) in which this collection
+	 * was reported as an "N+1 selects" problem
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	long getNPlusOneDetectionCount();
+
 	/**
 	 * Number of times (since last Statistics clearing) this collection
 	 * has been recreated (rows potentially deleted and then rows (re-)inserted)
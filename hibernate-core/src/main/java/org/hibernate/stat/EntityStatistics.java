@@ -43,6 +43,16 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 */
 	long getFetchCount();
 
+	/**
+	 * Number of sessions (since last Statistics clearing) in which this entity
+	 * was reported as an "N+1 selects" problem
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	long getNPlusOneDetectionCount();
+
 	/**
 	 * Number of times (since last Statistics clearing) this entity
 	 * has experienced an optimistic lock failure.
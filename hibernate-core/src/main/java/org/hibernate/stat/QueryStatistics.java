@@ -95,6 +95,28 @@ default long getPlanCacheMissCount(){
 		return 0;
 	}
 
+	/**
+	 * The number of executions which reused a SQL translation
+	 * held by the query plan.
+	 *
+	 * @since 7.1
+	 */
+	default long getTranslationCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of executions which required a new translation
+	 * to SQL.
+	 *
+	 * @since 7.1
+	 */
+	default long getTranslationCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The overall time spent to compile the plan for this
 	 * particular query.
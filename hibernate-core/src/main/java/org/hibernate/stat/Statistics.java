@@ -280,6 +280,25 @@ public interface Statistics {
 	 */
 	long getSecondLevelCachePutCount();
 
+	/**
+	 * The global number of puts of entities and collections into the cache
+	 * which were dropped because too many
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_ASYNC_WRITE_THREADS
+	 * asynchronous cache writes} were pending.
+	 *
+	 * @since 7.1
+	 */
+	long getSecondLevelCacheWriteDropCount();
+
+	/**
+	 * The current number of
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_ASYNC_WRITE_THREADS
+	 * asynchronous cache writes} waiting to be performed.
+	 *
+	 * @since 7.1
+	 */
+	long getSecondLevelCacheWriteQueueDepth();
+
 	/**
 	 * The global number of sessions closed.
 	 */
@@ -300,6 +319,18 @@ public interface Statistics {
 	 */
 	long getCollectionFetchCount();
 
+	/**
+	 * The global number of "N+1 selects" problems detected, that is, the
+	 * number of times a session fetched single instances of the same entity,
+	 * or collections of the same role, by separate queries more often than
+	 * the configured threshold.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	long getNPlusOneDetectionCount();
+
 	/**
 	 * The global number of collections updated.
 	 */
@@ -391,6 +422,26 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements which were obtained from the
+	 * per-connection statement cache, instead of being prepared.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.1
+	 */
+	long getPreparedStatementCacheHitCount();
+
+	/**
+	 * The number of prepared statements which were not found in the
+	 * per-connection statement cache, and had to be prepared.
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.1
+	 */
+	long getPreparedStatementCacheMissCount();
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -406,4 +457,39 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of executions of a query plan which reused one of
+	 * the SQL translations held by the plan.
+	 *
+	 * @since 7.1
+	 */
+	long getQueryTranslationCacheHitCount();
+
+	/**
+	 * The global number of executions of a query plan which required a new
+	 * translation to SQL, because none of the translations held by the plan
+	 * was compatible with the parameter bindings and query options.
+	 *
+	 * @since 7.1
+	 */
+	long getQueryTranslationCacheMissCount();
+
+	/**
+	 * The global number of ranges of identifier values obtained by a
+	 * {@link org.hibernate.id.enhanced.PrefetchingPooledOptimizer}, which
+	 * had already been retrieved in the background when they were needed.
+	 *
+	 * @since 7.1
+	 */
+	long getIdentifierPrefetchHitCount();
+
+	/**
+	 * The global number of ranges of identifier values obtained by a
+	 * {@link org.hibernate.id.enhanced.PrefetchingPooledOptimizer}, for
+	 * which identifier generation had to wait for the database.
+	 *
+	 * @since 7.1
+	 */
+	long getIdentifierPrefetchMissCount();
 }
@@ -20,6 +20,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final String collectionRole;
 	private final LongAdder loadCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
+	private final LongAdder nPlusOneDetectionCount = new LongAdder();
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
@@ -42,6 +43,10 @@ public long getFetchCount() {
 		return fetchCount.sum();
 	}
 
+	public long getNPlusOneDetectionCount() {
+		return nPlusOneDetectionCount.sum();
+	}
+
 	public long getRecreateCount() {
 		return recreateCount.sum();
 	}
@@ -62,6 +67,10 @@ void incrementFetchCount() {
 		fetchCount.increment();
 	}
 
+	void incrementNPlusOneDetectionCount() {
+		nPlusOneDetectionCount.increment();
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -80,6 +89,7 @@ public String toString() {
 				.append( "[collectionRole=" ).append( collectionRole )
 				.append( ",loadCount=" ).append( this.loadCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
+				.append( ",nPlusOneDetectionCount=" ).append( this.nPlusOneDetectionCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
 				.append( ",updateCount=" ).append( this.updateCount );
@@ -34,6 +34,8 @@ public class QueryStatisticsImpl implements QueryStatistics {
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
+	private final LongAdder translationCacheHitCount = new LongAdder();
+	private final LongAdder translationCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
 
@@ -145,6 +147,20 @@ public long getPlanCacheMissCount() {
 		return planCacheMissCount.sum();
 	}
 
+	/**
+	 * SQL translation reused by the query plan
+	 */
+	public long getTranslationCacheHitCount() {
+		return translationCacheHitCount.sum();
+	}
+
+	/**
+	 * SQL translation not reused by the query plan
+	 */
+	public long getTranslationCacheMissCount() {
+		return translationCacheMissCount.sum();
+	}
+
 	/**
 	 * Query plan overall compiled total
 	 */
@@ -205,6 +221,14 @@ void incrementPlanCacheMissCount() {
 		planCacheMissCount.increment();
 	}
 
+	void incrementTranslationCacheHitCount() {
+		translationCacheHitCount.increment();
+	}
+
+	void incrementTranslationCacheMissCount() {
+		translationCacheMissCount.increment();
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -63,6 +63,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -76,9 +78,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder collectionRecreateCount = new LongAdder();
 	private final LongAdder collectionFetchCount = new LongAdder();
 
+	private final LongAdder nPlusOneDetectionCount = new LongAdder();
+
 	private final LongAdder secondLevelCacheHitCount = new LongAdder();
 	private final LongAdder secondLevelCacheMissCount = new LongAdder();
 	private final LongAdder secondLevelCachePutCount = new LongAdder();
+	private final LongAdder secondLevelCacheWriteDropCount = new LongAdder();
 
 	private final LongAdder naturalIdCacheHitCount = new LongAdder();
 	private final LongAdder naturalIdCacheMissCount = new LongAdder();
@@ -98,6 +103,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
 
+	private final LongAdder queryTranslationCacheHitCount = new LongAdder();
+	private final LongAdder queryTranslationCacheMissCount = new LongAdder();
+
+	private final LongAdder identifierPrefetchHitCount = new LongAdder();
+	private final LongAdder identifierPrefetchMissCount = new LongAdder();
+
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
@@ -155,6 +166,7 @@ public void clear() {
 		secondLevelCacheHitCount.reset();
 		secondLevelCacheMissCount.reset();
 		secondLevelCachePutCount.reset();
+		secondLevelCacheWriteDropCount.reset();
 
 		naturalIdCacheHitCount.reset();
 		naturalIdCacheMissCount.reset();
@@ -171,6 +183,8 @@ public void clear() {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -185,6 +199,8 @@ public void clear() {
 		collectionLoadCount.reset();
 		collectionFetchCount.reset();
 
+		nPlusOneDetectionCount.reset();
+
 		queryExecutionCount.reset();
 		queryCacheHitCount.reset();
 		queryExecutionMaxTime.set( 0L );
@@ -210,6 +226,12 @@ public void clear() {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		queryTranslationCacheHitCount.reset();
+		queryTranslationCacheMissCount.reset();
+
+		identifierPrefetchHitCount.reset();
+		identifierPrefetchMissCount.reset();
+
 		resetStart();
 	}
 
@@ -304,6 +326,12 @@ public void fetchEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityNPlusOneDetected(String entityName) {
+		nPlusOneDetectionCount.increment();
+		getEntityStatistics( entityName ).incrementNPlusOneDetectionCount();
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -341,6 +369,11 @@ public void entityCachePut(NavigableRole entityName, String regionName) {
 		getEntityStatistics( entityName.getFullPath() ).incrementCachePutCount();
 	}
 
+	@Override
+	public void secondLevelCacheWriteDropped() {
+		secondLevelCacheWriteDropCount.increment();
+	}
+
 	@Override
 	public void entityCacheHit(NavigableRole entityName, String regionName) {
 		secondLevelCacheHitCount.increment();
@@ -418,6 +451,17 @@ public void fetchCollection(String role) {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionNPlusOneDetected(String role) {
+		nPlusOneDetectionCount.increment();
+		getCollectionStatistics( role ).incrementNPlusOneDetectionCount();
+	}
+
+	@Override
+	public long getNPlusOneDetectionCount() {
+		return nPlusOneDetectionCount.sum();
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -641,6 +685,16 @@ public long getSecondLevelCachePutCount() {
 		return secondLevelCachePutCount.sum();
 	}
 
+	@Override
+	public long getSecondLevelCacheWriteDropCount() {
+		return secondLevelCacheWriteDropCount.sum();
+	}
+
+	@Override
+	public long getSecondLevelCacheWriteQueueDepth() {
+		return cache == null ? 0 : cache.getCacheWriteQueueDepth();
+	}
+
 	@Override
 	public long getUpdateTimestampsCacheHitCount() {
 		return updateTimestampsCacheHitCount.sum();
@@ -812,6 +866,54 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public long getQueryTranslationCacheHitCount() {
+		return queryTranslationCacheHitCount.sum();
+	}
+
+	@Override
+	public long getQueryTranslationCacheMissCount() {
+		return queryTranslationCacheMissCount.sum();
+	}
+
+	@Override
+	public void queryTranslationCacheHit(String query) {
+		queryTranslationCacheHitCount.increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementTranslationCacheHitCount();
+		}
+	}
+
+	@Override
+	public void queryTranslationCacheMiss(String query) {
+		queryTranslationCacheMissCount.increment();
+
+		if ( query != null ) {
+			getQueryStatistics( query ).incrementTranslationCacheMissCount();
+		}
+	}
+
+	@Override
+	public long getIdentifierPrefetchHitCount() {
+		return identifierPrefetchHitCount.sum();
+	}
+
+	@Override
+	public long getIdentifierPrefetchMissCount() {
+		return identifierPrefetchMissCount.sum();
+	}
+
+	@Override
+	public void identifierPrefetchHit() {
+		identifierPrefetchHitCount.increment();
+	}
+
+	@Override
+	public void identifierPrefetchMiss() {
+		identifierPrefetchMissCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -864,6 +966,16 @@ public long getPrepareStatementCount() {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -894,6 +1006,16 @@ public void closeStatement() {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -960,6 +1082,8 @@ public String toString() {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statement cache hits=" + preparedStatementCacheHitCount +
+				",statement cache misses=" + preparedStatementCacheMissCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -974,6 +1098,7 @@ public String toString() {
 				",collections removed=" + collectionRemoveCount +
 				",collections recreated=" + collectionRecreateCount +
 				",collections fetched=" + collectionFetchCount +
+				",N+1 selects detected=" + nPlusOneDetectionCount +
 				",naturalId queries executed to database=" + naturalIdQueryExecutionCount +
 				",naturalId cache puts=" + naturalIdCachePutCount +
 				",naturalId cache hits=" + naturalIdCacheHitCount +
@@ -989,6 +1114,10 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query translation cache hits=" + queryTranslationCacheHitCount +
+				",query translation cache misses=" + queryTranslationCacheMissCount +
+				",identifier prefetch hits=" + identifierPrefetchHitCount +
+				",identifier prefetch misses=" + identifierPrefetchMissCount +
 				']';
 	}
 
@@ -50,6 +50,26 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a statement being obtained from the per-connection
+	 * statement cache.
+	 *
+	 * @since 7.1
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a statement being prepared because it was not found
+	 * in the per-connection statement cache.
+	 *
+	 * @since 7.1
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -124,6 +144,34 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback indicating that a session fetched single instances of an entity
+	 * by separate queries often enough to be reported as an "N+1 selects" problem.
+	 *
+	 * @param entityName The name of the entity fetched.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	default void entityNPlusOneDetected(String entityName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a session fetched collections of a role by separate
+	 * queries often enough to be reported as an "N+1 selects" problem.
+	 *
+	 * @param role The collection role.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 7.1
+	 */
+	default void collectionNPlusOneDetected(String role) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
@@ -152,6 +200,14 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void entityCachePut(NavigableRole entityName, String regionName);
 
+	/**
+	 * Callback indicating that an asynchronous put into the second level
+	 * cache was dropped because too many writes were pending.
+	 *
+	 * @since 7.1
+	 */
+	void secondLevelCacheWriteDropped();
+
 	/**
 	 * Callback indicating a get from second level cache resulted in a hit.
 	 *
@@ -283,6 +339,50 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that the execution of a query plan reused one of the
+	 * SQL translations held by the plan.
+	 *
+	 * @param query The query
+	 *
+	 * @since 7.1
+	 */
+	default void queryTranslationCacheHit(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the execution of a query plan required a new
+	 * translation to SQL.
+	 *
+	 * @param query The query
+	 *
+	 * @since 7.1
+	 */
+	default void queryTranslationCacheMiss(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a range of identifier values prefetched in the
+	 * background had already been retrieved when it was needed.
+	 *
+	 * @since 7.1
+	 */
+	default void identifierPrefetchHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that identifier generation had to wait for the
+	 * database to obtain the next range of identifier values.
+	 *
+	 * @since 7.1
+	 */
+	default void identifierPrefetchMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = { BatchIdentityInsertTest.Node.class, BatchIdentityInsertTest.Tree.class } )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = BatchSettings.BATCH_IDENTITY_INSERTS, value = "true" ) )
+@RequiresDialect( H2Dialect.class )
+@RequiresDialect( PostgreSQLDialect.class )
+@RequiresDialect( MySQLDialect.class )
+public class BatchIdentityInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "update Node set parent = null, placement.previous = null" ).executeUpdate();
+			session.createMutationQuery( "delete from Node" ).executeUpdate();
+			session.createMutationQuery( "delete from Tree" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		final List<Node> nodes = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			nodes.add( new Node( "node" + i, null ) );
+		}
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( nodes ) );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 10 );
+		assertThat( nodes ).extracting( node -> node.id )
+				.doesNotContainNull()
+				.doesNotHaveDuplicates()
+				.isSorted();
+
+		scope.inTransaction( session -> {
+			for ( Node node : nodes ) {
+				assertThat( session.find( Node.class, node.id ).name ).isEqualTo( node.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleWithReferences(SessionFactoryScope scope) {
+		final Node root = new Node( "root", null );
+		final Node sibling = new Node( "sibling", null );
+		final Node child = new Node( "child", root );
+		final Node other = new Node( "other", null );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of( root, sibling, child, other ) ) );
+
+		// the child can only be inserted once the identifier of its parent is known
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		scope.inTransaction( session -> {
+			final Node loaded = session.find( Node.class, child.id );
+			assertThat( loaded.name ).isEqualTo( "child" );
+			assertThat( loaded.parent.id ).isEqualTo( root.id );
+			assertThat( session.find( Node.class, other.id ).name ).isEqualTo( "other" );
+		} );
+	}
+
+	@Test
+	public void testInsertMultipleWithReferencesFromEmbeddable(SessionFactoryScope scope) {
+		final Node first = new Node( "first", null );
+		final Node second = new Node( "second", null );
+		second.placement = new Placement( first );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of( first, second ) ) );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		scope.inTransaction( session ->
+				assertThat( session.find( Node.class, second.id ).placement.previous.id ).isEqualTo( first.id ) );
+	}
+
+	@Test
+	public void testInsertMultipleAfterBatchedInserts(SessionFactoryScope scope) {
+		final Tree oak = new Tree( 1L, "oak" );
+		final Tree elm = new Tree( 2L, "elm" );
+		final Node first = new Node( "first", null );
+		first.tree = oak;
+		final Node second = new Node( "second", null );
+		second.tree = elm;
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		// the batched inserts of the trees must be executed before the
+		// inserts of the nodes which refer to them
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of( oak, elm, first, second ) ) );
+
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 4 );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Node.class, first.id ).tree.name ).isEqualTo( "oak" );
+			assertThat( session.find( Node.class, second.id ).tree.name ).isEqualTo( "elm" );
+		} );
+	}
+
+	@Embeddable
+	public static class Placement {
+		@ManyToOne
+		private Node previous;
+
+		public Placement() {
+		}
+
+		public Placement(Node previous) {
+			this.previous = previous;
+		}
+	}
+
+	@Entity(name = "Node")
+	public static class Node {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Node parent;
+
+		@Embedded
+		private Placement placement;
+
+		@ManyToOne
+		private Tree tree;
+
+		public Node() {
+		}
+
+		public Node(String name, Node parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Tree")
+	public static class Tree {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Tree() {
+		}
+
+		public Tree(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
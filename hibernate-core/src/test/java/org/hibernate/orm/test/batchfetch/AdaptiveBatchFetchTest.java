@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Employee.class,
+		AdaptiveBatchFetchTest.Department.class,
+		AdaptiveBatchFetchTest.Project.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.USE_ADAPTIVE_BATCH_FETCH, value = "true"))
+public class AdaptiveBatchFetchTest {
+
+	private static final int COUNT = 40;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+				session.persist( new Project( i, department ) );
+				session.persist( new Project( COUNT + i, department ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntityBatchSizeAdapts(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee e order by e.id", Employee.class )
+							.getResultList();
+			inspector.clear();
+			for ( Employee employee : employees ) {
+				assertThat( employee.department.getId() ).isEqualTo( employee.id );
+				Hibernate.initialize( employee.department );
+			}
+			assertThat( employees ).allMatch( employee -> Hibernate.isInitialized( employee.department ) );
+			// the configured batch size of 2 would need 20 round trips
+			assertThat( inspector.getSqlQueries() ).hasSizeLessThan( COUNT / 4 );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchSizeAdapts(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department d order by d.id", Department.class )
+							.getResultList();
+			inspector.clear();
+			for ( Department department : departments ) {
+				assertThat( department.projects ).hasSize( 2 );
+			}
+			assertThat( inspector.getSqlQueries() ).hasSizeLessThan( COUNT / 4 );
+		} );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	@BatchSize(size = 2)
+	public static class Department {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "department")
+		@BatchSize(size = 2)
+		private List<Project> projects = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "Project")
+	public static class Project {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Department department;
+
+		public Project() {
+		}
+
+		public Project(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
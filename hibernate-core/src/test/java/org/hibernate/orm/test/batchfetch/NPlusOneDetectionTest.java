@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		NPlusOneDetectionTest.Employee.class,
+		NPlusOneDetectionTest.Department.class,
+		NPlusOneDetectionTest.Project.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.N_PLUS_ONE_DETECTION_THRESHOLD, value = "3"),
+		@Setting(name = FetchSettings.N_PLUS_ONE_BATCH_SIZE, value = "8"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+public class NPlusOneDetectionTest {
+
+	private static final int COUNT = 20;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+				session.persist( new Project( i, department ) );
+			}
+		} );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testProxyInitialization(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee e order by e.id", Employee.class )
+							.getResultList();
+			inspector.clear();
+			for ( Employee employee : employees ) {
+				Hibernate.initialize( employee.department );
+				assertThat( employee.department.getId() ).isEqualTo( employee.id );
+			}
+			// two separate selects, then batches of 8 from the third one on
+			assertThat( inspector.getSqlQueries() ).hasSize( 5 );
+		} );
+		assertThat( statistics.getNPlusOneDetectionCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityStatistics( Department.class.getName() ).getNPlusOneDetectionCount() )
+				.isEqualTo( 1 );
+	}
+
+	@Test
+	public void testCollectionInitialization(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Department> departments =
+					session.createSelectionQuery( "from Department d order by d.id", Department.class )
+							.getResultList();
+			inspector.clear();
+			for ( Department department : departments ) {
+				assertThat( department.projects ).hasSize( 1 );
+			}
+			assertThat( inspector.getSqlQueries() ).hasSize( 5 );
+		} );
+		assertThat( statistics.getNPlusOneDetectionCount() ).isEqualTo( 1 );
+		assertThat( statistics.getCollectionStatistics( Department.class.getName() + ".projects" )
+				.getNPlusOneDetectionCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBelowThreshold(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Employee> employees =
+					session.createSelectionQuery( "from Employee e where e.id <= 2", Employee.class )
+							.getResultList();
+			inspector.clear();
+			employees.forEach( employee -> Hibernate.initialize( employee.department ) );
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+		} );
+		assertThat( statistics.getNPlusOneDetectionCount() ).isZero();
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "department")
+		private List<Project> projects = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "Project")
+	public static class Project {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Department department;
+
+		public Project() {
+		}
+
+		public Project(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.function.BooleanSupplier;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@DomainModel( annotatedClasses = AsyncCacheWriteTest.Book.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = CacheSettings.CACHE_ASYNC_WRITE_THREADS, value = "2" )
+} )
+public class AsyncCacheWriteTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testAfterInsertAndUpdate(SessionFactoryScope scope) {
+		final org.hibernate.Cache cache = scope.getSessionFactory().getCache();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Dune" ) ) );
+		awaitUntil( () -> cache.containsEntity( Book.class, 1L ) );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ).setTitle( "Dune Messiah" ) );
+		awaitUntil( () -> scope.fromSession( session -> session.find( Book.class, 1L ).getTitle() )
+				.equals( "Dune Messiah" ) );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> assertThat( session.find( Book.class, 1L ).getTitle() ).isEqualTo( "Dune Messiah" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheWriteDropCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testPutFromLoad(SessionFactoryScope scope) {
+		final org.hibernate.Cache cache = scope.getSessionFactory().getCache();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Dune" ) ) );
+		awaitUntil( () -> cache.containsEntity( Book.class, 1L ) );
+		cache.evictEntityData( Book.class, 1L );
+
+		scope.inSession( session -> assertThat( session.find( Book.class, 1L ).getTitle() ).isEqualTo( "Dune" ) );
+		awaitUntil( () -> cache.containsEntity( Book.class, 1L ) );
+		awaitUntil( () -> scope.getSessionFactory().getStatistics().getSecondLevelCacheWriteQueueDepth() == 0 );
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( !condition.getAsBoolean() ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Asynchronous cache write was not performed" );
+			}
+			try {
+				Thread.sleep( 10 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail( "Interrupted" );
+			}
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Long id;
+		@Version
+		private Integer version;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
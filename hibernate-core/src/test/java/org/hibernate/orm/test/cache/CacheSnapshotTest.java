@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel( annotatedClasses = CacheSnapshotTest.Book.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" )
+} )
+public class CacheSnapshotTest {
+
+	@TempDir
+	private Path directory;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1L, "Dune" ) );
+			session.persist( new Book( 2L, "Hyperion" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSaveAndLoad(SessionFactoryScope scope) {
+		final CacheImplementor cache = scope.getSessionFactory().getCache();
+		final Path file = directory.resolve( "cache.snapshot" );
+		assertThat( cache.saveSnapshot( file, List.of() ) ).isEqualTo( 2 );
+
+		cache.evictAllRegions();
+		assertThat( cache.containsEntity( Book.class, 1L ) ).isFalse();
+
+		assertThat( cache.loadSnapshot( file ) ).isEqualTo( 2 );
+		assertThat( cache.containsEntity( Book.class, 1L ) ).isTrue();
+		assertThat( cache.containsEntity( Book.class, 2L ) ).isTrue();
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> assertThat( session.find( Book.class, 2L ).getTitle() ).isEqualTo( "Hyperion" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testStaleRegionIsSkipped(SessionFactoryScope scope) {
+		final CacheImplementor cache = scope.getSessionFactory().getCache();
+		final Path file = directory.resolve( "cache.snapshot" );
+		cache.saveSnapshot( file, List.of() );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ).setTitle( "Dune Messiah" ) );
+		cache.evictEntityData();
+
+		assertThat( cache.loadSnapshot( file ) ).isEqualTo( 0 );
+		assertThat( cache.containsEntity( Book.class, 1L ) ).isFalse();
+		scope.inSession( session -> assertThat( session.find( Book.class, 1L ).getTitle() ).isEqualTo( "Dune Messiah" ) );
+	}
+
+	@Test
+	public void testSnapshotNotTrackedByTimestampsIsRefused(SessionFactoryScope scope) {
+		final CacheImplementor cache = scope.getSessionFactory().getCache();
+		final Path file = directory.resolve( "cache.snapshot" );
+		cache.saveSnapshot( file, List.of() );
+
+		// as if a local caching provider had been restarted
+		cache.evictEntityData();
+		cache.getTimestampsCache().getRegion().clear();
+
+		assertThatThrownBy( () -> cache.loadSnapshot( file ) ).isInstanceOf( CacheException.class );
+		assertThat( cache.containsEntity( Book.class, 1L ) ).isFalse();
+	}
+
+	@Test
+	public void testMissingSnapshot(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().loadSnapshot( directory.resolve( "missing.snapshot" ) ) )
+				.isEqualTo( 0 );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Long id;
+		@Version
+		private Integer version;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.CompactCollectionState;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = {
+		CompactCollectionCacheEntryTest.Library.class,
+		CompactCollectionCacheEntryTest.Book.class,
+		CompactCollectionCacheEntryTest.Shelf.class
+} )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+public class CompactCollectionCacheEntryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCompact() {
+		final Serializable compacted = CompactCollectionState.compact( new Serializable[] { 1L, 2L, 3L }, 1 );
+		assertThat( compacted ).isInstanceOf( CompactCollectionState.class );
+		assertThat( ( (CompactCollectionState) compacted ).toArray() ).containsExactly( 1L, 2L, 3L );
+
+		final UUID uuid = UUID.randomUUID();
+		final CompactCollectionState map = (CompactCollectionState)
+				CompactCollectionState.compact( new Serializable[] { 1, "one", 2, uuid }, 2 );
+		assertThat( map.length() ).isEqualTo( 4 );
+		assertThat( map.toArray() ).containsExactly( 1, "one", 2, uuid );
+
+		final CompactCollectionState roundTripped = (CompactCollectionState)
+				SerializationHelper.clone( CompactCollectionState.compact( new Serializable[] { uuid, uuid }, 1 ) );
+		assertThat( roundTripped.toArray() ).containsExactly( uuid, uuid );
+
+		final Serializable[] mixed = { 1L, 2 };
+		assertThat( CompactCollectionState.compact( mixed, 1 ) ).isSameAs( mixed );
+		assertThat( CompactCollectionState.from( mixed ).get( 1 ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testCachedCollections(SessionFactoryScope scope) {
+		final UUID first = UUID.randomUUID();
+		final UUID second = UUID.randomUUID();
+		scope.inTransaction( session -> {
+			final Library library = new Library( 1L );
+			for ( long id = 1; id <= 3; id++ ) {
+				final Book book = new Book( id, library );
+				library.books.add( book );
+				session.persist( book );
+			}
+			library.shelves.add( new Shelf( second ) );
+			library.shelves.add( new Shelf( first ) );
+			library.shelves.forEach( session::persist );
+			library.counts.put( 10, "ten" );
+			library.counts.put( 20, "twenty" );
+			session.persist( library );
+		} );
+		// populate the collection cache
+		scope.inTransaction( session -> {
+			final Library library = session.find( Library.class, 1L );
+			assertThat( library.books ).hasSize( 3 );
+			assertThat( library.shelves ).hasSize( 2 );
+			assertThat( library.counts ).hasSize( 2 );
+		} );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Library library = session.find( Library.class, 1L );
+			assertThat( library.books ).extracting( Book::getId ).containsExactlyInAnyOrder( 1L, 2L, 3L );
+			assertThat( library.shelves ).extracting( Shelf::getId ).containsExactly( second, first );
+			assertThat( library.counts ).containsEntry( 10, "ten" ).containsEntry( 20, "twenty" );
+		} );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 0 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Library")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Library {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "library")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Set<Book> books = new HashSet<>();
+
+		@OneToMany
+		@OrderColumn
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<Shelf> shelves = new ArrayList<>();
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Map<Integer, String> counts = new HashMap<>();
+
+		public Library() {
+		}
+
+		public Library(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Library library;
+
+		public Book() {
+		}
+
+		public Book(Long id, Library library) {
+			this.id = id;
+			this.library = library;
+		}
+
+		public Long getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Shelf {
+		@Id
+		private UUID id;
+
+		public Shelf() {
+		}
+
+		public Shelf(UUID id) {
+			this.id = id;
+		}
+
+		public UUID getId() {
+			return id;
+		}
+	}
+}
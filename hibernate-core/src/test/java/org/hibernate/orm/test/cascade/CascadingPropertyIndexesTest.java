@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cascade;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				CascadingPropertyIndexesTest.Invoice.class,
+				CascadingPropertyIndexesTest.InvoiceLine.class,
+				CascadingPropertyIndexesTest.Customer.class
+		}
+)
+@SessionFactory
+public class CascadingPropertyIndexesTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOnlyCascadingPropertiesAreVisited(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Invoice.class );
+		final String[] propertyNames = persister.getPropertyNames();
+
+		assertThat( names( persister.getCascadingPropertyIndexes( CascadingActions.PERSIST ), propertyNames ) )
+				.containsExactly( "lines", "preferredLine" );
+		assertThat( names( persister.getCascadingPropertyIndexes( CascadingActions.MERGE ), propertyNames ) )
+				.containsExactly( "preferredLine" );
+		assertThat( names( persister.getCascadingPropertyIndexes( CascadingActions.DELETE ), propertyNames ) )
+				.containsExactly( "preferredLine" );
+		assertThat( persister.getCascadingPropertyIndexes( CascadingActions.PERSIST ) )
+				.isSameAs( persister.getCascadingPropertyIndexes( CascadingActions.PERSIST ) );
+	}
+
+	@Test
+	public void testCascade(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Customer customer = new Customer( 1 );
+			session.persist( customer );
+			final Invoice invoice = new Invoice( 1, customer );
+			invoice.lines.add( new InvoiceLine( 1 ) );
+			invoice.lines.add( new InvoiceLine( 2 ) );
+			session.persist( invoice );
+		} );
+		scope.inTransaction( session -> {
+			final Invoice invoice = session.find( Invoice.class, 1 );
+			assertThat( invoice.lines ).hasSize( 2 );
+			invoice.preferredLine = new InvoiceLine( 3 );
+		} );
+		scope.inTransaction( session -> {
+			final Invoice invoice = session.find( Invoice.class, 1 );
+			assertThat( invoice.preferredLine ).isNotNull();
+			assertThat( invoice.customer ).isNotNull();
+		} );
+	}
+
+	private static List<String> names(int[] propertyIndexes, String[] propertyNames) {
+		final List<String> names = new ArrayList<>();
+		for ( int propertyIndex : propertyIndexes ) {
+			names.add( propertyNames[propertyIndex] );
+		}
+		return names;
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		private Integer id;
+
+		private String reference;
+
+		@ManyToOne
+		private Customer customer;
+
+		@ManyToOne
+		private Customer billedCustomer;
+
+		@OneToMany(cascade = CascadeType.PERSIST)
+		private List<InvoiceLine> lines = new ArrayList<>();
+
+		@OneToOne(cascade = CascadeType.ALL)
+		private InvoiceLine preferredLine;
+
+		private String notes;
+
+		public Invoice() {
+		}
+
+		public Invoice(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "InvoiceLine")
+	public static class InvoiceLine {
+		@Id
+		private Integer id;
+
+		public InvoiceLine() {
+		}
+
+		public InvoiceLine(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.graph.GraphSemantic;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				AggregateBagFetchTest.Post.class,
+				AggregateBagFetchTest.Comment.class,
+				AggregateBagFetchTest.Tag.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.USE_AGGREGATE_COLLECTION_FETCH, value = "true"))
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJsonArrayAgg.class)
+public class AggregateBagFetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Tag java = new Tag( 1, "java" );
+			final Tag sql = new Tag( 2, "sql" );
+			session.persist( java );
+			session.persist( sql );
+			for ( int i = 1; i <= 3; i++ ) {
+				final Post post = new Post( i, "post " + i );
+				post.tags.add( java );
+				if ( i > 1 ) {
+					post.tags.add( sql );
+				}
+				session.persist( post );
+				for ( int j = 1; j <= i; j++ ) {
+					final Comment comment = new Comment( i * 10 + j, "comment " + j, post );
+					post.comments.add( comment );
+					session.persist( comment );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFind(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final Post post = session.find( Post.class, 3 );
+			// the post, then its comments, then its tags
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( " join " );
+			assertThat( Hibernate.isInitialized( post.comments ) ).isTrue();
+			assertThat( Hibernate.isInitialized( post.tags ) ).isTrue();
+			assertThat( post.comments ).extracting( comment -> comment.id ).containsExactlyInAnyOrder( 31, 32, 33 );
+			assertThat( post.comments ).allSatisfy( comment -> assertThat( comment.post ).isSameAs( post ) );
+			assertThat( post.tags ).extracting( tag -> tag.name ).containsExactlyInAnyOrder( "java", "sql" );
+		} );
+	}
+
+	@Test
+	public void testQueryWithSeveralBags(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final EntityGraph<Post> graph = session.createEntityGraph( Post.class );
+			graph.addAttributeNodes( "comments", "tags" );
+			// the bags would otherwise cause a MultipleBagFetchException
+			final List<Post> posts = session.createSelectionQuery( "from Post p order by p.id", Post.class )
+					.setEntityGraph( graph, GraphSemantic.FETCH )
+					.getResultList();
+			// one row per post, and a single load of the comments and of the tags of all the posts
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( posts ).hasSize( 3 );
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( posts.get( i ).comments ).hasSize( i + 1 );
+				assertThat( posts.get( i ).tags ).hasSize( i == 0 ? 1 : 2 );
+			}
+			assertThat( posts.get( 1 ).tags.get( 0 ) ).isSameAs( posts.get( 2 ).tags.get( 0 ) );
+		} );
+	}
+
+	@Test
+	public void testManagedElementsAreNotLoadedAgain(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Tag java = session.find( Tag.class, 1 );
+			final Tag sql = session.find( Tag.class, 2 );
+			inspector.clear();
+			final Post post = session.find( Post.class, 2 );
+			// the post and its comments
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+			assertThat( post.tags ).containsExactlyInAnyOrder( java, sql );
+		} );
+	}
+
+	@Test
+	public void testModifyAfterFetch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1 );
+			post.tags.add( session.find( Tag.class, 2 ) );
+			post.comments.get( 0 ).text = "edited";
+		} );
+		scope.inTransaction( session -> {
+			final Post post = session.find( Post.class, 1 );
+			assertThat( post.tags ).extracting( tag -> tag.name ).containsExactlyInAnyOrder( "java", "sql" );
+			assertThat( post.comments.get( 0 ).text ).isEqualTo( "edited" );
+		} );
+	}
+
+	@Entity(name = "Post")
+	public static class Post {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@OneToMany(mappedBy = "post", fetch = FetchType.EAGER)
+		@Fetch(FetchMode.JOIN)
+		private List<Comment> comments = new ArrayList<>();
+
+		@ManyToMany(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.JOIN)
+		private List<Tag> tags = new ArrayList<>();
+
+		public Post() {
+		}
+
+		public Post(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Comment")
+	public static class Comment {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Post post;
+
+		public Comment() {
+		}
+
+		public Comment(Integer id, String text, Post post) {
+			this.id = id;
+			this.text = text;
+			this.post = post;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.basic;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.graph.GraphSemantic;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = AggregateCollectionFetchTest.Document.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.USE_AGGREGATE_COLLECTION_FETCH, value = "true"))
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJsonArrayAgg.class)
+public class AggregateCollectionFetchTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = new Document( 1, "first" );
+			document.authors.add( "alice" );
+			document.authors.add( "bob" );
+			document.tags.add( "draft" );
+			document.revisions.add( 1 );
+			document.revisions.add( 2 );
+			document.revisions.add( 3 );
+			session.persist( document );
+			session.persist( new Document( 2, "second" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFind(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final Document document = session.find( Document.class, 1 );
+			// two bags and a set, fetched by a single query without a join
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( " join " );
+			assertThat( Hibernate.isInitialized( document.authors ) ).isTrue();
+			assertThat( Hibernate.isInitialized( document.tags ) ).isTrue();
+			assertThat( Hibernate.isInitialized( document.revisions ) ).isTrue();
+			assertThat( document.authors ).containsExactlyInAnyOrder( "alice", "bob" );
+			assertThat( document.tags ).containsExactly( "draft" );
+			assertThat( document.revisions ).containsExactlyInAnyOrder( 1, 2, 3 );
+		} );
+	}
+
+	@Test
+	public void testFindEmptyCollections(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final Document document = session.find( Document.class, 2 );
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( Hibernate.isInitialized( document.authors ) ).isTrue();
+			assertThat( document.authors ).isEmpty();
+			assertThat( document.tags ).isEmpty();
+			assertThat( document.revisions ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final EntityGraph<Document> graph = session.createEntityGraph( Document.class );
+			graph.addAttributeNodes( "authors", "tags", "revisions" );
+			final List<Document> documents = session.createSelectionQuery(
+							"from Document d order by d.id",
+							Document.class
+					)
+					.setEntityGraph( graph, GraphSemantic.FETCH )
+					.getResultList();
+			assertThat( documents ).hasSize( 2 );
+			assertThat( documents.get( 0 ).authors ).containsExactlyInAnyOrder( "alice", "bob" );
+			assertThat( documents.get( 0 ).revisions ).containsExactlyInAnyOrder( 1, 2, 3 );
+			assertThat( documents.get( 1 ).tags ).isEmpty();
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+		} );
+	}
+
+	@Test
+	public void testExplicitJoinFetch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.createSelectionQuery(
+							"from Document d left join fetch d.authors where d.id = 1",
+							Document.class
+					)
+					.getSingleResult();
+			assertThat( document.authors ).containsExactlyInAnyOrder( "alice", "bob" );
+			assertThat( document.tags ).containsExactly( "draft" );
+		} );
+	}
+
+	@Test
+	public void testModifyAfterFetch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Document.class, 2 ).authors.add( "carol" ) );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 2 );
+			assertThat( document.authors ).containsExactly( "carol" );
+			document.authors.clear();
+		} );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.JOIN)
+		private List<String> authors = new ArrayList<>();
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.JOIN)
+		private List<String> tags = new ArrayList<>();
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@Fetch(FetchMode.JOIN)
+		private Set<Integer> revisions = new HashSet<>();
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connections;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = ReadReplicaConnectionProviderTest.Item.class)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION, value = "true"),
+		settingProviders = @SettingProvider(settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = ReadReplicaConnectionProviderTest.ReplicaConnectionProviderProvider.class)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class ReadReplicaConnectionProviderTest {
+
+	private static final String REPLICA_URL = "jdbc:h2:mem:read_replica;DB_CLOSE_DELAY=-1";
+
+	private static Connection replicaKeepAlive;
+
+	@BeforeAll
+	public static void createReplica() throws SQLException {
+		replicaKeepAlive = DriverManager.getConnection( REPLICA_URL, "sa", "" );
+		try ( Statement statement = replicaKeepAlive.createStatement() ) {
+			statement.execute( "create table Item (id integer not null, name varchar(255), primary key (id))" );
+			statement.execute( "insert into Item (id, name) values (1, 'replica')" );
+		}
+	}
+
+	@AfterAll
+	public static void dropReplica() throws SQLException {
+		try ( Statement statement = replicaKeepAlive.createStatement() ) {
+			statement.execute( "drop table Item" );
+		}
+		replicaKeepAlive.close();
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Item( 1, "primary" ) ) );
+		ReplicaConnectionProvider.replicaConnections.set( 0 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		assertThat( ReplicaConnectionProvider.openReplicaConnections.get() ).isZero();
+	}
+
+	@Test
+	public void testSessionIsRoutedToPrimaryByDefault(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThat( findName( session ) ).isEqualTo( "primary" ) );
+		assertThat( ReplicaConnectionProvider.replicaConnections.get() ).isZero();
+	}
+
+	@Test
+	public void testReadOnlySessionIsRoutedToReplica(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			assertThat( session.isDefaultReadOnly() ).isTrue();
+			assertThat( findName( session ) ).isEqualTo( "replica" );
+			session.getTransaction().begin();
+			assertThat( findName( session ) ).isEqualTo( "replica" );
+			session.getTransaction().commit();
+		}
+		assertThat( ReplicaConnectionProvider.replicaConnections.get() ).isEqualTo( 2 );
+
+		scope.inSession( session -> {
+			session.setDefaultReadOnly( true );
+			assertThat( findName( session ) ).isEqualTo( "replica" );
+		} );
+		assertThat( ReplicaConnectionProvider.replicaConnections.get() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testReadOnlyQueryIsRoutedToReplica(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "select name from Item where id = 1", String.class )
+								.setReadOnly( true )
+								.getSingleResult() )
+					.isEqualTo( "replica" );
+			assertThat( findName( session ) ).isEqualTo( "primary" );
+		} );
+		assertThat( ReplicaConnectionProvider.replicaConnections.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testSessionReadsItsOwnWrites(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			session.find( Item.class, 1 ).name = "updated";
+			session.getTransaction().commit();
+			session.clear();
+
+			assertThat( session.createSelectionQuery( "select name from Item where id = 1", String.class )
+								.setReadOnly( true )
+								.getSingleResult() )
+					.isEqualTo( "updated" );
+			session.setDefaultReadOnly( true );
+			assertThat( findName( session ) ).isEqualTo( "updated" );
+		} );
+		assertThat( ReplicaConnectionProvider.replicaConnections.get() ).isZero();
+	}
+
+	@Test
+	public void testWriteAfterRoutedReadInTransactionFails(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.getTransaction().begin();
+			assertThat( findName( session ) ).isEqualTo( "replica" );
+			assertThatThrownBy( () -> session.createMutationQuery( "update Item set name = 'updated' where id = 1" )
+					.executeUpdate() )
+					.hasStackTraceContaining( "read replica" );
+			session.getTransaction().rollback();
+		}
+		assertReplicaName( "replica" );
+		scope.inSession( session -> assertThat( findName( session ) ).isEqualTo( "primary" ) );
+	}
+
+	@Test
+	public void testWriteAfterRoutedReadSwitchesToPrimary(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions()
+				.connectionHandlingMode( PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_HOLD )
+				.openSession() ) {
+			session.setDefaultReadOnly( true );
+			assertThat( findName( session ) ).isEqualTo( "replica" );
+			// the connection to the replica is still held, but the write goes to the primary
+			assertThat( session.createMutationQuery( "update Item set name = 'updated' where id = 1" )
+					.executeUpdate() ).isEqualTo( 1 );
+			assertThat( findName( session ) ).isEqualTo( "updated" );
+		}
+		assertThat( ReplicaConnectionProvider.replicaConnections.get() ).isEqualTo( 1 );
+		assertReplicaName( "replica" );
+	}
+
+	private static void assertReplicaName(String name) {
+		try ( Statement statement = replicaKeepAlive.createStatement();
+				ResultSet resultSet = statement.executeQuery( "select name from Item where id = 1" ) ) {
+			assertThat( resultSet.next() ).isTrue();
+			assertThat( resultSet.getString( 1 ) ).isEqualTo( name );
+		}
+		catch (SQLException e) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	private static String findName(Session session) {
+		return session.createSelectionQuery( "select name from Item where id = 1", String.class )
+				.getSingleResult();
+	}
+
+	public static class ReplicaConnectionProviderProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return ReplicaConnectionProvider.class.getName();
+		}
+	}
+
+	public static class ReplicaConnectionProvider extends DriverManagerConnectionProviderImpl
+			implements ReadReplicaConnectionProvider {
+		static final AtomicInteger replicaConnections = new AtomicInteger();
+		static final AtomicInteger openReplicaConnections = new AtomicInteger();
+
+		@Override
+		public Connection getReadOnlyConnection() throws SQLException {
+			replicaConnections.incrementAndGet();
+			openReplicaConnections.incrementAndGet();
+			return DriverManager.getConnection( REPLICA_URL, "sa", "" );
+		}
+
+		@Override
+		public void closeReadOnlyConnection(Connection connection) throws SQLException {
+			openReplicaConnections.decrementAndGet();
+			connection.close();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
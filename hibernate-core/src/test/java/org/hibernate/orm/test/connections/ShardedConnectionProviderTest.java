@@ -0,0 +1,495 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connections;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.annotations.PartitionKey;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ShardedConnectionProvider;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = {
+		ShardedConnectionProviderTest.Customer.class,
+		ShardedConnectionProviderTest.Purchase.class
+})
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		settingProviders = @SettingProvider(settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = ShardedConnectionProviderTest.ShardsConnectionProviderProvider.class)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class ShardedConnectionProviderTest {
+
+	private static final List<String> SHARDS = List.of( "eu", "us" );
+
+	private static final List<Connection> shardKeepAlives = new ArrayList<>();
+
+	@BeforeAll
+	public static void createShards() throws SQLException {
+		for ( String shard : SHARDS ) {
+			final Connection connection = DriverManager.getConnection( shardUrl( shard ), "sa", "" );
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "create table Customer (id integer not null, name varchar(255), region varchar(255), primary key (id))" );
+				statement.execute( "create table Purchase (id integer not null, description varchar(255), region varchar(255), customer_id integer, primary key (id))" );
+			}
+			shardKeepAlives.add( connection );
+		}
+	}
+
+	@AfterAll
+	public static void dropShards() throws SQLException {
+		for ( Connection connection : shardKeepAlives ) {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "drop table Purchase" );
+				statement.execute( "drop table Customer" );
+			}
+			connection.close();
+		}
+		shardKeepAlives.clear();
+	}
+
+	@AfterEach
+	public void tearDown() throws SQLException {
+		for ( Connection connection : shardKeepAlives ) {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "delete from Purchase" );
+				statement.execute( "delete from Customer" );
+			}
+		}
+	}
+
+	@Test
+	public void testSessionWritesToItsShard(SessionFactoryScope scope) throws SQLException {
+		try ( Session session = scope.getSessionFactory().withOptions().shardKey( "eu" ).openSession() ) {
+			session.getTransaction().begin();
+			session.persist( new Customer( 1, "eu", "Alice" ) );
+			session.getTransaction().commit();
+
+			assertThat( session.find( Customer.class, 1 ).name ).isEqualTo( "Alice" );
+
+			session.getTransaction().begin();
+			assertThatThrownBy( () -> {
+				session.persist( new Customer( 2, "us", "Bob" ) );
+				session.flush();
+			} ).isInstanceOf( HibernateException.class );
+			session.getTransaction().rollback();
+		}
+		assertThat( names( "eu" ) ).containsExactly( "Alice" );
+		assertThat( names( "us" ) ).isEmpty();
+	}
+
+	@Test
+	public void testSessionIsBoundToShardOfFirstWrite(SessionFactoryScope scope) throws SQLException {
+		scope.inSession( session -> {
+			session.persist( new Customer( 2, "us", "Bob" ) );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isEqualTo( "us" );
+			session.getTransaction().begin();
+			session.getTransaction().commit();
+		} );
+		assertThat( names( "eu" ) ).isEmpty();
+		assertThat( names( "us" ) ).containsExactly( "Bob" );
+	}
+
+	@Test
+	public void testQueries(SessionFactoryScope scope) {
+		for ( String shard : SHARDS ) {
+			try ( Session session = scope.getSessionFactory().withOptions().shardKey( shard ).openSession() ) {
+				session.getTransaction().begin();
+				session.persist( new Customer( shard.equals( "eu" ) ? 1 : 2, shard, "customer_" + shard ) );
+				session.getTransaction().commit();
+			}
+		}
+
+		// no restriction on the partition key: every shard is queried
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "select name from Customer", String.class ).getResultList() )
+					.containsExactlyInAnyOrder( "customer_eu", "customer_us" );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isNull();
+		} );
+
+		// a restriction on the partition key selects the shard
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "select name from Customer where region = :region", String.class )
+								.setParameter( "region", "us" )
+								.getResultList() )
+					.containsExactly( "customer_us" );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isEqualTo( "us" );
+		} );
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "from Customer where region = 'eu' and id > 0", Customer.class )
+								.getResultList() )
+					.extracting( customer -> customer.name )
+					.containsExactly( "customer_eu" );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isEqualTo( "eu" );
+		} );
+
+		// a query across shards may not be executed in a transaction
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			assertThatThrownBy( () -> session.createSelectionQuery( "from Customer", Customer.class ).getResultList() )
+					.isInstanceOf( HibernateException.class );
+			session.getTransaction().rollback();
+		} );
+	}
+
+	@Test
+	public void testQueryAcrossShardsCombinesResults(SessionFactoryScope scope) {
+		persistCustomers( scope );
+		scope.inSession( session -> {
+			assertThat( session.createSelectionQuery( "from Customer", Customer.class )
+								.setMaxResults( 2 )
+								.getResultList() )
+					.hasSize( 2 );
+			assertThat( session.createSelectionQuery( "from Customer", Customer.class )
+								.setFirstResult( 1 )
+								.setMaxResults( 5 )
+								.getResultList() )
+					.hasSize( 2 );
+			assertThat( session.createSelectionQuery( "from Customer", Customer.class )
+								.setFirstResult( 2 )
+								.getResultList() )
+					.hasSize( 1 );
+			assertThat( session.createSelectionQuery( "select distinct c from Customer c", Customer.class )
+								.getResultList() )
+					.hasSize( 3 );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isNull();
+		} );
+	}
+
+	@Test
+	public void testQueryAcrossShardsWhichCannotBeCombined(SessionFactoryScope scope) {
+		persistCustomers( scope );
+		scope.inSession( session -> {
+			assertThatThrownBy( () -> session.createSelectionQuery( "from Customer order by name", Customer.class )
+					.getResultList() )
+					.isInstanceOf( HibernateException.class );
+			assertThatThrownBy( () -> session.createSelectionQuery( "select count(*) from Customer", Long.class )
+					.getResultList() )
+					.isInstanceOf( HibernateException.class );
+			assertThatThrownBy( () -> session.createSelectionQuery( "select region from Customer group by region", String.class )
+					.getResultList() )
+					.isInstanceOf( HibernateException.class );
+			assertThatThrownBy( () -> session.createSelectionQuery( "select distinct region from Customer", String.class )
+					.getResultList() )
+					.isInstanceOf( HibernateException.class );
+			assertThatThrownBy( () -> session.createSelectionQuery( "from Customer limit 1", Customer.class )
+					.getResultList() )
+					.isInstanceOf( HibernateException.class );
+		} );
+	}
+
+	@Test
+	public void testQueryForOtherShardFails(SessionFactoryScope scope) {
+		persistCustomers( scope );
+		try ( Session session = scope.getSessionFactory().withOptions().shardKey( "eu" ).openSession() ) {
+			assertThat( session.createSelectionQuery( "select name from Customer where region = 'eu'", String.class )
+								.getResultList() )
+					.containsExactlyInAnyOrder( "Alice", "Carol" );
+			assertThatThrownBy( () -> session.createSelectionQuery( "from Customer where region = :region", Customer.class )
+					.setParameter( "region", "us" )
+					.getResultList() )
+					.isInstanceOf( HibernateException.class );
+		}
+	}
+
+	@Test
+	public void testScrollAndStream(SessionFactoryScope scope) {
+		persistCustomers( scope );
+
+		// the results from every shard are streamed
+		scope.inSession( session -> {
+			try ( Stream<String> names = session.createSelectionQuery( "select name from Customer", String.class )
+					.getResultStream() ) {
+				assertThat( names ).containsExactlyInAnyOrder( "Alice", "Bob", "Carol" );
+			}
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isNull();
+		} );
+
+		// but may not be scrolled
+		scope.inSession( session -> {
+			assertThatThrownBy( () -> session.createSelectionQuery( "select name from Customer", String.class )
+					.scroll() )
+					.isInstanceOf( HibernateException.class );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isNull();
+		} );
+
+		// a restriction on the partition key selects the shard
+		scope.inSession( session -> {
+			try ( ScrollableResults<String> names =
+						session.createSelectionQuery( "select name from Customer where region = 'us'", String.class )
+								.scroll() ) {
+				assertThat( names.next() ).isTrue();
+				assertThat( names.get() ).isEqualTo( "Bob" );
+				assertThat( names.next() ).isFalse();
+			}
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isEqualTo( "us" );
+		} );
+		scope.inSession( session -> {
+			try ( Stream<String> names =
+						session.createSelectionQuery( "select name from Customer where region = :region", String.class )
+								.setParameter( "region", "eu" )
+								.getResultStream() ) {
+				assertThat( names ).containsExactlyInAnyOrder( "Alice", "Carol" );
+			}
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isEqualTo( "eu" );
+		} );
+	}
+
+	@Test
+	public void testMutationQueries(SessionFactoryScope scope) throws SQLException {
+		persistCustomers( scope );
+
+		// a restriction on the partition key selects the shard
+		scope.inTransaction( session -> {
+			assertThat( session.createMutationQuery( "update Customer set name = 'Robert' where region = 'us'" )
+								.executeUpdate() )
+					.isEqualTo( 1 );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isEqualTo( "us" );
+		} );
+		try ( Session session = scope.getSessionFactory().withOptions().shardKey( "eu" ).openSession() ) {
+			session.getTransaction().begin();
+			assertThat( session.createMutationQuery( "delete from Customer where name = 'Carol'" ).executeUpdate() )
+					.isEqualTo( 1 );
+			assertThatThrownBy( () -> session.createMutationQuery( "delete from Customer where region = 'us'" )
+					.executeUpdate() )
+					.isInstanceOf( HibernateException.class );
+			session.getTransaction().rollback();
+		}
+
+		// a mutation query with no restriction on the partition key needs a session bound to a shard
+		scope.inTransaction( session ->
+				assertThatThrownBy( () -> session.createMutationQuery( "delete from Customer" ).executeUpdate() )
+						.isInstanceOf( HibernateException.class ) );
+
+		assertThat( names( "eu" ) ).containsExactlyInAnyOrder( "Alice", "Carol" );
+		assertThat( names( "us" ) ).containsExactly( "Robert" );
+	}
+
+	@Test
+	public void testQueryCacheIsPerShard(SessionFactoryScope scope) {
+		persistCustomers( scope );
+		for ( String shard : SHARDS ) {
+			try ( Session session = scope.getSessionFactory().withOptions().shardKey( shard ).openSession() ) {
+				assertThat( session.createSelectionQuery( "select name from Customer", String.class )
+									.setCacheable( true )
+									.getResultList() )
+						.containsExactlyInAnyOrder( shard.equals( "eu" )
+								? new String[] { "Alice", "Carol" }
+								: new String[] { "Bob" } );
+			}
+		}
+		scope.inSession( session ->
+				assertThat( session.createSelectionQuery( "select name from Customer", String.class )
+									.setCacheable( true )
+									.getResultList() )
+						.containsExactlyInAnyOrder( "Alice", "Bob", "Carol" ) );
+	}
+
+	@Test
+	public void testIdentifiersMustBeUniqueAcrossShards(SessionFactoryScope scope) {
+		for ( String shard : SHARDS ) {
+			try ( Session session = scope.getSessionFactory().withOptions().shardKey( shard ).openSession() ) {
+				session.getTransaction().begin();
+				session.persist( new Customer( 1, shard, "customer_" + shard ) );
+				session.getTransaction().commit();
+			}
+		}
+		scope.inSession( session ->
+				assertThatThrownBy( () -> session.createSelectionQuery( "from Customer", Customer.class )
+						.getResultList() )
+						.isInstanceOf( HibernateException.class ) );
+	}
+
+	@Test
+	public void testLazyLoadsFromShardOfEntity(SessionFactoryScope scope) {
+		persistCustomers( scope );
+		try ( Session session = scope.getSessionFactory().withOptions().shardKey( "us" ).openSession() ) {
+			session.getTransaction().begin();
+			final Customer bob = session.getReference( Customer.class, 2 );
+			session.persist( new Purchase( 21, "us", "book", bob ) );
+			session.persist( new Purchase( 22, "us", "pen", bob ) );
+			session.getTransaction().commit();
+		}
+
+		// the entities loaded by a query across shards are loaded lazily from their own shard
+		scope.inSession( session -> {
+			final List<Purchase> purchases =
+					session.createSelectionQuery( "from Purchase", Purchase.class ).getResultList();
+			assertThat( purchases ).hasSize( 2 );
+			final Customer customer = purchases.get( 0 ).customer;
+			assertThat( Hibernate.isInitialized( customer ) ).isFalse();
+			assertThat( customer.getName() ).isEqualTo( "Bob" );
+			assertThat( customer.getPurchases() )
+					.extracting( purchase -> purchase.description )
+					.containsExactlyInAnyOrder( "book", "pen" );
+			assertThat( ( (SharedSessionContractImplementor) session ).getShardIdentifier() ).isNull();
+		} );
+
+		// and found again in their own shard
+		scope.inSession( session -> {
+			final Customer customer =
+					session.createSelectionQuery( "from Customer where id = 2", Customer.class ).getSingleResult();
+			session.detach( customer );
+			assertThat( session.find( Customer.class, 2 ).name ).isEqualTo( "Bob" );
+		} );
+	}
+
+	private static void persistCustomers(SessionFactoryScope scope) {
+		for ( String shard : SHARDS ) {
+			try ( Session session = scope.getSessionFactory().withOptions().shardKey( shard ).openSession() ) {
+				session.getTransaction().begin();
+				if ( shard.equals( "eu" ) ) {
+					session.persist( new Customer( 1, "eu", "Alice" ) );
+					session.persist( new Customer( 3, "eu", "Carol" ) );
+				}
+				else {
+					session.persist( new Customer( 2, "us", "Bob" ) );
+				}
+				session.getTransaction().commit();
+			}
+		}
+	}
+
+	private static List<String> names(String shard) throws SQLException {
+		final List<String> names = new ArrayList<>();
+		try ( Connection connection = DriverManager.getConnection( shardUrl( shard ), "sa", "" );
+				Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery( "select name from Customer" ) ) {
+			while ( resultSet.next() ) {
+				names.add( resultSet.getString( 1 ) );
+			}
+		}
+		return names;
+	}
+
+	private static String shardUrl(String shard) {
+		return "jdbc:h2:mem:shard_" + shard + ";DB_CLOSE_DELAY=-1";
+	}
+
+	public static class ShardsConnectionProviderProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return ShardsConnectionProvider.class.getName();
+		}
+	}
+
+	public static class ShardsConnectionProvider extends DriverManagerConnectionProviderImpl
+			implements ShardedConnectionProvider {
+		@Override
+		public Collection<?> getShardIdentifiers() {
+			return SHARDS;
+		}
+
+		@Override
+		public Object resolveShardIdentifier(Object shardKey) {
+			return shardKey;
+		}
+
+		@Override
+		public Connection getConnection(Object shardIdentifier) throws SQLException {
+			final Connection connection = DriverManager.getConnection( shardUrl( (String) shardIdentifier ), "sa", "" );
+			// the test suite declares that connections from the provider have auto-commit disabled
+			connection.setAutoCommit( false );
+			return connection;
+		}
+
+		@Override
+		public void closeConnection(Object shardIdentifier, Connection connection) throws SQLException {
+			connection.close();
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		@PartitionKey
+		private String region;
+
+		private String name;
+
+		@OneToMany(mappedBy = "customer")
+		private List<Purchase> purchases = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String region, String name) {
+			this.id = id;
+			this.region = region;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Purchase> getPurchases() {
+			return purchases;
+		}
+	}
+
+	@Entity(name = "Purchase")
+	public static class Purchase {
+		@Id
+		private Integer id;
+
+		@PartitionKey
+		private String region;
+
+		private String description;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		public Purchase() {
+		}
+
+		public Purchase(Integer id, String region, String description, Customer customer) {
+			this.id = id;
+			this.region = region;
+			this.description = description;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.graph.GraphSemantic;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		SplitCollectionFetchTest.Store.class,
+		SplitCollectionFetchTest.Book.class,
+		SplitCollectionFetchTest.Clerk.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.SPLIT_COLLECTION_FETCHES, value = "true"))
+public class SplitCollectionFetchTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final Store store = new Store( i );
+				for ( int j = 1; j <= i; j++ ) {
+					store.books.add( new Book( i * 10 + j, store ) );
+					store.clerks.add( new Clerk( i * 10 + j, store ) );
+					store.tags.add( "tag_" + j );
+				}
+				session.persist( store );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testQueryWithGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final List<Store> stores = session.createSelectionQuery( "from Store s order by s.id", Store.class )
+					.setEntityGraph( graph( session ), GraphSemantic.FETCH )
+					.getResultList();
+
+			assertThat( stores ).extracting( store -> store.id ).containsExactly( 1, 2, 3, 4 );
+			for ( Store store : stores ) {
+				assertInitialized( store );
+			}
+			// the main query, and one follow-up query per split collection
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testQueryWithGraphAndJoinFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final List<Store> stores = session.createSelectionQuery(
+							"from Store s left join fetch s.clerks where s.id > 2 order by s.id",
+							Store.class
+					)
+					.setEntityGraph( graph( session ), GraphSemantic.FETCH )
+					.getResultList();
+
+			assertThat( stores ).extracting( store -> store.id ).containsExactly( 3, 4 );
+			for ( Store store : stores ) {
+				assertInitialized( store );
+			}
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testFindWithGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final Store store = session.find(
+					Store.class,
+					3,
+					Map.of( GraphSemantic.FETCH.getJakartaHintName(), graph( session ) )
+			);
+			assertInitialized( store );
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		} );
+	}
+
+	private static EntityGraph<Store> graph(org.hibernate.Session session) {
+		final EntityGraph<Store> graph = session.createEntityGraph( Store.class );
+		graph.addAttributeNodes( "books", "clerks", "tags" );
+		return graph;
+	}
+
+	private static void assertInitialized(Store store) {
+		assertThat( Hibernate.isInitialized( store.books ) ).isTrue();
+		assertThat( Hibernate.isInitialized( store.clerks ) ).isTrue();
+		assertThat( Hibernate.isInitialized( store.tags ) ).isTrue();
+		assertThat( store.books ).hasSize( store.id );
+		assertThat( store.clerks ).hasSize( store.id );
+		assertThat( store.tags ).hasSize( store.id );
+	}
+
+	@Entity(name = "Store")
+	public static class Store {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "store", cascade = CascadeType.PERSIST)
+		private Set<Book> books = new HashSet<>();
+
+		@OneToMany(mappedBy = "store", cascade = CascadeType.PERSIST)
+		private List<Clerk> clerks = new ArrayList<>();
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public Store() {
+		}
+
+		public Store(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Store store;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Store store) {
+			this.id = id;
+			this.store = store;
+		}
+	}
+
+	@Entity(name = "Clerk")
+	public static class Clerk {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Store store;
+
+		public Clerk() {
+		}
+
+		public Clerk(Integer id, Store store) {
+			this.id = id;
+			this.store = store;
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				TargetedAutoFlushTest.Agency.class,
+				TargetedAutoFlushTest.Author.class,
+				TargetedAutoFlushTest.Book.class,
+				TargetedAutoFlushTest.Reader.class
+		}
+)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.TARGETED_AUTO_FLUSH, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class TargetedAutoFlushTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Agency agency = new Agency( 1, "Allen & Unwin" );
+			session.persist( agency );
+			final Author author = new Author( 1, "Tolkien" );
+			author.agency = agency;
+			session.persist( author );
+			session.persist( new Book( 1, "The Hobbit", author ) );
+			final Reader reader = new Reader( 1, "Frodo" );
+			reader.nicknames.add( "Mr. Underhill" );
+			session.persist( reader );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOnlyAffectedEntitiesAreFlushed(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1 );
+			final Reader reader = session.find( Reader.class, 1 );
+			book.title = "There and Back Again";
+			reader.name = "Frodo Baggins";
+			reader.nicknames.add( "Ring-bearer" );
+
+			inspector.clear();
+			assertThat( session.createSelectionQuery( "select title from Book", String.class ).getResultList() )
+					.containsExactly( "There and Back Again" );
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "update Book" );
+
+			inspector.clear();
+			assertThat( session.createSelectionQuery( "select name from Reader", String.class ).getResultList() )
+					.containsExactly( "Frodo Baggins" );
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "update Reader" );
+			assertThat( inspector.getSqlQueries().get( 1 ) ).startsWithIgnoringCase( "insert into Reader_nicknames" );
+		} );
+		scope.inTransaction( session -> {
+			final Reader reader = session.find( Reader.class, 1 );
+			assertThat( reader.nicknames ).containsExactlyInAnyOrder( "Mr. Underhill", "Ring-bearer" );
+		} );
+	}
+
+	@Test
+	public void testUnflushedChangesAreFlushedOnCommit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Reader reader = session.find( Reader.class, 1 );
+			reader.name = "Frodo Baggins";
+			reader.nicknames.clear();
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		} );
+		scope.inTransaction( session -> {
+			final Reader reader = session.find( Reader.class, 1 );
+			assertThat( reader.name ).isEqualTo( "Frodo Baggins" );
+			assertThat( reader.nicknames ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testReferencedEntitiesAreFlushed(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.find( Book.class, 1 ).title = "There and Back Again";
+			session.find( Author.class, 1 ).name = "J. R. R. Tolkien";
+			session.find( Agency.class, 1 ).name = "HarperCollins";
+			session.find( Reader.class, 1 ).name = "Frodo Baggins";
+
+			inspector.clear();
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			// Book -> Author -> Agency
+			assertThat( inspector.getSqlQueries() ).hasSize( 4 );
+			assertThat( inspector.getSqlQueries() ).anyMatch( sql -> sql.toLowerCase().startsWith( "update agency" ) );
+			assertThat( inspector.getSqlQueries() ).noneMatch( sql -> sql.toLowerCase().startsWith( "update reader" ) );
+		} );
+	}
+
+	@Test
+	public void testPendingDeletionFlushesEverything(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.find( Reader.class, 1 ).name = "Frodo Baggins";
+			session.remove( session.find( Book.class, 1 ) );
+
+			inspector.clear();
+			assertThat( session.createSelectionQuery( "from Book", Book.class ).getResultList() ).isEmpty();
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "update Reader" );
+			assertThat( inspector.getSqlQueries().get( 1 ) ).startsWithIgnoringCase( "delete from Book" );
+		} );
+	}
+
+	@Entity(name = "Agency")
+	public static class Agency {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Agency() {
+		}
+
+		public Agency(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Agency agency;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Reader")
+	public static class Reader {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+
+		public Reader() {
+		}
+
+		public Reader(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
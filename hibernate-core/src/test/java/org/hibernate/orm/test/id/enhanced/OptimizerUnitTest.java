@@ -4,11 +4,18 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PrefetchingPooledOptimizer;
 import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
 
 import org.hibernate.testing.orm.junit.BaseUnitTest;
@@ -302,6 +309,87 @@ public void testBasicPooledThreadLocalLoOptimizerUsage() {
 
 	}
 
+	@Test
+	public void testBasicConcurrentPooledOptimizerUsage() {
+		Long next;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( -1, 10 );
+		for ( int i = 1; i <= 11; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() ); // twice to initialize state
+		assertEquals( 11, sequence.getCurrentValue() );
+		// force a "clock over"
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 12, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testSubsequentConcurrentPooledOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1001, 3, 5 );
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( 1, 3 );
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = (Long) optimizer.generate( sequence );
+			assertEquals( 1001 + i, next.intValue() );
+			assertEquals( 5 + 1, sequence.getTimesCalled() );
+			assertEquals( 1001 + 3, sequence.getCurrentValue() );
+		}
+
+		// force a "clock over"
+		final Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 + 4, next.intValue() );
+		assertEquals( 5 + 2, sequence.getTimesCalled() );
+		assertEquals( 1001 + 6, sequence.getCurrentValue() );
+		assertEquals( 1001 + 6, optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledOptimizerFromManyThreads() throws Exception {
+		final SourceMock sequence = new SourceMock( 1, 7 );
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( 1, 7 );
+		final Set<Long> generated = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final Future<?>[] futures = new Future<?>[8];
+			for ( int i = 0; i < futures.length; i++ ) {
+				futures[i] = executor.submit( () -> {
+					for ( int j = 0; j < 1000; j++ ) {
+						generated.add( (Long) optimizer.generate( sequence ) );
+					}
+				} );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertEquals( 8000, generated.size() );
+		// every range is exhausted before the next one is obtained, so there are no gaps
+		assertEquals( 1, generated.stream().mapToLong( Long::longValue ).min().orElseThrow() );
+		assertEquals( 8000, generated.stream().mapToLong( Long::longValue ).max().orElseThrow() );
+	}
+
+	@Test
+	public void testPrefetchingPooledOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final PrefetchingPooledOptimizer optimizer =
+				(PrefetchingPooledOptimizer) buildOptimizer( StandardOptimizerDescriptor.POOLED_PREFETCH, -1, 10 );
+		for ( int i = 1; i <= 30; i++ ) {
+			final Long next = (Long) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		// the ranges are [1], [2..11], [12..21], and [22..31], and the
+		// next range is requested when 3/4 of the current range is used
+		assertEquals( 4, optimizer.getRefillCount() );
+		assertEquals( 4, optimizer.getPrefetchCount() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -322,6 +410,10 @@ private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int inc
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildConcurrentPooledOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -376,6 +468,11 @@ public String getTenantIdentifier() {
 			return null;
 		}
 
+		@Override
+		public AccessCallback getIsolatedCallback() {
+			return this;
+		}
+
 		private void initValue() {
 			this.value.initialize( initialValue );
 		}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = MultiValueSequenceFetchTest.Ticket.class )
+@SessionFactory( useCollectingStatementInspector = true )
+@RequiresDialect( H2Dialect.class )
+@RequiresDialect( PostgreSQLDialect.class )
+@RequiresDialect( OracleDialect.class )
+public class MultiValueSequenceFetchTest {
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final List<Ticket> tickets = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			tickets.add( new Ticket() );
+		}
+		inspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( tickets ) );
+
+		assertThat( inspector.getSqlQueries() )
+				.filteredOn( sql -> sql.contains( "ticket_seq" ) )
+				.hasSize( 1 );
+		assertThat( tickets ).extracting( ticket -> ticket.id )
+				.doesNotContainNull()
+				.doesNotHaveDuplicates()
+				.isSorted();
+
+		final Long count = scope.fromTransaction( session -> session.createSelectionQuery(
+				"select count(*) from Ticket", Long.class ).getSingleResult() );
+		assertThat( count ).isEqualTo( 20L );
+	}
+
+	@Test
+	public void testInsertSingle(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		final Ticket ticket = new Ticket();
+		scope.inStatelessTransaction( session -> session.insertMultiple( List.of( ticket ) ) );
+
+		assertThat( ticket.id ).isNotNull();
+		assertThat( inspector.getSqlQueries() )
+				.filteredOn( sql -> sql.contains( "ticket_seq" ) )
+				.hasSize( 1 );
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue
+		@SequenceGenerator(name = "ticket_seq", allocationSize = 1)
+		private Long id;
+	}
+}
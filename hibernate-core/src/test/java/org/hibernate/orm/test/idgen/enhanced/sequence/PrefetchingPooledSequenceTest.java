@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.PrefetchingPooledOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = PrefetchingPooledSequenceTest.Order.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.PREFERRED_POOLED_OPTIMIZER, value = "pooled-prefetch" ) )
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsSequences.class )
+public class PrefetchingPooledSequenceTest {
+
+	@Test
+	public void testPrefetch(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Order.class );
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) persister.getGenerator();
+		assertThat( generator.getOptimizer() ).isInstanceOf( PrefetchingPooledOptimizer.class );
+		final PrefetchingPooledOptimizer optimizer = (PrefetchingPooledOptimizer) generator.getOptimizer();
+
+		final List<Long> ids = new ArrayList<>();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 45; i++ ) {
+				final Order order = new Order();
+				session.persist( order );
+				ids.add( order.id );
+			}
+		} );
+
+		assertThat( ids ).doesNotHaveDuplicates().isSorted();
+		assertThat( optimizer.getPrefetchCount() ).isGreaterThanOrEqualTo( 4 );
+		assertThat( optimizer.getRefillCount() ).isGreaterThanOrEqualTo( 5 );
+		assertThat( optimizer.getStallCount() ).isLessThanOrEqualTo( optimizer.getRefillCount() - 1 );
+		// every range after the first one was either prefetched in time, or waited for
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getIdentifierPrefetchMissCount() ).isEqualTo( optimizer.getStallCount() );
+		assertThat( statistics.getIdentifierPrefetchHitCount() + statistics.getIdentifierPrefetchMissCount() )
+				.isEqualTo( optimizer.getRefillCount() - 1 );
+		final Long count = scope.fromTransaction( session -> session.createSelectionQuery(
+				"select count(*) from OrderEntity", Long.class ).getSingleResult() );
+		assertThat( count ).isEqualTo( 45L );
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Entity(name = "OrderEntity")
+	public static class Order {
+		@Id
+		@GeneratedValue
+		@SequenceGenerator(name = "order_seq", allocationSize = 10)
+		private Long id;
+	}
+}
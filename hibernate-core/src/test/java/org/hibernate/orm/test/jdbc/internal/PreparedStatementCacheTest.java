@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "2"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class PreparedStatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testRepeatedStatementsReuseCachedStatement(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "item_" + i ) );
+			}
+			session.flush();
+			for ( int i = 1; i <= 10; i++ ) {
+				assertThat( session.createSelectionQuery( "select name from Item where id = :id", String.class )
+									.setParameter( "id", i )
+									.getSingleResult() )
+						.isEqualTo( "item_" + i );
+			}
+		} );
+		// one insert statement, and one select statement
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 18 );
+	}
+
+	@Test
+	public void testCacheIsBounded(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1, "item_1" ) );
+			session.flush();
+			for ( int i = 0; i < 2; i++ ) {
+				// three distinct statements, for a cache of two statements
+				session.createSelectionQuery( "select name from Item where id = 1", String.class ).getResultList();
+				session.createSelectionQuery( "select name from Item where id = 2", String.class ).getResultList();
+				session.createSelectionQuery( "select name from Item where id = 3", String.class ).getResultList();
+			}
+		} );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 7 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testCacheIsClearedWithConnection(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Item( 1, "item_1" ) ) );
+		scope.inSession( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.getTransaction().begin();
+				assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "item_1" );
+				session.clear();
+				assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "item_1" );
+				session.clear();
+				session.getTransaction().commit();
+			}
+		} );
+		// the connection, and its statements, are released after each transaction
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 3 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.mapping.generated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.generator.EventType.INSERT;
+
+@DomainModel(annotatedClasses = GeneratedValuesBatchSelectTest.GeneratedEntity.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "3"),
+				@Setting(name = BatchSettings.BATCH_GENERATED_VALUES, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = GeneratedValuesBatchSelectTest.DialectProvider.class
+		)
+)
+@RequiresDialect(H2Dialect.class)
+public class GeneratedValuesBatchSelectTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final List<GeneratedEntity> entities = new ArrayList<>();
+		for ( long i = 1; i <= 5; i++ ) {
+			entities.add( new GeneratedEntity( i, "entity_" + i ) );
+		}
+		inspector.clear();
+		scope.inTransaction( session -> {
+			entities.forEach( session::persist );
+			session.flush();
+
+			// one select for each JDBC batch of inserts
+			assertThat( inspector.getSqlQueries() ).filteredOn( sql -> sql.startsWith( "select" ) ).hasSize( 2 );
+			for ( GeneratedEntity entity : entities ) {
+				assertThat( entity.generatedProp ).isEqualTo( 1 );
+				assertThat( entity.generatedName ).isEqualTo( "default" );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final GeneratedEntity entity = session.find( GeneratedEntity.class, 3L );
+			assertThat( entity.name ).isEqualTo( "entity_3" );
+			assertThat( entity.generatedProp ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testMixedInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			final GeneratedEntity first = new GeneratedEntity( 1L, "first" );
+			final GeneratedEntity second = new GeneratedEntity( 2L, "second" );
+			session.persist( first );
+			session.persist( second );
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).filteredOn( sql -> sql.startsWith( "select" ) ).hasSize( 1 );
+			assertThat( first.generatedProp ).isEqualTo( 1 );
+			assertThat( second.generatedProp ).isEqualTo( 1 );
+
+			second.name = "updated";
+			final GeneratedEntity third = new GeneratedEntity( 3L, "third" );
+			session.persist( third );
+			session.flush();
+			assertThat( third.generatedName ).isEqualTo( "default" );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( GeneratedEntity.class, 2L ).name ).isEqualTo( "updated" );
+			assertThat( session.find( GeneratedEntity.class, 3L ).generatedProp ).isEqualTo( 1 );
+		} );
+	}
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return NoReturningH2Dialect.class.getName();
+		}
+	}
+
+	/**
+	 * Forces the generated values to be selected back after the insert.
+	 */
+	public static class NoReturningH2Dialect extends H2Dialect {
+		@Override
+		public boolean supportsInsertReturning() {
+			return false;
+		}
+
+		@Override
+		public boolean supportsInsertReturningGeneratedKeys() {
+			return false;
+		}
+	}
+
+	@Entity(name = "GeneratedEntity")
+	public static class GeneratedEntity {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@Generated(event = INSERT)
+		@ColumnDefault("1")
+		private Integer generatedProp;
+
+		@Generated(event = INSERT)
+		@ColumnDefault("'default'")
+		private String generatedName;
+
+		public GeneratedEntity() {
+		}
+
+		public GeneratedEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.merge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		BatchedMergeTest.Product.class,
+		BatchedMergeTest.Line.class,
+		BatchedMergeTest.Basket.class,
+		BatchedMergeTest.Item.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class BatchedMergeTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Product product = new Product( i, "product " + i );
+				session.persist( product );
+				session.persist( new Line( i, 1, product ) );
+			}
+			final Basket basket = new Basket( 1 );
+			session.persist( basket );
+			for ( int i = 1; i <= 3; i++ ) {
+				final Item item = new Item( i, "item " + i, basket );
+				basket.items.add( item );
+				session.persist( item );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testMergeAll(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final List<Line> lines = new ArrayList<>();
+		for ( int i = 1; i <= 5; i++ ) {
+			lines.add( new Line( i, 10 + i, new Product( i, "renamed " + i ) ) );
+		}
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final List<Line> merged = session.mergeAll( lines );
+			// the lines, with their products fetched by the MERGE fetch profile
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( merged ).hasSize( 5 );
+			for ( int i = 0; i < 5; i++ ) {
+				assertThat( merged.get( i ) ).isNotSameAs( lines.get( i ) );
+				assertThat( merged.get( i ).id ).isEqualTo( i + 1 );
+				assertThat( session.contains( merged.get( i ) ) ).isTrue();
+			}
+		} );
+		scope.inTransaction( session -> {
+			final Line line = session.find( Line.class, 3 );
+			assertThat( line.quantity ).isEqualTo( 13 );
+			assertThat( line.product.name ).isEqualTo( "renamed 3" );
+		} );
+	}
+
+	@Test
+	public void testMergeAllWithNewAndManagedEntities(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Line managed = session.find( Line.class, 1 );
+			managed.product = new Product( 2, "renamed 2" );
+			final List<Line> merged = session.mergeAll( List.of(
+					managed,
+					new Line( 6, 6, new Product( 6, "product 6" ) ),
+					new Line( 4, 40, new Product( 3, "renamed 3" ) )
+			) );
+			assertThat( merged.get( 0 ) ).isSameAs( managed );
+			assertThat( merged.get( 1 ).product.name ).isEqualTo( "product 6" );
+			assertThat( merged.get( 2 ).product.name ).isEqualTo( "renamed 3" );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Line.class, 1 ).product.name ).isEqualTo( "renamed 2" );
+			assertThat( session.find( Line.class, 6 ).product.id ).isEqualTo( 6 );
+			assertThat( session.find( Line.class, 4 ).quantity ).isEqualTo( 40 );
+		} );
+	}
+
+	@Test
+	public void testMergeWithCollection(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		final Basket basket = scope.fromTransaction( session ->
+				session.createSelectionQuery( "from Basket b join fetch b.items where b.id = 1", Basket.class )
+						.getSingleResult() );
+		for ( Item item : basket.items ) {
+			item.name = "renamed " + item.id;
+		}
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final Basket merged = session.merge( basket );
+			// the basket, with its items fetched by the MERGE fetch profile
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( merged.items ).hasSize( 3 );
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.find( Item.class, 2 ).name ).isEqualTo( "renamed 2" ) );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Line")
+	public static class Line {
+		@Id
+		private Integer id;
+
+		private int quantity;
+
+		@ManyToOne(cascade = CascadeType.MERGE)
+		private Product product;
+
+		public Line() {
+		}
+
+		public Line(Integer id, int quantity, Product product) {
+			this.id = id;
+			this.quantity = quantity;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Basket")
+	public static class Basket {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "basket", cascade = CascadeType.MERGE)
+		private List<Item> items = new ArrayList<>();
+
+		public Basket() {
+		}
+
+		public Basket(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Basket basket;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, Basket basket) {
+			this.id = id;
+			this.name = name;
+			this.basket = basket;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = {
+		TwoPhaseCollectionFetchPaginationTest.Author.class,
+		TwoPhaseCollectionFetchPaginationTest.Book.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.TWO_PHASE_PAGINATION_OVER_COLLECTION_FETCH, value = "true"),
+		@Setting(name = QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH, value = "true")
+})
+public class TwoPhaseCollectionFetchPaginationTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Author author = new Author( i, String.format( "author_%02d", 11 - i ) );
+				for ( int j = 1; j <= 3; j++ ) {
+					author.books.add( new Book( i * 10 + j, "book_" + j, author ) );
+				}
+				session.persist( author );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testHqlPage(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final List<Author> authors = session.createSelectionQuery(
+							"from Author a left join fetch a.books order by a.name",
+							Author.class
+					)
+					.setFirstResult( 2 )
+					.setMaxResults( 3 )
+					.getResultList();
+
+			assertThat( authors ).extracting( author -> author.name )
+					.containsExactly( "author_03", "author_04", "author_05" );
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+				assertThat( author.books ).hasSize( 3 );
+			}
+			// one query for the identifiers, and one for the entities
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+		} );
+	}
+
+	@Test
+	public void testHqlPageWithRestriction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createQuery(
+							"select a from Author a left join fetch a.books where a.id > :id order by a.id desc",
+							Author.class
+					)
+					.setParameter( "id", 5 )
+					.setMaxResults( 2 )
+					.getResultList();
+
+			assertThat( authors ).extracting( author -> author.id ).containsExactly( 10, 9 );
+			assertThat( authors ).allSatisfy( author -> assertThat( author.books ).hasSize( 3 ) );
+		} );
+	}
+
+	@Test
+	public void testCriteriaPage(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<Author> query = cb.createQuery( Author.class );
+			final Root<Author> root = query.from( Author.class );
+			root.fetch( "books", JoinType.LEFT );
+			query.orderBy( cb.asc( root.get( "id" ) ) );
+
+			final List<Author> authors = session.createQuery( query )
+					.setFirstResult( 8 )
+					.setMaxResults( 5 )
+					.getResultList();
+
+			assertThat( authors ).extracting( author -> author.id ).containsExactly( 9, 10 );
+			assertThat( authors ).allSatisfy( author -> assertThat( Hibernate.isInitialized( author.books ) ).isTrue() );
+		} );
+	}
+
+	@Test
+	public void testEmptyPage(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createSelectionQuery(
+							"from Author a left join fetch a.books order by a.id",
+							Author.class
+					)
+					.setFirstResult( 20 )
+					.setMaxResults( 5 )
+					.getResultList();
+			assertThat( authors ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testFetchReferencedInRestriction(SessionFactoryScope scope) {
+		// removing the fetch would change the result, so in-memory pagination is required
+		scope.inTransaction( session -> assertThatThrownBy( () -> session.createSelectionQuery(
+								"from Author a left join fetch a.books b where b.title = 'book_1'",
+								Author.class
+						)
+						.setMaxResults( 3 )
+						.getResultList()
+				).hasMessageContaining( QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH )
+		);
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.PERSIST)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = InClauseArrayParameterTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true, generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.IN_CLAUSE_ARRAY_PARAMETER, value = "true"))
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsStandardArrays.class)
+public class InClauseArrayParameterTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Item( i, "item_" + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testIn(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final String hql = "select i.id from Item i where i.id in :ids order by i.id";
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", List.of( 2, 3 ) )
+								.getResultList() )
+					.containsExactly( 2, 3 );
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", List.of( 1, 4, 5, 7, 12 ) )
+								.getResultList() )
+					.containsExactly( 1, 4, 5, 7 );
+
+			// the same statement, with a single parameter, whatever the number of values
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+			assertThat( inspector.getSqlQueries().get( 1 ) ).isEqualTo( inspector.getSqlQueries().get( 0 ) );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).containsOnlyOnce( "?" );
+		} );
+	}
+
+	@Test
+	public void testNotIn(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			assertThat( session.createSelectionQuery( "select i.name from Item i where i.name not in :names order by i.id", String.class )
+								.setParameterList( "names", List.of( "item_1", "item_3", "item_4", "item_5", "item_6", "item_7", "item_8" ) )
+								.getResultList() )
+					.containsExactly( "item_2", "item_9", "item_10" );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).containsOnlyOnce( "?" );
+		} );
+	}
+
+	@Test
+	public void testNullValueExpanded(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			// "not in" with a null value never matches, so the list is expanded as usual
+			assertThat( session.createSelectionQuery( "select i.id from Item i where i.id not in :ids", Integer.class )
+								.setParameterList( "ids", Arrays.asList( 1, null ) )
+								.getResultList() )
+					.isEmpty();
+			assertThat( inspector.getSqlQueries().get( 0 ) ).containsSubsequence( "?", "?" );
+		} );
+	}
+
+	@Test
+	public void testQueryPlanCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "select i.id from Item i where i.id in :ids and i.name in :names order by i.id";
+		scope.inTransaction( session -> {
+			statistics.clear();
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", List.of( 1, 2 ) )
+								.setParameterList( "names", List.of( "item_1", "item_2" ) )
+								.getResultList() )
+					.containsExactly( 1, 2 );
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", List.of( 1, 2, 3 ) )
+								.setParameterList( "names", List.of( "item_2", "item_3", "item_4", "item_5" ) )
+								.getResultList() )
+					.containsExactly( 2, 3 );
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", List.of( 4 ) )
+								.setParameterList( "names", List.of( "item_4" ) )
+								.getResultList() )
+					.containsExactly( 4 );
+			// the plan is reused whatever the number of values,
+			// along with the interpretation of the HQL string
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 4 );
+
+			// but not when the values are expanded
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", Arrays.asList( 5, null ) )
+								.setParameterList( "names", List.of( "item_5" ) )
+								.getResultList() )
+					.containsExactly( 5 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 5 );
+		} );
+	}
+
+	@Test
+	public void testCriteria(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			inspector.clear();
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+			final Root<Item> root = query.from( Item.class );
+			final ParameterExpression<List> ids = cb.parameter( List.class, "ids" );
+			query.select( root.get( "id" ) )
+					.where( root.get( "id" ).in( ids ) )
+					.orderBy( cb.asc( root.get( "id" ) ) );
+			assertThat( session.createQuery( query ).setParameter( ids, List.of( 6, 8, 10 ) ).getResultList() )
+					.containsExactly( 6, 8, 10 );
+			assertThat( inspector.getSqlQueries().get( 0 ) ).containsOnlyOnce( "?" );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = QueryCacheFineGrainedInvalidationTest.Product.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_FINE_GRAINED_INVALIDATION, value = "true" )
+} )
+public class QueryCacheFineGrainedInvalidationTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1L, "chair", "A chair" ) );
+			session.persist( new Product( 2L, "table", "A table" ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUpdateOfUnreferencedColumn(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findIdsByName( scope, "chair" ) ).containsExactly( 1L );
+
+		scope.inTransaction( session -> session.find( Product.class, 1L ).setDescription( "A comfy chair" ) );
+
+		statistics.clear();
+		assertThat( findIdsByName( scope, "chair" ) ).containsExactly( 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUpdateOfReferencedColumn(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findIdsByName( scope, "chair" ) ).containsExactly( 1L );
+
+		scope.inTransaction( session -> session.find( Product.class, 2L ).setName( "chair" ) );
+
+		statistics.clear();
+		assertThat( findIdsByName( scope, "chair" ) ).containsExactlyInAnyOrder( 1L, 2L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findIdsByName( scope, "chair" ) ).containsExactly( 1L );
+
+		scope.inTransaction( session -> session.persist( new Product( 3L, "chair", "Another chair" ) ) );
+
+		statistics.clear();
+		assertThat( findIdsByName( scope, "chair" ) ).containsExactlyInAnyOrder( 1L, 3L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testQueryWithUnknownColumns(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final String sql = "select id from Product where name = 'chair'";
+		assertThat( findIdsNative( scope, sql ) ).containsExactly( 1L );
+
+		scope.inTransaction( session -> session.find( Product.class, 1L ).setDescription( "A comfy chair" ) );
+
+		statistics.clear();
+		assertThat( findIdsNative( scope, sql ) ).containsExactly( 1L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	private static List<Long> findIdsByName(SessionFactoryScope scope, String name) {
+		return scope.fromTransaction( session -> session.createSelectionQuery(
+						"select p.id from Product p where p.name = :name",
+						Long.class
+				)
+				.setParameter( "name", name )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<Long> findIdsNative(SessionFactoryScope scope, String sql) {
+		return scope.fromTransaction( session -> session.createNativeQuery( sql, Long.class )
+				.addSynchronizedEntityClass( Product.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+		private String description;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, String description) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+	}
+}
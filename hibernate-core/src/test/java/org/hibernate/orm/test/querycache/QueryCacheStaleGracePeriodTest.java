@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.CacheMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = QueryCacheStaleGracePeriodTest.Product.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = CacheSettings.QUERY_CACHE_STALE_GRACE_PERIOD, value = "60000" )
+} )
+public class QueryCacheStaleGracePeriodTest {
+
+	private static final String QUERY = "select p.name from Product p order by p.id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Product( 1L, "chair" ) ) );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testStaleResultsReturnedDuringRefresh(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final Set<String> spaces = Set.of( "Product" );
+		final QueryKey key = scope.fromSession( session -> QueryKey.from(
+				"select name from Product",
+				null,
+				QueryParameterBindings.empty(),
+				session
+		) );
+
+		scope.inTransaction( session -> queryCache.put( key, List.of( "chair" ), session ) );
+		scope.inTransaction( session -> session.find( Product.class, 1L ).setName( "stool" ) );
+
+		scope.inTransaction( session -> {
+			// the first lookup to find the cached results stale is responsible for the refresh
+			assertThat( queryCache.get( key, spaces, session ) ).isNull();
+			// while the refresh is in progress, the stale results are returned
+			assertThat( (List<Object>) queryCache.get( key, spaces, session ) ).containsExactly( "chair" );
+		} );
+
+		scope.inTransaction( session -> queryCache.put( key, List.of( "stool" ), session ) );
+		scope.inTransaction( session ->
+				assertThat( (List<Object>) queryCache.get( key, spaces, session ) ).containsExactly( "stool" ) );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testStaleResultsNotReturnedToWritingSession(SessionFactoryScope scope) {
+		final QueryResultsCache queryCache = scope.getSessionFactory().getCache().getDefaultQueryResultsCache();
+		final Set<String> spaces = Set.of( "Product" );
+		final QueryKey key = scope.fromSession( session -> QueryKey.from(
+				"select name from Product",
+				null,
+				QueryParameterBindings.empty(),
+				session
+		) );
+
+		scope.inTransaction( session -> queryCache.put( key, List.of( "chair" ), session ) );
+		scope.inTransaction( session -> session.find( Product.class, 1L ).setName( "stool" ) );
+		// another session starts the refresh
+		scope.inTransaction( session -> assertThat( queryCache.get( key, spaces, session ) ).isNull() );
+
+		scope.inTransaction( session -> {
+			session.persist( new Product( 2L, "table" ) );
+			// a pending insertion
+			assertThat( queryCache.get( key, spaces, session ) ).isNull();
+			session.flush();
+			// a flushed insertion
+			assertThat( queryCache.get( key, spaces, session ) ).isNull();
+			session.getTransaction().setRollbackOnly();
+		} );
+
+		scope.inTransaction( session ->
+				assertThat( (List<Object>) queryCache.get( key, spaces, session ) ).containsExactly( "chair" ) );
+		scope.inStatelessSession( session ->
+				assertThat( queryCache.get( key, spaces, (SharedSessionContractImplementor) session ) ).isNull() );
+	}
+
+	@Test
+	public void testRefreshedResultsReturnedAfterRefresh(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( findNames( scope, CacheMode.NORMAL ) ).containsExactly( "chair" );
+
+		scope.inTransaction( session -> session.find( Product.class, 1L ).setName( "stool" ) );
+
+		statistics.clear();
+		assertThat( findNames( scope, CacheMode.NORMAL ) ).containsExactly( "stool" );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		assertThat( findNames( scope, CacheMode.NORMAL ) ).containsExactly( "stool" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testTimeToLive(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( findNames( scope, 60_000 ) ).containsExactly( "chair" );
+		statistics.clear();
+		assertThat( findNames( scope, 60_000 ) ).containsExactly( "chair" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.getSessionFactory().getCache().evictQueryRegions();
+
+		assertThat( findNames( scope, 0 ) ).containsExactly( "chair" );
+		statistics.clear();
+		assertThat( findNames( scope, 0 ) ).containsExactly( "chair" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	private static List<String> findNames(SessionFactoryScope scope, CacheMode cacheMode) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( QUERY, String.class )
+				.setCacheable( true )
+				.setCacheMode( cacheMode )
+				.getResultList() );
+	}
+
+	private static List<String> findNames(SessionFactoryScope scope, int timeToLive) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( QUERY, String.class )
+				.setCacheable( true )
+				.setHint( HibernateHints.HINT_CACHE_TIME_TO_LIVE, timeToLive )
+				.getResultList() );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
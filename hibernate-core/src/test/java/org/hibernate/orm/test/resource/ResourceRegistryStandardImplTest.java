@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.resource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceRegistryStandardImplTest {
+
+	@Test
+	public void testSingleStatement() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( statement, true );
+		registry.register( resultSet, statement );
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+		assertThatThrownBy( () -> registry.register( statement, true ) )
+				.isInstanceOf( HibernateException.class );
+
+		registry.release( resultSet, statement );
+		verify( resultSet ).close();
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.release( statement );
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testManyStatementsAndResultSets() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final List<Statement> statements = new ArrayList<>();
+		final List<ResultSet> resultSets = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			final Statement statement = mock( Statement.class );
+			registry.register( statement, true );
+			statements.add( statement );
+			for ( int j = 0; j < 10; j++ ) {
+				final ResultSet resultSet = mock( ResultSet.class );
+				registry.register( resultSet, statement );
+				resultSets.add( resultSet );
+			}
+		}
+
+		// release a statement from the middle, along with its result sets
+		registry.release( statements.get( 5 ) );
+		verify( statements.get( 5 ) ).close();
+		for ( int j = 50; j < 60; j++ ) {
+			verify( resultSets.get( j ) ).close();
+		}
+
+		// release some result sets of the first statement
+		registry.release( resultSets.get( 0 ), statements.get( 0 ) );
+		registry.release( resultSets.get( 3 ), statements.get( 0 ) );
+		verify( statements.get( 0 ), never() ).close();
+
+		registry.releaseResources();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+		for ( Statement statement : statements ) {
+			verify( statement ).close();
+		}
+		for ( ResultSet resultSet : resultSets ) {
+			verify( resultSet ).close();
+		}
+	}
+
+	@Test
+	public void testClosedStatementIsForgottenWithItsLastResultSet() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement first = mock( Statement.class );
+		final Statement second = mock( Statement.class );
+		final ResultSet firstResultSet = mock( ResultSet.class );
+		final ResultSet secondResultSet = mock( ResultSet.class );
+		registry.register( first, true );
+		registry.register( second, true );
+		registry.register( firstResultSet, first );
+		registry.register( secondResultSet, second );
+		when( first.isClosed() ).thenReturn( true );
+		when( second.isClosed() ).thenReturn( true );
+
+		registry.release( firstResultSet, first );
+		registry.release( secondResultSet, second );
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testResultSetOfUnregisteredStatement() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final Statement statement = mock( Statement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( resultSet, statement );
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.releaseResources();
+		verify( resultSet ).close();
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.internal.JdbcParametersImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdbcParameterBindingsTests {
+
+	@Test
+	public void testParametersAreIndexedWhenCollected() {
+		final JdbcParameterImpl first = new JdbcParameterImpl( null );
+		final JdbcParameterImpl second = new JdbcParameterImpl( null );
+		final JdbcParametersImpl parameters = new JdbcParametersImpl();
+		parameters.addParameter( first );
+		parameters.addParameter( first );
+		parameters.addParameter( second );
+		assertThat( first.getParameterIndex() ).isEqualTo( 0 );
+		assertThat( second.getParameterIndex() ).isEqualTo( 1 );
+
+		// the index is assigned once
+		JdbcParametersList.fromList( List.of( second, first ) );
+		assertThat( first.getParameterIndex() ).isEqualTo( 0 );
+		assertThat( second.getParameterIndex() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testIndexedAndUnindexedBindings() {
+		final JdbcParameterImpl indexed = new JdbcParameterImpl( null );
+		final JdbcParameterImpl unindexed = new JdbcParameterImpl( null );
+		final JdbcParameterImpl sameIndex = new JdbcParameterImpl( null );
+		indexed.assignParameterIndex( 3 );
+		sameIndex.assignParameterIndex( 3 );
+
+		final JdbcParameterBindingsImpl bindings = new JdbcParameterBindingsImpl( 2 );
+		bindings.addBinding( indexed, new JdbcParameterBindingImpl( null, "indexed" ) );
+		bindings.addBinding( unindexed, new JdbcParameterBindingImpl( null, "unindexed" ) );
+		bindings.addBinding( sameIndex, new JdbcParameterBindingImpl( null, "sameIndex" ) );
+
+		assertThat( bindings.getBinding( indexed ).getBindValue() ).isEqualTo( "indexed" );
+		assertThat( bindings.getBinding( unindexed ).getBindValue() ).isEqualTo( "unindexed" );
+		assertThat( bindings.getBinding( sameIndex ).getBindValue() ).isEqualTo( "sameIndex" );
+		assertThat( bindings.getBinding( new JdbcParameterImpl( null ) ) ).isNull();
+
+		// rebinding replaces the binding
+		bindings.addBinding( indexed, new JdbcParameterBindingImpl( null, "rebound" ) );
+		assertThat( bindings.getBinding( indexed ).getBindValue() ).isEqualTo( "rebound" );
+
+		final Map<JdbcParameter, JdbcParameterBinding> visited = new IdentityHashMap<>();
+		bindings.visitBindings( visited::put );
+		assertThat( visited ).containsOnlyKeys( indexed, unindexed, sameIndex );
+		assertThat( bindings.getBindings() ).hasSize( 3 )
+				.extracting( JdbcParameterBinding::getBindValue )
+				.containsExactlyInAnyOrder( "rebound", "unindexed", "sameIndex" );
+		assertThat( bindings.getBindings() ).isSameAs( bindings.getBindings() );
+
+		bindings.clear();
+		assertThat( bindings.getBinding( indexed ) ).isNull();
+		assertThat( bindings.getBinding( unindexed ) ).isNull();
+		assertThat( bindings.getBindings() ).isEmpty();
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.SqlTypes;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryTranslationCacheStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = QuerySettings.JSON_FUNCTIONS_ENABLED, value = "true")
+})
+@SessionFactory
+public class QueryTranslationCacheStatisticsTest {
+
+	private static final String QUERY = "select e.id from Employee e order by e.id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Employee( i, Map.of( i % 2 == 0 ? "even" : "odd", i ) ) );
+			}
+		} );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getStatistics().clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testAlternatingShapesReuseTranslations(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				// the translation with a limit is not compatible with an execution without one,
+				// and vice versa, but the plan keeps a translation for each shape of the limit
+				final List<Integer> all = session.createSelectionQuery( QUERY, Integer.class ).getResultList();
+				assertThat( all ).containsExactly( 1, 2, 3, 4, 5 );
+				final List<Integer> page = session.createSelectionQuery( QUERY, Integer.class )
+						.setMaxResults( 2 )
+						.getResultList();
+				assertThat( page ).containsExactly( 1, 2 );
+				final List<Integer> nextPage = session.createSelectionQuery( QUERY, Integer.class )
+						.setFirstResult( 2 )
+						.setMaxResults( 2 )
+						.getResultList();
+				assertThat( nextPage ).containsExactly( 3, 4 );
+			}
+		} );
+		assertThat( statistics.getQueryTranslationCacheMissCount() ).isEqualTo( 3 );
+		assertThat( statistics.getQueryTranslationCacheHitCount() ).isEqualTo( 6 );
+		assertThat( statistics.getQueryStatistics( QUERY ).getTranslationCacheMissCount() ).isEqualTo( 3 );
+		assertThat( statistics.getQueryStatistics( QUERY ).getTranslationCacheHitCount() ).isEqualTo( 6 );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testTranslationsDependingOnParameterBindingsAreReused(SessionFactoryScope scope) {
+		// H2 renders the JSON path as a literal, so each path needs its own translation
+		final String query = "select e.id from Employee e where json_exists(e.attributes, :path) order by e.id";
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createSelectionQuery( query, Integer.class )
+									.setParameter( "path", "$.even" )
+									.getResultList() )
+						.containsExactly( 2, 4 );
+				assertThat( session.createSelectionQuery( query, Integer.class )
+									.setParameter( "path", "$.odd" )
+									.getResultList() )
+						.containsExactly( 1, 3, 5 );
+			}
+		} );
+		assertThat( statistics.getQueryTranslationCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryTranslationCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@JdbcTypeCode(SqlTypes.JSON)
+		private Map<String, Object> attributes;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Map<String, Object> attributes) {
+			this.id = id;
+			this.attributes = attributes;
+		}
+	}
+}
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.function.BiConsumer;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -14,15 +15,14 @@
  *
  * @author Steve Ebersole
  */
-@SuppressWarnings("unchecked")
 public class JCacheAccessImpl implements DomainDataStorageAccess {
-	private final Cache underlyingCache;
+	private final Cache<Object, Object> underlyingCache;
 
-	public JCacheAccessImpl(Cache underlyingCache) {
+	public JCacheAccessImpl(Cache<Object, Object> underlyingCache) {
 		this.underlyingCache = underlyingCache;
 	}
 
-	public Cache getUnderlyingCache() {
+	public Cache<Object, Object> getUnderlyingCache() {
 		return underlyingCache;
 	}
 
@@ -56,6 +56,13 @@ public void clearCache(SharedSessionContractImplementor session) {
 		underlyingCache.clear();
 	}
 
+	@Override
+	public void forEachEntry(BiConsumer<Object, Object> consumer) {
+		for ( Cache.Entry<Object, Object> entry : underlyingCache ) {
+			consumer.accept( entry.getKey(), entry.getValue() );
+		}
+	}
+
 	@Override
 	public void evictData() {
 		underlyingCache.clear();
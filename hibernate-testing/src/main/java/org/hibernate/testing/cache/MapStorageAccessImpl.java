@@ -6,6 +6,7 @@
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 
 import org.hibernate.Internal;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -17,7 +18,7 @@
  * @author Steve Ebersole
  */
 public class MapStorageAccessImpl implements DomainDataStorageAccess {
-	private ConcurrentMap data;
+	private ConcurrentMap<Object, Object> data;
 
 	@Internal
 	public Object getFromData(Object key) {
@@ -38,14 +39,13 @@ public Object getFromCache(Object key, SharedSessionContractImplementor session)
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		getOrMakeDataMap().put( key, value );
 	}
 
-	protected ConcurrentMap getOrMakeDataMap() {
+	protected ConcurrentMap<Object, Object> getOrMakeDataMap() {
 		if ( data == null ) {
-			data = new ConcurrentHashMap();
+			data = new ConcurrentHashMap<>();
 		}
 		return data;
 	}
@@ -68,6 +68,13 @@ public void clearCache(SharedSessionContractImplementor session) {
 		data.clear();
 	}
 
+	@Override
+	public void forEachEntry(BiConsumer<Object, Object> consumer) {
+		if ( data != null ) {
+			data.forEach( consumer );
+		}
+	}
+
 	@Override
 	public void evictData() {
 		if ( data != null ) {